@@ -79,6 +79,26 @@ public abstract class AbstractByte2BooleanSortedMap extends AbstractByte2Boolean
 			return lastByteKey();
 		}
 
+		@Override
+		public byte floorByte(final byte k) {
+			return floorByteKey(k);
+		}
+
+		@Override
+		public byte ceilingByte(final byte k) {
+			return ceilingByteKey(k);
+		}
+
+		@Override
+		public byte higherByte(final byte k) {
+			return higherByteKey(k);
+		}
+
+		@Override
+		public byte lowerByte(final byte k) {
+			return lowerByteKey(k);
+		}
+
 		@Override
 		public ByteSortedSet headSet(final byte to) {
 			return headMap(to).keySet();
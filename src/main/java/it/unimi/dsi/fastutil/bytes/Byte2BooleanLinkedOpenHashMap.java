@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1086,6 +1086,86 @@ public class Byte2BooleanLinkedOpenHashMap extends AbstractByte2BooleanSortedMap
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2BooleanMap.Entry floorEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2BooleanMap.Entry ceilingEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2BooleanMap.Entry higherEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2BooleanMap.Entry lowerEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte floorByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte ceilingByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte higherByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte lowerByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1389,6 +1469,26 @@ public class Byte2BooleanLinkedOpenHashMap extends AbstractByte2BooleanSortedMap
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Byte2BooleanMap.Entry floor(Byte2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry ceiling(Byte2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry higher(Byte2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry lower(Byte2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Byte2BooleanMap.Entry> headSet(Byte2BooleanMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1672,6 +1772,26 @@ public class Byte2BooleanLinkedOpenHashMap extends AbstractByte2BooleanSortedMap
 		public ByteSortedSet subSet(byte from, byte to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public byte floorByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte ceilingByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte higherByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte lowerByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
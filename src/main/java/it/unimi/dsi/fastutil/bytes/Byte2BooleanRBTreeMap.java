@@ -19,6 +19,7 @@ import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
 import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
 import it.unimi.dsi.fastutil.objects.ObjectListIterator;
 import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import it.unimi.dsi.fastutil.booleans.BooleanCollection;
 import it.unimi.dsi.fastutil.booleans.AbstractBooleanCollection;
 import it.unimi.dsi.fastutil.booleans.BooleanIterator;
@@ -167,6 +168,159 @@ public class Byte2BooleanRBTreeMap extends AbstractByte2BooleanSortedMap impleme
 		this(k, v, null);
 	}
 
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays fragments, whose keys are
+	 * sorted.
+	 *
+	 * <p>
+	 * Differently from {@link #Byte2BooleanRBTreeMap(byte[], boolean[], Comparator)}, which inserts entries one by one,
+	 * this method builds directly a balanced tree in linear time.
+	 *
+	 * @param k an array whose elements, in the given fragment, are strictly increasing in the order
+	 *            specified by {@code c}.
+	 * @param v the array of corresponding values.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 * @param c a (possibly type-specific) comparator, or {@code null} for the natural order.
+	 * @return a new tree map containing the given entries.
+	 * @throws IllegalArgumentException if the keys are not strictly increasing.
+	 */
+	public static Byte2BooleanRBTreeMap fromSorted(final byte[] k, final boolean[] v, final int offset, final int length, final Comparator<? super Byte> c) {
+		ByteArrays.ensureOffsetLength(k, offset, length);
+		it.unimi.dsi.fastutil.booleans.BooleanArrays.ensureOffsetLength(v, offset, length);
+		final Byte2BooleanRBTreeMap m = new Byte2BooleanRBTreeMap(c);
+		for (int i = 1; i < length; i++) if (m.compare(k[offset + i - 1], k[offset + i]) >= 0) throw new IllegalArgumentException("The keys at positions " + (offset + i - 1) + " and " + (offset + i) + " are not strictly increasing");
+		final Entry[] e = new Entry[length];
+		for (int i = 0; i < length; i++) e[i] = new Entry(k[offset + i], v[offset + i]);
+		m.setTree(e, length);
+		return m;
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays, whose keys are sorted.
+	 *
+	 * @param k an array whose elements are strictly increasing in the order specified by {@code c}.
+	 * @param v the array of corresponding values.
+	 * @param c a (possibly type-specific) comparator, or {@code null} for the natural order.
+	 * @return a new tree map containing the given entries.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths, or if the
+	 *             keys are not strictly increasing.
+	 * @see #fromSorted(byte[], boolean[], int, int, Comparator)
+	 */
+	public static Byte2BooleanRBTreeMap fromSorted(final byte[] k, final boolean[] v, final Comparator<? super Byte> c) {
+		if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+		return fromSorted(k, v, 0, k.length, c);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays, whose keys are sorted in
+	 * natural order.
+	 *
+	 * @param k an array whose elements are strictly increasing.
+	 * @param v the array of corresponding values.
+	 * @return a new tree map containing the given entries.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths, or if the
+	 *             keys are not strictly increasing.
+	 * @see #fromSorted(byte[], boolean[], int, int, Comparator)
+	 */
+	public static Byte2BooleanRBTreeMap fromSorted(final byte[] k, final boolean[] v) {
+		return fromSorted(k, v, null);
+	}
+
+	/**
+	 * Creates a new tree map containing the entries returned by an iterator, whose keys are sorted.
+	 *
+	 * @param i an iterator returning entries with strictly increasing keys in the order specified by
+	 *            {@code c}.
+	 * @param c a (possibly type-specific) comparator, or {@code null} for the natural order.
+	 * @return a new tree map containing the entries returned by {@code i}.
+	 * @throws IllegalArgumentException if the keys are not strictly increasing.
+	 * @see #fromSorted(byte[], boolean[], int, int, Comparator)
+	 */
+	public static Byte2BooleanRBTreeMap fromSortedIterator(final Iterator<? extends Byte2BooleanMap.Entry> i, final Comparator<? super Byte> c) {
+		byte[] k = ByteArrays.EMPTY_ARRAY;
+		boolean[] v = it.unimi.dsi.fastutil.booleans.BooleanArrays.EMPTY_ARRAY;
+		int n = 0;
+		while (i.hasNext()) {
+			final Byte2BooleanMap.Entry e = i.next();
+			if (n == k.length) {
+				k = ByteArrays.grow(k, n + 1);
+				v = it.unimi.dsi.fastutil.booleans.BooleanArrays.grow(v, n + 1);
+			}
+			k[n] = e.getByteKey();
+			v[n++] = e.getBooleanValue();
+		}
+		return fromSorted(k, v, 0, n, c);
+	}
+
+	/**
+	 * Creates a new tree map containing the entries returned by an iterator, whose keys are sorted in
+	 * natural order.
+	 *
+	 * @param i an iterator returning entries with strictly increasing keys.
+	 * @return a new tree map containing the entries returned by {@code i}.
+	 * @throws IllegalArgumentException if the keys are not strictly increasing.
+	 * @see #fromSorted(byte[], boolean[], int, int, Comparator)
+	 */
+	public static Byte2BooleanRBTreeMap fromSortedIterator(final Iterator<? extends Byte2BooleanMap.Entry> i) {
+		return fromSortedIterator(i, null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * If {@code m} is a type-specific sorted map using the same order of this map, and it is large
+	 * enough, the two maps are merged in linear time: the entries of this map, together with new
+	 * entries for the missing keys, are relinked into a balanced tree, and the values associated
+	 * with keys already in this map are updated in place, so entries previously returned by this
+	 * map stay valid.
+	 */
+	@Override
+	public void putAll(final Map<? extends Byte, ? extends Boolean> m) {
+		if (m instanceof Byte2BooleanSortedMap && java.util.Objects.equals(actualComparator, ((Byte2BooleanSortedMap)m).comparator())) {
+			final long n = m.size();
+			// A merge scans both maps, whereas insertions cost a logarithmic number of comparisons each.
+			if (n * (Long.SIZE - Long.numberOfLeadingZeros(count + n)) > count + n) {
+				merge((Byte2BooleanSortedMap)m);
+				return;
+			}
+		}
+		super.putAll(m);
+	}
+
+	/**
+	 * Merges a sorted map using the same order of this map into this map. Entries of this map are
+	 * reused, and their values are replaced in place by the values of the given map associated with
+	 * the same key.
+	 *
+	 * @param m a sorted map using the same order of this map.
+	 */
+	private void merge(final Byte2BooleanSortedMap m) {
+		final Entry[] a = new Entry[count + m.size()];
+		int n = 0;
+		Entry e = firstEntry;
+		final ObjectIterator<? extends Byte2BooleanMap.Entry> i = Byte2BooleanMaps.fastIterator(m);
+		Byte2BooleanMap.Entry f = i.hasNext() ? i.next() : null;
+		while (e != null && f != null) {
+			final int cmp = compare(e.key, f.getByteKey());
+			if (cmp > 0) {
+				a[n++] = new Entry(f.getByteKey(), f.getBooleanValue());
+				f = i.hasNext() ? i.next() : null;
+			} else {
+				if (cmp == 0) {
+					e.value = f.getBooleanValue();
+					f = i.hasNext() ? i.next() : null;
+				}
+				a[n++] = e;
+				e = e.next();
+			}
+		}
+		for (; e != null; e = e.next()) a[n++] = e;
+		for (; f != null; f = i.hasNext() ? i.next() : null) a[n++] = new Entry(f.getByteKey(), f.getBooleanValue());
+		setTree(a, n);
+	}
+
 	/*
 	 * The following methods implements some basic building blocks used by
 	 * all accessors.  They are (and should be maintained) identical to those used in RBTreeSet.drv.
@@ -894,6 +1048,82 @@ public class Byte2BooleanRBTreeMap extends AbstractByte2BooleanSortedMap impleme
 		return lastEntry.key;
 	}
 
+	@Override
+	public Byte2BooleanMap.Entry floorEntry(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) > 0) e = e.prev();
+		return e;
+	}
+
+	@Override
+	public Byte2BooleanMap.Entry ceilingEntry(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) < 0) e = e.next();
+		return e;
+	}
+
+	@Override
+	public Byte2BooleanMap.Entry higherEntry(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) <= 0) e = e.next();
+		return e;
+	}
+
+	@Override
+	public Byte2BooleanMap.Entry lowerEntry(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) >= 0) e = e.prev();
+		return e;
+	}
+
+	@Override
+	public byte floorByteKey(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) > 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte ceilingByteKey(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) < 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte higherByteKey(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) <= 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte lowerByteKey(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) >= 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public Byte2BooleanMap.Entry pollFirstEntry() {
+		if (tree == null) return null;
+		final Entry e = firstEntry;
+		remove(e.key);
+		return e;
+	}
+
+	@Override
+	public Byte2BooleanMap.Entry pollLastEntry() {
+		if (tree == null) return null;
+		final Entry e = lastEntry;
+		remove(e.key);
+		return e;
+	}
+
 	/**
 	 * An abstract iterator on the whole range.
 	 *
@@ -1806,6 +2036,69 @@ public class Byte2BooleanRBTreeMap extends AbstractByte2BooleanSortedMap impleme
 		return top;
 	}
 
+	/**
+	 * Recursively links a fragment of an array of entries with sorted keys into a balanced tree, using
+	 * the same shape as {@link #readTree(java.io.ObjectInputStream, int, Entry, Entry)}.
+	 *
+	 * <p>
+	 * The entries may come from an existing tree: their links and metadata are overwritten.
+	 *
+	 * @param a an array of entries.
+	 * @param offset the first entry to use.
+	 * @param n the (positive) number of entries to use.
+	 * @param pred the entry containing the key that preceeds the first key in the tree.
+	 * @param succ the entry containing the key that follows the last key in the tree.
+	 * @return the root of the new tree.
+	 */
+	private static Entry buildTree(final Entry[] a, final int offset, final int n, final Entry pred, final Entry succ) {
+		if (n == 1) {
+			final Entry top = a[offset];
+			top.info = 0;
+			top.pred(pred);
+			top.succ(succ);
+			top.black(true);
+			return top;
+		}
+		if (n == 2) {
+			final Entry top = a[offset], right = a[offset + 1];
+			top.info = right.info = 0;
+			top.black(true);
+			top.right(right);
+			right.pred(top);
+			top.pred(pred);
+			right.succ(succ);
+			return top;
+		}
+		// The right subtree is the largest one.
+		final int rightN = n / 2, leftN = n - rightN - 1;
+		final Entry top = a[offset + leftN];
+		top.info = 0;
+		top.left(buildTree(a, offset, leftN, pred, top));
+		top.black(true);
+		top.right(buildTree(a, offset + leftN + 1, rightN, top, succ));
+		if (n + 2 == ((n + 2) & -(n + 2))) top.right.black(false); // Quick test for determining whether n + 2 is a
+															// power of 2.
+		return top;
+	}
+
+	/**
+	 * Replaces the content of this map with a balanced tree linking a prefix of an array of entries
+	 * with sorted keys.
+	 *
+	 * @param a an array of entries.
+	 * @param n the number of entries to use.
+	 */
+	private void setTree(final Entry[] a, final int n) {
+		count = n;
+		if (n == 0) {
+			tree = firstEntry = lastEntry = null;
+			return;
+		}
+		tree = buildTree(a, 0, n, null, null);
+		firstEntry = a[0];
+		lastEntry = a[n - 1];
+	}
+
 	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
 		s.defaultReadObject();
 		/* The storedComparator is now correctly set, but we must restore
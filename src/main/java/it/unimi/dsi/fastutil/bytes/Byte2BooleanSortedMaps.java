@@ -475,6 +475,76 @@ public final class Byte2BooleanSortedMaps {
 			}
 		}
 
+		@Override
+		public Byte2BooleanMap.Entry floorEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry ceilingEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry higherEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry lowerEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorByteKey(k);
+			}
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingByteKey(k);
+			}
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherByteKey(k);
+			}
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerByteKey(k);
+			}
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Byte2BooleanSortedMaps {
 			return sortedMap.lastByteKey();
 		}
 
+		@Override
+		public Byte2BooleanMap.Entry floorEntry(final byte k) {
+			final Byte2BooleanMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractByte2BooleanMap.BasicEntry(e.getByteKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry ceilingEntry(final byte k) {
+			final Byte2BooleanMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractByte2BooleanMap.BasicEntry(e.getByteKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry higherEntry(final byte k) {
+			final Byte2BooleanMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractByte2BooleanMap.BasicEntry(e.getByteKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry lowerEntry(final byte k) {
+			final Byte2BooleanMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractByte2BooleanMap.BasicEntry(e.getByteKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			return sortedMap.floorByteKey(k);
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			return sortedMap.ceilingByteKey(k);
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			return sortedMap.higherByteKey(k);
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			return sortedMap.lowerByteKey(k);
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2BooleanMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -63,8 +63,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1129,6 +1129,86 @@ public class Byte2ByteLinkedOpenHashMap extends AbstractByte2ByteSortedMap imple
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2ByteMap.Entry floorEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2ByteMap.Entry ceilingEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2ByteMap.Entry higherEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2ByteMap.Entry lowerEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte floorByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte ceilingByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte higherByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte lowerByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1432,6 +1512,26 @@ public class Byte2ByteLinkedOpenHashMap extends AbstractByte2ByteSortedMap imple
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Byte2ByteMap.Entry floor(Byte2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2ByteMap.Entry ceiling(Byte2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2ByteMap.Entry higher(Byte2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2ByteMap.Entry lower(Byte2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Byte2ByteMap.Entry> headSet(Byte2ByteMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1715,6 +1815,26 @@ public class Byte2ByteLinkedOpenHashMap extends AbstractByte2ByteSortedMap imple
 		public ByteSortedSet subSet(byte from, byte to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public byte floorByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte ceilingByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte higherByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte lowerByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1136,6 +1136,86 @@ public class Byte2CharLinkedOpenHashMap extends AbstractByte2CharSortedMap imple
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2CharMap.Entry floorEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2CharMap.Entry ceilingEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2CharMap.Entry higherEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2CharMap.Entry lowerEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte floorByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte ceilingByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte higherByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte lowerByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1439,6 +1519,26 @@ public class Byte2CharLinkedOpenHashMap extends AbstractByte2CharSortedMap imple
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Byte2CharMap.Entry floor(Byte2CharMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2CharMap.Entry ceiling(Byte2CharMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2CharMap.Entry higher(Byte2CharMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2CharMap.Entry lower(Byte2CharMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Byte2CharMap.Entry> headSet(Byte2CharMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1722,6 +1822,26 @@ public class Byte2CharLinkedOpenHashMap extends AbstractByte2CharSortedMap imple
 		public ByteSortedSet subSet(byte from, byte to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public byte floorByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte ceilingByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte higherByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte lowerByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
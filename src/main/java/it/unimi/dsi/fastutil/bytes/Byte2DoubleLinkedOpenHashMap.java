@@ -69,8 +69,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1135,6 +1135,86 @@ public class Byte2DoubleLinkedOpenHashMap extends AbstractByte2DoubleSortedMap i
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2DoubleMap.Entry floorEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2DoubleMap.Entry ceilingEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2DoubleMap.Entry higherEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Byte2DoubleMap.Entry lowerEntry(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte floorByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte ceilingByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte higherByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte lowerByteKey(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1438,6 +1518,26 @@ public class Byte2DoubleLinkedOpenHashMap extends AbstractByte2DoubleSortedMap i
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Byte2DoubleMap.Entry floor(Byte2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2DoubleMap.Entry ceiling(Byte2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2DoubleMap.Entry higher(Byte2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2DoubleMap.Entry lower(Byte2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Byte2DoubleMap.Entry> headSet(Byte2DoubleMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1721,6 +1821,26 @@ public class Byte2DoubleLinkedOpenHashMap extends AbstractByte2DoubleSortedMap i
 		public ByteSortedSet subSet(byte from, byte to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public byte floorByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte ceilingByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte higherByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte lowerByte(byte k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
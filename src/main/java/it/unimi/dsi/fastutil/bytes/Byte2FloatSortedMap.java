@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.bytes;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.floats.FloatCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,172 @@ public interface Byte2FloatSortedMap extends Byte2FloatMap, SortedMap<Byte, Floa
 	 */
 	@Override
 	ByteComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Byte2FloatMap.Entry floorEntry(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final byte key = i.previousByte();
+		return new AbstractByte2FloatMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Byte2FloatMap.Entry ceilingEntry(final byte k) {
+		if (containsKey(k)) return new AbstractByte2FloatMap.BasicEntry(k, get(k));
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final byte key = i.nextByte();
+		return new AbstractByte2FloatMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Byte2FloatMap.Entry higherEntry(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final byte key = i.nextByte();
+		return new AbstractByte2FloatMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Byte2FloatMap.Entry lowerEntry(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousByte();
+		if (!i.hasPrevious()) return null;
+		final byte key = i.previousByte();
+		return new AbstractByte2FloatMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default byte floorByteKey(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final byte key = i.previousByte();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default byte ceilingByteKey(final byte k) {
+		if (containsKey(k)) return k;
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final byte key = i.nextByte();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default byte higherByteKey(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final byte key = i.nextByte();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ByteSortedSet#iterator(byte)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default byte lowerByteKey(final byte k) {
+		final ByteBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousByte();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final byte key = i.previousByte();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstByteKey()} and {@link #remove(byte)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Byte2FloatMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final byte k = firstByteKey();
+		return new AbstractByte2FloatMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastByteKey()} and {@link #remove(byte)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Byte2FloatMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final byte k = lastByteKey();
+		return new AbstractByte2FloatMap.BasicEntry(k, remove(k));
+	}
 }
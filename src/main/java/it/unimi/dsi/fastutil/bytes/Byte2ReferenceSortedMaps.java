@@ -494,6 +494,76 @@ public final class Byte2ReferenceSortedMaps {
 			}
 		}
 
+		@Override
+		public Byte2ReferenceMap.Entry<V> floorEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> ceilingEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> higherEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> lowerEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorByteKey(k);
+			}
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingByteKey(k);
+			}
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherByteKey(k);
+			}
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerByteKey(k);
+			}
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -643,6 +713,60 @@ public final class Byte2ReferenceSortedMaps {
 			return sortedMap.lastByteKey();
 		}
 
+		@Override
+		public Byte2ReferenceMap.Entry<V> floorEntry(final byte k) {
+			final Byte2ReferenceMap.Entry<? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractByte2ReferenceMap.BasicEntry<>(e.getByteKey(), e.getValue());
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> ceilingEntry(final byte k) {
+			final Byte2ReferenceMap.Entry<? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractByte2ReferenceMap.BasicEntry<>(e.getByteKey(), e.getValue());
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> higherEntry(final byte k) {
+			final Byte2ReferenceMap.Entry<? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractByte2ReferenceMap.BasicEntry<>(e.getByteKey(), e.getValue());
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> lowerEntry(final byte k) {
+			final Byte2ReferenceMap.Entry<? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractByte2ReferenceMap.BasicEntry<>(e.getByteKey(), e.getValue());
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			return sortedMap.floorByteKey(k);
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			return sortedMap.ceilingByteKey(k);
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			return sortedMap.higherByteKey(k);
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			return sortedMap.lowerByteKey(k);
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2ReferenceMap.Entry<V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -475,6 +475,76 @@ public final class Byte2ShortSortedMaps {
 			}
 		}
 
+		@Override
+		public Byte2ShortMap.Entry floorEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ShortMap.Entry ceilingEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ShortMap.Entry higherEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Byte2ShortMap.Entry lowerEntry(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.floorByteKey(k);
+			}
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.ceilingByteKey(k);
+			}
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.higherByteKey(k);
+			}
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			synchronized (sync) {
+				return sortedMap.lowerByteKey(k);
+			}
+		}
+
+		@Override
+		public Byte2ShortMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Byte2ShortMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Byte2ShortSortedMaps {
 			return sortedMap.lastByteKey();
 		}
 
+		@Override
+		public Byte2ShortMap.Entry floorEntry(final byte k) {
+			final Byte2ShortMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractByte2ShortMap.BasicEntry(e.getByteKey(), e.getShortValue());
+		}
+
+		@Override
+		public Byte2ShortMap.Entry ceilingEntry(final byte k) {
+			final Byte2ShortMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractByte2ShortMap.BasicEntry(e.getByteKey(), e.getShortValue());
+		}
+
+		@Override
+		public Byte2ShortMap.Entry higherEntry(final byte k) {
+			final Byte2ShortMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractByte2ShortMap.BasicEntry(e.getByteKey(), e.getShortValue());
+		}
+
+		@Override
+		public Byte2ShortMap.Entry lowerEntry(final byte k) {
+			final Byte2ShortMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractByte2ShortMap.BasicEntry(e.getByteKey(), e.getShortValue());
+		}
+
+		@Override
+		public byte floorByteKey(final byte k) {
+			return sortedMap.floorByteKey(k);
+		}
+
+		@Override
+		public byte ceilingByteKey(final byte k) {
+			return sortedMap.ceilingByteKey(k);
+		}
+
+		@Override
+		public byte higherByteKey(final byte k) {
+			return sortedMap.higherByteKey(k);
+		}
+
+		@Override
+		public byte lowerByteKey(final byte k) {
+			return sortedMap.lowerByteKey(k);
+		}
+
+		@Override
+		public Byte2ShortMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Byte2ShortMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -190,6 +190,139 @@ public class ByteAVLTreeSet extends AbstractByteSortedSet implements java.io.Ser
 		while (i-- != 0) add(a[i]);
 	}
 
+	/**
+	 * Creates a new tree set containing the elements of a sorted array fragment.
+	 *
+	 * <p>
+	 * Differently from {@link #ByteAVLTreeSet(byte[], int, int, Comparator)}, which inserts elements one by one,
+	 * this method builds directly a balanced tree in linear time.
+	 *
+	 * @param a an array whose elements, in the given fragment, are strictly increasing in the order
+	 *            specified by {@code c}.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator), or {@code null} for the
+	 *            natural order.
+	 * @return a new tree set containing the given elements.
+	 * @throws IllegalArgumentException if the elements are not strictly increasing.
+	 */
+	public static ByteAVLTreeSet fromSorted(final byte[] a, final int offset, final int length, final Comparator<? super Byte> c) {
+		ByteArrays.ensureOffsetLength(a, offset, length);
+		final ByteAVLTreeSet s = new ByteAVLTreeSet(c);
+		for (int i = 1; i < length; i++) if (s.compare(a[offset + i - 1], a[offset + i]) >= 0) throw new IllegalArgumentException("The elements at positions " + (offset + i - 1) + " and " + (offset + i) + " are not strictly increasing");
+		final Entry[] e = new Entry[length];
+		for (int i = 0; i < length; i++) e[i] = new Entry(a[offset + i]);
+		s.setTree(e, length);
+		return s;
+	}
+
+	/**
+	 * Creates a new tree set containing the elements of a sorted array.
+	 *
+	 * @param a an array whose elements are strictly increasing in the order specified by {@code c}.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator), or {@code null} for the
+	 *            natural order.
+	 * @return a new tree set containing the given elements.
+	 * @throws IllegalArgumentException if the elements are not strictly increasing.
+	 * @see #fromSorted(byte[], int, int, Comparator)
+	 */
+	public static ByteAVLTreeSet fromSorted(final byte[] a, final Comparator<? super Byte> c) {
+		return fromSorted(a, 0, a.length, c);
+	}
+
+	/**
+	 * Creates a new tree set containing the elements of an array sorted in natural order.
+	 *
+	 * @param a an array whose elements are strictly increasing.
+	 * @return a new tree set containing the given elements.
+	 * @throws IllegalArgumentException if the elements are not strictly increasing.
+	 * @see #fromSorted(byte[], int, int, Comparator)
+	 */
+	public static ByteAVLTreeSet fromSorted(final byte[] a) {
+		return fromSorted(a, 0, a.length, null);
+	}
+
+	/**
+	 * Creates a new tree set containing the elements returned by a sorted type-specific iterator.
+	 *
+	 * @param i a type-specific iterator returning strictly increasing elements in the order specified
+	 *            by {@code c}.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator), or {@code null} for the
+	 *            natural order.
+	 * @return a new tree set containing the elements returned by {@code i}.
+	 * @throws IllegalArgumentException if the elements are not strictly increasing.
+	 * @see #fromSorted(byte[], int, int, Comparator)
+	 */
+	public static ByteAVLTreeSet fromSortedIterator(final ByteIterator i, final Comparator<? super Byte> c) {
+		final byte[] a = ByteIterators.unwrap(i);
+		return fromSorted(a, 0, a.length, c);
+	}
+
+	/**
+	 * Creates a new tree set containing the elements returned by a type-specific iterator sorted in
+	 * natural order.
+	 *
+	 * @param i a type-specific iterator returning strictly increasing elements.
+	 * @return a new tree set containing the elements returned by {@code i}.
+	 * @throws IllegalArgumentException if the elements are not strictly increasing.
+	 * @see #fromSorted(byte[], int, int, Comparator)
+	 */
+	public static ByteAVLTreeSet fromSortedIterator(final ByteIterator i) {
+		return fromSortedIterator(i, null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * If {@code c} is a type-specific sorted set using the same order of this set, and it is large
+	 * enough, the two sets are merged in linear time: the entries of this set, together with new
+	 * entries for the missing elements, are relinked into a balanced tree.
+	 */
+	@Override
+	public boolean addAll(final ByteCollection c) {
+		if (c instanceof ByteSortedSet && java.util.Objects.equals(actualComparator, ((ByteSortedSet)c).comparator())) {
+			final long m = c.size();
+			// A merge scans both sets, whereas insertions cost a logarithmic number of comparisons each.
+			if (m * (Long.SIZE - Long.numberOfLeadingZeros(count + m)) > count + m) return merge((ByteSortedSet)c);
+		}
+		return super.addAll(c);
+	}
+
+	/**
+	 * Merges a sorted set using the same order of this set into this set.
+	 *
+	 * @param s a sorted set using the same order of this set.
+	 * @return true if this set has been modified.
+	 */
+	private boolean merge(final ByteSortedSet s) {
+		final Entry[] a = new Entry[count + s.size()];
+		int n = 0;
+		Entry e = firstEntry;
+		final ByteIterator i = s.iterator();
+		boolean hasNext = i.hasNext();
+		byte k = hasNext ? i.nextByte() : 0;
+		while (e != null && hasNext) {
+			final int cmp = compare(e.key, k);
+			if (cmp > 0) {
+				a[n++] = new Entry(k);
+				if (hasNext = i.hasNext()) k = i.nextByte();
+			} else {
+				if (cmp == 0 && (hasNext = i.hasNext())) k = i.nextByte();
+				a[n++] = e;
+				e = e.next();
+			}
+		}
+		for (; e != null; e = e.next()) a[n++] = e;
+		if (hasNext) {
+			a[n++] = new Entry(k);
+			while (i.hasNext()) a[n++] = new Entry(i.nextByte());
+		}
+		if (n == count) return false;
+		setTree(a, n);
+		return true;
+	}
+
 	/*
 	 * The following methods implements some basic building blocks used by
 	 * all accessors.  They are (and should be maintained) identical to those used in AVLTreeMap.drv.
@@ -908,6 +1041,54 @@ public class ByteAVLTreeSet extends AbstractByteSortedSet implements java.io.Ser
 		return lastEntry.key;
 	}
 
+	@Override
+	public byte floorByte(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) > 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte ceilingByte(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) < 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte higherByte(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) <= 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte lowerByte(final byte k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) >= 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public byte pollFirstByte() {
+		if (tree == null) throw new NoSuchElementException();
+		final byte k = firstEntry.key;
+		remove(k);
+		return k;
+	}
+
+	@Override
+	public byte pollLastByte() {
+		if (tree == null) throw new NoSuchElementException();
+		final byte k = lastEntry.key;
+		remove(k);
+		return k;
+	}
+
 	/**
 	 * An iterator on the whole range.
 	 *
@@ -1379,6 +1560,66 @@ public class ByteAVLTreeSet extends AbstractByteSortedSet implements java.io.Ser
 		return top;
 	}
 
+	/**
+	 * Recursively links a fragment of an array of entries with sorted keys into a balanced tree, using
+	 * the same shape as {@link #readTree(java.io.ObjectInputStream, int, Entry, Entry)}.
+	 *
+	 * <p>
+	 * The entries may come from an existing tree: their links and metadata are overwritten.
+	 *
+	 * @param a an array of entries.
+	 * @param offset the first entry to use.
+	 * @param n the (positive) number of entries to use.
+	 * @param pred the entry containing the key that preceeds the first key in the tree.
+	 * @param succ the entry containing the key that follows the last key in the tree.
+	 * @return the root of the new tree.
+	 */
+	private static Entry buildTree(final Entry[] a, final int offset, final int n, final Entry pred, final Entry succ) {
+		if (n == 1) {
+			final Entry top = a[offset];
+			top.info = 0;
+			top.pred(pred);
+			top.succ(succ);
+			return top;
+		}
+		if (n == 2) {
+			final Entry top = a[offset], right = a[offset + 1];
+			top.info = right.info = 0;
+			top.right(right);
+			right.pred(top);
+			top.balance(1);
+			top.pred(pred);
+			right.succ(succ);
+			return top;
+		}
+		// The right subtree is the largest one.
+		final int rightN = n / 2, leftN = n - rightN - 1;
+		final Entry top = a[offset + leftN];
+		top.info = 0;
+		top.left(buildTree(a, offset, leftN, pred, top));
+		top.right(buildTree(a, offset + leftN + 1, rightN, top, succ));
+		if (n == (n & -n)) top.balance(1); // Quick test for determining whether n is a power of 2.
+		return top;
+	}
+
+	/**
+	 * Replaces the content of this set with a balanced tree linking a prefix of an array of entries
+	 * with sorted keys.
+	 *
+	 * @param a an array of entries.
+	 * @param n the number of entries to use.
+	 */
+	private void setTree(final Entry[] a, final int n) {
+		count = n;
+		if (n == 0) {
+			tree = firstEntry = lastEntry = null;
+			return;
+		}
+		tree = buildTree(a, 0, n, null, null);
+		firstEntry = a[0];
+		lastEntry = a[n - 1];
+	}
+
 	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
 		s.defaultReadObject();
 		/* The storedComparator is now correctly set, but we must restore
@@ -0,0 +1,330 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+
+import static it.unimi.dsi.fastutil.BigArrays.copyFromBig;
+import it.unimi.dsi.fastutil.BigArrays;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A front-coded list of arrays in strictly increasing lexicographic order that can be searched.
+ *
+ * <p>
+ * This class stores a sorted list of distinct arrays exactly like a {@link ByteArrayFrontCodedList},
+ * but it also makes it possible to locate an array {@linkplain #indexOf(byte[]) given its content},
+ * and to enumerate all arrays {@linkplain #prefixRange(byte[]) starting with a given prefix}. The
+ * order is that of {@link java.util.Arrays#compare(byte[], byte[])}; constructors check that
+ * arrays are in strictly increasing order.
+ *
+ * <p>
+ * Searches use the pointers to the arrays that are stored entirely (one every {@link #ratio()}
+ * arrays) as a sampled index: a binary search on such <em>bucket heads</em>, which can be compared
+ * with the key without decoding, locates the only bucket that can contain the key, which is then
+ * decoded sequentially. Thus, a search requires a logarithmic number of comparisons, plus the
+ * decoding of at most {@link #ratio()} arrays.
+ *
+ * <p>
+ * Since buckets are coded independently, instances can also be {@linkplain #parallelBuild(List, int)
+ * built in parallel}: the input is divided in segments made of whole buckets, which are compressed
+ * concurrently and then concatenated.
+ *
+ * @see ByteArrayFrontCodedList
+ */
+public class ByteArrayFrontCodedDictionary extends ByteArrayFrontCodedList {
+	private static final long serialVersionUID = 1L;
+	/** The approximate number of arrays in a segment compressed by a single task. */
+	private static final int SEGMENT_SIZE = 1 << 16;
+
+	/**
+	 * Creates a new front-coded dictionary containing the arrays returned by the given iterator.
+	 *
+	 * @param arrays an iterator returning arrays in strictly increasing lexicographic order.
+	 * @param ratio the desired ratio.
+	 * @throws IllegalArgumentException if the arrays are not in strictly increasing order.
+	 */
+	public ByteArrayFrontCodedDictionary(final Iterator<byte[]> arrays, final int ratio) {
+		super(ensureSorted(arrays), ratio);
+	}
+
+	/**
+	 * Creates a new front-coded dictionary containing the arrays in the given collection.
+	 *
+	 * @param c a collection containing arrays in strictly increasing lexicographic order.
+	 * @param ratio the desired ratio.
+	 * @throws IllegalArgumentException if the arrays are not in strictly increasing order.
+	 */
+	public ByteArrayFrontCodedDictionary(final Collection<byte[]> c, final int ratio) {
+		this(c.iterator(), ratio);
+	}
+
+	/**
+	 * Creates a new front-coded dictionary using the given data.
+	 *
+	 * @param n the number of arrays in the dictionary.
+	 * @param ratio the ratio of the dictionary.
+	 * @param array the big array containing the compressed arrays.
+	 * @param p the pointers to entire arrays in the dictionary.
+	 */
+	protected ByteArrayFrontCodedDictionary(final int n, final int ratio, final byte[][] array, final long[] p) {
+		super(n, ratio, array, p);
+	}
+
+	/**
+	 * Wraps an iterator so that it checks that the arrays it returns are in strictly increasing order.
+	 *
+	 * @param arrays an iterator returning arrays.
+	 * @return an iterator returning the same arrays as {@code arrays} that throws an
+	 *         {@link IllegalArgumentException} if they are not in strictly increasing order.
+	 */
+	private static Iterator<byte[]> ensureSorted(final Iterator<byte[]> arrays) {
+		return new Iterator<byte[]>() {
+			private byte[] last;
+			private int i;
+
+			@Override
+			public boolean hasNext() {
+				return arrays.hasNext();
+			}
+
+			@Override
+			public byte[] next() {
+				final byte[] a = arrays.next();
+				if (last != null && java.util.Arrays.compare(last, a) >= 0) throw new IllegalArgumentException("The arrays are not in strictly increasing order at position " + i);
+				last = a;
+				i++;
+				return a;
+			}
+		};
+	}
+
+	/**
+	 * Creates in parallel a new front-coded dictionary containing the arrays in the given list.
+	 *
+	 * <p>
+	 * The list should support fast random access, and it must not be modified during the construction.
+	 *
+	 * @param arrays a list containing arrays in strictly increasing lexicographic order.
+	 * @param ratio the desired ratio.
+	 * @return a front-coded dictionary containing {@code arrays}.
+	 * @throws IllegalArgumentException if the arrays are not in strictly increasing order.
+	 */
+	public static ByteArrayFrontCodedDictionary parallelBuild(final List<byte[]> arrays, final int ratio) {
+		if (ratio < 1) throw new IllegalArgumentException("Illegal ratio (" + ratio + ")");
+		final int n = arrays.size();
+		final OptionalInt unsorted = IntStream.range(1, n).parallel().filter(i -> java.util.Arrays.compare(arrays.get(i - 1), arrays.get(i)) >= 0).findFirst();
+		if (unsorted.isPresent()) throw new IllegalArgumentException("The arrays are not in strictly increasing order at position " + unsorted.getAsInt());
+		// Segments are made of whole buckets, so their concatenation is identical to a sequential coding
+		final int bucketsPerSegment = Math.max(1, SEGMENT_SIZE / ratio);
+		final long segmentSize = (long)bucketsPerSegment * ratio;
+		final int segments = (int)((n + segmentSize - 1) / segmentSize);
+		final ByteArrayFrontCodedList[] segment = IntStream.range(0, segments).parallel().mapToObj(s -> new ByteArrayFrontCodedList(arrays.subList((int)(s * segmentSize), (int)Math.min(n, (s + 1) * segmentSize)).iterator(), ratio)).toArray(ByteArrayFrontCodedList[]::new);
+		final long[] offset = new long[segments + 1];
+		for (int s = 0; s < segments; s++) offset[s + 1] = offset[s] + BigArrays.length(segment[s].array);
+		final byte[][] array = ByteBigArrays.newBigArray(offset[segments]);
+		final long[] p = new long[(int)(((long)n + ratio - 1) / ratio)];
+		IntStream.range(0, segments).parallel().forEach(s -> {
+			BigArrays.copy(segment[s].array, 0, array, offset[s], offset[s + 1] - offset[s]);
+			final long[] q = segment[s].p;
+			for (int i = 0; i < q.length; i++) p[s * bucketsPerSegment + i] = q[i] + offset[s];
+		});
+		return new ByteArrayFrontCodedDictionary(n, ratio, array, p);
+	}
+
+	/**
+	 * Creates in parallel a new front-coded dictionary containing the arrays returned by the given
+	 * stream.
+	 *
+	 * <p>
+	 * The content of the stream is first collected into a list, which is then coded using
+	 * {@link #parallelBuild(List, int)}.
+	 *
+	 * @param arrays a stream returning arrays in strictly increasing lexicographic order (if the stream
+	 *            is parallel, it must be ordered).
+	 * @param ratio the desired ratio.
+	 * @return a front-coded dictionary containing the arrays returned by {@code arrays}.
+	 * @throws IllegalArgumentException if the arrays are not in strictly increasing order.
+	 */
+	public static ByteArrayFrontCodedDictionary parallelBuild(final Stream<byte[]> arrays, final int ratio) {
+		return parallelBuild(arrays.toList(), ratio);
+	}
+
+	/**
+	 * Returns whether an array precedes the boundary defined by a key.
+	 *
+	 * @param a an array.
+	 * @param length the number of valid elements of {@code a}.
+	 * @param key a key.
+	 * @param prefix if false, the boundary is {@code key}; otherwise, the boundary is after all arrays
+	 *            starting with {@code key}.
+	 * @return whether the first {@code length} elements of {@code a} precede the boundary.
+	 */
+	private static boolean before(final byte[] a, final int length, final byte[] key, final boolean prefix) {
+		final int m = Math.min(length, key.length);
+		for (int i = 0; i < m; i++) if (a[i] != key[i]) return a[i] < key[i];
+		return length < key.length || prefix;
+	}
+
+	/**
+	 * Returns whether an entire array stored in the data big array precedes the boundary defined by a
+	 * key.
+	 *
+	 * @param pos the position of the array in the data big array.
+	 * @param key a key.
+	 * @param prefix if false, the boundary is {@code key}; otherwise, the boundary is after all arrays
+	 *            starting with {@code key}.
+	 * @return whether the array stored at {@code pos} precedes the boundary.
+	 */
+	private boolean before(long pos, final byte[] key, final boolean prefix) {
+		final byte[][] array = this.array;
+		final int length = readInt(array, pos);
+		pos += count(length);
+		final int m = Math.min(length, key.length);
+		for (int i = 0; i < m; i++) {
+			final byte b = BigArrays.get(array, pos + i);
+			if (b != key[i]) return b < key[i];
+		}
+		return length < key.length || prefix;
+	}
+
+	/**
+	 * Returns the index of the first array not preceding the boundary defined by a key.
+	 *
+	 * @param key a key.
+	 * @param prefix if false, the boundary is {@code key}; otherwise, the boundary is after all arrays
+	 *            starting with {@code key}.
+	 * @return the index of the first array not preceding the boundary, or {@link #size()}.
+	 */
+	private int boundary(final byte[] key, final boolean prefix) {
+		final byte[][] array = this.array;
+		final long[] p = this.p;
+		// Find the first bucket whose head does not precede the boundary
+		int lo = 0, hi = p.length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (before(p[mid], key, prefix)) lo = mid + 1;
+			else hi = mid;
+		}
+		if (lo == 0) return 0;
+		// Decode the previous bucket, whose head precedes the boundary
+		final int end = (int)Math.min(n, (long)lo * ratio);
+		long pos = p[lo - 1];
+		int length = readInt(array, pos);
+		byte[] s = new byte[length];
+		copyFromBig(array, pos + count(length), s, 0, length);
+		pos += count(length) + length;
+		for (int i = (lo - 1) * ratio + 1; i < end; i++) {
+			length = readInt(array, pos);
+			final int common = readInt(array, pos + count(length));
+			s = ByteArrays.ensureCapacity(s, length + common, common);
+			copyFromBig(array, pos + count(length) + count(common), s, common, length);
+			pos += count(length) + count(common) + length;
+			length += common;
+			if (!before(s, length, key, prefix)) return i;
+		}
+		return end;
+	}
+
+	/**
+	 * Returns the index of the first array greater than or equal to a given key.
+	 *
+	 * @param key a key.
+	 * @return the index of the first array in this dictionary that is greater than or equal to
+	 *         {@code key}, or {@link #size()} if no such array exists.
+	 */
+	public int lowerBound(final byte[] key) {
+		return boundary(key, false);
+	}
+
+	/**
+	 * Returns the index of a given array.
+	 *
+	 * @param key an array.
+	 * @return the index of {@code key} in this dictionary, or -1 if {@code key} does not belong to this
+	 *         dictionary.
+	 */
+	public int indexOf(final byte[] key) {
+		final int i = boundary(key, false);
+		if (i == n || arrayLength(i) != key.length) return -1;
+		return java.util.Arrays.equals(getArray(i), key) ? i : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * This method uses the order of the arrays to perform a binary search, and compares arrays by
+	 * content.
+	 */
+	@Override
+	public int indexOf(final Object o) {
+		return o instanceof byte[] ? indexOf((byte[])o) : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Since arrays are distinct, this method is equivalent to {@link #indexOf(Object)}.
+	 */
+	@Override
+	public int lastIndexOf(final Object o) {
+		return indexOf(o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * This method uses the order of the arrays to perform a binary search, and compares arrays by
+	 * content.
+	 */
+	@Override
+	public boolean contains(final Object o) {
+		return indexOf(o) != -1;
+	}
+
+	/**
+	 * Returns the arrays starting with a given prefix.
+	 *
+	 * <p>
+	 * Since arrays are sorted, the arrays starting with a given prefix form a contiguous range. The
+	 * index of the first array in the range is the {@linkplain #lowerBound(byte[]) lower bound} of
+	 * {@code prefix}.
+	 *
+	 * @param prefix a prefix.
+	 * @return a {@linkplain #subList(int, int) sublist} view of this dictionary containing exactly the
+	 *         arrays starting with {@code prefix}.
+	 */
+	public ObjectList<byte[]> prefixRange(final byte[] prefix) {
+		return subList(boundary(prefix, false), boundary(prefix, true));
+	}
+
+	/**
+	 * Returns a copy of this dictionary.
+	 *
+	 * @return a copy of this dictionary.
+	 */
+	@Override
+	public ByteArrayFrontCodedDictionary clone() {
+		return this;
+	}
+}
@@ -150,6 +150,21 @@ public class ByteArrayFrontCodedList extends AbstractObjectList<byte[]> implemen
 		this(c.iterator(), ratio);
 	}
 
+	/**
+	 * Creates a new front-coded list using the given data.
+	 *
+	 * @param n the number of arrays in the list.
+	 * @param ratio the ratio of the list.
+	 * @param array the big array containing the compressed arrays.
+	 * @param p the pointers to entire arrays in the list.
+	 */
+	protected ByteArrayFrontCodedList(final int n, final int ratio, final byte[][] array, final long[] p) {
+		this.n = n;
+		this.ratio = ratio;
+		this.array = array;
+		this.p = p;
+	}
+
 	/* The following (rather messy) methods implements the encoding of arbitrary integers inside a big array.
 	 * Unfortunately, we have to specify different codes for almost every type. */
 	/**
@@ -0,0 +1,419 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+
+import static it.unimi.dsi.fastutil.bytes.ByteArrayFrontCodedBigList.HEADER_SIZE;
+import static it.unimi.dsi.fastutil.bytes.ByteArrayFrontCodedBigList.MAGIC;
+import static it.unimi.dsi.fastutil.bytes.ByteArrayFrontCodedBigList.VERSION;
+import static it.unimi.dsi.fastutil.bytes.ByteArrayFrontCodedList.count;
+import it.unimi.dsi.fastutil.objects.AbstractObjectBigList;
+import it.unimi.dsi.fastutil.objects.ObjectBigListIterator;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A read-only front-coded big list of arrays exposing the content of a file.
+ *
+ * <p>
+ * This class {@linkplain #map(FileChannel) maps} a file containing a front-coded big list in the
+ * format written by {@link ByteArrayFrontCodedBigList#store(DataOutput)}, and provides the same
+ * access methods of {@link ByteArrayFrontCodedBigList}. The pointers and the compressed arrays are
+ * never loaded in memory: as in the case of {@link ByteMappedBigList}, they are read directly from
+ * an array of {@link MappedByteBuffer}s, each mapping a <em>chunk</em> of at most 2<sup>30</sup>
+ * bytes. Thus, mapping a list takes constant time independently of its size, and only the pages
+ * that are actually accessed are loaded by the operating system.
+ *
+ * <p>
+ * Differently from {@link ByteMappedBigList}, this class reads the underlying buffers using only
+ * absolute methods, so an instance can be accessed concurrently by multiple threads without
+ * duplicating it.
+ *
+ * @see ByteArrayFrontCodedBigList
+ */
+public class ByteArrayMappedFrontCodedBigList extends AbstractObjectBigList<byte[]> implements RandomAccess {
+	/** The base-2 logarithm of the number of elements in a chunk of compressed arrays. */
+	private static final int CHUNK_SHIFT = 30;
+	/** The mask used to compute the offset in a chunk of compressed arrays. */
+	private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+	/** The base-2 logarithm of the number of pointers in a chunk of pointers. */
+	private static final int POINTER_CHUNK_SHIFT = 27;
+	/** The mask used to compute the offset in a chunk of pointers. */
+	private static final long POINTER_CHUNK_MASK = (1L << POINTER_CHUNK_SHIFT) - 1;
+	/** The number of arrays in the list. */
+	protected final long n;
+	/** The ratio of this front-coded list. */
+	protected final int ratio;
+	/** The chunks containing the compressed arrays. */
+	private final ByteBuffer[] array;
+	/** The chunks containing the pointers to entire arrays in the list. */
+	private final LongBuffer[] p;
+
+	/**
+	 * Creates a new mapped front-coded list using the given data.
+	 *
+	 * @param n the number of arrays in the list.
+	 * @param ratio the ratio of the list.
+	 * @param array the chunks containing the compressed arrays; all chunks but the last one must
+	 *            contain 2<sup>30</sup> elements.
+	 * @param p the chunks containing the pointers to entire arrays in the list; all chunks but the
+	 *            last one must contain 2<sup>27</sup> elements.
+	 */
+	protected ByteArrayMappedFrontCodedBigList(final long n, final int ratio, final ByteBuffer[] array, final LongBuffer[] p) {
+		this.n = n;
+		this.ratio = ratio;
+		this.array = array;
+		this.p = p;
+	}
+
+	/**
+	 * Creates a new mapped front-coded list by read-only mapping a given file channel.
+	 *
+	 * @param fileChannel the file channel that will be mapped; its content must have been written by
+	 *            {@link ByteArrayFrontCodedBigList#store(DataOutput)}.
+	 * @return a new read-only front-coded list over the contents of {@code fileChannel}.
+	 * @throws IOException if an I/O error occurs, or if the content of {@code fileChannel} is not a
+	 *             front-coded list of the right type.
+	 */
+	public static ByteArrayMappedFrontCodedBigList map(final FileChannel fileChannel) throws IOException {
+		final long fileSize = fileChannel.size();
+		if (fileSize < HEADER_SIZE) throw new IOException("File size (" + fileSize + ") is smaller than the header size (" + HEADER_SIZE + ")");
+		final ByteBuffer header = fileChannel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+		if (header.getInt(0) != MAGIC) throw new IOException("Wrong magic number: 0x" + Integer.toHexString(header.getInt(0)));
+		if (header.getInt(4) != VERSION) throw new IOException("Unsupported version (" + header.getInt(4) + ")");
+		final long n = header.getLong(8);
+		final int ratio = header.getInt(16);
+		if (n < 0 || ratio < 1) throw new IOException("Illegal number of arrays (" + n + ") or ratio (" + ratio + ")");
+		if (header.getInt(20) != Byte.BYTES) throw new IOException("Wrong element size (" + header.getInt(20) + ")");
+		final long length = header.getLong(24);
+		final long pointers = (n + ratio - 1) / ratio;
+		final long start = HEADER_SIZE + pointers * Long.BYTES;
+		if (length < 0 || fileSize < start + length * Byte.BYTES) throw new IOException("File size (" + fileSize + ") is smaller than the expected size (" + (start + length * Byte.BYTES) + ")");
+		final ByteBuffer[] pointerBuffer = map(fileChannel, HEADER_SIZE, pointers, POINTER_CHUNK_SHIFT, Long.BYTES);
+		final LongBuffer[] p = new LongBuffer[pointerBuffer.length];
+		for (int i = 0; i < p.length; i++) p[i] = pointerBuffer[i].asLongBuffer();
+		final ByteBuffer[] buffer = map(fileChannel, start, length, CHUNK_SHIFT, Byte.BYTES);
+		return new ByteArrayMappedFrontCodedBigList(n, ratio, buffer, p);
+	}
+
+	/**
+	 * Maps read-only a section of a file channel in chunks.
+	 *
+	 * @param fileChannel a file channel.
+	 * @param offset the starting position of the section in bytes.
+	 * @param length the length of the section in elements.
+	 * @param shift the base-2 logarithm of the number of elements in a chunk.
+	 * @param bytes the number of bytes of an element.
+	 * @return the chunks mapping the section.
+	 */
+	private static ByteBuffer[] map(final FileChannel fileChannel, final long offset, final long length, final int shift, final int bytes) throws IOException {
+		final ByteBuffer[] buffer = new ByteBuffer[(int)((length + (1L << shift) - 1) >>> shift)];
+		for (int i = 0; i < buffer.length; i++) buffer[i] = fileChannel.map(MapMode.READ_ONLY, offset + ((long)i << shift) * bytes, Math.min(1L << shift, length - ((long)i << shift)) * bytes);
+		return buffer;
+	}
+
+	/**
+	 * Returns the element of the compressed arrays at a given position.
+	 *
+	 * @param pos a position.
+	 * @return the element at position {@code pos}.
+	 */
+	private byte element(final long pos) {
+		return array[(int)(pos >>> CHUNK_SHIFT)].get((int)(pos & CHUNK_MASK));
+	}
+
+	/**
+	 * Reads a coded length.
+	 *
+	 * @param pos the starting position.
+	 * @return the length coded at {@code pos}.
+	 */
+	private int readInt(final long pos) {
+		final byte b0 = element(pos);
+		if (b0 >= 0) return b0;
+		final byte b1 = element(pos + 1);
+		if (b1 >= 0) return (-b0 - 1) << 7 | b1;
+		final byte b2 = element(pos + 2);
+		if (b2 >= 0) return (-b0 - 1) << 14 | (-b1 - 1) << 7 | b2;
+		final byte b3 = element(pos + 3);
+		if (b3 >= 0) return (-b0 - 1) << 21 | (-b1 - 1) << 14 | (-b2 - 1) << 7 | b3;
+		return (-b0 - 1) << 28 | (-b1 - 1) << 21 | (-b2 - 1) << 14 | (-b3 - 1) << 7 | element(pos + 4);
+	}
+
+	/**
+	 * Returns a pointer.
+	 *
+	 * @param i the index of a pointer.
+	 * @return the position of the {@code i}-th entire array.
+	 */
+	private long pointer(final long i) {
+		return p[(int)(i >>> POINTER_CHUNK_SHIFT)].get((int)(i & POINTER_CHUNK_MASK));
+	}
+
+	/**
+	 * Copies elements of the compressed arrays into an array.
+	 *
+	 * @param pos the starting position.
+	 * @param a the destination array.
+	 * @param offset the starting offset in {@code a}.
+	 * @param length the number of elements to copy.
+	 */
+	private void copy(long pos, final byte[] a, int offset, int length) {
+		while (length > 0) {
+			final ByteBuffer b = array[(int)(pos >>> CHUNK_SHIFT)];
+			final int from = (int)(pos & CHUNK_MASK);
+			final int l = Math.min(length, b.capacity() - from);
+			b.get(from, a, offset, l);
+			pos += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	public int ratio() {
+		return ratio;
+	}
+
+	/**
+	 * Computes the length of the array at the given index.
+	 *
+	 * <p>
+	 * This private version of {@link #arrayLength(long)} does not check its argument.
+	 *
+	 * @param index an index.
+	 * @return the length of the {@code index}-th array.
+	 */
+	private int length(final long index) {
+		final int delta = (int)(index % ratio); // The index into the p array, and the delta inside the block.
+		long pos = pointer(index / ratio); // The position into the array of the first entire word before the index-th.
+		int length = readInt(pos);
+		if (delta == 0) return length;
+		// First of all, we recover the array length and the maximum amount of copied elements.
+		int common;
+		pos += count(length) + length;
+		length = readInt(pos);
+		common = readInt(pos + count(length));
+		for (int i = 0; i < delta - 1; i++) {
+			pos += count(length) + count(common) + length;
+			length = readInt(pos);
+			common = readInt(pos + count(length));
+		}
+		return length + common;
+	}
+
+	/**
+	 * Computes the length of the array at the given index.
+	 *
+	 * @param index an index.
+	 * @return the length of the {@code index}-th array.
+	 */
+	public int arrayLength(final long index) {
+		ensureRestrictedIndex(index);
+		return length(index);
+	}
+
+	/**
+	 * Extracts the array at the given index.
+	 *
+	 * @param index an index.
+	 * @param a the array that will store the result (we assume that it can hold the result).
+	 * @param offset an offset into {@code a} where elements will be store.
+	 * @param length a maximum number of elements to store in {@code a}.
+	 * @return the length of the extracted array.
+	 */
+	private int extract(final long index, final byte a[], final int offset, final int length) {
+		final int delta = (int)(index % ratio); // The delta inside the block.
+		final long startPos = pointer(index / ratio); // The position into the array of the first entire word before the index-th.
+		long pos, prevArrayPos;
+		int arrayLength = readInt(pos = startPos), currLen = 0, actualCommon;
+		if (delta == 0) {
+			pos = pointer(index / ratio) + count(arrayLength);
+			copy(pos, a, offset, Math.min(length, arrayLength));
+			return arrayLength;
+		}
+		int common = 0;
+		for (int i = 0; i < delta; i++) {
+			prevArrayPos = pos + count(arrayLength) + (i != 0 ? count(common) : 0);
+			pos = prevArrayPos + arrayLength;
+			arrayLength = readInt(pos);
+			common = readInt(pos + count(arrayLength));
+			actualCommon = Math.min(common, length);
+			if (actualCommon <= currLen) currLen = actualCommon;
+			else {
+				copy(prevArrayPos, a, currLen + offset, actualCommon - currLen);
+				currLen = actualCommon;
+			}
+		}
+		if (currLen < length) copy(pos + count(arrayLength) + count(common), a, currLen + offset, Math.min(arrayLength, length - currLen));
+		return arrayLength + common;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation delegates to {@link #getArray(long)}.
+	 */
+	@Override
+	public byte[] get(final long index) {
+		return getArray(index);
+	}
+
+	/**
+	 * Returns an array stored in this front-coded list.
+	 *
+	 * @param index an index.
+	 * @return the corresponding array stored in this front-coded list.
+	 */
+	public byte[] getArray(final long index) {
+		ensureRestrictedIndex(index);
+		final int length = length(index);
+		final byte a[] = new byte[length];
+		extract(index, a, 0, length);
+		return a;
+	}
+
+	/**
+	 * Stores in the given array elements from an array stored in this front-coded list.
+	 *
+	 * @param index an index.
+	 * @param a the array that will store the result.
+	 * @param offset an offset into {@code a} where elements will be store.
+	 * @param length a maximum number of elements to store in {@code a}.
+	 * @return if {@code a} can hold the extracted elements, the number of extracted elements;
+	 *         otherwise, the number of remaining elements with the sign changed.
+	 */
+	public int get(final long index, final byte[] a, final int offset, final int length) {
+		ensureRestrictedIndex(index);
+		ByteArrays.ensureOffsetLength(a, offset, length);
+		final int arrayLength = extract(index, a, offset, length);
+		if (length >= arrayLength) return arrayLength;
+		return length - arrayLength;
+	}
+
+	/**
+	 * Stores in the given array an array stored in this front-coded list.
+	 *
+	 * @param index an index.
+	 * @param a the array that will store the content of the result (we assume that it can hold the
+	 *            result).
+	 * @return if {@code a} can hold the extracted elements, the number of extracted elements;
+	 *         otherwise, the number of remaining elements with the sign changed.
+	 */
+	public int get(final long index, final byte[] a) {
+		return get(index, a, 0, a.length);
+	}
+
+	@Override
+	public long size64() {
+		return n;
+	}
+
+	@Override
+	public ObjectBigListIterator<byte[]> listIterator(final long start) {
+		ensureIndex(start);
+		return new ObjectBigListIterator<byte[]>() {
+			byte s[] = ByteArrays.EMPTY_ARRAY;
+			long i = 0;
+			long pos = 0;
+			boolean inSync; // Whether the current value in a is the string just before the next to be produced.
+			{
+				if (start != 0) {
+					if (start == n) i = start; // If we start at the end, we do nothing.
+					else {
+						pos = pointer(start / ratio);
+						int j = (int)(start % ratio);
+						i = start - j;
+						while (j-- != 0) next();
+					}
+				}
+			}
+
+			@Override
+			public boolean hasNext() {
+				return i < n;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return i > 0;
+			}
+
+			@Override
+			public long previousIndex() {
+				return i - 1;
+			}
+
+			@Override
+			public long nextIndex() {
+				return i;
+			}
+
+			@Override
+			public byte[] next() {
+				int length, common;
+				if (!hasNext()) throw new NoSuchElementException();
+				if (i % ratio == 0) {
+					pos = pointer(i / ratio);
+					length = readInt(pos);
+					s = ByteArrays.ensureCapacity(s, length, 0);
+					copy(pos + count(length), s, 0, length);
+					pos += length + count(length);
+					inSync = true;
+				} else {
+					if (inSync) {
+						length = readInt(pos);
+						common = readInt(pos + count(length));
+						s = ByteArrays.ensureCapacity(s, length + common, common);
+						copy(pos + count(length) + count(common), s, common, length);
+						pos += count(length) + count(common) + length;
+						length += common;
+					} else {
+						s = ByteArrays.ensureCapacity(s, length = length(i), 0);
+						extract(i, s, 0, length);
+					}
+				}
+				i++;
+				return ByteArrays.copy(s, 0, length);
+			}
+
+			@Override
+			public byte[] previous() {
+				if (!hasPrevious()) throw new NoSuchElementException();
+				inSync = false;
+				return getArray(--i);
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		final StringBuffer s = new StringBuffer();
+		s.append("[");
+		for (long i = 0; i < n; i++) {
+			if (i != 0) s.append(", ");
+			s.append(ByteArrayList.wrap(getArray(i)).toString());
+		}
+		s.append("]");
+		return s.toString();
+	}
+
+}
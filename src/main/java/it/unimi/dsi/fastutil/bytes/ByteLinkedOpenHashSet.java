@@ -52,8 +52,8 @@ import java.util.NoSuchElementException;
  * This class implements the interface of a sorted set, so to allow easy access of the iteration
  * order: for instance, you can get the first element in iteration order with {@code first()}
  * without having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedSet} contract because all subset methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedSet} contract because all subset and navigation methods (e.g.,
+ * {@code floor()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code addAndMoveToFirst()}, make it easy to use instances of this
@@ -819,6 +819,46 @@ public class ByteLinkedOpenHashSet extends AbstractByteSortedSet implements java
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte floorByte(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte ceilingByte(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte higherByte(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public byte lowerByte(byte k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
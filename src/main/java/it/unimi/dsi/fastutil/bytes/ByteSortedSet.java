@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.bytes;
 
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.SortedSet;
 import java.util.Collection;
@@ -221,4 +222,98 @@ public interface ByteSortedSet extends ByteSet, SortedSet<Byte>, ByteBidirection
 	default Byte last() {
 		return Byte.valueOf(lastByte());
 	}
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(byte) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default byte floorByte(final byte k) {
+		final ByteBidirectionalIterator i = iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousByte();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(byte) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default byte ceilingByte(final byte k) {
+		if (contains(k)) return k;
+		final ByteBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextByte();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(byte) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default byte higherByte(final byte k) {
+		final ByteBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextByte();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(byte) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default byte lowerByte(final byte k) {
+		final ByteBidirectionalIterator i = iterator(k);
+		if (contains(k)) i.previousByte();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousByte();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #firstByte()} and {@link #remove(byte)}.
+	 *
+	 * @return the (former) lowest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default byte pollFirstByte() {
+		final byte k = firstByte();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #lastByte()} and {@link #remove(byte)}.
+	 *
+	 * @return the (former) highest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default byte pollLastByte() {
+		final byte k = lastByte();
+		remove(k);
+		return k;
+	}
 }
@@ -394,6 +394,48 @@ public final class ByteSortedSets {
 			}
 		}
 
+		@Override
+		public byte floorByte(final byte k) {
+			synchronized (sync) {
+				return sortedSet.floorByte(k);
+			}
+		}
+
+		@Override
+		public byte ceilingByte(final byte k) {
+			synchronized (sync) {
+				return sortedSet.ceilingByte(k);
+			}
+		}
+
+		@Override
+		public byte higherByte(final byte k) {
+			synchronized (sync) {
+				return sortedSet.higherByte(k);
+			}
+		}
+
+		@Override
+		public byte lowerByte(final byte k) {
+			synchronized (sync) {
+				return sortedSet.lowerByte(k);
+			}
+		}
+
+		@Override
+		public byte pollFirstByte() {
+			synchronized (sync) {
+				return sortedSet.pollFirstByte();
+			}
+		}
+
+		@Override
+		public byte pollLastByte() {
+			synchronized (sync) {
+				return sortedSet.pollLastByte();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -528,6 +570,36 @@ public final class ByteSortedSets {
 			return sortedSet.lastByte();
 		}
 
+		@Override
+		public byte floorByte(final byte k) {
+			return sortedSet.floorByte(k);
+		}
+
+		@Override
+		public byte ceilingByte(final byte k) {
+			return sortedSet.ceilingByte(k);
+		}
+
+		@Override
+		public byte higherByte(final byte k) {
+			return sortedSet.higherByte(k);
+		}
+
+		@Override
+		public byte lowerByte(final byte k) {
+			return sortedSet.lowerByte(k);
+		}
+
+		@Override
+		public byte pollFirstByte() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public byte pollLastByte() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
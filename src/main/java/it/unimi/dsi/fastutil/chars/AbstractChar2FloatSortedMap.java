@@ -79,6 +79,26 @@ public abstract class AbstractChar2FloatSortedMap extends AbstractChar2FloatMap
 			return lastCharKey();
 		}
 
+		@Override
+		public char floorChar(final char k) {
+			return floorCharKey(k);
+		}
+
+		@Override
+		public char ceilingChar(final char k) {
+			return ceilingCharKey(k);
+		}
+
+		@Override
+		public char higherChar(final char k) {
+			return higherCharKey(k);
+		}
+
+		@Override
+		public char lowerChar(final char k) {
+			return lowerCharKey(k);
+		}
+
 		@Override
 		public CharSortedSet headSet(final char to) {
 			return headMap(to).keySet();
@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1136,6 +1136,86 @@ public class Char2ByteLinkedOpenHashMap extends AbstractChar2ByteSortedMap imple
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2ByteMap.Entry floorEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2ByteMap.Entry ceilingEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2ByteMap.Entry higherEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2ByteMap.Entry lowerEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char floorCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char ceilingCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char higherCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char lowerCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1439,6 +1519,26 @@ public class Char2ByteLinkedOpenHashMap extends AbstractChar2ByteSortedMap imple
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Char2ByteMap.Entry floor(Char2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2ByteMap.Entry ceiling(Char2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2ByteMap.Entry higher(Char2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2ByteMap.Entry lower(Char2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Char2ByteMap.Entry> headSet(Char2ByteMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1722,6 +1822,26 @@ public class Char2ByteLinkedOpenHashMap extends AbstractChar2ByteSortedMap imple
 		public CharSortedSet subSet(char from, char to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public char floorChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char ceilingChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char higherChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char lowerChar(char k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
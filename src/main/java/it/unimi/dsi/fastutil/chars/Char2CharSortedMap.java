@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.chars;
 
+import java.util.NoSuchElementException;
 import java.util.Map;
 import java.util.SortedMap;
 import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
@@ -232,4 +233,172 @@ public interface Char2CharSortedMap extends Char2CharMap, SortedMap<Character, C
 	 */
 	@Override
 	CharComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Char2CharMap.Entry floorEntry(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final char key = i.previousChar();
+		return new AbstractChar2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Char2CharMap.Entry ceilingEntry(final char k) {
+		if (containsKey(k)) return new AbstractChar2CharMap.BasicEntry(k, get(k));
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final char key = i.nextChar();
+		return new AbstractChar2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Char2CharMap.Entry higherEntry(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final char key = i.nextChar();
+		return new AbstractChar2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Char2CharMap.Entry lowerEntry(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousChar();
+		if (!i.hasPrevious()) return null;
+		final char key = i.previousChar();
+		return new AbstractChar2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default char floorCharKey(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final char key = i.previousChar();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default char ceilingCharKey(final char k) {
+		if (containsKey(k)) return k;
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final char key = i.nextChar();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default char higherCharKey(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final char key = i.nextChar();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link CharSortedSet#iterator(char)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default char lowerCharKey(final char k) {
+		final CharBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousChar();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final char key = i.previousChar();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstCharKey()} and {@link #remove(char)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Char2CharMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final char k = firstCharKey();
+		return new AbstractChar2CharMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastCharKey()} and {@link #remove(char)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Char2CharMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final char k = lastCharKey();
+		return new AbstractChar2CharMap.BasicEntry(k, remove(k));
+	}
 }
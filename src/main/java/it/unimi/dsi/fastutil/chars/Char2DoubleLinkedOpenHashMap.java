@@ -69,8 +69,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1135,6 +1135,86 @@ public class Char2DoubleLinkedOpenHashMap extends AbstractChar2DoubleSortedMap i
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2DoubleMap.Entry floorEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2DoubleMap.Entry ceilingEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2DoubleMap.Entry higherEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Char2DoubleMap.Entry lowerEntry(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char floorCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char ceilingCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char higherCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public char lowerCharKey(char k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1438,6 +1518,26 @@ public class Char2DoubleLinkedOpenHashMap extends AbstractChar2DoubleSortedMap i
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Char2DoubleMap.Entry floor(Char2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2DoubleMap.Entry ceiling(Char2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2DoubleMap.Entry higher(Char2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2DoubleMap.Entry lower(Char2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Char2DoubleMap.Entry> headSet(Char2DoubleMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1721,6 +1821,26 @@ public class Char2DoubleLinkedOpenHashMap extends AbstractChar2DoubleSortedMap i
 		public CharSortedSet subSet(char from, char to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public char floorChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char ceilingChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char higherChar(char k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char lowerChar(char k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
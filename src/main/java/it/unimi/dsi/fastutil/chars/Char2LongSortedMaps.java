@@ -475,6 +475,76 @@ public final class Char2LongSortedMaps {
 			}
 		}
 
+		@Override
+		public Char2LongMap.Entry floorEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Char2LongMap.Entry ceilingEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Char2LongMap.Entry higherEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Char2LongMap.Entry lowerEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public char floorCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.floorCharKey(k);
+			}
+		}
+
+		@Override
+		public char ceilingCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.ceilingCharKey(k);
+			}
+		}
+
+		@Override
+		public char higherCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.higherCharKey(k);
+			}
+		}
+
+		@Override
+		public char lowerCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.lowerCharKey(k);
+			}
+		}
+
+		@Override
+		public Char2LongMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Char2LongMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Char2LongSortedMaps {
 			return sortedMap.lastCharKey();
 		}
 
+		@Override
+		public Char2LongMap.Entry floorEntry(final char k) {
+			final Char2LongMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractChar2LongMap.BasicEntry(e.getCharKey(), e.getLongValue());
+		}
+
+		@Override
+		public Char2LongMap.Entry ceilingEntry(final char k) {
+			final Char2LongMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractChar2LongMap.BasicEntry(e.getCharKey(), e.getLongValue());
+		}
+
+		@Override
+		public Char2LongMap.Entry higherEntry(final char k) {
+			final Char2LongMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractChar2LongMap.BasicEntry(e.getCharKey(), e.getLongValue());
+		}
+
+		@Override
+		public Char2LongMap.Entry lowerEntry(final char k) {
+			final Char2LongMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractChar2LongMap.BasicEntry(e.getCharKey(), e.getLongValue());
+		}
+
+		@Override
+		public char floorCharKey(final char k) {
+			return sortedMap.floorCharKey(k);
+		}
+
+		@Override
+		public char ceilingCharKey(final char k) {
+			return sortedMap.ceilingCharKey(k);
+		}
+
+		@Override
+		public char higherCharKey(final char k) {
+			return sortedMap.higherCharKey(k);
+		}
+
+		@Override
+		public char lowerCharKey(final char k) {
+			return sortedMap.lowerCharKey(k);
+		}
+
+		@Override
+		public Char2LongMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2LongMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -494,6 +494,76 @@ public final class Char2ObjectSortedMaps {
 			}
 		}
 
+		@Override
+		public Char2ObjectMap.Entry<V> floorEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> ceilingEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> higherEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> lowerEntry(final char k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public char floorCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.floorCharKey(k);
+			}
+		}
+
+		@Override
+		public char ceilingCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.ceilingCharKey(k);
+			}
+		}
+
+		@Override
+		public char higherCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.higherCharKey(k);
+			}
+		}
+
+		@Override
+		public char lowerCharKey(final char k) {
+			synchronized (sync) {
+				return sortedMap.lowerCharKey(k);
+			}
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -643,6 +713,60 @@ public final class Char2ObjectSortedMaps {
 			return sortedMap.lastCharKey();
 		}
 
+		@Override
+		public Char2ObjectMap.Entry<V> floorEntry(final char k) {
+			final Char2ObjectMap.Entry<? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractChar2ObjectMap.BasicEntry<>(e.getCharKey(), e.getValue());
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> ceilingEntry(final char k) {
+			final Char2ObjectMap.Entry<? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractChar2ObjectMap.BasicEntry<>(e.getCharKey(), e.getValue());
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> higherEntry(final char k) {
+			final Char2ObjectMap.Entry<? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractChar2ObjectMap.BasicEntry<>(e.getCharKey(), e.getValue());
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> lowerEntry(final char k) {
+			final Char2ObjectMap.Entry<? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractChar2ObjectMap.BasicEntry<>(e.getCharKey(), e.getValue());
+		}
+
+		@Override
+		public char floorCharKey(final char k) {
+			return sortedMap.floorCharKey(k);
+		}
+
+		@Override
+		public char ceilingCharKey(final char k) {
+			return sortedMap.ceilingCharKey(k);
+		}
+
+		@Override
+		public char higherCharKey(final char k) {
+			return sortedMap.higherCharKey(k);
+		}
+
+		@Override
+		public char lowerCharKey(final char k) {
+			return sortedMap.lowerCharKey(k);
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Char2ObjectMap.Entry<V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
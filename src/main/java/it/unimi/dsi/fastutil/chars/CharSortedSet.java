@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.chars;
 
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.SortedSet;
 import java.util.Collection;
@@ -221,4 +222,98 @@ public interface CharSortedSet extends CharSet, SortedSet<Character>, CharBidire
 	default Character last() {
 		return Character.valueOf(lastChar());
 	}
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(char) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default char floorChar(final char k) {
+		final CharBidirectionalIterator i = iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousChar();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(char) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default char ceilingChar(final char k) {
+		if (contains(k)) return k;
+		final CharBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextChar();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(char) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default char higherChar(final char k) {
+		final CharBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextChar();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(char) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default char lowerChar(final char k) {
+		final CharBidirectionalIterator i = iterator(k);
+		if (contains(k)) i.previousChar();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousChar();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #firstChar()} and {@link #remove(char)}.
+	 *
+	 * @return the (former) lowest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default char pollFirstChar() {
+		final char k = firstChar();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #lastChar()} and {@link #remove(char)}.
+	 *
+	 * @return the (former) highest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default char pollLastChar() {
+		final char k = lastChar();
+		remove(k);
+		return k;
+	}
 }
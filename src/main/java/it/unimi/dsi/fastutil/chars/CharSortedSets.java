@@ -394,6 +394,48 @@ public final class CharSortedSets {
 			}
 		}
 
+		@Override
+		public char floorChar(final char k) {
+			synchronized (sync) {
+				return sortedSet.floorChar(k);
+			}
+		}
+
+		@Override
+		public char ceilingChar(final char k) {
+			synchronized (sync) {
+				return sortedSet.ceilingChar(k);
+			}
+		}
+
+		@Override
+		public char higherChar(final char k) {
+			synchronized (sync) {
+				return sortedSet.higherChar(k);
+			}
+		}
+
+		@Override
+		public char lowerChar(final char k) {
+			synchronized (sync) {
+				return sortedSet.lowerChar(k);
+			}
+		}
+
+		@Override
+		public char pollFirstChar() {
+			synchronized (sync) {
+				return sortedSet.pollFirstChar();
+			}
+		}
+
+		@Override
+		public char pollLastChar() {
+			synchronized (sync) {
+				return sortedSet.pollLastChar();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -528,6 +570,36 @@ public final class CharSortedSets {
 			return sortedSet.lastChar();
 		}
 
+		@Override
+		public char floorChar(final char k) {
+			return sortedSet.floorChar(k);
+		}
+
+		@Override
+		public char ceilingChar(final char k) {
+			return sortedSet.ceilingChar(k);
+		}
+
+		@Override
+		public char higherChar(final char k) {
+			return sortedSet.higherChar(k);
+		}
+
+		@Override
+		public char lowerChar(final char k) {
+			return sortedSet.lowerChar(k);
+		}
+
+		@Override
+		public char pollFirstChar() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public char pollLastChar() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -79,6 +79,26 @@ public abstract class AbstractDouble2FloatSortedMap extends AbstractDouble2Float
 			return lastDoubleKey();
 		}
 
+		@Override
+		public double floorDouble(final double k) {
+			return floorDoubleKey(k);
+		}
+
+		@Override
+		public double ceilingDouble(final double k) {
+			return ceilingDoubleKey(k);
+		}
+
+		@Override
+		public double higherDouble(final double k) {
+			return higherDoubleKey(k);
+		}
+
+		@Override
+		public double lowerDouble(final double k) {
+			return lowerDoubleKey(k);
+		}
+
 		@Override
 		public DoubleSortedSet headSet(final double to) {
 			return headMap(to).keySet();
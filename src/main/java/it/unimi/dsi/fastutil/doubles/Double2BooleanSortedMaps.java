@@ -475,6 +475,76 @@ public final class Double2BooleanSortedMaps {
 			}
 		}
 
+		@Override
+		public Double2BooleanMap.Entry floorEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Double2BooleanMap.Entry ceilingEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Double2BooleanMap.Entry higherEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Double2BooleanMap.Entry lowerEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerDoubleKey(k);
+			}
+		}
+
+		@Override
+		public Double2BooleanMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Double2BooleanMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Double2BooleanSortedMaps {
 			return sortedMap.lastDoubleKey();
 		}
 
+		@Override
+		public Double2BooleanMap.Entry floorEntry(final double k) {
+			final Double2BooleanMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractDouble2BooleanMap.BasicEntry(e.getDoubleKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Double2BooleanMap.Entry ceilingEntry(final double k) {
+			final Double2BooleanMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractDouble2BooleanMap.BasicEntry(e.getDoubleKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Double2BooleanMap.Entry higherEntry(final double k) {
+			final Double2BooleanMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractDouble2BooleanMap.BasicEntry(e.getDoubleKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Double2BooleanMap.Entry lowerEntry(final double k) {
+			final Double2BooleanMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractDouble2BooleanMap.BasicEntry(e.getDoubleKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			return sortedMap.floorDoubleKey(k);
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			return sortedMap.ceilingDoubleKey(k);
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			return sortedMap.higherDoubleKey(k);
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			return sortedMap.lowerDoubleKey(k);
+		}
+
+		@Override
+		public Double2BooleanMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2BooleanMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.doubles;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.bytes.ByteCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,174 @@ public interface Double2ByteSortedMap extends Double2ByteMap, SortedMap<Double,
 	 */
 	@Override
 	DoubleComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Double2ByteMap.Entry floorEntry(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final double key = i.previousDouble();
+		return new AbstractDouble2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Double2ByteMap.Entry ceilingEntry(final double k) {
+		if (containsKey(k)) return new AbstractDouble2ByteMap.BasicEntry(k, get(k));
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final double key = i.nextDouble();
+		return new AbstractDouble2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Double2ByteMap.Entry higherEntry(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final double key = i.nextDouble();
+		return new AbstractDouble2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Double2ByteMap.Entry lowerEntry(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousDouble();
+		if (!i.hasPrevious()) return null;
+		final double key = i.previousDouble();
+		return new AbstractDouble2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default double floorDoubleKey(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final double key = i.previousDouble();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default double ceilingDoubleKey(final double k) {
+		if (containsKey(k)) return k;
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final double key = i.nextDouble();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default double higherDoubleKey(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final double key = i.nextDouble();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link DoubleSortedSet#iterator(double)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default double lowerDoubleKey(final double k) {
+		final DoubleBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousDouble();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final double key = i.previousDouble();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstDoubleKey()} and
+	 *           {@link #remove(double)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Double2ByteMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final double k = firstDoubleKey();
+		return new AbstractDouble2ByteMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastDoubleKey()} and
+	 *           {@link #remove(double)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Double2ByteMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final double k = lastDoubleKey();
+		return new AbstractDouble2ByteMap.BasicEntry(k, remove(k));
+	}
 }
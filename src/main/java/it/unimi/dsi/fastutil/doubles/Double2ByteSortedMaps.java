@@ -475,6 +475,76 @@ public final class Double2ByteSortedMaps {
 			}
 		}
 
+		@Override
+		public Double2ByteMap.Entry floorEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ByteMap.Entry ceilingEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ByteMap.Entry higherEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ByteMap.Entry lowerEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerDoubleKey(k);
+			}
+		}
+
+		@Override
+		public Double2ByteMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Double2ByteMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Double2ByteSortedMaps {
 			return sortedMap.lastDoubleKey();
 		}
 
+		@Override
+		public Double2ByteMap.Entry floorEntry(final double k) {
+			final Double2ByteMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractDouble2ByteMap.BasicEntry(e.getDoubleKey(), e.getByteValue());
+		}
+
+		@Override
+		public Double2ByteMap.Entry ceilingEntry(final double k) {
+			final Double2ByteMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractDouble2ByteMap.BasicEntry(e.getDoubleKey(), e.getByteValue());
+		}
+
+		@Override
+		public Double2ByteMap.Entry higherEntry(final double k) {
+			final Double2ByteMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractDouble2ByteMap.BasicEntry(e.getDoubleKey(), e.getByteValue());
+		}
+
+		@Override
+		public Double2ByteMap.Entry lowerEntry(final double k) {
+			final Double2ByteMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractDouble2ByteMap.BasicEntry(e.getDoubleKey(), e.getByteValue());
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			return sortedMap.floorDoubleKey(k);
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			return sortedMap.ceilingDoubleKey(k);
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			return sortedMap.higherDoubleKey(k);
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			return sortedMap.lowerDoubleKey(k);
+		}
+
+		@Override
+		public Double2ByteMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2ByteMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -63,8 +63,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1129,6 +1129,86 @@ public class Double2DoubleLinkedOpenHashMap extends AbstractDouble2DoubleSortedM
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2DoubleMap.Entry floorEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2DoubleMap.Entry ceilingEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2DoubleMap.Entry higherEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2DoubleMap.Entry lowerEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double floorDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double ceilingDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double higherDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double lowerDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1432,6 +1512,26 @@ public class Double2DoubleLinkedOpenHashMap extends AbstractDouble2DoubleSortedM
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Double2DoubleMap.Entry floor(Double2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2DoubleMap.Entry ceiling(Double2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2DoubleMap.Entry higher(Double2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2DoubleMap.Entry lower(Double2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Double2DoubleMap.Entry> headSet(Double2DoubleMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1715,6 +1815,26 @@ public class Double2DoubleLinkedOpenHashMap extends AbstractDouble2DoubleSortedM
 		public DoubleSortedSet subSet(double from, double to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public double floorDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double ceilingDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double higherDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double lowerDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
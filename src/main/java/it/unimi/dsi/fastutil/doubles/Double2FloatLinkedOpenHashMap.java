@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1136,6 +1136,86 @@ public class Double2FloatLinkedOpenHashMap extends AbstractDouble2FloatSortedMap
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2FloatMap.Entry floorEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2FloatMap.Entry ceilingEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2FloatMap.Entry higherEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Double2FloatMap.Entry lowerEntry(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double floorDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double ceilingDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double higherDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double lowerDoubleKey(double k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1439,6 +1519,26 @@ public class Double2FloatLinkedOpenHashMap extends AbstractDouble2FloatSortedMap
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Double2FloatMap.Entry floor(Double2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2FloatMap.Entry ceiling(Double2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2FloatMap.Entry higher(Double2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2FloatMap.Entry lower(Double2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Double2FloatMap.Entry> headSet(Double2FloatMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1722,6 +1822,26 @@ public class Double2FloatLinkedOpenHashMap extends AbstractDouble2FloatSortedMap
 		public DoubleSortedSet subSet(double from, double to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public double floorDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double ceilingDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double higherDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double lowerDouble(double k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
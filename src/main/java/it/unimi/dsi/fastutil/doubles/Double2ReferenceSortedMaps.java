@@ -494,6 +494,76 @@ public final class Double2ReferenceSortedMaps {
 			}
 		}
 
+		@Override
+		public Double2ReferenceMap.Entry<V> floorEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> ceilingEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> higherEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> lowerEntry(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.floorDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.ceilingDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.higherDoubleKey(k);
+			}
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			synchronized (sync) {
+				return sortedMap.lowerDoubleKey(k);
+			}
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -643,6 +713,60 @@ public final class Double2ReferenceSortedMaps {
 			return sortedMap.lastDoubleKey();
 		}
 
+		@Override
+		public Double2ReferenceMap.Entry<V> floorEntry(final double k) {
+			final Double2ReferenceMap.Entry<? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractDouble2ReferenceMap.BasicEntry<>(e.getDoubleKey(), e.getValue());
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> ceilingEntry(final double k) {
+			final Double2ReferenceMap.Entry<? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractDouble2ReferenceMap.BasicEntry<>(e.getDoubleKey(), e.getValue());
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> higherEntry(final double k) {
+			final Double2ReferenceMap.Entry<? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractDouble2ReferenceMap.BasicEntry<>(e.getDoubleKey(), e.getValue());
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> lowerEntry(final double k) {
+			final Double2ReferenceMap.Entry<? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractDouble2ReferenceMap.BasicEntry<>(e.getDoubleKey(), e.getValue());
+		}
+
+		@Override
+		public double floorDoubleKey(final double k) {
+			return sortedMap.floorDoubleKey(k);
+		}
+
+		@Override
+		public double ceilingDoubleKey(final double k) {
+			return sortedMap.ceilingDoubleKey(k);
+		}
+
+		@Override
+		public double higherDoubleKey(final double k) {
+			return sortedMap.higherDoubleKey(k);
+		}
+
+		@Override
+		public double lowerDoubleKey(final double k) {
+			return sortedMap.lowerDoubleKey(k);
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Double2ReferenceMap.Entry<V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -0,0 +1,593 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.doubles;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A type-specific big list backed by memory-mapped files that can grow.
+ *
+ * <p>
+ * Like a {@link DoubleMappedBigList}, an instance of this class exposes the content of a file of
+ * primitive types as a big list, mapping the file in <em>chunks</em> of {@link #CHUNK_SIZE}
+ * elements; differently from a {@link DoubleMappedBigList}, the list is writable, and its size can
+ * change: appending elements, or {@linkplain #size(long) setting the size}, extends the underlying
+ * file as needed. Chunks are mapped lazily, when they are first accessed; the last chunk is
+ * remapped with a larger length (at least doubling it) when new elements do not fit, and when it is
+ * full the next chunk is mapped. Insertions and removals in the middle of the list are supported, but
+ * they move all subsequent elements.
+ *
+ * <p>
+ * The content of the list can be stored in a single file, or spread over a sequence of files, each
+ * containing the same given number of chunks (but the last one): the first file has the given name,
+ * and the following ones the given name followed by a dot and a progressive number starting from 1
+ * (e.g., {@code data}, {@code data.1}, {@code data.2}&hellip;). In both cases, the concatenation of
+ * the files contains exactly the elements of the list after the list has been {@linkplain #close()
+ * closed}, so it can be mapped by {@link DoubleMappedBigList} or loaded by
+ * {@link it.unimi.dsi.fastutil.io.BinIO} methods using the same byte order; while the list is open,
+ * files may be longer than their content, as their length follows the mapped capacity.
+ *
+ * <p>
+ * While the list is open, its size is recorded in an additional file with the same name as the first
+ * file followed by {@code .size}, containing a long in big-endian order; the file is deleted when
+ * the list is {@linkplain #close() closed}. Changes are written to the files by the operating system
+ * at its own pace; {@link #force()} forces them to the storage device, and then records durably the
+ * current size. If the process terminates without closing the list, reopening it will yield a list
+ * whose size is the one at the last call to {@link #force()} (or at opening time, if
+ * {@link #force()} was never called); the elements modified after that call might or might not
+ * contain the new values, but the elements before that call are exactly those that were forced.
+ *
+ * <p>
+ * {@link #prefetch(long, long)} touches sequentially the pages of a range of elements, so that a
+ * subsequent scan of the range does not incur in page faults.
+ *
+ * <p>
+ * Instances of this class are not thread safe.
+ *
+ * @see DoubleMappedBigList
+ */
+public class DoubleAppendableMappedBigList extends AbstractDoubleBigList implements RandomAccess, Closeable {
+	private static final int CHUNK_SHIFT = 30 - DoubleMappedBigList.LOG2_BYTES;
+	/** The maximum size in elements of a chunk. */
+	public static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+	/** The mask used to compute the offset of an element in its chunk. */
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+	/** The length in elements of a chunk mapped for the first time past the end of the list. */
+	private static final int INITIAL_CHUNK_LENGTH = 1 << 16;
+	/** The number of elements in a memory page (assuming 4KiB pages). */
+	private static final int PAGE_ELEMENTS = 4096 / Double.BYTES;
+	/** The name of the first file. */
+	private final Path path;
+	/** The byte order of the files. */
+	private final ByteOrder byteOrder;
+	/** The number of chunks in each file but the last one. */
+	private final int chunksPerFile;
+	/** The channel of the file recording the size of this big list while it is open. */
+	private FileChannel sizeChannel;
+	/** The file channels; an entry is {@code null} if the corresponding file has not been opened yet. */
+	private FileChannel[] channel;
+	/** The mapped chunks; an entry is {@code null} if the corresponding chunk has not been mapped yet. */
+	private MappedByteBuffer[] mapped;
+	/** Type-specific views of {@link #mapped}. */
+	private DoubleBuffer[] buffer;
+	/** The number of chunks. */
+	private int n;
+	/** The overall capacity of the chunks. */
+	private long capacity;
+	/** The current size of this big list. */
+	private long size;
+	/** Whether this big list has been closed. */
+	private boolean closed;
+	/** A sink for the values read by {@link #prefetch(long, long)}. */
+	@SuppressWarnings("unused")
+	private double sink;
+
+	/**
+	 * Creates a new appendable mapped big list.
+	 *
+	 * @param path the name of the first file.
+	 * @param byteOrder the byte order of the files.
+	 * @param chunksPerFile the number of chunks in each file but the last one.
+	 * @param size the number of elements already in the files.
+	 */
+	protected DoubleAppendableMappedBigList(final Path path, final ByteOrder byteOrder, final int chunksPerFile, final long size) {
+		this.path = path;
+		this.byteOrder = byteOrder;
+		this.chunksPerFile = chunksPerFile;
+		this.size = this.capacity = size;
+		n = (int)((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+		mapped = new MappedByteBuffer[Math.max(n, 1)];
+		buffer = new DoubleBuffer[Math.max(n, 1)];
+		channel = new FileChannel[Math.max(file(n - 1) + 1, 1)];
+	}
+
+	/**
+	 * Opens an appendable mapped big list stored in a single file using the standard Java (i.e.,
+	 * {@link java.io.DataOutput}) byte order ({@link ByteOrder#BIG_ENDIAN}).
+	 *
+	 * <p>
+	 * If the file does not exist it will be created, and the list will be empty.
+	 *
+	 * @param path a file.
+	 * @return an appendable mapped big list over the contents of {@code path}.
+	 * @see #open(Path, ByteOrder, int)
+	 */
+	public static DoubleAppendableMappedBigList open(final Path path) throws IOException {
+		return open(path, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Opens an appendable mapped big list stored in a single file.
+	 *
+	 * <p>
+	 * If the file does not exist it will be created, and the list will be empty.
+	 *
+	 * @param path a file.
+	 * @param byteOrder a prescribed byte order.
+	 * @return an appendable mapped big list over the contents of {@code path}.
+	 * @see #open(Path, ByteOrder, int)
+	 */
+	public static DoubleAppendableMappedBigList open(final Path path, final ByteOrder byteOrder) throws IOException {
+		return open(path, byteOrder, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Opens an appendable mapped big list stored in a sequence of files.
+	 *
+	 * <p>
+	 * The content of the list is given by the concatenation of {@code path} and of the existing files
+	 * with the same name followed by a dot and a progressive number starting from 1; if {@code path}
+	 * does not exist, it will be created and the list will be empty. If the list was not closed
+	 * properly, its size is the one recorded by the last call to {@link #force()}.
+	 *
+	 * @param path the first file.
+	 * @param byteOrder a prescribed byte order.
+	 * @param chunksPerFile the number of chunks of {@link #CHUNK_SIZE} elements in each file but the
+	 *            last one.
+	 * @return an appendable mapped big list over the contents of the files.
+	 * @throws IllegalArgumentException if a file but the last one does not contain exactly
+	 *             {@code chunksPerFile} chunks, or if the last file does not contain a multiple of
+	 *             {@link Double#BYTES} bytes, or if the list was not closed properly and the files are
+	 *             too short for the recorded size.
+	 */
+	public static DoubleAppendableMappedBigList open(final Path path, final ByteOrder byteOrder, final int chunksPerFile) throws IOException {
+		if (chunksPerFile <= 0) throw new IllegalArgumentException("The number of chunks per file (" + chunksPerFile + ") is not positive");
+		final long fileSize = chunksPerFile * CHUNK_SIZE;
+		final Path sizePath = sizeName(path);
+		long size = 0;
+		if (Files.exists(sizePath)) {
+			// The list was not closed: the files might be longer than their content
+			final byte[] b = Files.readAllBytes(sizePath);
+			if (b.length != Long.BYTES) throw new IllegalArgumentException("The length of file " + sizePath + " (" + b.length + ") is not " + Long.BYTES);
+			size = ByteBuffer.wrap(b).getLong();
+			for (int f = 0; f * fileSize < size; f++) {
+				final Path p = name(path, f);
+				final long length = Files.exists(p) ? Files.size(p) : 0;
+				if (length < Math.min(fileSize, size - f * fileSize) * Double.BYTES) throw new IllegalArgumentException("File " + p + " is too short for the size recorded in " + sizePath + " (" + size + ")");
+			}
+		} else {
+			for (int f = 0;; f++) {
+				final Path p = name(path, f);
+				if (f != 0 && !Files.exists(p)) break;
+				final long length = f == 0 && !Files.exists(p) ? 0 : Files.size(p);
+				if (length == 0) break; // Trailing empty files are left behind by reductions in size
+				if (length % Double.BYTES != 0) throw new IllegalArgumentException("The length of file " + p + " (" + length + ") is not a multiple of " + Double.BYTES);
+				if (length / Double.BYTES > fileSize || (size % fileSize != 0)) throw new IllegalArgumentException("File " + p + " follows a partially filled file or contains more than " + chunksPerFile + " chunks");
+				size += length / Double.BYTES;
+			}
+		}
+		final DoubleAppendableMappedBigList l = new DoubleAppendableMappedBigList(path, byteOrder, chunksPerFile, size);
+		l.channel(0); // Creates the first file, if necessary
+		l.sizeChannel = FileChannel.open(sizePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		l.writeSize();
+		return l;
+	}
+
+	/**
+	 * Returns the name of a file.
+	 *
+	 * @param path the name of the first file.
+	 * @param f the index of a file.
+	 * @return the name of the file of index {@code f}.
+	 */
+	private static Path name(final Path path, final int f) {
+		return f == 0 ? path : path.resolveSibling(path.getFileName() + "." + f);
+	}
+
+	/**
+	 * Returns the name of the file recording the size of a list that is open.
+	 *
+	 * @param path the name of the first file.
+	 * @return the name of the file recording the size.
+	 */
+	private static Path sizeName(final Path path) {
+		return path.resolveSibling(path.getFileName() + ".size");
+	}
+
+	/**
+	 * Records durably the current size of this big list.
+	 */
+	private void writeSize() throws IOException {
+		final ByteBuffer b = ByteBuffer.allocate(Long.BYTES).putLong(0, size);
+		while (b.hasRemaining()) sizeChannel.write(b, b.position());
+		sizeChannel.force(false);
+	}
+
+	/**
+	 * Returns the index of the file containing a chunk.
+	 *
+	 * @param chunk the index of a chunk.
+	 * @return the index of the file containing {@code chunk}.
+	 */
+	private int file(final int chunk) {
+		return chunk / chunksPerFile;
+	}
+
+	private FileChannel channel(final int f) throws IOException {
+		if (f >= channel.length) channel = Arrays.copyOf(channel, Math.max(f + 1, 2 * channel.length));
+		if (channel[f] == null) channel[f] = FileChannel.open(name(path, f), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		return channel[f];
+	}
+
+	/**
+	 * Maps a chunk.
+	 *
+	 * @param c the index of a chunk.
+	 * @param length the length in elements of the mapping (extending the file, if necessary).
+	 */
+	private void map(final int c, final int length) {
+		try {
+			final MappedByteBuffer b = channel(file(c)).map(MapMode.READ_WRITE, (c % chunksPerFile) * (CHUNK_SIZE * Double.BYTES), (long)length * Double.BYTES);
+			b.order(byteOrder);
+			mapped[c] = b;
+			buffer[c] = b.asDoubleBuffer();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the length in elements of a chunk.
+	 *
+	 * @param c the index of a chunk.
+	 * @return the length in elements of {@code c}.
+	 */
+	private int chunkLength(final int c) {
+		return c == n - 1 ? (int)(capacity - (long)c * CHUNK_SIZE) : (int)CHUNK_SIZE;
+	}
+
+	/**
+	 * Returns a chunk, mapping it if necessary.
+	 *
+	 * @param c the index of a chunk.
+	 * @return the chunk of index {@code c}.
+	 */
+	private DoubleBuffer buffer(final int c) {
+		final DoubleBuffer b = buffer[c];
+		if (b != null) return b;
+		map(c, chunkLength(c));
+		return buffer[c];
+	}
+
+	private void ensureOpen() {
+		if (closed) throw new IllegalStateException("This big list has been closed");
+	}
+
+	/**
+	 * Ensures that this big list can contain the given number of elements without extending the
+	 * underlying files.
+	 *
+	 * @param capacity the new minimum capacity for this big list.
+	 */
+	public void ensureCapacity(final long capacity) {
+		ensureOpen();
+		if (capacity <= this.capacity) return;
+		if (n != 0 && chunkLength(n - 1) < CHUNK_SIZE) {
+			// We remap the last chunk, at least doubling its length
+			final int length = chunkLength(n - 1);
+			final long needed = capacity - (long)(n - 1) * CHUNK_SIZE;
+			final int newLength = (int)Math.min(CHUNK_SIZE, Math.max(needed, 2L * length));
+			map(n - 1, newLength);
+			this.capacity += newLength - length;
+		}
+		while (this.capacity < capacity) {
+			final int length = (int)Math.min(CHUNK_SIZE, Math.max(capacity - this.capacity, INITIAL_CHUNK_LENGTH));
+			if (n == buffer.length) {
+				buffer = Arrays.copyOf(buffer, 2 * n);
+				mapped = Arrays.copyOf(mapped, 2 * n);
+			}
+			map(n++, length);
+			this.capacity += length;
+		}
+	}
+
+	private void grow(final long capacity) {
+		if (capacity > this.capacity) ensureCapacity(capacity);
+	}
+
+	/**
+	 * Copies elements inside this big list.
+	 *
+	 * @param from the index of the first element to be copied.
+	 * @param to the index where the first element will be copied.
+	 * @param length the number of elements to be copied.
+	 */
+	private void move(long from, long to, long length) {
+		if (from > to) {
+			while (length > 0) {
+				final int sd = (int)(from & CHUNK_MASK), dd = (int)(to & CHUNK_MASK);
+				final int l = (int)Math.min(length, CHUNK_SIZE - Math.max(sd, dd));
+				buffer((int)(to >>> CHUNK_SHIFT)).put(dd, buffer((int)(from >>> CHUNK_SHIFT)), sd, l);
+				from += l;
+				to += l;
+				length -= l;
+			}
+		} else if (from < to) {
+			from += length;
+			to += length;
+			while (length > 0) {
+				// The displacements, plus one, of the last elements of the source and destination
+				final int sd = (int)(from - 1 & CHUNK_MASK) + 1, dd = (int)(to - 1 & CHUNK_MASK) + 1;
+				final int l = (int)Math.min(length, Math.min(sd, dd));
+				buffer((int)(to - 1 >>> CHUNK_SHIFT)).put(dd - l, buffer((int)(from - 1 >>> CHUNK_SHIFT)), sd - l, l);
+				from -= l;
+				to -= l;
+				length -= l;
+			}
+		}
+	}
+
+	@Override
+	public double getDouble(final long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		return buffer((int)(index >>> CHUNK_SHIFT)).get((int)(index & CHUNK_MASK));
+	}
+
+	@Override
+	public double set(final long index, final double k) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final DoubleBuffer b = buffer((int)(index >>> CHUNK_SHIFT));
+		final int i = (int)(index & CHUNK_MASK);
+		final double old = b.get(i);
+		b.put(i, k);
+		return old;
+	}
+
+	@Override
+	public boolean add(final double k) {
+		grow(size + 1);
+		buffer((int)(size >>> CHUNK_SHIFT)).put((int)(size & CHUNK_MASK), k);
+		size++;
+		return true;
+	}
+
+	@Override
+	public void add(final long index, final double k) {
+		ensureIndex(index);
+		grow(size + 1);
+		move(index, index + 1, size - index);
+		buffer((int)(index >>> CHUNK_SHIFT)).put((int)(index & CHUNK_MASK), k);
+		size++;
+	}
+
+	@Override
+	public double removeDouble(final long index) {
+		final double old = getDouble(index);
+		move(index + 1, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	/**
+	 * Copies (hopefully quickly) elements of this big list into an array.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(long from, final double[] a, int offset, int length) {
+		DoubleArrays.ensureOffsetLength(a, offset, length);
+		it.unimi.dsi.fastutil.BigArrays.ensureFromTo(size, from, from + length);
+		while (length > 0) {
+			final int d = (int)(from & CHUNK_MASK);
+			final int l = (int)Math.min(length, CHUNK_SIZE - d);
+			buffer((int)(from >>> CHUNK_SHIFT)).get(d, a, offset, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	/**
+	 * Adds elements to this big list.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	public void addElements(long index, final double[] a, int offset, int length) {
+		ensureIndex(index);
+		DoubleArrays.ensureOffsetLength(a, offset, length);
+		grow(size + length);
+		move(index, index + length, size - index);
+		size += length;
+		while (length > 0) {
+			final int d = (int)(index & CHUNK_MASK);
+			final int l = (int)Math.min(length, CHUNK_SIZE - d);
+			buffer((int)(index >>> CHUNK_SHIFT)).put(d, a, offset, l);
+			index += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void removeElements(final long from, final long to) {
+		it.unimi.dsi.fastutil.BigArrays.ensureFromTo(size, from, to);
+		move(to, from, size - to);
+		size -= to - from;
+	}
+
+	@Override
+	public long size64() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Enlarging the list extends the underlying files, if necessary; the new elements are zeroes.
+	 */
+	@Override
+	public void size(final long size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		if (size > this.size) {
+			ensureCapacity(size);
+			// The files past the current size might contain stale data
+			for (long i = this.size; i < size;) {
+				final int d = (int)(i & CHUNK_MASK);
+				final int l = (int)Math.min(size - i, CHUNK_SIZE - d);
+				final DoubleBuffer b = buffer((int)(i >>> CHUNK_SHIFT));
+				for (int j = d; j < d + l; j++) b.put(j, 0);
+				i += l;
+			}
+		}
+		this.size = size;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Touches sequentially the memory pages containing a range of elements.
+	 *
+	 * <p>
+	 * This method is a hint: after it returns, the pages containing the given range are likely to be
+	 * resident in memory, so a scan of the range will not incur in page faults. Chunks entirely
+	 * contained in the range are {@linkplain MappedByteBuffer#load() loaded} as a whole.
+	 *
+	 * @param from the index of the first element (inclusive) to be prefetched.
+	 * @param to the index of the last element (exclusive) to be prefetched.
+	 */
+	public void prefetch(long from, final long to) {
+		it.unimi.dsi.fastutil.BigArrays.ensureFromTo(size, from, to);
+		double s = 0;
+		while (from < to) {
+			final int c = (int)(from >>> CHUNK_SHIFT);
+			final int d = (int)(from & CHUNK_MASK);
+			final DoubleBuffer b = buffer(c);
+			final int end = (int)Math.min(to - ((long)c << CHUNK_SHIFT), b.capacity());
+			if (d == 0 && end == b.capacity()) mapped[c].load();
+			else for (int i = d; i < end; i += PAGE_ELEMENTS) s += b.get(i);
+			from = ((long)c << CHUNK_SHIFT) + end;
+		}
+		sink = s;
+	}
+
+	/**
+	 * Forces the changes to this big list to be written to the storage device containing the
+	 * underlying files, and then records durably the current size.
+	 *
+	 * <p>
+	 * After this method returns, the content of the list will survive an abrupt termination of the
+	 * process or of the operating system: reopening the files without {@linkplain #close() closing}
+	 * the list yields exactly the current elements.
+	 *
+	 * @see MappedByteBuffer#force()
+	 */
+	public void force() {
+		ensureOpen();
+		for (int c = 0; c < n; c++) if (mapped[c] != null) mapped[c].force();
+		try {
+			writeSize();
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes this big list, forcing the changes to the storage device, truncating the underlying files
+	 * to the size of the list, closing them and deleting the file recording the size.
+	 *
+	 * <p>
+	 * Files that are no longer necessary because of a reduction in size are not deleted, but they are
+	 * truncated to length zero. After this call the big list is empty, and any attempt to add elements
+	 * to it will cause an {@link IllegalStateException}. Closing an already closed list has no effect.
+	 *
+	 * <p>
+	 * Note that truncation happens while the chunks are still mapped, as there is no way to unmap
+	 * them explicitly: on some platforms, this might cause an exception.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) return;
+		force();
+		closed = true;
+		final long fileSize = chunksPerFile * CHUNK_SIZE;
+		IOException exception = null;
+		// Files not opened in this session might be past the end of the list, too
+		for (int f = 0;; f++) {
+			final Path p = name(path, f);
+			final boolean open = f < channel.length && channel[f] != null;
+			if (!open && !Files.exists(p)) {
+				if (f >= channel.length) break;
+				continue;
+			}
+			try (FileChannel c = open ? channel[f] : FileChannel.open(p, StandardOpenOption.WRITE)) {
+				c.truncate(Math.max(0, Math.min(fileSize, size - f * fileSize)) * Double.BYTES);
+			} catch (final IOException e) {
+				if (exception == null) exception = e;
+			}
+		}
+		try {
+			sizeChannel.close();
+			// If truncation failed, the recorded size is still necessary to reopen the list
+			if (exception == null) Files.delete(sizeName(path));
+		} catch (final IOException e) {
+			if (exception == null) exception = e;
+		}
+		channel = new FileChannel[0];
+		mapped = new MappedByteBuffer[0];
+		buffer = new DoubleBuffer[0];
+		n = 0;
+		capacity = size = 0;
+		if (exception != null) throw exception;
+	}
+}
@@ -344,8 +344,12 @@ public class DoubleArrayList extends AbstractDoubleList implements RandomAccess,
 
 	@Override
 	public int indexOf(final double k) {
-		for (int i = 0; i < size; i++) if ((Double.doubleToLongBits(k) == Double.doubleToLongBits(a[i]))) return i;
-		return -1;
+		return DoubleArrays.indexOf(a, 0, size, k);
+	}
+
+	@Override
+	public boolean contains(final double k) {
+		return DoubleArrays.indexOf(a, 0, size, k) != -1;
 	}
 
 	@Override
@@ -52,8 +52,8 @@ import java.util.NoSuchElementException;
  * This class implements the interface of a sorted set, so to allow easy access of the iteration
  * order: for instance, you can get the first element in iteration order with {@code first()}
  * without having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedSet} contract because all subset methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedSet} contract because all subset and navigation methods (e.g.,
+ * {@code floor()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code addAndMoveToFirst()}, make it easy to use instances of this
@@ -764,6 +764,46 @@ public class DoubleLinkedOpenCustomHashSet extends AbstractDoubleSortedSet imple
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double floorDouble(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double ceilingDouble(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double higherDouble(double k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public double lowerDouble(double k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.doubles;
 
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.SortedSet;
 import java.util.Collection;
@@ -221,4 +222,98 @@ public interface DoubleSortedSet extends DoubleSet, SortedSet<Double>, DoubleBid
 	default Double last() {
 		return Double.valueOf(lastDouble());
 	}
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(double) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default double floorDouble(final double k) {
+		final DoubleBidirectionalIterator i = iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousDouble();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(double) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default double ceilingDouble(final double k) {
+		if (contains(k)) return k;
+		final DoubleBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextDouble();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(double) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default double higherDouble(final double k) {
+		final DoubleBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextDouble();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(double) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default double lowerDouble(final double k) {
+		final DoubleBidirectionalIterator i = iterator(k);
+		if (contains(k)) i.previousDouble();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousDouble();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #firstDouble()} and {@link #remove(double)}.
+	 *
+	 * @return the (former) lowest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default double pollFirstDouble() {
+		final double k = firstDouble();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #lastDouble()} and {@link #remove(double)}.
+	 *
+	 * @return the (former) highest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default double pollLastDouble() {
+		final double k = lastDouble();
+		remove(k);
+		return k;
+	}
 }
@@ -387,6 +387,48 @@ public final class DoubleSortedSets {
 			}
 		}
 
+		@Override
+		public double floorDouble(final double k) {
+			synchronized (sync) {
+				return sortedSet.floorDouble(k);
+			}
+		}
+
+		@Override
+		public double ceilingDouble(final double k) {
+			synchronized (sync) {
+				return sortedSet.ceilingDouble(k);
+			}
+		}
+
+		@Override
+		public double higherDouble(final double k) {
+			synchronized (sync) {
+				return sortedSet.higherDouble(k);
+			}
+		}
+
+		@Override
+		public double lowerDouble(final double k) {
+			synchronized (sync) {
+				return sortedSet.lowerDouble(k);
+			}
+		}
+
+		@Override
+		public double pollFirstDouble() {
+			synchronized (sync) {
+				return sortedSet.pollFirstDouble();
+			}
+		}
+
+		@Override
+		public double pollLastDouble() {
+			synchronized (sync) {
+				return sortedSet.pollLastDouble();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -521,6 +563,36 @@ public final class DoubleSortedSets {
 			return sortedSet.lastDouble();
 		}
 
+		@Override
+		public double floorDouble(final double k) {
+			return sortedSet.floorDouble(k);
+		}
+
+		@Override
+		public double ceilingDouble(final double k) {
+			return sortedSet.ceilingDouble(k);
+		}
+
+		@Override
+		public double higherDouble(final double k) {
+			return sortedSet.higherDouble(k);
+		}
+
+		@Override
+		public double lowerDouble(final double k) {
+			return sortedSet.lowerDouble(k);
+		}
+
+		@Override
+		public double pollFirstDouble() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public double pollLastDouble() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
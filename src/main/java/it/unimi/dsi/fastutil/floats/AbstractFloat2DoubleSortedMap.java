@@ -79,6 +79,26 @@ public abstract class AbstractFloat2DoubleSortedMap extends AbstractFloat2Double
 			return lastFloatKey();
 		}
 
+		@Override
+		public float floorFloat(final float k) {
+			return floorFloatKey(k);
+		}
+
+		@Override
+		public float ceilingFloat(final float k) {
+			return ceilingFloatKey(k);
+		}
+
+		@Override
+		public float higherFloat(final float k) {
+			return higherFloatKey(k);
+		}
+
+		@Override
+		public float lowerFloat(final float k) {
+			return lowerFloatKey(k);
+		}
+
 		@Override
 		public FloatSortedSet headSet(final float to) {
 			return headMap(to).keySet();
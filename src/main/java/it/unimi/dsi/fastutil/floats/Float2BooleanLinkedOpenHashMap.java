@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1086,6 +1086,86 @@ public class Float2BooleanLinkedOpenHashMap extends AbstractFloat2BooleanSortedM
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2BooleanMap.Entry floorEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2BooleanMap.Entry ceilingEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2BooleanMap.Entry higherEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2BooleanMap.Entry lowerEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float floorFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float ceilingFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float higherFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float lowerFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1389,6 +1469,26 @@ public class Float2BooleanLinkedOpenHashMap extends AbstractFloat2BooleanSortedM
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Float2BooleanMap.Entry floor(Float2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2BooleanMap.Entry ceiling(Float2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2BooleanMap.Entry higher(Float2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2BooleanMap.Entry lower(Float2BooleanMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Float2BooleanMap.Entry> headSet(Float2BooleanMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1672,6 +1772,26 @@ public class Float2BooleanLinkedOpenHashMap extends AbstractFloat2BooleanSortedM
 		public FloatSortedSet subSet(float from, float to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public float floorFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float ceilingFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float higherFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float lowerFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
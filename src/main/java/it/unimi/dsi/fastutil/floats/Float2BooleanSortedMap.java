@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.floats;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.booleans.BooleanCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,173 @@ public interface Float2BooleanSortedMap extends Float2BooleanMap, SortedMap<Floa
 	 */
 	@Override
 	FloatComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Float2BooleanMap.Entry floorEntry(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final float key = i.previousFloat();
+		return new AbstractFloat2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Float2BooleanMap.Entry ceilingEntry(final float k) {
+		if (containsKey(k)) return new AbstractFloat2BooleanMap.BasicEntry(k, get(k));
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final float key = i.nextFloat();
+		return new AbstractFloat2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Float2BooleanMap.Entry higherEntry(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final float key = i.nextFloat();
+		return new AbstractFloat2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Float2BooleanMap.Entry lowerEntry(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousFloat();
+		if (!i.hasPrevious()) return null;
+		final float key = i.previousFloat();
+		return new AbstractFloat2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default float floorFloatKey(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final float key = i.previousFloat();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default float ceilingFloatKey(final float k) {
+		if (containsKey(k)) return k;
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final float key = i.nextFloat();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default float higherFloatKey(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final float key = i.nextFloat();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link FloatSortedSet#iterator(float)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default float lowerFloatKey(final float k) {
+		final FloatBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousFloat();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final float key = i.previousFloat();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstFloatKey()} and
+	 *           {@link #remove(float)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Float2BooleanMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final float k = firstFloatKey();
+		return new AbstractFloat2BooleanMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastFloatKey()} and {@link #remove(float)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Float2BooleanMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final float k = lastFloatKey();
+		return new AbstractFloat2BooleanMap.BasicEntry(k, remove(k));
+	}
 }
@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1136,6 +1136,86 @@ public class Float2ByteLinkedOpenHashMap extends AbstractFloat2ByteSortedMap imp
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2ByteMap.Entry floorEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2ByteMap.Entry ceilingEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2ByteMap.Entry higherEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2ByteMap.Entry lowerEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float floorFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float ceilingFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float higherFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float lowerFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1439,6 +1519,26 @@ public class Float2ByteLinkedOpenHashMap extends AbstractFloat2ByteSortedMap imp
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Float2ByteMap.Entry floor(Float2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2ByteMap.Entry ceiling(Float2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2ByteMap.Entry higher(Float2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2ByteMap.Entry lower(Float2ByteMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Float2ByteMap.Entry> headSet(Float2ByteMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1722,6 +1822,26 @@ public class Float2ByteLinkedOpenHashMap extends AbstractFloat2ByteSortedMap imp
 		public FloatSortedSet subSet(float from, float to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public float floorFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float ceilingFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float higherFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float lowerFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
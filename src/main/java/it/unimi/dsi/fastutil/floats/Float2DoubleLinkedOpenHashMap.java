@@ -69,8 +69,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1135,6 +1135,86 @@ public class Float2DoubleLinkedOpenHashMap extends AbstractFloat2DoubleSortedMap
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2DoubleMap.Entry floorEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2DoubleMap.Entry ceilingEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2DoubleMap.Entry higherEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2DoubleMap.Entry lowerEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float floorFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float ceilingFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float higherFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float lowerFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1438,6 +1518,26 @@ public class Float2DoubleLinkedOpenHashMap extends AbstractFloat2DoubleSortedMap
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Float2DoubleMap.Entry floor(Float2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2DoubleMap.Entry ceiling(Float2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2DoubleMap.Entry higher(Float2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2DoubleMap.Entry lower(Float2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Float2DoubleMap.Entry> headSet(Float2DoubleMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1721,6 +1821,26 @@ public class Float2DoubleLinkedOpenHashMap extends AbstractFloat2DoubleSortedMap
 		public FloatSortedSet subSet(float from, float to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public float floorFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float ceilingFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float higherFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float lowerFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
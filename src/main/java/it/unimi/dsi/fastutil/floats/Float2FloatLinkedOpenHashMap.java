@@ -63,8 +63,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1129,6 +1129,86 @@ public class Float2FloatLinkedOpenHashMap extends AbstractFloat2FloatSortedMap i
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2FloatMap.Entry floorEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2FloatMap.Entry ceilingEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2FloatMap.Entry higherEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Float2FloatMap.Entry lowerEntry(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float floorFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float ceilingFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float higherFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public float lowerFloatKey(float k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1432,6 +1512,26 @@ public class Float2FloatLinkedOpenHashMap extends AbstractFloat2FloatSortedMap i
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Float2FloatMap.Entry floor(Float2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2FloatMap.Entry ceiling(Float2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2FloatMap.Entry higher(Float2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2FloatMap.Entry lower(Float2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Float2FloatMap.Entry> headSet(Float2FloatMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1715,6 +1815,26 @@ public class Float2FloatLinkedOpenHashMap extends AbstractFloat2FloatSortedMap i
 		public FloatSortedSet subSet(float from, float to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public float floorFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float ceilingFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float higherFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float lowerFloat(float k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
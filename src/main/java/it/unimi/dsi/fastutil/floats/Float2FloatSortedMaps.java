@@ -475,6 +475,76 @@ public final class Float2FloatSortedMaps {
 			}
 		}
 
+		@Override
+		public Float2FloatMap.Entry floorEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Float2FloatMap.Entry ceilingEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Float2FloatMap.Entry higherEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Float2FloatMap.Entry lowerEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public float floorFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.floorFloatKey(k);
+			}
+		}
+
+		@Override
+		public float ceilingFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.ceilingFloatKey(k);
+			}
+		}
+
+		@Override
+		public float higherFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.higherFloatKey(k);
+			}
+		}
+
+		@Override
+		public float lowerFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.lowerFloatKey(k);
+			}
+		}
+
+		@Override
+		public Float2FloatMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Float2FloatMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Float2FloatSortedMaps {
 			return sortedMap.lastFloatKey();
 		}
 
+		@Override
+		public Float2FloatMap.Entry floorEntry(final float k) {
+			final Float2FloatMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractFloat2FloatMap.BasicEntry(e.getFloatKey(), e.getFloatValue());
+		}
+
+		@Override
+		public Float2FloatMap.Entry ceilingEntry(final float k) {
+			final Float2FloatMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractFloat2FloatMap.BasicEntry(e.getFloatKey(), e.getFloatValue());
+		}
+
+		@Override
+		public Float2FloatMap.Entry higherEntry(final float k) {
+			final Float2FloatMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractFloat2FloatMap.BasicEntry(e.getFloatKey(), e.getFloatValue());
+		}
+
+		@Override
+		public Float2FloatMap.Entry lowerEntry(final float k) {
+			final Float2FloatMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractFloat2FloatMap.BasicEntry(e.getFloatKey(), e.getFloatValue());
+		}
+
+		@Override
+		public float floorFloatKey(final float k) {
+			return sortedMap.floorFloatKey(k);
+		}
+
+		@Override
+		public float ceilingFloatKey(final float k) {
+			return sortedMap.ceilingFloatKey(k);
+		}
+
+		@Override
+		public float higherFloatKey(final float k) {
+			return sortedMap.higherFloatKey(k);
+		}
+
+		@Override
+		public float lowerFloatKey(final float k) {
+			return sortedMap.lowerFloatKey(k);
+		}
+
+		@Override
+		public Float2FloatMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2FloatMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -494,6 +494,76 @@ public final class Float2ObjectSortedMaps {
 			}
 		}
 
+		@Override
+		public Float2ObjectMap.Entry<V> floorEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> ceilingEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> higherEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> lowerEntry(final float k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public float floorFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.floorFloatKey(k);
+			}
+		}
+
+		@Override
+		public float ceilingFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.ceilingFloatKey(k);
+			}
+		}
+
+		@Override
+		public float higherFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.higherFloatKey(k);
+			}
+		}
+
+		@Override
+		public float lowerFloatKey(final float k) {
+			synchronized (sync) {
+				return sortedMap.lowerFloatKey(k);
+			}
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -643,6 +713,60 @@ public final class Float2ObjectSortedMaps {
 			return sortedMap.lastFloatKey();
 		}
 
+		@Override
+		public Float2ObjectMap.Entry<V> floorEntry(final float k) {
+			final Float2ObjectMap.Entry<? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractFloat2ObjectMap.BasicEntry<>(e.getFloatKey(), e.getValue());
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> ceilingEntry(final float k) {
+			final Float2ObjectMap.Entry<? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractFloat2ObjectMap.BasicEntry<>(e.getFloatKey(), e.getValue());
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> higherEntry(final float k) {
+			final Float2ObjectMap.Entry<? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractFloat2ObjectMap.BasicEntry<>(e.getFloatKey(), e.getValue());
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> lowerEntry(final float k) {
+			final Float2ObjectMap.Entry<? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractFloat2ObjectMap.BasicEntry<>(e.getFloatKey(), e.getValue());
+		}
+
+		@Override
+		public float floorFloatKey(final float k) {
+			return sortedMap.floorFloatKey(k);
+		}
+
+		@Override
+		public float ceilingFloatKey(final float k) {
+			return sortedMap.ceilingFloatKey(k);
+		}
+
+		@Override
+		public float higherFloatKey(final float k) {
+			return sortedMap.higherFloatKey(k);
+		}
+
+		@Override
+		public float lowerFloatKey(final float k) {
+			return sortedMap.lowerFloatKey(k);
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Float2ObjectMap.Entry<V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
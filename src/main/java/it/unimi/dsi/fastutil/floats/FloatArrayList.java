@@ -310,8 +310,12 @@ public class FloatArrayList extends AbstractFloatList implements RandomAccess, C
 
 	@Override
 	public int indexOf(final float k) {
-		for (int i = 0; i < size; i++) if ((Float.floatToIntBits(k) == Float.floatToIntBits(a[i]))) return i;
-		return -1;
+		return FloatArrays.indexOf(a, 0, size, k);
+	}
+
+	@Override
+	public boolean contains(final float k) {
+		return FloatArrays.indexOf(a, 0, size, k) != -1;
 	}
 
 	@Override
@@ -31,6 +31,7 @@ package it.unimi.dsi.fastutil.floats;
 
 import it.unimi.dsi.fastutil.Arrays;
 import it.unimi.dsi.fastutil.Hash;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
@@ -54,6 +55,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  * of elements in {@link java.io.DataInput} format (i.e., not as objects) or as sequences of lines
  * of text.
  *
+ * <h2>Bulk operations</h2>
+ *
+ * <p>
+ * The methods {@code indexOf()}, {@code count()}, {@code sum()}, {@code min()}, {@code max()},
+ * {@code mismatch()}, {@code filter()}, {@code gather()}, {@code scatter()}, {@code add()} and
+ * {@code multiply()} operate on array fragments. They are plain scalar loops: they do not use the
+ * Vector API ({@code jdk.incubator.vector}), and whether they run on SIMD instructions depends
+ * entirely on the auto-vectorization performed by the JIT compiler.
+ *
  * <h2>Sorting</h2>
  *
  * <p>
@@ -834,6 +844,203 @@ public final class FloatArrays {
 		parallelQuickSort(x, 0, x.length);
 	}
 
+	/** The maximum length of a range sorted by a sorting network in {@link #vectorSort(float[], int, int)}. */
+	private static final int SORTING_NETWORK_SIZE = 16;
+	/**
+	 * Sorting networks for all lengths up to {@link #SORTING_NETWORK_SIZE}, as sequences of pairs of
+	 * positions; the network for length <var>n</var> is obtained from Batcher's odd&ndash;even
+	 * mergesort network for {@link #SORTING_NETWORK_SIZE} elements by discarding the comparators
+	 * involving positions greater than or equal to <var>n</var>, which would never exchange elements
+	 * if the missing positions contained infinite values.
+	 */
+	private static final int[][] SORTING_NETWORK = new int[SORTING_NETWORK_SIZE + 1][];
+	static {
+		final int[] network = new int[2 * SORTING_NETWORK_SIZE * SORTING_NETWORK_SIZE];
+		int size = 0;
+		for (int p = 1; p < SORTING_NETWORK_SIZE; p <<= 1) {
+			for (int k = p; k >= 1; k >>= 1) {
+				for (int j = k % p; j + k < SORTING_NETWORK_SIZE; j += 2 * k) {
+					for (int i = 0; i < Math.min(k, SORTING_NETWORK_SIZE - j - k); i++) {
+						if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+							network[size++] = i + j;
+							network[size++] = i + j + k;
+						}
+					}
+				}
+			}
+		}
+		for (int n = 0; n <= SORTING_NETWORK_SIZE; n++) {
+			int c = 0;
+			for (int i = 0; i < size; i += 2) if (network[i + 1] < n) c += 2;
+			SORTING_NETWORK[n] = new int[c];
+			c = 0;
+			for (int i = 0; i < size; i += 2) {
+				if (network[i + 1] < n) {
+					SORTING_NETWORK[n][c++] = network[i];
+					SORTING_NETWORK[n][c++] = network[i + 1];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sorts a range of at most {@link #SORTING_NETWORK_SIZE} elements using a sorting network.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	private static void networkSort(final float[] x, final int from, final int to) {
+		final int[] network = SORTING_NETWORK[to - from];
+		for (int c = 0; c < network.length; c += 2) {
+			final int i = from + network[c], j = from + network[c + 1];
+			final float a = x[i], b = x[j];
+			x[i] = a <= b ? a : b;
+			x[j] = a <= b ? b : a;
+		}
+	}
+
+	/**
+	 * Partitions a range without branching on the outcome of comparisons.
+	 *
+	 * <p>
+	 * This is a variant of Lomuto's scheme in which every element is swapped with the first element
+	 * not smaller than the pivot, and the boundary is advanced by the outcome of the comparison.
+	 *
+	 * @param x an array.
+	 * @param from the index of the first element (inclusive) to be partitioned.
+	 * @param to the index of the last element (exclusive) to be partitioned.
+	 * @param v the pivot.
+	 * @param inclusive whether elements equal to the pivot should be placed in the first part.
+	 * @return the index of the first element of the second part: elements before it are smaller
+	 *         than (or equal to, if {@code inclusive} is true) {@code v}; elements starting from it
+	 *         are greater than or equal to (greater than, if {@code inclusive} is true) {@code v}.
+	 */
+	private static int branchlessPartition(final float[] x, final int from, final int to, final float v, final boolean inclusive) {
+		int m = from;
+		if (inclusive) {
+			for (int i = from; i < to; i++) {
+				final float e = x[i];
+				x[i] = x[m];
+				x[m] = e;
+				m += e <= v ? 1 : 0;
+			}
+		} else {
+			for (int i = from; i < to; i++) {
+				final float e = x[i];
+				x[i] = x[m];
+				x[m] = e;
+				m += e < v ? 1 : 0;
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Sorts a range using a branch-free quicksort.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param depth the number of partitioning steps after which we switch to radix sort.
+	 */
+	private static void vectorSort(final float[] x, int from, int to, int depth) {
+		while (to - from > SORTING_NETWORK_SIZE) {
+			if (depth-- == 0) {
+				// Too many unbalanced partitions: radix sort has linear worst-case complexity
+				radixSort(x, from, to);
+				return;
+			}
+			// Choose a partition element, v
+			final int len = to - from;
+			int m = from + len / 2;
+			int l = from;
+			int n = to - 1;
+			if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+				int s = len / 8;
+				l = med3(x, l, l + s, l + 2 * s);
+				m = med3(x, m - s, m, m + s);
+				n = med3(x, n - 2 * s, n - s, n);
+			}
+			final float v = x[med3(x, l, m, n)]; // Mid-size, med of 3
+			final int p = branchlessPartition(x, from, to, v, false);
+			if (p == from) {
+				// v is the minimum: the elements equal to v are gathered at the start, where they belong
+				from = branchlessPartition(x, from, to, v, true);
+				continue;
+			}
+			// Recurse on the smaller part, iterate on the larger one
+			if (p - from < to - p) {
+				vectorSort(x, from, p, depth);
+				from = p;
+			} else {
+				vectorSort(x, p, to, depth);
+				to = p;
+			}
+		}
+		networkSort(x, from, to);
+	}
+
+	/**
+	 * Sorts the specified range of elements according to the natural ascending order using a
+	 * branch-free quicksort.
+	 *
+	 * <p>
+	 * This method borrows the structure of vectorized sorting algorithms, and it is meant to be
+	 * faster than {@link #quickSort(float[], int, int)} when the outcome of comparisons is
+	 * unpredictable, as it happens with random data. Partitioning uses a variant of Lomuto's scheme
+	 * in which comparisons affect only the arithmetic of indices, so that the inner loop does not
+	 * contain data-dependent branches, and ranges of at most sixteen elements are sorted by
+	 * min&ndash;max sorting networks. If partitioning turns out to be too unbalanced, sorting
+	 * continues using {@linkplain #radixSort(float[], int, int) radix sort}.
+	 *
+	 * <p>
+	 * As in the other sorting methods of this class, the natural order is the one of
+	 * {@link Float#compare(float, float)}: negative zero precedes positive zero, and NaNs follow all
+	 * other values. Since NaNs are moved at the end of the range and negative zeros are restored
+	 * after sorting, the branch-free kernels can use primitive comparisons.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void vectorSort(final float[] x, final int from, final int to) {
+		ensureFromTo(x, from, to);
+		// Move NaNs to the end, and replace negative zeros with positive zeros
+		int end = to, negativeZeros = 0;
+		for (int i = to; i-- != from;) {
+			final float e = x[i];
+			if (e != e) {
+				x[i] = x[--end];
+				x[end] = e;
+			} else if (e == 0 && Float.floatToRawIntBits(e) < 0) {
+				x[i] = 0;
+				negativeZeros++;
+			}
+		}
+		vectorSort(x, from, end, 2 * (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(Math.max(1, end - from))));
+		if (negativeZeros != 0) {
+			// Negative zeros precede positive zeros
+			int lo = from, hi = end;
+			while (lo < hi) {
+				final int mid = lo + hi >>> 1;
+				if (x[mid] < 0) lo = mid + 1;
+				else hi = mid;
+			}
+			while (negativeZeros-- != 0) x[lo++] = -0.0f;
+		}
+	}
+
+	/**
+	 * Sorts an array according to the natural ascending order using a branch-free quicksort.
+	 *
+	 * @param x the array to be sorted.
+	 * @see #vectorSort(float[], int, int)
+	 */
+	public static void vectorSort(final float[] x) {
+		vectorSort(x, 0, x.length);
+	}
+
 	private static int med3Indirect(final int perm[], final float x[], final int a, final int b, final int c) {
 		final float aa = x[perm[a]];
 		final float bb = x[perm[b]];
@@ -2780,6 +2987,245 @@ public final class FloatArrays {
 		return a;
 	}
 
+	/**
+	 * Returns the index of the first occurrence of a given element in an array fragment.
+	 *
+	 * <p>
+	 * Elements are compared by their bit patterns (see {@link Float#floatToIntBits(float)}), as in
+	 * type-specific collections.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be searched.
+	 * @param to the index of the last element (exclusive) to be searched.
+	 * @param k the element to search for.
+	 * @return the index of the first occurrence of {@code k} in the given fragment, or -1 if there is
+	 *         no such occurrence.
+	 */
+	public static int indexOf(final float[] a, final int from, final int to, final float k) {
+		ensureFromTo(a, from, to);
+		final int bits = Float.floatToIntBits(k);
+		for (int i = from; i < to; i++) if (Float.floatToIntBits(a[i]) == bits) return i;
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of a given element in an array fragment.
+	 *
+	 * <p>
+	 * Elements are compared by their bit patterns (see {@link Float#floatToIntBits(float)}), as in
+	 * type-specific collections.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @param k the element to count.
+	 * @return the number of occurrences of {@code k} in the given fragment.
+	 */
+	public static int count(final float[] a, final int from, final int to, final float k) {
+		ensureFromTo(a, from, to);
+		final int bits = Float.floatToIntBits(k);
+		int c = 0;
+		for (int i = from; i < to; i++) c += Float.floatToIntBits(a[i]) == bits ? 1 : 0;
+		return c;
+	}
+
+	/**
+	 * Returns the sum of the elements of an array fragment.
+	 *
+	 * <p>
+	 * The elements are accumulated in {@code double} precision into four independent partial sums,
+	 * which are added together at the end; the result might thus differ slightly from that of a
+	 * sequential summation.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be summed.
+	 * @param to the index of the last element (exclusive) to be summed.
+	 * @return the sum of the elements of the given fragment.
+	 */
+	public static double sum(final float[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = from;
+		for (; i < to - 3; i += 4) {
+			s0 += a[i];
+			s1 += a[i + 1];
+			s2 += a[i + 2];
+			s3 += a[i + 3];
+		}
+		for (; i < to; i++) s0 += a[i];
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * Returns the smallest element of an array fragment.
+	 *
+	 * <p>
+	 * Elements are compared as in {@link Math#min(float, float)}; in particular, if any element is
+	 * {@code NaN} the result is {@code NaN}.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @return the smallest element of the given fragment.
+	 * @throws NoSuchElementException if the fragment is empty.
+	 */
+	public static float min(final float[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		if (from == to) throw new NoSuchElementException();
+		float m = a[from];
+		for (int i = from + 1; i < to; i++) m = Math.min(m, a[i]);
+		return m;
+	}
+
+	/**
+	 * Returns the largest element of an array fragment.
+	 *
+	 * <p>
+	 * Elements are compared as in {@link Math#max(float, float)}; in particular, if any element is
+	 * {@code NaN} the result is {@code NaN}.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @return the largest element of the given fragment.
+	 * @throws NoSuchElementException if the fragment is empty.
+	 */
+	public static float max(final float[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		if (from == to) throw new NoSuchElementException();
+		float m = a[from];
+		for (int i = from + 1; i < to; i++) m = Math.max(m, a[i]);
+		return m;
+	}
+
+	/**
+	 * Finds the first mismatch between two array fragments of the same length.
+	 *
+	 * <p>
+	 * This method delegates to
+	 * {@link java.util.Arrays#mismatch(float[], int, int, float[], int, int)}, which is
+	 * intrinsified in recent JVMs.
+	 *
+	 * @param a an array.
+	 * @param aFrom the index of the first element (inclusive) of the fragment of {@code a}.
+	 * @param b another array.
+	 * @param bFrom the index of the first element (inclusive) of the fragment of {@code b}.
+	 * @param length the length of the fragments.
+	 * @return the relative index of the first mismatch between the two fragments, or -1 if the
+	 *         fragments are equal.
+	 */
+	public static int mismatch(final float[] a, final int aFrom, final float[] b, final int bFrom, final int length) {
+		return java.util.Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	/**
+	 * Copies the elements of an array fragment satisfying a predicate into another array.
+	 *
+	 * <p>
+	 * The satisfying elements are packed contiguously in {@code dest} starting at {@code offset},
+	 * preserving their order. The destination array may be {@code a} itself, provided that
+	 * {@code offset} is not greater than {@code from}, in which case the fragment is filtered in
+	 * place.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be filtered.
+	 * @param to the index of the last element (exclusive) to be filtered.
+	 * @param predicate a predicate.
+	 * @param dest the destination array.
+	 * @param offset the index in {@code dest} of the first copied element.
+	 * @return the number of elements copied.
+	 */
+	public static int filter(final float[] a, final int from, final int to, final FloatPredicate predicate, final float[] dest, final int offset) {
+		ensureFromTo(a, from, to);
+		int j = offset;
+		for (int i = from; i < to; i++) {
+			final float e = a[i];
+			if (predicate.test(e)) dest[j++] = e;
+		}
+		return j - offset;
+	}
+
+	/**
+	 * Gathers elements of an array at given indices.
+	 *
+	 * <p>
+	 * This method sets {@code dest[offset + i - from]} to {@code a[index[i]]} for all {@code i}
+	 * between {@code from} (inclusive) and {@code to} (exclusive).
+	 *
+	 * @param a an array.
+	 * @param index an array of indices into {@code a}.
+	 * @param from the index of the first element (inclusive) of {@code index} to be used.
+	 * @param to the index of the last element (exclusive) of {@code index} to be used.
+	 * @param dest the destination array.
+	 * @param offset the index in {@code dest} of the first gathered element.
+	 */
+	public static void gather(final float[] a, final int[] index, final int from, final int to, final float[] dest, final int offset) {
+		IntArrays.ensureFromTo(index, from, to);
+		ensureOffsetLength(dest, offset, to - from);
+		for (int i = from; i < to; i++) dest[offset + i - from] = a[index[i]];
+	}
+
+	/**
+	 * Scatters elements into an array at given indices.
+	 *
+	 * <p>
+	 * This method sets {@code a[index[i]]} to {@code src[offset + i - from]} for all {@code i} between
+	 * {@code from} (inclusive) and {@code to} (exclusive); if an index appears more than once, the
+	 * last assignment wins.
+	 *
+	 * @param a an array.
+	 * @param index an array of indices into {@code a}.
+	 * @param from the index of the first element (inclusive) of {@code index} to be used.
+	 * @param to the index of the last element (exclusive) of {@code index} to be used.
+	 * @param src the source array.
+	 * @param offset the index in {@code src} of the first element to be scattered.
+	 */
+	public static void scatter(final float[] a, final int[] index, final int from, final int to, final float[] src, final int offset) {
+		IntArrays.ensureFromTo(index, from, to);
+		ensureOffsetLength(src, offset, to - from);
+		for (int i = from; i < to; i++) a[index[i]] = src[offset + i - from];
+	}
+
+	/**
+	 * Adds elementwise two array fragments.
+	 *
+	 * <p>
+	 * This method sets {@code dest[i]} to {@code a[i] + b[i]} for all {@code i} between {@code from}
+	 * (inclusive) and {@code to} (exclusive). The destination array may be one of the two arguments.
+	 *
+	 * @param a an array.
+	 * @param b another array.
+	 * @param dest the destination array.
+	 * @param from the index of the first element (inclusive) to be added.
+	 * @param to the index of the last element (exclusive) to be added.
+	 */
+	public static void add(final float[] a, final float[] b, final float[] dest, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		ensureFromTo(b, from, to);
+		ensureFromTo(dest, from, to);
+		for (int i = from; i < to; i++) dest[i] = a[i] + b[i];
+	}
+
+	/**
+	 * Multiplies elementwise two array fragments.
+	 *
+	 * <p>
+	 * This method sets {@code dest[i]} to {@code a[i] * b[i]} for all {@code i} between {@code from}
+	 * (inclusive) and {@code to} (exclusive). The destination array may be one of the two arguments.
+	 *
+	 * @param a an array.
+	 * @param b another array.
+	 * @param dest the destination array.
+	 * @param from the index of the first element (inclusive) to be multiplied.
+	 * @param to the index of the last element (exclusive) to be multiplied.
+	 */
+	public static void multiply(final float[] a, final float[] b, final float[] dest, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		ensureFromTo(b, from, to);
+		ensureFromTo(dest, from, to);
+		for (int i = from; i < to; i++) dest[i] = a[i] * b[i];
+	}
+
 	/** A type-specific content-based hash strategy for arrays. */
 	private static final class ArrayHashStrategy implements Hash.Strategy<float[]>, java.io.Serializable {
 		private static final long serialVersionUID = -7046029254386353129L;
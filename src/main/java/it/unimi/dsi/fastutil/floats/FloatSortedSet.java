@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.floats;
 
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.SortedSet;
 import java.util.Collection;
@@ -221,4 +222,98 @@ public interface FloatSortedSet extends FloatSet, SortedSet<Float>, FloatBidirec
 	default Float last() {
 		return Float.valueOf(lastFloat());
 	}
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(float) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default float floorFloat(final float k) {
+		final FloatBidirectionalIterator i = iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousFloat();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(float) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default float ceilingFloat(final float k) {
+		if (contains(k)) return k;
+		final FloatBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextFloat();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(float) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default float higherFloat(final float k) {
+		final FloatBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextFloat();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(float) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default float lowerFloat(final float k) {
+		final FloatBidirectionalIterator i = iterator(k);
+		if (contains(k)) i.previousFloat();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousFloat();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #firstFloat()} and {@link #remove(float)}.
+	 *
+	 * @return the (former) lowest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default float pollFirstFloat() {
+		final float k = firstFloat();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #lastFloat()} and {@link #remove(float)}.
+	 *
+	 * @return the (former) highest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default float pollLastFloat() {
+		final float k = lastFloat();
+		remove(k);
+		return k;
+	}
 }
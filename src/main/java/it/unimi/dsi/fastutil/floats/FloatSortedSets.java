@@ -394,6 +394,48 @@ public final class FloatSortedSets {
 			}
 		}
 
+		@Override
+		public float floorFloat(final float k) {
+			synchronized (sync) {
+				return sortedSet.floorFloat(k);
+			}
+		}
+
+		@Override
+		public float ceilingFloat(final float k) {
+			synchronized (sync) {
+				return sortedSet.ceilingFloat(k);
+			}
+		}
+
+		@Override
+		public float higherFloat(final float k) {
+			synchronized (sync) {
+				return sortedSet.higherFloat(k);
+			}
+		}
+
+		@Override
+		public float lowerFloat(final float k) {
+			synchronized (sync) {
+				return sortedSet.lowerFloat(k);
+			}
+		}
+
+		@Override
+		public float pollFirstFloat() {
+			synchronized (sync) {
+				return sortedSet.pollFirstFloat();
+			}
+		}
+
+		@Override
+		public float pollLastFloat() {
+			synchronized (sync) {
+				return sortedSet.pollLastFloat();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -528,6 +570,36 @@ public final class FloatSortedSets {
 			return sortedSet.lastFloat();
 		}
 
+		@Override
+		public float floorFloat(final float k) {
+			return sortedSet.floorFloat(k);
+		}
+
+		@Override
+		public float ceilingFloat(final float k) {
+			return sortedSet.ceilingFloat(k);
+		}
+
+		@Override
+		public float higherFloat(final float k) {
+			return sortedSet.higherFloat(k);
+		}
+
+		@Override
+		public float lowerFloat(final float k) {
+			return sortedSet.lowerFloat(k);
+		}
+
+		@Override
+		public float pollFirstFloat() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public float pollLastFloat() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
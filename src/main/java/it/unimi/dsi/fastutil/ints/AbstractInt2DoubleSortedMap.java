@@ -79,6 +79,26 @@ public abstract class AbstractInt2DoubleSortedMap extends AbstractInt2DoubleMap
 			return lastIntKey();
 		}
 
+		@Override
+		public int floorInt(final int k) {
+			return floorIntKey(k);
+		}
+
+		@Override
+		public int ceilingInt(final int k) {
+			return ceilingIntKey(k);
+		}
+
+		@Override
+		public int higherInt(final int k) {
+			return higherIntKey(k);
+		}
+
+		@Override
+		public int lowerInt(final int k) {
+			return lowerIntKey(k);
+		}
+
 		@Override
 		public IntSortedSet headSet(final int to) {
 			return headMap(to).keySet();
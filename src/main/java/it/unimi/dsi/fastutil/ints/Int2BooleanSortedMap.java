@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.ints;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.booleans.BooleanCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,172 @@ public interface Int2BooleanSortedMap extends Int2BooleanMap, SortedMap<Integer,
 	 */
 	@Override
 	IntComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Int2BooleanMap.Entry floorEntry(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final int key = i.previousInt();
+		return new AbstractInt2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Int2BooleanMap.Entry ceilingEntry(final int k) {
+		if (containsKey(k)) return new AbstractInt2BooleanMap.BasicEntry(k, get(k));
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final int key = i.nextInt();
+		return new AbstractInt2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Int2BooleanMap.Entry higherEntry(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final int key = i.nextInt();
+		return new AbstractInt2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Int2BooleanMap.Entry lowerEntry(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousInt();
+		if (!i.hasPrevious()) return null;
+		final int key = i.previousInt();
+		return new AbstractInt2BooleanMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default int floorIntKey(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final int key = i.previousInt();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default int ceilingIntKey(final int k) {
+		if (containsKey(k)) return k;
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final int key = i.nextInt();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default int higherIntKey(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final int key = i.nextInt();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link IntSortedSet#iterator(int)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default int lowerIntKey(final int k) {
+		final IntBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousInt();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final int key = i.previousInt();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstIntKey()} and {@link #remove(int)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Int2BooleanMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final int k = firstIntKey();
+		return new AbstractInt2BooleanMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastIntKey()} and {@link #remove(int)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Int2BooleanMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final int k = lastIntKey();
+		return new AbstractInt2BooleanMap.BasicEntry(k, remove(k));
+	}
 }
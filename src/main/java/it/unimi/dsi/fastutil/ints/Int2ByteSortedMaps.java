@@ -475,6 +475,76 @@ public final class Int2ByteSortedMaps {
 			}
 		}
 
+		@Override
+		public Int2ByteMap.Entry floorEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ByteMap.Entry ceilingEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ByteMap.Entry higherEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ByteMap.Entry lowerEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public int floorIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.floorIntKey(k);
+			}
+		}
+
+		@Override
+		public int ceilingIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.ceilingIntKey(k);
+			}
+		}
+
+		@Override
+		public int higherIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.higherIntKey(k);
+			}
+		}
+
+		@Override
+		public int lowerIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.lowerIntKey(k);
+			}
+		}
+
+		@Override
+		public Int2ByteMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Int2ByteMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Int2ByteSortedMaps {
 			return sortedMap.lastIntKey();
 		}
 
+		@Override
+		public Int2ByteMap.Entry floorEntry(final int k) {
+			final Int2ByteMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractInt2ByteMap.BasicEntry(e.getIntKey(), e.getByteValue());
+		}
+
+		@Override
+		public Int2ByteMap.Entry ceilingEntry(final int k) {
+			final Int2ByteMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractInt2ByteMap.BasicEntry(e.getIntKey(), e.getByteValue());
+		}
+
+		@Override
+		public Int2ByteMap.Entry higherEntry(final int k) {
+			final Int2ByteMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractInt2ByteMap.BasicEntry(e.getIntKey(), e.getByteValue());
+		}
+
+		@Override
+		public Int2ByteMap.Entry lowerEntry(final int k) {
+			final Int2ByteMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractInt2ByteMap.BasicEntry(e.getIntKey(), e.getByteValue());
+		}
+
+		@Override
+		public int floorIntKey(final int k) {
+			return sortedMap.floorIntKey(k);
+		}
+
+		@Override
+		public int ceilingIntKey(final int k) {
+			return sortedMap.ceilingIntKey(k);
+		}
+
+		@Override
+		public int higherIntKey(final int k) {
+			return sortedMap.higherIntKey(k);
+		}
+
+		@Override
+		public int lowerIntKey(final int k) {
+			return sortedMap.lowerIntKey(k);
+		}
+
+		@Override
+		public Int2ByteMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2ByteMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -69,8 +69,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1135,6 +1135,86 @@ public class Int2DoubleLinkedOpenHashMap extends AbstractInt2DoubleSortedMap imp
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2DoubleMap.Entry floorEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2DoubleMap.Entry ceilingEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2DoubleMap.Entry higherEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2DoubleMap.Entry lowerEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int floorIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int ceilingIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int higherIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int lowerIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1438,6 +1518,26 @@ public class Int2DoubleLinkedOpenHashMap extends AbstractInt2DoubleSortedMap imp
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Int2DoubleMap.Entry floor(Int2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2DoubleMap.Entry ceiling(Int2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2DoubleMap.Entry higher(Int2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2DoubleMap.Entry lower(Int2DoubleMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Int2DoubleMap.Entry> headSet(Int2DoubleMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1721,6 +1821,26 @@ public class Int2DoubleLinkedOpenHashMap extends AbstractInt2DoubleSortedMap imp
 		public IntSortedSet subSet(int from, int to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public int floorInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int ceilingInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int higherInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int lowerInt(int k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
@@ -70,8 +70,8 @@ import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1136,6 +1136,86 @@ public class Int2FloatLinkedOpenHashMap extends AbstractInt2FloatSortedMap imple
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2FloatMap.Entry floorEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2FloatMap.Entry ceilingEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2FloatMap.Entry higherEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Int2FloatMap.Entry lowerEntry(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int floorIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int ceilingIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int higherIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public int lowerIntKey(int k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1439,6 +1519,26 @@ public class Int2FloatLinkedOpenHashMap extends AbstractInt2FloatSortedMap imple
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Int2FloatMap.Entry floor(Int2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2FloatMap.Entry ceiling(Int2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2FloatMap.Entry higher(Int2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2FloatMap.Entry lower(Int2FloatMap.Entry k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Int2FloatMap.Entry> headSet(Int2FloatMap.Entry toElement) {
 			throw new UnsupportedOperationException();
@@ -1722,6 +1822,26 @@ public class Int2FloatLinkedOpenHashMap extends AbstractInt2FloatSortedMap imple
 		public IntSortedSet subSet(int from, int to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public int floorInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int ceilingInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int higherInt(int k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int lowerInt(int k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
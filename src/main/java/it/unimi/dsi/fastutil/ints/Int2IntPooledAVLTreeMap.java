@@ -0,0 +1,1643 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectListIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific AVL tree map whose nodes are stored in parallel arrays.
+ *
+ * <p>
+ * Instances of this class behave like an {@link Int2IntAVLTreeMap}, but no object is allocated per
+ * entry: each node of the tree is an index into parallel arrays containing keys, values, children,
+ * parents and heights. Nodes of deleted entries are kept in a free list and reused by subsequent
+ * insertions, and {@link #clear()} takes constant time, as it simply discards all nodes at once.
+ * The resulting map is friendlier to the garbage collector and has better locality, in particular
+ * when it is filled in order.
+ *
+ * <p>
+ * The backing arrays grow as needed, but they never shrink, except by {@link #trim()}.
+ *
+ * <p>
+ * The iterators provided by the views of this class are type-specific
+ * {@linkplain it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. Moreover, the
+ * iterator returned by {@code iterator()} can be safely cast to a type-specific
+ * {@linkplain java.util.ListIterator list iterator}. Entries returned by entry iterators are
+ * lightweight views on a node, and they become invalid once their key is removed from the map.
+ */
+public class Int2IntPooledAVLTreeMap extends AbstractInt2IntSortedMap implements java.io.Serializable, Cloneable {
+	/** The index of the null node. */
+	private static final int NIL = -1;
+	/** The default initial capacity of a map. */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	/** The index of the root node, or {@link #NIL}. */
+	protected transient int tree = NIL;
+	/** Number of entries in this map. */
+	protected int count;
+	/** The index of the first node in this map, or {@link #NIL}. */
+	protected transient int firstNode = NIL;
+	/** The index of the last node in this map, or {@link #NIL}. */
+	protected transient int lastNode = NIL;
+	/** The keys, indexed by node. */
+	protected transient int[] key;
+	/** The values, indexed by node. */
+	protected transient int[] value;
+	/** The left children, indexed by node ({@link #NIL} if missing). */
+	protected transient int[] left;
+	/**
+	 * The right children, indexed by node ({@link #NIL} if missing); for free nodes, the next free
+	 * node.
+	 */
+	protected transient int[] right;
+	/** The parents, indexed by node ({@link #NIL} for the root). */
+	protected transient int[] parent;
+	/** The heights of the subtrees rooted at each node. */
+	protected transient byte[] height;
+	/** The number of nodes that have ever been used since the last {@link #clear()}. */
+	protected transient int used;
+	/** The first free node below {@link #used}, or {@link #NIL}. */
+	protected transient int free = NIL;
+	/** Cached set of entries. */
+	protected transient ObjectSortedSet<Int2IntMap.Entry> entries;
+	/** Cached set of keys. */
+	protected transient IntSortedSet keys;
+	/** Cached collection of values. */
+	protected transient IntCollection values;
+	/**
+	 * The value of this variable remembers, after a {@code put()} or a {@code remove()}, whether the
+	 * <em>domain</em> of the map has been modified.
+	 */
+	protected transient boolean modified;
+	/** This map's comparator, as provided in the constructor. */
+	protected Comparator<? super Integer> storedComparator;
+	/**
+	 * This map's actual comparator; it may differ from {@link #storedComparator} because it is always a
+	 * type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient IntComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353129L;
+
+	/**
+	 * Creates a new empty tree map with a given initial capacity.
+	 *
+	 * @param capacity the number of entries the map will be able to hold without growing its arrays.
+	 */
+	public Int2IntPooledAVLTreeMap(final int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		allocate(capacity);
+	}
+
+	/**
+	 * Creates a new empty tree map.
+	 */
+	public Int2IntPooledAVLTreeMap() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = IntComparators.asIntComparator(storedComparator);
+	}
+
+	/**
+	 * Creates a new empty tree map with the given comparator.
+	 *
+	 * @param c a (possibly type-specific) comparator.
+	 */
+	public Int2IntPooledAVLTreeMap(final Comparator<? super Integer> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new tree map.
+	 */
+	public Int2IntPooledAVLTreeMap(final Map<? extends Integer, ? extends Integer> m) {
+		this(m.size());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a {@link SortedMap} to be copied into the new tree map.
+	 */
+	public Int2IntPooledAVLTreeMap(final SortedMap<Integer, Integer> m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a type-specific map to be copied into the new tree map.
+	 */
+	public Int2IntPooledAVLTreeMap(final Int2IntMap m) {
+		this(m.size());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a type-specific sorted map to be copied into the new tree map.
+	 */
+	public Int2IntPooledAVLTreeMap(final Int2IntSortedMap m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays and the given comparator.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @param c a (possibly type-specific) comparator.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Int2IntPooledAVLTreeMap(final int[] k, final int v[], final Comparator<? super Integer> c) {
+		this(c);
+		if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+		for (int i = 0; i < k.length; i++) this.put(k[i], v[i]);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Int2IntPooledAVLTreeMap(final int[] k, final int v[]) {
+		this(k, v, null);
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by
+	 * all accessors.  They are (and should be maintained) identical to those
+	 * used in IntPooledAVLTreeSet.
+	 *
+	 * The tree is not threaded: nodes keep the index of their parent, and
+	 * deletions relink nodes rather than moving keys, so the index of a node
+	 * never changes while its key is in the map.
+	 */
+	/**
+	 * Allocates the backing arrays.
+	 *
+	 * @param capacity the length of the arrays.
+	 */
+	private void allocate(final int capacity) {
+		key = new int[capacity];
+		value = new int[capacity];
+		left = new int[capacity];
+		right = new int[capacity];
+		parent = new int[capacity];
+		height = new byte[capacity];
+	}
+
+	/**
+	 * Returns a new node, taken from the free list if possible.
+	 *
+	 * @param k the key of the new node.
+	 * @param v the value of the new node.
+	 * @return the index of the new node.
+	 */
+	private int newNode(final int k, final int v) {
+		final int n;
+		if (free != NIL) {
+			n = free;
+			free = right[n];
+		} else {
+			if (used == key.length) {
+				final int length = (int)Math.min(it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE, Math.max(DEFAULT_INITIAL_CAPACITY, used + ((long)used >> 1)));
+				if (length == used) throw new IllegalStateException("Maximum number of entries reached");
+				key = IntArrays.grow(key, length, used);
+				value = IntArrays.grow(value, length, used);
+				left = IntArrays.grow(left, length, used);
+				right = IntArrays.grow(right, length, used);
+				parent = IntArrays.grow(parent, length, used);
+				height = ByteArrays.grow(height, length, used);
+			}
+			n = used++;
+		}
+		key[n] = k;
+		value[n] = v;
+		left[n] = right[n] = parent[n] = NIL;
+		height[n] = 1;
+		return n;
+	}
+
+	/**
+	 * Returns the height of a subtree.
+	 *
+	 * @param n a node, or {@link #NIL}.
+	 * @return the height of the subtree rooted at {@code n}.
+	 */
+	private int height(final int n) {
+		return n == NIL ? 0 : height[n];
+	}
+
+	/**
+	 * Recomputes the height of a node from the heights of its children.
+	 *
+	 * @param n a node.
+	 */
+	private void update(final int n) {
+		height[n] = (byte)(1 + Math.max(height(left[n]), height(right[n])));
+	}
+
+	/**
+	 * Returns the node following a given node.
+	 *
+	 * @param n a node.
+	 * @return the node following {@code n} in key order, or {@link #NIL}.
+	 */
+	final int next(int n) {
+		if (right[n] != NIL) {
+			n = right[n];
+			while (left[n] != NIL) n = left[n];
+			return n;
+		}
+		int p;
+		while ((p = parent[n]) != NIL && right[p] == n) n = p;
+		return p;
+	}
+
+	/**
+	 * Returns the node preceding a given node.
+	 *
+	 * @param n a node.
+	 * @return the node preceding {@code n} in key order, or {@link #NIL}.
+	 */
+	final int prev(int n) {
+		if (left[n] != NIL) {
+			n = left[n];
+			while (right[n] != NIL) n = right[n];
+			return n;
+		}
+		int p;
+		while ((p = parent[n]) != NIL && left[p] == n) n = p;
+		return p;
+	}
+
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+	final int compare(final int k1, final int k2) {
+		return actualComparator == null ? (Integer.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Returns the node corresponding to the given key, if it is in the tree; {@link #NIL}, otherwise.
+	 *
+	 * @param k the key to search for.
+	 * @return the corresponding node, or {@link #NIL} if no node with the given key exists.
+	 */
+	final int findKey(final int k) {
+		int e = tree;
+		int cmp;
+		while (e != NIL && (cmp = compare(k, key[e])) != 0) e = cmp < 0 ? left[e] : right[e];
+		return e;
+	}
+
+	/**
+	 * Locates a key.
+	 *
+	 * @param k a key.
+	 * @return the last node on a search for the given key; this will be the given key, if it present;
+	 *         otherwise, it will be either the smallest greater key or the greatest smaller key.
+	 */
+	final int locateKey(final int k) {
+		int e = tree, last = tree;
+		int cmp = 0;
+		while (e != NIL && (cmp = compare(k, key[e])) != 0) {
+			last = e;
+			e = cmp < 0 ? left[e] : right[e];
+		}
+		return cmp == 0 ? e : last;
+	}
+
+	/**
+	 * Adds an increment to value currently associated with a key.
+	 *
+	 * <p>
+	 * Note that this method respects the {@linkplain #defaultReturnValue() default return value}
+	 * semantics: when called with a key that does not currently appears in the map, the key will be
+	 * associated with the default return value plus the given increment.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value
+	 *         was present for the given key.
+	 */
+	public int addTo(final int k, final int incr) {
+		final int e = add(k, defRetValue + incr);
+		if (modified) return defRetValue;
+		final int oldValue = value[e];
+		value[e] += incr;
+		return oldValue;
+	}
+
+	@Override
+	public int put(final int k, final int v) {
+		final int e = add(k, v);
+		if (modified) return defRetValue;
+		final int oldValue = value[e];
+		value[e] = v;
+		return oldValue;
+	}
+
+	/**
+	 * Returns a node with key k in the balanced tree, creating one with the given value if necessary.
+	 *
+	 * <p>
+	 * After execution of this method, {@link #modified} is true iff a new entry has been inserted.
+	 *
+	 * @param k the key.
+	 * @param v the value of the new node, if a new node must be created.
+	 * @return a node with key k. If a node with key k already exists, then that node is returned
+	 *         (untouched), otherwise a new node with value v is created ensuring that the tree is
+	 *         balanced after creation of the node.
+	 */
+	private int add(final int k, final int v) {
+		modified = false;
+		if (tree == NIL) {
+			count++;
+			modified = true;
+			return tree = lastNode = firstNode = newNode(k, v);
+		}
+		int p = tree, q = NIL;
+		int cmp = 0;
+		while (p != NIL) {
+			if ((cmp = compare(k, key[p])) == 0) return p;
+			q = p;
+			p = cmp < 0 ? left[p] : right[p];
+		}
+		final int e = newNode(k, v);
+		parent[e] = q;
+		if (cmp < 0) {
+			left[q] = e;
+			if (q == firstNode) firstNode = e;
+		} else {
+			right[q] = e;
+			if (q == lastNode) lastNode = e;
+		}
+		rebalance(q);
+		modified = true;
+		count++;
+		return e;
+	}
+
+	/* After execution of this method, {@link #modified} is true iff an entry
+	has been deleted. */
+	@Override
+	public int remove(final int k) {
+		modified = false;
+		final int p = findKey(k);
+		if (p == NIL) return defRetValue;
+		if (p == firstNode) firstNode = next(p);
+		if (p == lastNode) lastNode = prev(p);
+		final int fix;
+		if (left[p] == NIL) {
+			fix = parent[p];
+			transplant(p, right[p]);
+		} else if (right[p] == NIL) {
+			fix = parent[p];
+			transplant(p, left[p]);
+		} else {
+			// We replace p with its successor, so that keys are never moved between nodes.
+			int s = right[p];
+			while (left[s] != NIL) s = left[s];
+			if (parent[s] != p) {
+				fix = parent[s];
+				transplant(s, right[s]);
+				right[s] = right[p];
+				parent[right[s]] = s;
+			} else fix = s;
+			transplant(p, s);
+			left[s] = left[p];
+			parent[left[s]] = s;
+			// s now takes the place of p, so rebalancing compares against the old height of p.
+			height[s] = height[p];
+		}
+		rebalance(fix);
+		right[p] = free;
+		free = p;
+		modified = true;
+		count--;
+		return value[p];
+	}
+
+	/**
+	 * Replaces, in the parent of a given node, the given node with another one.
+	 *
+	 * @param u a node.
+	 * @param v the node replacing {@code u} (possibly {@link #NIL}).
+	 */
+	private void transplant(final int u, final int v) {
+		final int p = parent[u];
+		if (p == NIL) tree = v;
+		else if (left[p] == u) left[p] = v;
+		else right[p] = v;
+		if (v != NIL) parent[v] = p;
+	}
+
+	/**
+	 * Rotates right the subtree rooted at the given node.
+	 *
+	 * @param x the root of a subtree with a nonempty left subtree.
+	 */
+	private void rotateRight(final int x) {
+		final int y = left[x];
+		left[x] = right[y];
+		if (right[y] != NIL) parent[right[y]] = x;
+		transplant(x, y);
+		right[y] = x;
+		parent[x] = y;
+		update(x);
+		update(y);
+	}
+
+	/**
+	 * Rotates left the subtree rooted at the given node.
+	 *
+	 * @param x the root of a subtree with a nonempty right subtree.
+	 */
+	private void rotateLeft(final int x) {
+		final int y = right[x];
+		right[x] = left[y];
+		if (left[y] != NIL) parent[left[y]] = x;
+		transplant(x, y);
+		left[y] = x;
+		parent[x] = y;
+		update(x);
+		update(y);
+	}
+
+	/**
+	 * Updates heights from the given node up to the root, restoring the AVL property along the way.
+	 *
+	 * <p>
+	 * The walk stops as soon as the height of a node that needs no rotation does not change.
+	 *
+	 * @param e a node (possibly {@link #NIL}).
+	 */
+	private void rebalance(int e) {
+		while (e != NIL) {
+			final int p = parent[e];
+			final int oldHeight = height[e];
+			update(e);
+			final int balance = height(left[e]) - height(right[e]);
+			if (balance > 1) {
+				if (height(left[left[e]]) < height(right[left[e]])) rotateLeft(left[e]);
+				rotateRight(e);
+			} else if (balance < -1) {
+				if (height(right[right[e]]) < height(left[right[e]])) rotateRight(right[e]);
+				rotateLeft(e);
+			} else if (height[e] == oldHeight) return;
+			e = p;
+		}
+	}
+
+	@Override
+	public boolean containsValue(final int v) {
+		for (int e = firstNode; e != NIL; e = next(e)) if (((value[e]) == (v))) return true;
+		return false;
+	}
+
+	/**
+	 * Removes all of the mappings from this map.
+	 *
+	 * <p>
+	 * This method takes constant time, as it just discards all nodes; the backing arrays are not
+	 * shrunk.
+	 */
+	@Override
+	public void clear() {
+		count = 0;
+		tree = firstNode = lastNode = free = NIL;
+		used = 0;
+	}
+
+	/**
+	 * Trims the backing arrays of this map so that they contain exactly the current entries.
+	 *
+	 * <p>
+	 * This method renumbers the nodes so that they are laid out in key order, which also improves the
+	 * locality of lookups and iteration. It takes linear time.
+	 */
+	public void trim() {
+		final int[] k = new int[count], v = new int[count];
+		for (int e = firstNode, i = 0; e != NIL; e = next(e), i++) {
+			k[i] = key[e];
+			v[i] = value[e];
+		}
+		allocate(count);
+		System.arraycopy(k, 0, key, 0, count);
+		System.arraycopy(v, 0, value, 0, count);
+		build();
+	}
+
+	/**
+	 * Rebuilds a perfectly balanced tree on the first {@link #count} nodes, whose keys must be sorted.
+	 */
+	private void build() {
+		used = count;
+		free = NIL;
+		tree = build(0, count, NIL);
+		firstNode = count == 0 ? NIL : 0;
+		lastNode = count - 1;
+	}
+
+	/**
+	 * Builds a perfectly balanced tree on a range of nodes.
+	 *
+	 * @param from the first node (inclusive).
+	 * @param to the last node (exclusive).
+	 * @param p the parent of the root of the tree.
+	 * @return the root of the tree.
+	 */
+	private int build(final int from, final int to, final int p) {
+		if (from == to) return NIL;
+		final int m = (from + to) >>> 1;
+		parent[m] = p;
+		left[m] = build(from, m, m);
+		right[m] = build(m + 1, to, m);
+		update(m);
+		return m;
+	}
+
+	/**
+	 * This class represent an entry of a tree map, that is, a view on a node.
+	 */
+	private final class NodeEntry implements Int2IntMap.Entry {
+		/** The node of this entry. */
+		final int node;
+
+		NodeEntry(final int node) {
+			this.node = node;
+		}
+
+		@Override
+		public int getIntKey() {
+			return key[node];
+		}
+
+		@Override
+		public int getIntValue() {
+			return value[node];
+		}
+
+		@Override
+		public int setValue(final int v) {
+			final int oldValue = value[node];
+			value[node] = v;
+			return oldValue;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+			if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+			if (e.getValue() == null || !(e.getValue() instanceof Integer)) return false;
+			return ((key[node]) == (((Integer)(e.getKey())).intValue())) && ((value[node]) == (((Integer)(e.getValue())).intValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			return (key[node]) ^ (value[node]);
+		}
+
+		@Override
+		public String toString() {
+			return key[node] + "=>" + value[node];
+		}
+	}
+
+	@Override
+	public boolean containsKey(final int k) {
+		return findKey(k) != NIL;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public int get(final int k) {
+		final int e = findKey(k);
+		return e == NIL ? defRetValue : value[e];
+	}
+
+	@Override
+	public int firstIntKey() {
+		if (tree == NIL) throw new NoSuchElementException();
+		return key[firstNode];
+	}
+
+	@Override
+	public int lastIntKey() {
+		if (tree == NIL) throw new NoSuchElementException();
+		return key[lastNode];
+	}
+
+	/**
+	 * Returns the node with the greatest key less than or equal to a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the greatest key less than or equal to {@code k}, or {@link #NIL}.
+	 */
+	final int floorNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) > 0) e = prev(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the least key greater than or equal to a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the least key greater than or equal to {@code k}, or {@link #NIL}.
+	 */
+	final int ceilingNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) < 0) e = next(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the least key strictly greater than a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the least key strictly greater than {@code k}, or {@link #NIL}.
+	 */
+	final int higherNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) <= 0) e = next(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the greatest key strictly less than a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the greatest key strictly less than {@code k}, or {@link #NIL}.
+	 */
+	final int lowerNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) >= 0) e = prev(e);
+		return e;
+	}
+
+	@Override
+	public Int2IntMap.Entry floorEntry(final int k) {
+		final int e = floorNode(k);
+		return e == NIL ? null : new BasicEntry(key[e], value[e]);
+	}
+
+	@Override
+	public Int2IntMap.Entry ceilingEntry(final int k) {
+		final int e = ceilingNode(k);
+		return e == NIL ? null : new BasicEntry(key[e], value[e]);
+	}
+
+	@Override
+	public Int2IntMap.Entry higherEntry(final int k) {
+		final int e = higherNode(k);
+		return e == NIL ? null : new BasicEntry(key[e], value[e]);
+	}
+
+	@Override
+	public Int2IntMap.Entry lowerEntry(final int k) {
+		final int e = lowerNode(k);
+		return e == NIL ? null : new BasicEntry(key[e], value[e]);
+	}
+
+	@Override
+	public int floorIntKey(final int k) {
+		final int e = floorNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int ceilingIntKey(final int k) {
+		final int e = ceilingNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int higherIntKey(final int k) {
+		final int e = higherNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int lowerIntKey(final int k) {
+		final int e = lowerNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public Int2IntMap.Entry pollFirstEntry() {
+		if (tree == NIL) return null;
+		final int e = firstNode;
+		final Int2IntMap.Entry entry = new BasicEntry(key[e], value[e]);
+		remove(key[e]);
+		return entry;
+	}
+
+	@Override
+	public Int2IntMap.Entry pollLastEntry() {
+		if (tree == NIL) return null;
+		final int e = lastNode;
+		final Int2IntMap.Entry entry = new BasicEntry(key[e], value[e]);
+		remove(key[e]);
+		return entry;
+	}
+
+	/**
+	 * An abstract iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on a tree.
+	 */
+	private class TreeIterator {
+		/**
+		 * The node that will be returned by the next call to {@link java.util.ListIterator#previous()} (or
+		 * {@link #NIL} if no previous node exists).
+		 */
+		int prev = NIL;
+		/**
+		 * The node that will be returned by the next call to {@link java.util.ListIterator#next()} (or
+		 * {@link #NIL} if no next node exists).
+		 */
+		int next = NIL;
+		/**
+		 * The last node that was returned (or {@link #NIL} if we did not iterate or used
+		 * {@link #remove()}).
+		 */
+		int curr = NIL;
+		/**
+		 * The current index (in the sense of a {@link java.util.ListIterator}). Note that this value is not
+		 * meaningful when this {@link TreeIterator} has been created using the nonempty constructor.
+		 */
+		int index = 0;
+
+		TreeIterator() {
+			next = firstNode;
+		}
+
+		TreeIterator(final int k) {
+			if ((next = locateKey(k)) != NIL) {
+				if (compare(key[next], k) <= 0) {
+					prev = next;
+					next = Int2IntPooledAVLTreeMap.this.next(next);
+				} else prev = Int2IntPooledAVLTreeMap.this.prev(next);
+			}
+		}
+
+		public boolean hasNext() {
+			return next != NIL;
+		}
+
+		public boolean hasPrevious() {
+			return prev != NIL;
+		}
+
+		void updateNext() {
+			next = Int2IntPooledAVLTreeMap.this.next(next);
+		}
+
+		int nextNode() {
+			if (!hasNext()) throw new NoSuchElementException();
+			curr = prev = next;
+			index++;
+			updateNext();
+			return curr;
+		}
+
+		void updatePrevious() {
+			prev = Int2IntPooledAVLTreeMap.this.prev(prev);
+		}
+
+		int previousNode() {
+			if (!hasPrevious()) throw new NoSuchElementException();
+			curr = next = prev;
+			index--;
+			updatePrevious();
+			return curr;
+		}
+
+		public int nextIndex() {
+			return index;
+		}
+
+		public int previousIndex() {
+			return index - 1;
+		}
+
+		public void remove() {
+			if (curr == NIL) throw new IllegalStateException();
+			/* If the last operation was a next(), we are removing an entry that preceeds
+				   the current index, and thus we must decrement it. */
+			if (curr == prev) index--;
+			next = prev = curr;
+			updatePrevious();
+			updateNext();
+			Int2IntPooledAVLTreeMap.this.remove(key[curr]);
+			curr = NIL;
+		}
+
+		public int skip(final int n) {
+			int i = n;
+			while (i-- != 0 && hasNext()) nextNode();
+			return n - i - 1;
+		}
+
+		public int back(final int n) {
+			int i = n;
+			while (i-- != 0 && hasPrevious()) previousNode();
+			return n - i - 1;
+		}
+	}
+
+	/**
+	 * An iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on a tree.
+	 */
+	private class EntryIterator extends TreeIterator implements ObjectListIterator<Int2IntMap.Entry> {
+		EntryIterator() {
+		}
+
+		EntryIterator(final int k) {
+			super(k);
+		}
+
+		@Override
+		public Int2IntMap.Entry next() {
+			return new NodeEntry(nextNode());
+		}
+
+		@Override
+		public Int2IntMap.Entry previous() {
+			return new NodeEntry(previousNode());
+		}
+	}
+
+	@Override
+	public ObjectSortedSet<Int2IntMap.Entry> int2IntEntrySet() {
+		if (entries == null) entries = new AbstractObjectSortedSet<Int2IntMap.Entry>() {
+			final Comparator<? super Int2IntMap.Entry> comparator = (Int2IntPooledAVLTreeMap.this.actualComparator == null ? (Comparator<Int2IntMap.Entry>)(x, y) -> (Integer.compare((x.getIntKey()), (y.getIntKey()))) : (Comparator<Int2IntMap.Entry>)(x, y) -> Int2IntPooledAVLTreeMap.this.actualComparator.compare(x.getIntKey(), y.getIntKey()));
+
+			@Override
+			public Comparator<? super Int2IntMap.Entry> comparator() {
+				return comparator;
+			}
+
+			@Override
+			public ObjectBidirectionalIterator<Int2IntMap.Entry> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public ObjectBidirectionalIterator<Int2IntMap.Entry> iterator(final Int2IntMap.Entry from) {
+				return new EntryIterator(from.getIntKey());
+			}
+
+			@Override
+			public boolean contains(final Object o) {
+				if (!(o instanceof Map.Entry)) return false;
+				final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+				if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+				if (e.getValue() == null || !(e.getValue() instanceof Integer)) return false;
+				final int f = findKey(((Integer)(e.getKey())).intValue());
+				return f != NIL && ((value[f]) == (((Integer)(e.getValue())).intValue()));
+			}
+
+			@Override
+			public boolean remove(final Object o) {
+				if (!(o instanceof Map.Entry)) return false;
+				final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+				if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+				if (e.getValue() == null || !(e.getValue() instanceof Integer)) return false;
+				final int f = findKey(((Integer)(e.getKey())).intValue());
+				if (f == NIL || !((value[f]) == (((Integer)(e.getValue())).intValue()))) return false;
+				Int2IntPooledAVLTreeMap.this.remove(key[f]);
+				return true;
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				Int2IntPooledAVLTreeMap.this.clear();
+			}
+
+			@Override
+			public Int2IntMap.Entry first() {
+				if (tree == NIL) throw new NoSuchElementException();
+				return new NodeEntry(firstNode);
+			}
+
+			@Override
+			public Int2IntMap.Entry last() {
+				if (tree == NIL) throw new NoSuchElementException();
+				return new NodeEntry(lastNode);
+			}
+
+			@Override
+			public ObjectSortedSet<Int2IntMap.Entry> subSet(Int2IntMap.Entry from, Int2IntMap.Entry to) {
+				return subMap(from.getIntKey(), to.getIntKey()).int2IntEntrySet();
+			}
+
+			@Override
+			public ObjectSortedSet<Int2IntMap.Entry> headSet(Int2IntMap.Entry to) {
+				return headMap(to.getIntKey()).int2IntEntrySet();
+			}
+
+			@Override
+			public ObjectSortedSet<Int2IntMap.Entry> tailSet(Int2IntMap.Entry from) {
+				return tailMap(from.getIntKey()).int2IntEntrySet();
+			}
+		};
+		return entries;
+	}
+
+	/**
+	 * An iterator on the whole range of keys.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the keys of a tree. We simply override the
+	 * {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+	 * possibly their type-specific counterparts) so that they return keys instead of entries.
+	 */
+	private final class KeyIterator extends TreeIterator implements IntListIterator {
+		public KeyIterator() {
+		}
+
+		public KeyIterator(final int k) {
+			super(k);
+		}
+
+		@Override
+		public int nextInt() {
+			return key[nextNode()];
+		}
+
+		@Override
+		public int previousInt() {
+			return key[previousNode()];
+		}
+	}
+
+	/** A keyset implementation using a more direct implementation for iterators. */
+	private class KeySet extends AbstractInt2IntSortedMap.KeySet {
+		@Override
+		public IntBidirectionalIterator iterator() {
+			return new KeyIterator();
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator(final int from) {
+			return new KeyIterator(from);
+		}
+	}
+
+	/**
+	 * Returns a type-specific sorted set view of the keys contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#keySet()}, you can safely cast the set
+	 * returned by this call to a type-specific sorted set interface.
+	 *
+	 * @return a type-specific sorted set view of the keys contained in this map.
+	 */
+	@Override
+	public IntSortedSet keySet() {
+		if (keys == null) keys = new KeySet();
+		return keys;
+	}
+
+	/**
+	 * An iterator on the whole range of values.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the values of a tree. We simply override the
+	 * {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+	 * possibly their type-specific counterparts) so that they return values instead of entries.
+	 */
+	private final class ValueIterator extends TreeIterator implements IntListIterator {
+		@Override
+		public int nextInt() {
+			return value[nextNode()];
+		}
+
+		@Override
+		public int previousInt() {
+			return value[previousNode()];
+		}
+	}
+
+	/**
+	 * Returns a type-specific collection view of the values contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#values()}, you can safely cast the
+	 * collection returned by this call to a type-specific collection interface.
+	 *
+	 * @return a type-specific collection view of the values contained in this map.
+	 */
+	@Override
+	public IntCollection values() {
+		if (values == null) values = new AbstractIntCollection() {
+			@Override
+			public IntIterator iterator() {
+				return new ValueIterator();
+			}
+
+			@Override
+			public boolean contains(final int k) {
+				return containsValue(k);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				Int2IntPooledAVLTreeMap.this.clear();
+			}
+		};
+		return values;
+	}
+
+	@Override
+	public IntComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public Int2IntSortedMap headMap(int to) {
+		return new Submap((0), true, to, false);
+	}
+
+	@Override
+	public Int2IntSortedMap tailMap(int from) {
+		return new Submap(from, false, (0), true);
+	}
+
+	@Override
+	public Int2IntSortedMap subMap(int from, int to) {
+		return new Submap(from, false, to, false);
+	}
+
+	/**
+	 * A submap with given range.
+	 *
+	 * <p>
+	 * This class represents a submap. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the submap is a view on the map, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly.
+	 */
+	private final class Submap extends AbstractInt2IntSortedMap implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the submap range, unless {@link #bottom} is true. */
+		int from;
+		/** The end of the submap range, unless {@link #top} is true. */
+		int to;
+		/** If true, the submap range starts from -&infin;. */
+		boolean bottom;
+		/** If true, the submap range goes to &infin;. */
+		boolean top;
+		/** Cached set of entries. */
+		protected transient ObjectSortedSet<Int2IntMap.Entry> entries;
+		/** Cached set of keys. */
+		protected transient IntSortedSet keys;
+		/** Cached collection of values. */
+		protected transient IntCollection values;
+
+		/**
+		 * Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Submap(final int from, final boolean bottom, final int to, final boolean top) {
+			if (!bottom && !top && Int2IntPooledAVLTreeMap.this.compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+			this.defRetValue = Int2IntPooledAVLTreeMap.this.defRetValue;
+		}
+
+		@Override
+		public void clear() {
+			final SubmapIterator i = new SubmapIterator();
+			while (i.hasNext()) {
+				i.nextNode();
+				i.remove();
+			}
+		}
+
+		/**
+		 * Checks whether a key is in the submap range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+		final boolean in(final int k) {
+			return (bottom || Int2IntPooledAVLTreeMap.this.compare(k, from) >= 0) && (top || Int2IntPooledAVLTreeMap.this.compare(k, to) < 0);
+		}
+
+		@Override
+		public ObjectSortedSet<Int2IntMap.Entry> int2IntEntrySet() {
+			if (entries == null) entries = new AbstractObjectSortedSet<Int2IntMap.Entry>() {
+				@Override
+				public ObjectBidirectionalIterator<Int2IntMap.Entry> iterator() {
+					return new SubmapEntryIterator();
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Int2IntMap.Entry> iterator(final Int2IntMap.Entry from) {
+					return new SubmapEntryIterator(from.getIntKey());
+				}
+
+				@Override
+				public Comparator<? super Int2IntMap.Entry> comparator() {
+					return Int2IntPooledAVLTreeMap.this.int2IntEntrySet().comparator();
+				}
+
+				@Override
+				public boolean contains(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					if (e.getValue() == null || !(e.getValue() instanceof Integer)) return false;
+					final int f = findKey(((Integer)(e.getKey())).intValue());
+					return f != NIL && in(key[f]) && ((value[f]) == (((Integer)(e.getValue())).intValue()));
+				}
+
+				@Override
+				public boolean remove(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					if (e.getValue() == null || !(e.getValue() instanceof Integer)) return false;
+					final int f = findKey(((Integer)(e.getKey())).intValue());
+					if (f == NIL || !in(key[f]) || !((value[f]) == (((Integer)(e.getValue())).intValue()))) return false;
+					Submap.this.remove(key[f]);
+					return true;
+				}
+
+				@Override
+				public int size() {
+					int c = 0;
+					for (Iterator<?> i = iterator(); i.hasNext(); i.next()) c++;
+					return c;
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return !new SubmapIterator().hasNext();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+
+				@Override
+				public Int2IntMap.Entry first() {
+					final int e = firstNode();
+					if (e == NIL) throw new NoSuchElementException();
+					return new NodeEntry(e);
+				}
+
+				@Override
+				public Int2IntMap.Entry last() {
+					final int e = lastNode();
+					if (e == NIL) throw new NoSuchElementException();
+					return new NodeEntry(e);
+				}
+
+				@Override
+				public ObjectSortedSet<Int2IntMap.Entry> subSet(Int2IntMap.Entry from, Int2IntMap.Entry to) {
+					return subMap(from.getIntKey(), to.getIntKey()).int2IntEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2IntMap.Entry> headSet(Int2IntMap.Entry to) {
+					return headMap(to.getIntKey()).int2IntEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2IntMap.Entry> tailSet(Int2IntMap.Entry from) {
+					return tailMap(from.getIntKey()).int2IntEntrySet();
+				}
+			};
+			return entries;
+		}
+
+		private class KeySet extends AbstractInt2IntSortedMap.KeySet {
+			@Override
+			public IntBidirectionalIterator iterator() {
+				return new SubmapKeyIterator();
+			}
+
+			@Override
+			public IntBidirectionalIterator iterator(final int from) {
+				return new SubmapKeyIterator(from);
+			}
+		}
+
+		@Override
+		public IntSortedSet keySet() {
+			if (keys == null) keys = new KeySet();
+			return keys;
+		}
+
+		@Override
+		public IntCollection values() {
+			if (values == null) values = new AbstractIntCollection() {
+				@Override
+				public IntIterator iterator() {
+					return new SubmapValueIterator();
+				}
+
+				@Override
+				public boolean contains(final int k) {
+					return containsValue(k);
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+			};
+			return values;
+		}
+
+		@Override
+		public boolean containsKey(final int k) {
+			return in(k) && Int2IntPooledAVLTreeMap.this.containsKey(k);
+		}
+
+		@Override
+		public boolean containsValue(final int v) {
+			final SubmapIterator i = new SubmapIterator();
+			while (i.hasNext()) if (((value[i.nextNode()]) == (v))) return true;
+			return false;
+		}
+
+		@Override
+		public int get(final int k) {
+			final int e;
+			return in(k) && (e = findKey(k)) != NIL ? value[e] : this.defRetValue;
+		}
+
+		@Override
+		public int put(final int k, final int v) {
+			modified = false;
+			if (!in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			final int oldValue = Int2IntPooledAVLTreeMap.this.put(k, v);
+			return modified ? this.defRetValue : oldValue;
+		}
+
+		@Override
+		public int remove(final int k) {
+			modified = false;
+			if (!in(k)) return this.defRetValue;
+			final int oldValue = Int2IntPooledAVLTreeMap.this.remove(k);
+			return modified ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public int size() {
+			final SubmapIterator i = new SubmapIterator();
+			int n = 0;
+			while (i.hasNext()) {
+				n++;
+				i.nextNode();
+			}
+			return n;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !new SubmapIterator().hasNext();
+		}
+
+		@Override
+		public IntComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public Int2IntSortedMap headMap(final int to) {
+			if (top) return new Submap(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Submap(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public Int2IntSortedMap tailMap(final int from) {
+			if (bottom) return new Submap(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Submap(from, false, to, top) : this;
+		}
+
+		@Override
+		public Int2IntSortedMap subMap(int from, int to) {
+			if (top && bottom) return new Submap(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Submap(from, false, to, false);
+		}
+
+		/**
+		 * Locates the first node.
+		 *
+		 * @return the first node of this submap, or {@link #NIL} if the submap is empty.
+		 */
+		int firstNode() {
+			if (tree == NIL) return NIL;
+			// If this submap goes to -infinity, we return the main map first node; otherwise, we locate the
+			// start of the map.
+			int e;
+			if (bottom) e = firstNode;
+			else {
+				e = locateKey(from);
+				// If we find either the start or something greater we're OK.
+				if (compare(key[e], from) < 0) e = next(e);
+			}
+			// Finally, if this subset doesn't go to infinity, we check that the resulting key isn't greater
+			// than the end.
+			if (e == NIL || !top && compare(key[e], to) >= 0) return NIL;
+			return e;
+		}
+
+		/**
+		 * Locates the last node.
+		 *
+		 * @return the last node of this submap, or {@link #NIL} if the submap is empty.
+		 */
+		int lastNode() {
+			if (tree == NIL) return NIL;
+			// If this submap goes to infinity, we return the main map last node; otherwise, we locate the end
+			// of the map.
+			int e;
+			if (top) e = lastNode;
+			else {
+				e = locateKey(to);
+				// If we find something smaller than the end we're OK.
+				if (compare(key[e], to) >= 0) e = prev(e);
+			}
+			// Finally, if this subset doesn't go to -infinity, we check that the resulting key isn't smaller
+			// than the start.
+			if (e == NIL || !bottom && compare(key[e], from) < 0) return NIL;
+			return e;
+		}
+
+		@Override
+		public int firstIntKey() {
+			final int e = firstNode();
+			if (e == NIL) throw new NoSuchElementException();
+			return key[e];
+		}
+
+		@Override
+		public int lastIntKey() {
+			final int e = lastNode();
+			if (e == NIL) throw new NoSuchElementException();
+			return key[e];
+		}
+
+		/**
+		 * An iterator for subranges.
+		 *
+		 * <p>
+		 * This class inherits from {@link TreeIterator}, but overrides the methods that update the pointer
+		 * after a {@link java.util.ListIterator#next()} or {@link java.util.ListIterator#previous()}. If we
+		 * would move out of the range of the submap we just overwrite the next or previous node with
+		 * {@link #NIL}.
+		 */
+		private class SubmapIterator extends TreeIterator {
+			SubmapIterator() {
+				next = firstNode();
+			}
+
+			SubmapIterator(final int k) {
+				this();
+				if (next != NIL) {
+					if (!bottom && compare(k, key[next]) < 0) prev = NIL;
+					else if (!top && compare(k, key[prev = lastNode()]) >= 0) next = NIL;
+					else {
+						next = locateKey(k);
+						if (compare(key[next], k) <= 0) {
+							prev = next;
+							next = Int2IntPooledAVLTreeMap.this.next(next);
+						} else prev = Int2IntPooledAVLTreeMap.this.prev(next);
+					}
+				}
+			}
+
+			@Override
+			void updatePrevious() {
+				prev = Int2IntPooledAVLTreeMap.this.prev(prev);
+				if (!bottom && prev != NIL && Int2IntPooledAVLTreeMap.this.compare(key[prev], from) < 0) prev = NIL;
+			}
+
+			@Override
+			void updateNext() {
+				next = Int2IntPooledAVLTreeMap.this.next(next);
+				if (!top && next != NIL && Int2IntPooledAVLTreeMap.this.compare(key[next], to) >= 0) next = NIL;
+			}
+		}
+
+		private class SubmapEntryIterator extends SubmapIterator implements ObjectListIterator<Int2IntMap.Entry> {
+			SubmapEntryIterator() {
+			}
+
+			SubmapEntryIterator(final int k) {
+				super(k);
+			}
+
+			@Override
+			public Int2IntMap.Entry next() {
+				return new NodeEntry(nextNode());
+			}
+
+			@Override
+			public Int2IntMap.Entry previous() {
+				return new NodeEntry(previousNode());
+			}
+		}
+
+		/**
+		 * An iterator on a subrange of keys.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on a subrange of the keys of a tree. We simply override
+		 * the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+		 * possibly their type-specific counterparts) so that they return keys instead of entries.
+		 */
+		private final class SubmapKeyIterator extends SubmapIterator implements IntListIterator {
+			public SubmapKeyIterator() {
+				super();
+			}
+
+			public SubmapKeyIterator(int from) {
+				super(from);
+			}
+
+			@Override
+			public int nextInt() {
+				return key[nextNode()];
+			}
+
+			@Override
+			public int previousInt() {
+				return key[previousNode()];
+			}
+		};
+
+		/**
+		 * An iterator on a subrange of values.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on the values of a subrange of the keys of a tree. We
+		 * simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()}
+		 * methods (and possibly their type-specific counterparts) so that they return values instead of
+		 * entries.
+		 */
+		private final class SubmapValueIterator extends SubmapIterator implements IntListIterator {
+			@Override
+			public int nextInt() {
+				return value[nextNode()];
+			}
+
+			@Override
+			public int previousInt() {
+				return value[previousNode()];
+			}
+		};
+	}
+
+	/**
+	 * Returns a deep copy of this tree map.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this tree map; since nodes are stored in arrays, it just
+	 * copies the backing arrays.
+	 *
+	 * @return a deep copy of this tree map.
+	 */
+	@Override
+	public Int2IntPooledAVLTreeMap clone() {
+		Int2IntPooledAVLTreeMap c;
+		try {
+			c = (Int2IntPooledAVLTreeMap)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.keys = null;
+		c.values = null;
+		c.entries = null;
+		c.key = key.clone();
+		c.value = value.clone();
+		c.left = left.clone();
+		c.right = right.clone();
+		c.parent = parent.clone();
+		c.height = height.clone();
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (int e = firstNode; e != NIL; e = next(e)) {
+			s.writeInt(key[e]);
+			s.writeInt(value[e]);
+		}
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		allocate(count);
+		for (int i = 0; i < count; i++) {
+			key[i] = s.readInt();
+			value[i] = s.readInt();
+		}
+		build();
+	}
+}
@@ -0,0 +1,1756 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectListIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.AbstractLongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongListIterator;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific AVL tree map maintaining, for each subtree, the sum, the minimum and the maximum of
+ * its values.
+ *
+ * <p>
+ * Besides the standard sorted-map operations, this class makes it possible to compute the
+ * {@linkplain #sum(int, int) sum}, the {@linkplain #min(int, int) minimum} and the
+ * {@linkplain #max(int, int) maximum} of the values associated with keys in a given range in time
+ * proportional to the height of the tree, rather than to the number of keys in the range.
+ * Aggregates are updated incrementally by all modification methods, including
+ * {@link java.util.Map.Entry#setValue(Object) setValue()} on the entries returned by the entry set.
+ *
+ * <p>
+ * Entries keep a pointer to their parent, so this map uses more memory than a
+ * {@link Int2LongRBTreeMap} or a {@link Int2LongAVLTreeMap}.
+ *
+ * <p>
+ * The iterators provided by the views of this class are type-specific
+ * {@linkplain it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. Moreover, the
+ * iterator returned by {@code iterator()} can be safely cast to a type-specific
+ * {@linkplain java.util.ListIterator list iterator}.
+ *
+ */
+public class Int2LongAugmentedTreeMap extends AbstractInt2LongSortedMap implements java.io.Serializable, Cloneable {
+	/** A reference to the root entry. */
+	protected transient Entry tree;
+	/** Number of entries in this map. */
+	protected int count;
+	/** The first key in this map. */
+	protected transient Entry firstEntry;
+	/** The last key in this map. */
+	protected transient Entry lastEntry;
+	/** Cached set of entries. */
+	protected transient ObjectSortedSet<Int2LongMap.Entry> entries;
+	/** Cached set of keys. */
+	protected transient IntSortedSet keys;
+	/** Cached collection of values. */
+	protected transient LongCollection values;
+	/**
+	 * The value of this variable remembers, after a {@code put()} or a {@code remove()}, whether the
+	 * <em>domain</em> of the map has been modified.
+	 */
+	protected transient boolean modified;
+	/** This map's comparator, as provided in the constructor. */
+	protected Comparator<? super Integer> storedComparator;
+	/**
+	 * This map's actual comparator; it may differ from {@link #storedComparator} because it is always a
+	 * type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient IntComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353129L;
+
+	/**
+	 * Creates a new empty tree map.
+	 */
+	public Int2LongAugmentedTreeMap() {
+		tree = null;
+		count = 0;
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = IntComparators.asIntComparator(storedComparator);
+	}
+
+	/**
+	 * Creates a new empty tree map with the given comparator.
+	 *
+	 * @param c a (possibly type-specific) comparator.
+	 */
+	public Int2LongAugmentedTreeMap(final Comparator<? super Integer> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new tree map.
+	 */
+	public Int2LongAugmentedTreeMap(final Map<? extends Integer, ? extends Long> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a {@link SortedMap} to be copied into the new tree map.
+	 */
+	public Int2LongAugmentedTreeMap(final SortedMap<Integer, Long> m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a type-specific map to be copied into the new tree map.
+	 */
+	public Int2LongAugmentedTreeMap(final Int2LongMap m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a type-specific sorted map to be copied into the new tree map.
+	 */
+	public Int2LongAugmentedTreeMap(final Int2LongSortedMap m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays and the given comparator.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @param c a (possibly type-specific) comparator.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Int2LongAugmentedTreeMap(final int[] k, final long v[], final Comparator<? super Integer> c) {
+		this(c);
+		if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+		for (int i = 0; i < k.length; i++) this.put(k[i], v[i]);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Int2LongAugmentedTreeMap(final int[] k, final long v[]) {
+		this(k, v, null);
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by
+	 * all accessors.
+	 *
+	 * Differently from the other tree maps, the tree is not threaded: entries
+	 * keep a pointer to their parent, so that a change of value can be
+	 * propagated towards the root, and the tree is kept balanced using the
+	 * classical AVL rotations. Each entry stores the height of its subtree
+	 * and the sum, minimum and maximum of the values in its subtree.
+	 */
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+
+	final int compare(final int k1, final int k2) {
+		return actualComparator == null ? (Integer.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Returns the entry corresponding to the given key, if it is in the tree; {@code null}, otherwise.
+	 *
+	 * @param k the key to search for.
+	 * @return the corresponding entry, or {@code null} if no entry with the given key exists.
+	 */
+	final Entry findKey(final int k) {
+		Entry e = tree;
+		int cmp;
+		while (e != null && (cmp = compare(k, e.key)) != 0) e = cmp < 0 ? e.left : e.right;
+		return e;
+	}
+
+	/**
+	 * Locates a key.
+	 *
+	 * @param k a key.
+	 * @return the last entry on a search for the given key; this will be the given key, if it present;
+	 *         otherwise, it will be either the smallest greater key or the greatest smaller key.
+	 */
+	final Entry locateKey(final int k) {
+		Entry e = tree, last = tree;
+		int cmp = 0;
+		while (e != null && (cmp = compare(k, e.key)) != 0) {
+			last = e;
+			e = cmp < 0 ? e.left : e.right;
+		}
+		return cmp == 0 ? e : last;
+	}
+
+	/**
+	 * Adds an increment to value currently associated with a key.
+	 *
+	 * <p>
+	 * Note that this method respects the {@linkplain #defaultReturnValue() default return value}
+	 * semantics: when called with a key that does not currently appears in the map, the key will be
+	 * associated with the default return value plus the given increment.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value
+	 *         was present for the given key.
+	 */
+	public long addTo(final int k, final long incr) {
+		final Entry e = add(k, defRetValue + incr);
+		if (modified) return defRetValue;
+		final long oldValue = e.value;
+		e.value += incr;
+		e.updatePath();
+		return oldValue;
+	}
+
+	@Override
+	public long put(final int k, final long v) {
+		final Entry e = add(k, v);
+		if (modified) return defRetValue;
+		final long oldValue = e.value;
+		e.value = v;
+		e.updatePath();
+		return oldValue;
+	}
+
+	/**
+	 * Returns a node with key k in the balanced tree, creating one with the given value if necessary.
+	 *
+	 * <p>
+	 * After execution of this method, {@link #modified} is true iff a new entry has been inserted.
+	 *
+	 * @param k the key.
+	 * @param v the value of the new entry, if a new entry must be created.
+	 * @return a node with key k. If a node with key k already exists, then that node is returned
+	 *         (untouched), otherwise a new node with value v is created ensuring that the tree is
+	 *         balanced after creation of the node.
+	 */
+	private Entry add(final int k, final long v) {
+		modified = false;
+		if (tree == null) {
+			count++;
+			modified = true;
+			return tree = lastEntry = firstEntry = new Entry(k, v);
+		}
+		Entry p = tree, q = null;
+		int cmp = 0;
+		while (p != null) {
+			if ((cmp = compare(k, p.key)) == 0) return p;
+			q = p;
+			p = cmp < 0 ? p.left : p.right;
+		}
+		final Entry e = new Entry(k, v);
+		e.parent = q;
+		if (cmp < 0) {
+			q.left = e;
+			if (q == firstEntry) firstEntry = e;
+		} else {
+			q.right = e;
+			if (q == lastEntry) lastEntry = e;
+		}
+		rebalance(q);
+		modified = true;
+		count++;
+		return e;
+	}
+
+	/* After execution of this method, {@link #modified} is true iff an entry
+	has been deleted. */
+	@Override
+	public long remove(final int k) {
+		modified = false;
+		final Entry p = findKey(k);
+		if (p == null) return defRetValue;
+		if (p == firstEntry) firstEntry = p.next();
+		if (p == lastEntry) lastEntry = p.prev();
+		final Entry fix;
+		if (p.left == null) {
+			fix = p.parent;
+			transplant(p, p.right);
+		} else if (p.right == null) {
+			fix = p.parent;
+			transplant(p, p.left);
+		} else {
+			// We replace p with its successor, so that entries are never moved between nodes.
+			Entry s = p.right;
+			while (s.left != null) s = s.left;
+			if (s.parent != p) {
+				fix = s.parent;
+				transplant(s, s.right);
+				s.right = p.right;
+				s.right.parent = s;
+			} else fix = s;
+			transplant(p, s);
+			s.left = p.left;
+			s.left.parent = s;
+		}
+		rebalance(fix);
+		p.left = p.right = p.parent = null;
+		modified = true;
+		count--;
+		return p.value;
+	}
+
+	/**
+	 * Replaces, in the parent of a given entry, the given entry with another one.
+	 *
+	 * @param u an entry.
+	 * @param v the entry replacing {@code u} (possibly {@code null}).
+	 */
+	private void transplant(final Entry u, final Entry v) {
+		final Entry p = u.parent;
+		if (p == null) tree = v;
+		else if (p.left == u) p.left = v;
+		else p.right = v;
+		if (v != null) v.parent = p;
+	}
+
+	/**
+	 * Rotates right the subtree rooted at the given entry.
+	 *
+	 * @param x the root of a subtree with a nonempty left subtree.
+	 * @return the new root of the subtree.
+	 */
+	private Entry rotateRight(final Entry x) {
+		final Entry y = x.left;
+		x.left = y.right;
+		if (y.right != null) y.right.parent = x;
+		transplant(x, y);
+		y.right = x;
+		x.parent = y;
+		x.update();
+		y.update();
+		return y;
+	}
+
+	/**
+	 * Rotates left the subtree rooted at the given entry.
+	 *
+	 * @param x the root of a subtree with a nonempty right subtree.
+	 * @return the new root of the subtree.
+	 */
+	private Entry rotateLeft(final Entry x) {
+		final Entry y = x.right;
+		x.right = y.left;
+		if (y.left != null) y.left.parent = x;
+		transplant(x, y);
+		y.left = x;
+		x.parent = y;
+		x.update();
+		y.update();
+		return y;
+	}
+
+	/**
+	 * Updates heights and aggregates from the given entry up to the root, restoring the AVL property
+	 * along the way.
+	 *
+	 * @param e an entry (possibly {@code null}).
+	 */
+	private void rebalance(Entry e) {
+		while (e != null) {
+			final Entry parent = e.parent;
+			e.update();
+			final int balance = Entry.height(e.left) - Entry.height(e.right);
+			if (balance > 1) {
+				if (Entry.height(e.left.left) < Entry.height(e.left.right)) rotateLeft(e.left);
+				rotateRight(e);
+			} else if (balance < -1) {
+				if (Entry.height(e.right.right) < Entry.height(e.right.left)) rotateRight(e.right);
+				rotateLeft(e);
+			}
+			e = parent;
+		}
+	}
+
+	@Override
+	public boolean containsValue(final long v) {
+		final ValueIterator i = new ValueIterator();
+		long ev;
+		int j = count;
+		while (j-- != 0) {
+			ev = i.nextLong();
+			if (((ev) == (v))) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		count = 0;
+		tree = null;
+		entries = null;
+		values = null;
+		keys = null;
+		firstEntry = lastEntry = null;
+	}
+
+	/**
+	 * Returns the sum of all values in this map.
+	 *
+	 * <p>
+	 * The sum is computed using standard two's complement arithmetic, so it silently wraps around in
+	 * case of overflow.
+	 *
+	 * @return the sum of all values in this map (0 if the map is empty).
+	 */
+	public long sum() {
+		return tree == null ? 0 : tree.sum;
+	}
+
+	/**
+	 * Returns the minimum value in this map.
+	 *
+	 * @return the minimum value in this map ({@link Long#MAX_VALUE} if the map is empty).
+	 */
+	public long min() {
+		return tree == null ? Long.MAX_VALUE : tree.min;
+	}
+
+	/**
+	 * Returns the maximum value in this map.
+	 *
+	 * @return the maximum value in this map ({@link Long#MIN_VALUE} if the map is empty).
+	 */
+	public long max() {
+		return tree == null ? Long.MIN_VALUE : tree.max;
+	}
+
+	/**
+	 * Returns the entry at which the search paths towards the two ends of a range split.
+	 *
+	 * @param from the lower bound of the range (inclusive).
+	 * @param to the upper bound of the range (exclusive).
+	 * @return the highest entry whose key is in the range, or {@code null} if the range is empty.
+	 */
+	private Entry split(final int from, final int to) {
+		if (compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+		Entry e = tree;
+		while (e != null) {
+			if (compare(e.key, from) < 0) e = e.right;
+			else if (compare(e.key, to) >= 0) e = e.left;
+			else break;
+		}
+		return e;
+	}
+
+	/**
+	 * Returns the sum of the values associated with keys in a given range.
+	 *
+	 * <p>
+	 * This method requires time proportional to the height of the tree, independently of the number
+	 * of keys in the range. The sum is computed using standard two's complement arithmetic, so it
+	 * silently wraps around in case of overflow.
+	 *
+	 * @param from the lower bound of the range (inclusive).
+	 * @param to the upper bound of the range (exclusive).
+	 * @return the sum of the values associated with keys in the given range (0 if there are no such
+	 *         keys).
+	 * @throws IllegalArgumentException if {@code from} is larger than {@code to}.
+	 */
+	public long sum(final int from, final int to) {
+		final Entry e = split(from, to);
+		if (e == null) return 0;
+		long s = e.value;
+		for (Entry f = e.left; f != null;) {
+			if (compare(f.key, from) >= 0) {
+				s += f.value;
+				if (f.right != null) s += f.right.sum;
+				f = f.left;
+			} else f = f.right;
+		}
+		for (Entry f = e.right; f != null;) {
+			if (compare(f.key, to) < 0) {
+				s += f.value;
+				if (f.left != null) s += f.left.sum;
+				f = f.right;
+			} else f = f.left;
+		}
+		return s;
+	}
+
+	/**
+	 * Returns the minimum value associated with a key in a given range.
+	 *
+	 * <p>
+	 * This method requires time proportional to the height of the tree, independently of the number
+	 * of keys in the range.
+	 *
+	 * @param from the lower bound of the range (inclusive).
+	 * @param to the upper bound of the range (exclusive).
+	 * @return the minimum value associated with a key in the given range ({@link Long#MAX_VALUE} if
+	 *         there are no such keys).
+	 * @throws IllegalArgumentException if {@code from} is larger than {@code to}.
+	 */
+	public long min(final int from, final int to) {
+		final Entry e = split(from, to);
+		if (e == null) return Long.MAX_VALUE;
+		long m = e.value;
+		for (Entry f = e.left; f != null;) {
+			if (compare(f.key, from) >= 0) {
+				m = Math.min(m, f.value);
+				if (f.right != null) m = Math.min(m, f.right.min);
+				f = f.left;
+			} else f = f.right;
+		}
+		for (Entry f = e.right; f != null;) {
+			if (compare(f.key, to) < 0) {
+				m = Math.min(m, f.value);
+				if (f.left != null) m = Math.min(m, f.left.min);
+				f = f.right;
+			} else f = f.left;
+		}
+		return m;
+	}
+
+	/**
+	 * Returns the maximum value associated with a key in a given range.
+	 *
+	 * <p>
+	 * This method requires time proportional to the height of the tree, independently of the number
+	 * of keys in the range.
+	 *
+	 * @param from the lower bound of the range (inclusive).
+	 * @param to the upper bound of the range (exclusive).
+	 * @return the maximum value associated with a key in the given range ({@link Long#MIN_VALUE} if
+	 *         there are no such keys).
+	 * @throws IllegalArgumentException if {@code from} is larger than {@code to}.
+	 */
+	public long max(final int from, final int to) {
+		final Entry e = split(from, to);
+		if (e == null) return Long.MIN_VALUE;
+		long m = e.value;
+		for (Entry f = e.left; f != null;) {
+			if (compare(f.key, from) >= 0) {
+				m = Math.max(m, f.value);
+				if (f.right != null) m = Math.max(m, f.right.max);
+				f = f.left;
+			} else f = f.right;
+		}
+		for (Entry f = e.right; f != null;) {
+			if (compare(f.key, to) < 0) {
+				m = Math.max(m, f.value);
+				if (f.left != null) m = Math.max(m, f.left.max);
+				f = f.right;
+			} else f = f.left;
+		}
+		return m;
+	}
+
+	/**
+	 * This class represent an entry in a tree map.
+	 *
+	 * <p>
+	 * Besides the pointers to its subtrees and to its parent, each entry stores the height of its
+	 * subtree and the sum, minimum and maximum of the values in its subtree.
+	 *
+	 * <p>
+	 * Note that since the class is recursive, it can be considered equivalently a tree.
+	 */
+	private static final class Entry extends AbstractInt2LongMap.BasicEntry implements Cloneable {
+		/** The pointers to the left and right subtrees, and to the parent. */
+		Entry left, right, parent;
+		/** The height of the subtree rooted at this entry. */
+		int height;
+		/** The sum of the values in the subtree rooted at this entry. */
+		long sum;
+		/** The minimum value in the subtree rooted at this entry. */
+		long min;
+		/** The maximum value in the subtree rooted at this entry. */
+		long max;
+
+		Entry() {
+			super((0), (0));
+		}
+
+		/**
+		 * Creates a new entry with the given key and value.
+		 *
+		 * @param k a key.
+		 * @param v a value.
+		 */
+		Entry(final int k, final long v) {
+			super(k, v);
+			height = 1;
+			sum = min = max = v;
+		}
+
+		/**
+		 * Returns the height of a possibly empty subtree.
+		 *
+		 * @param e a subtree, or {@code null}.
+		 * @return the height of {@code e} (0 if {@code e} is {@code null}).
+		 */
+		static int height(final Entry e) {
+			return e == null ? 0 : e.height;
+		}
+
+		/** Recomputes height and aggregates of this entry from those of its subtrees. */
+		void update() {
+			long s = value, m = value, M = value;
+			int h = 0;
+			if (left != null) {
+				h = left.height;
+				s += left.sum;
+				m = Math.min(m, left.min);
+				M = Math.max(M, left.max);
+			}
+			if (right != null) {
+				h = Math.max(h, right.height);
+				s += right.sum;
+				m = Math.min(m, right.min);
+				M = Math.max(M, right.max);
+			}
+			height = h + 1;
+			sum = s;
+			min = m;
+			max = M;
+		}
+
+		/** Recomputes the aggregates of this entry and of all its ancestors. */
+		void updatePath() {
+			for (Entry e = this; e != null; e = e.parent) e.update();
+		}
+
+		/**
+		 * Computes the next entry in the set order.
+		 *
+		 * @return the next entry ({@code null}) if this is the last entry).
+		 */
+		Entry next() {
+			Entry e = right;
+			if (e != null) {
+				while (e.left != null) e = e.left;
+				return e;
+			}
+			Entry c = this;
+			e = parent;
+			while (e != null && c == e.right) {
+				c = e;
+				e = e.parent;
+			}
+			return e;
+		}
+
+		/**
+		 * Computes the previous entry in the set order.
+		 *
+		 * @return the previous entry ({@code null}) if this is the first entry).
+		 */
+		Entry prev() {
+			Entry e = left;
+			if (e != null) {
+				while (e.right != null) e = e.right;
+				return e;
+			}
+			Entry c = this;
+			e = parent;
+			while (e != null && c == e.left) {
+				c = e;
+				e = e.parent;
+			}
+			return e;
+		}
+
+		@Override
+		public long setValue(final long value) {
+			final long oldValue = this.value;
+			this.value = value;
+			updatePath();
+			return oldValue;
+		}
+
+		@Override
+
+		public Entry clone() {
+			Entry c;
+			try {
+				c = (Entry)super.clone();
+			} catch (CloneNotSupportedException cantHappen) {
+				throw new InternalError();
+			}
+			c.key = key;
+			c.value = value;
+			c.height = height;
+			c.sum = sum;
+			c.min = min;
+			c.max = max;
+			c.left = c.right = c.parent = null;
+			return c;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean equals(final Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			Map.Entry<Integer, Long> e = (Map.Entry<Integer, Long>)o;
+			return ((key) == ((e.getKey()).intValue())) && ((value) == ((e.getValue()).longValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			return (key) ^ it.unimi.dsi.fastutil.HashCommon.long2int(value);
+		}
+
+		@Override
+		public String toString() {
+			return key + "=>" + value;
+		}
+	}
+
+	@Override
+	public boolean containsKey(final int k) {
+
+		return findKey(k) != null;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public long get(final int k) {
+		final Entry e = findKey(k);
+		return e == null ? defRetValue : e.value;
+	}
+
+	@Override
+	public int firstIntKey() {
+		if (tree == null) throw new NoSuchElementException();
+		return firstEntry.key;
+	}
+
+	@Override
+	public int lastIntKey() {
+		if (tree == null) throw new NoSuchElementException();
+		return lastEntry.key;
+	}
+
+	@Override
+	public Int2LongMap.Entry floorEntry(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) > 0) e = e.prev();
+		return e;
+	}
+
+	@Override
+	public Int2LongMap.Entry ceilingEntry(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) < 0) e = e.next();
+		return e;
+	}
+
+	@Override
+	public Int2LongMap.Entry higherEntry(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) <= 0) e = e.next();
+		return e;
+	}
+
+	@Override
+	public Int2LongMap.Entry lowerEntry(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) >= 0) e = e.prev();
+		return e;
+	}
+
+	@Override
+	public int floorIntKey(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) > 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public int ceilingIntKey(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) < 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public int higherIntKey(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) <= 0) e = e.next();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public int lowerIntKey(final int k) {
+		Entry e = locateKey(k);
+		if (e != null && compare(e.key, k) >= 0) e = e.prev();
+		if (e == null) throw new NoSuchElementException();
+		return e.key;
+	}
+
+	@Override
+	public Int2LongMap.Entry pollFirstEntry() {
+		if (tree == null) return null;
+		final Entry e = firstEntry;
+		remove(e.key);
+		return e;
+	}
+
+	@Override
+	public Int2LongMap.Entry pollLastEntry() {
+		if (tree == null) return null;
+		final Entry e = lastEntry;
+		remove(e.key);
+		return e;
+	}
+
+	/**
+	 * An abstract iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on a tree.
+	 */
+	private class TreeIterator {
+		/**
+		 * The entry that will be returned by the next call to {@link java.util.ListIterator#previous()} (or
+		 * {@code null} if no previous entry exists).
+		 */
+		Entry prev;
+		/**
+		 * The entry that will be returned by the next call to {@link java.util.ListIterator#next()} (or
+		 * {@code null} if no next entry exists).
+		 */
+		Entry next;
+		/**
+		 * The last entry that was returned (or {@code null} if we did not iterate or used
+		 * {@link #remove()}).
+		 */
+		Entry curr;
+		/**
+		 * The current index (in the sense of a {@link java.util.ListIterator}). Note that this value is not
+		 * meaningful when this {@link TreeIterator} has been created using the nonempty constructor.
+		 */
+		int index = 0;
+
+		TreeIterator() {
+			next = firstEntry;
+		}
+
+		TreeIterator(final int k) {
+			if ((next = locateKey(k)) != null) {
+				if (compare(next.key, k) <= 0) {
+					prev = next;
+					next = next.next();
+				} else prev = next.prev();
+			}
+		}
+
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		public boolean hasPrevious() {
+			return prev != null;
+		}
+
+		void updateNext() {
+			next = next.next();
+		}
+
+		Entry nextEntry() {
+			if (!hasNext()) throw new NoSuchElementException();
+			curr = prev = next;
+			index++;
+			updateNext();
+			return curr;
+		}
+
+		void updatePrevious() {
+			prev = prev.prev();
+		}
+
+		Entry previousEntry() {
+			if (!hasPrevious()) throw new NoSuchElementException();
+			curr = next = prev;
+			index--;
+			updatePrevious();
+			return curr;
+		}
+
+		public int nextIndex() {
+			return index;
+		}
+
+		public int previousIndex() {
+			return index - 1;
+		}
+
+		public void remove() {
+			if (curr == null) throw new IllegalStateException();
+			/* If the last operation was a next(), we are removing an entry that preceeds
+				   the current index, and thus we must decrement it. */
+			if (curr == prev) index--;
+			next = prev = curr;
+			updatePrevious();
+			updateNext();
+			Int2LongAugmentedTreeMap.this.remove(curr.key);
+			curr = null;
+		}
+
+		public int skip(final int n) {
+			int i = n;
+			while (i-- != 0 && hasNext()) nextEntry();
+			return n - i - 1;
+		}
+
+		public int back(final int n) {
+			int i = n;
+			while (i-- != 0 && hasPrevious()) previousEntry();
+			return n - i - 1;
+		}
+	}
+
+	/**
+	 * An iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on a tree.
+	 */
+	private class EntryIterator extends TreeIterator implements ObjectListIterator<Int2LongMap.Entry> {
+		EntryIterator() {
+		}
+
+		EntryIterator(final int k) {
+			super(k);
+		}
+
+		@Override
+		public Int2LongMap.Entry next() {
+			return nextEntry();
+		}
+
+		@Override
+		public Int2LongMap.Entry previous() {
+			return previousEntry();
+		}
+	}
+
+	@Override
+
+	public ObjectSortedSet<Int2LongMap.Entry> int2LongEntrySet() {
+		if (entries == null) entries = new AbstractObjectSortedSet<Int2LongMap.Entry>() {
+			final Comparator<? super Int2LongMap.Entry> comparator = (Int2LongAugmentedTreeMap.this.actualComparator == null ? (Comparator<Int2LongMap.Entry>)(x, y) -> (Integer.compare((x.getIntKey()), (y.getIntKey()))) : (Comparator<Int2LongMap.Entry>)(x, y) -> Int2LongAugmentedTreeMap.this.actualComparator.compare(x.getIntKey(), y.getIntKey()));
+
+			@Override
+			public Comparator<? super Int2LongMap.Entry> comparator() {
+				return comparator;
+			}
+
+			@Override
+			public ObjectBidirectionalIterator<Int2LongMap.Entry> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public ObjectBidirectionalIterator<Int2LongMap.Entry> iterator(final Int2LongMap.Entry from) {
+				return new EntryIterator(from.getIntKey());
+			}
+
+			@Override
+
+			public boolean contains(final Object o) {
+				if (o == null || !(o instanceof Map.Entry)) return false;
+				final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+				if (e.getKey() == null) return false;
+				if (!(e.getKey() instanceof Integer)) return false;
+				if (e.getValue() == null || !(e.getValue() instanceof Long)) return false;
+				final Entry f = findKey(((Integer)(e.getKey())).intValue());
+				return e.equals(f);
+			}
+
+			@Override
+
+			public boolean remove(final Object o) {
+				if (!(o instanceof Map.Entry)) return false;
+				final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+				if (e.getKey() == null) return false;
+				if (!(e.getKey() instanceof Integer)) return false;
+				if (e.getValue() == null || !(e.getValue() instanceof Long)) return false;
+				final Entry f = findKey(((Integer)(e.getKey())).intValue());
+				if (f == null || !((f.getLongValue()) == (((Long)(e.getValue())).longValue()))) return false;
+				Int2LongAugmentedTreeMap.this.remove(f.key);
+				return true;
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				Int2LongAugmentedTreeMap.this.clear();
+			}
+
+			@Override
+			public Int2LongMap.Entry first() {
+				return firstEntry;
+			}
+
+			@Override
+			public Int2LongMap.Entry last() {
+				return lastEntry;
+			}
+
+			@Override
+			public ObjectSortedSet<Int2LongMap.Entry> subSet(Int2LongMap.Entry from, Int2LongMap.Entry to) {
+				return subMap(from.getIntKey(), to.getIntKey()).int2LongEntrySet();
+			}
+
+			@Override
+			public ObjectSortedSet<Int2LongMap.Entry> headSet(Int2LongMap.Entry to) {
+				return headMap(to.getIntKey()).int2LongEntrySet();
+			}
+
+			@Override
+			public ObjectSortedSet<Int2LongMap.Entry> tailSet(Int2LongMap.Entry from) {
+				return tailMap(from.getIntKey()).int2LongEntrySet();
+			}
+		};
+		return entries;
+	}
+
+	/**
+	 * An iterator on the whole range of keys.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the keys of a tree. We simply override the
+	 * {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+	 * possibly their type-specific counterparts) so that they return keys instead of entries.
+	 */
+	private final class KeyIterator extends TreeIterator implements IntListIterator {
+		public KeyIterator() {
+		}
+
+		public KeyIterator(final int k) {
+			super(k);
+		}
+
+		@Override
+		public int nextInt() {
+			return nextEntry().key;
+		}
+
+		@Override
+		public int previousInt() {
+			return previousEntry().key;
+		}
+	};
+
+	/** A keyset implementation using a more direct implementation for iterators. */
+	private class KeySet extends AbstractInt2LongSortedMap.KeySet {
+		@Override
+		public IntBidirectionalIterator iterator() {
+			return new KeyIterator();
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator(final int from) {
+			return new KeyIterator(from);
+		}
+	}
+
+	/**
+	 * Returns a type-specific sorted set view of the keys contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#keySet()}, you can safely cast the set
+	 * returned by this call to a type-specific sorted set interface.
+	 *
+	 * @return a type-specific sorted set view of the keys contained in this map.
+	 */
+	@Override
+	public IntSortedSet keySet() {
+		if (keys == null) keys = new KeySet();
+		return keys;
+	}
+
+	/**
+	 * An iterator on the whole range of values.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the values of a tree. We simply override
+	 * the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+	 * possibly their type-specific counterparts) so that they return values instead of entries.
+	 */
+	private final class ValueIterator extends TreeIterator implements LongListIterator {
+		@Override
+		public long nextLong() {
+			return nextEntry().value;
+		}
+
+		@Override
+		public long previousLong() {
+			return previousEntry().value;
+		}
+	};
+
+	/**
+	 * Returns a type-specific collection view of the values contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#values()}, you can safely cast the
+	 * collection returned by this call to a type-specific collection interface.
+	 *
+	 * @return a type-specific collection view of the values contained in this map.
+	 */
+	@Override
+	public LongCollection values() {
+		if (values == null) values = new AbstractLongCollection() {
+			@Override
+			public LongIterator iterator() {
+				return new ValueIterator();
+			}
+
+			@Override
+			public boolean contains(final long k) {
+				return containsValue(k);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				Int2LongAugmentedTreeMap.this.clear();
+			}
+		};
+		return values;
+	}
+
+	@Override
+	public IntComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public Int2LongSortedMap headMap(int to) {
+		return new Submap((0), true, to, false);
+	}
+
+	@Override
+	public Int2LongSortedMap tailMap(int from) {
+		return new Submap(from, false, (0), true);
+	}
+
+	@Override
+	public Int2LongSortedMap subMap(int from, int to) {
+		return new Submap(from, false, to, false);
+	}
+
+	/**
+	 * A submap with given range.
+	 *
+	 * <p>
+	 * This class represents a submap. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the submap is a view on the map, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly.
+	 */
+	private final class Submap extends AbstractInt2LongSortedMap implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the submap range, unless {@link #bottom} is true. */
+		int from;
+		/** The end of the submap range, unless {@link #top} is true. */
+		int to;
+		/** If true, the submap range starts from -&infin;. */
+		boolean bottom;
+		/** If true, the submap range goes to &infin;. */
+		boolean top;
+		/** Cached set of entries. */
+		protected transient ObjectSortedSet<Int2LongMap.Entry> entries;
+		/** Cached set of keys. */
+		protected transient IntSortedSet keys;
+		/** Cached collection of values. */
+		protected transient LongCollection values;
+
+		/**
+		 * Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Submap(final int from, final boolean bottom, final int to, final boolean top) {
+			if (!bottom && !top && Int2LongAugmentedTreeMap.this.compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+			this.defRetValue = Int2LongAugmentedTreeMap.this.defRetValue;
+		}
+
+		@Override
+		public void clear() {
+			final SubmapIterator i = new SubmapIterator();
+			while (i.hasNext()) {
+				i.nextEntry();
+				i.remove();
+			}
+		}
+
+		/**
+		 * Checks whether a key is in the submap range.
+		 * 
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+		final boolean in(final int k) {
+			return (bottom || Int2LongAugmentedTreeMap.this.compare(k, from) >= 0) && (top || Int2LongAugmentedTreeMap.this.compare(k, to) < 0);
+		}
+
+		@Override
+		public ObjectSortedSet<Int2LongMap.Entry> int2LongEntrySet() {
+			if (entries == null) entries = new AbstractObjectSortedSet<Int2LongMap.Entry>() {
+				@Override
+				public ObjectBidirectionalIterator<Int2LongMap.Entry> iterator() {
+					return new SubmapEntryIterator();
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Int2LongMap.Entry> iterator(final Int2LongMap.Entry from) {
+					return new SubmapEntryIterator(from.getIntKey());
+				}
+
+				@Override
+				public Comparator<? super Int2LongMap.Entry> comparator() {
+					return Int2LongAugmentedTreeMap.this.int2LongEntrySet().comparator();
+				}
+
+				@Override
+
+				public boolean contains(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					if (e.getValue() == null || !(e.getValue() instanceof Long)) return false;
+					final Int2LongAugmentedTreeMap.Entry f = findKey(((Integer)(e.getKey())).intValue());
+					return f != null && in(f.key) && e.equals(f);
+				}
+
+				@Override
+
+				public boolean remove(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					if (e.getValue() == null || !(e.getValue() instanceof Long)) return false;
+					final Int2LongAugmentedTreeMap.Entry f = findKey(((Integer)(e.getKey())).intValue());
+					if (f != null && in(f.key)) Submap.this.remove(f.key);
+					return f != null;
+				}
+
+				@Override
+				public int size() {
+					int c = 0;
+					for (Iterator<?> i = iterator(); i.hasNext(); i.next()) c++;
+					return c;
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return !new SubmapIterator().hasNext();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+
+				@Override
+				public Int2LongMap.Entry first() {
+					return firstEntry();
+				}
+
+				@Override
+				public Int2LongMap.Entry last() {
+					return lastEntry();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2LongMap.Entry> subSet(Int2LongMap.Entry from, Int2LongMap.Entry to) {
+					return subMap(from.getIntKey(), to.getIntKey()).int2LongEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2LongMap.Entry> headSet(Int2LongMap.Entry to) {
+					return headMap(to.getIntKey()).int2LongEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2LongMap.Entry> tailSet(Int2LongMap.Entry from) {
+					return tailMap(from.getIntKey()).int2LongEntrySet();
+				}
+			};
+			return entries;
+		}
+
+		private class KeySet extends AbstractInt2LongSortedMap.KeySet {
+			@Override
+			public IntBidirectionalIterator iterator() {
+				return new SubmapKeyIterator();
+			}
+
+			@Override
+			public IntBidirectionalIterator iterator(final int from) {
+				return new SubmapKeyIterator(from);
+			}
+		}
+
+		@Override
+		public IntSortedSet keySet() {
+			if (keys == null) keys = new KeySet();
+			return keys;
+		}
+
+		@Override
+		public LongCollection values() {
+			if (values == null) values = new AbstractLongCollection() {
+				@Override
+				public LongIterator iterator() {
+					return new SubmapValueIterator();
+				}
+
+				@Override
+				public boolean contains(final long k) {
+					return containsValue(k);
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+			};
+			return values;
+		}
+
+		@Override
+
+		public boolean containsKey(final int k) {
+
+			return in(k) && Int2LongAugmentedTreeMap.this.containsKey(k);
+		}
+
+		@Override
+		public boolean containsValue(final long v) {
+			final SubmapIterator i = new SubmapIterator();
+			long ev;
+			while (i.hasNext()) {
+				ev = i.nextEntry().value;
+				if (((ev) == (v))) return true;
+			}
+			return false;
+		}
+
+		@Override
+
+		public long get(final int k) {
+			final Int2LongAugmentedTreeMap.Entry e;
+			final int kk = k;
+			return in(kk) && (e = findKey(kk)) != null ? e.value : this.defRetValue;
+		}
+
+		@Override
+		public long put(final int k, final long v) {
+			modified = false;
+			if (!in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			final long oldValue = Int2LongAugmentedTreeMap.this.put(k, v);
+			return modified ? this.defRetValue : oldValue;
+		}
+
+		@Override
+
+		public long remove(final int k) {
+			modified = false;
+			if (!in(k)) return this.defRetValue;
+			final long oldValue = Int2LongAugmentedTreeMap.this.remove(k);
+			return modified ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public int size() {
+			final SubmapIterator i = new SubmapIterator();
+			int n = 0;
+			while (i.hasNext()) {
+				n++;
+				i.nextEntry();
+			}
+			return n;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !new SubmapIterator().hasNext();
+		}
+
+		@Override
+		public IntComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public Int2LongSortedMap headMap(final int to) {
+			if (top) return new Submap(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Submap(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public Int2LongSortedMap tailMap(final int from) {
+			if (bottom) return new Submap(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Submap(from, false, to, top) : this;
+		}
+
+		@Override
+		public Int2LongSortedMap subMap(int from, int to) {
+			if (top && bottom) return new Submap(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Submap(from, false, to, false);
+		}
+
+		/**
+		 * Locates the first entry.
+		 *
+		 * @return the first entry of this submap, or {@code null} if the submap is empty.
+		 */
+		public Int2LongAugmentedTreeMap.Entry firstEntry() {
+			if (tree == null) return null;
+			// If this submap goes to -infinity, we return the main map first entry; otherwise, we locate the
+			// start of the map.
+			Int2LongAugmentedTreeMap.Entry e;
+			if (bottom) e = firstEntry;
+			else {
+				e = locateKey(from);
+				// If we find either the start or something greater we're OK.
+				if (compare(e.key, from) < 0) e = e.next();
+			}
+			// Finally, if this submap doesn't go to infinity, we check that the resulting key isn't greater
+			// than the end.
+			if (e == null || !top && compare(e.key, to) >= 0) return null;
+			return e;
+		}
+
+		/**
+		 * Locates the last entry.
+		 *
+		 * @return the last entry of this submap, or {@code null} if the submap is empty.
+		 */
+		public Int2LongAugmentedTreeMap.Entry lastEntry() {
+			if (tree == null) return null;
+			// If this submap goes to infinity, we return the main map last entry; otherwise, we locate the end
+			// of the map.
+			Int2LongAugmentedTreeMap.Entry e;
+			if (top) e = lastEntry;
+			else {
+				e = locateKey(to);
+				// If we find something smaller than the end we're OK.
+				if (compare(e.key, to) >= 0) e = e.prev();
+			}
+			// Finally, if this submap doesn't go to -infinity, we check that the resulting key isn't smaller
+			// than the start.
+			if (e == null || !bottom && compare(e.key, from) < 0) return null;
+			return e;
+		}
+
+		@Override
+		public int firstIntKey() {
+			Int2LongAugmentedTreeMap.Entry e = firstEntry();
+			if (e == null) throw new NoSuchElementException();
+			return e.key;
+		}
+
+		@Override
+		public int lastIntKey() {
+			Int2LongAugmentedTreeMap.Entry e = lastEntry();
+			if (e == null) throw new NoSuchElementException();
+			return e.key;
+		}
+
+		/**
+		 * An iterator for subranges.
+		 *
+		 * <p>
+		 * This class inherits from {@link TreeIterator}, but overrides the methods that update the pointer
+		 * after a {@link java.util.ListIterator#next()} or {@link java.util.ListIterator#previous()}. If we
+		 * would move out of the range of the submap we just overwrite the next or previous entry with
+		 * {@code null}.
+		 */
+		private class SubmapIterator extends TreeIterator {
+			SubmapIterator() {
+				next = firstEntry();
+			}
+
+			SubmapIterator(final int k) {
+				this();
+				if (next != null) {
+					if (!bottom && compare(k, next.key) < 0) prev = null;
+					else if (!top && compare(k, (prev = lastEntry()).key) >= 0) next = null;
+					else {
+						next = locateKey(k);
+						if (compare(next.key, k) <= 0) {
+							prev = next;
+							next = next.next();
+						} else prev = next.prev();
+					}
+				}
+			}
+
+			@Override
+			void updatePrevious() {
+				prev = prev.prev();
+				if (!bottom && prev != null && Int2LongAugmentedTreeMap.this.compare(prev.key, from) < 0) prev = null;
+			}
+
+			@Override
+			void updateNext() {
+				next = next.next();
+				if (!top && next != null && Int2LongAugmentedTreeMap.this.compare(next.key, to) >= 0) next = null;
+			}
+		}
+
+		private class SubmapEntryIterator extends SubmapIterator implements ObjectListIterator<Int2LongMap.Entry> {
+			SubmapEntryIterator() {
+			}
+
+			SubmapEntryIterator(final int k) {
+				super(k);
+			}
+
+			@Override
+			public Int2LongMap.Entry next() {
+				return nextEntry();
+			}
+
+			@Override
+			public Int2LongMap.Entry previous() {
+				return previousEntry();
+			}
+		}
+
+		/**
+		 * An iterator on a subrange of keys.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on a subrange of the keys of a tree. We simply
+		 * override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()}
+		 * methods (and possibly their type-specific counterparts) so that they return keys instead of
+		 * entries.
+		 */
+		private final class SubmapKeyIterator extends SubmapIterator implements IntListIterator {
+			public SubmapKeyIterator() {
+				super();
+			}
+
+			public SubmapKeyIterator(int from) {
+				super(from);
+			}
+
+			@Override
+			public int nextInt() {
+				return nextEntry().key;
+			}
+
+			@Override
+			public int previousInt() {
+				return previousEntry().key;
+			}
+		};
+
+		/**
+		 * An iterator on a subrange of values.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on the values of a subrange of the keys of a
+		 * tree. We simply override the
+		 * {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods (and
+		 * possibly their type-specific counterparts) so that they return values instead of entries.
+		 */
+		private final class SubmapValueIterator extends SubmapIterator implements LongListIterator {
+			@Override
+			public long nextLong() {
+				return nextEntry().value;
+			}
+
+			@Override
+			public long previousLong() {
+				return previousEntry().value;
+			}
+		};
+	}
+
+	/**
+	 * Returns a deep copy of this tree map.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this tree map; the data stored in the set, however, is not
+	 * cloned. Note that this makes a difference only for object keys.
+	 *
+	 * @return a deep copy of this tree map.
+	 */
+	@Override
+
+	public Int2LongAugmentedTreeMap clone() {
+		Int2LongAugmentedTreeMap c;
+		try {
+			c = (Int2LongAugmentedTreeMap)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.keys = null;
+		c.values = null;
+		c.entries = null;
+		c.tree = c.firstEntry = c.lastEntry = null;
+		if (count != 0) {
+			c.tree = copy(tree, null);
+			Entry e = c.tree;
+			while (e.left != null) e = e.left;
+			c.firstEntry = e;
+			e = c.tree;
+			while (e.right != null) e = e.right;
+			c.lastEntry = e;
+		}
+		return c;
+	}
+
+	/**
+	 * Returns a deep copy of a subtree.
+	 *
+	 * @param e the root of a nonempty subtree.
+	 * @param parent the parent of the copy.
+	 * @return a copy of the subtree rooted at {@code e}.
+	 */
+	private static Entry copy(final Entry e, final Entry parent) {
+		final Entry c = e.clone();
+		c.parent = parent;
+		if (e.left != null) c.left = copy(e.left, c);
+		if (e.right != null) c.right = copy(e.right, c);
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		int n = count;
+		EntryIterator i = new EntryIterator();
+		Entry e;
+		s.defaultWriteObject();
+		while (n-- != 0) {
+			e = i.nextEntry();
+			s.writeInt(e.key);
+			s.writeLong(e.value);
+		}
+	}
+
+	/**
+	 * Reads the given number of entries from the input stream, returning the corresponding tree.
+	 *
+	 * @param s the input stream.
+	 * @param n the (positive) number of entries to read.
+	 * @param parent the parent of the tree.
+	 */
+
+	private Entry readTree(final java.io.ObjectInputStream s, final int n, final Entry parent) throws java.io.IOException, ClassNotFoundException {
+		// The right subtree is the largest one.
+		final int rightN = n / 2, leftN = n - rightN - 1;
+		final Entry top = new Entry();
+		top.parent = parent;
+		if (leftN != 0) top.left = readTree(s, leftN, top);
+		top.key = s.readInt();
+		top.value = s.readLong();
+		if (rightN != 0) top.right = readTree(s, rightN, top);
+		top.update();
+		return top;
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		if (count != 0) {
+			tree = readTree(s, count, null);
+			Entry e;
+			e = tree;
+			while (e.left != null) e = e.left;
+			firstEntry = e;
+			e = tree;
+			while (e.right != null) e = e.right;
+			lastEntry = e;
+		}
+	}
+}
@@ -0,0 +1,1439 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A type-specific adaptive radix tree map.
+ *
+ * <p>
+ * This class implements the adaptive radix tree (ART) of Leis, Kemper and Neumann: keys are seen as
+ * sequences of bytes, most significant first (with the sign bit flipped, so that the byte order
+ * coincides with the natural order of keys), and inner nodes branch on a single byte. Inner nodes
+ * come in four sizes (4, 16, 48 and 256 children) and grow and shrink as children are added and
+ * removed; moreover, paths are compressed, so an inner node exists only where keys actually diverge.
+ * Thus, the depth of the tree is at most {@link Integer#BYTES}, and keys sharing long common prefixes
+ * (e.g., packed coordinates) are stored compactly.
+ *
+ * <p>
+ * Keys are always sorted in their natural order: this map does not support comparators. Besides the
+ * standard sorted-map views, {@link #prefixMap(int, int)} returns a view on the keys sharing a given
+ * number of leading bits with a given key; like all submaps, such a view locates its first and last
+ * entries in time proportional to the depth of the tree, independently of the size of the map.
+ *
+ * <p>
+ * The iterators provided by the views of this class are type-specific
+ * {@linkplain it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. Iterators locate
+ * each entry by a search from the root, so they are never invalidated by modifications of the map.
+ */
+public class Int2ObjectARTMap<V> extends AbstractInt2ObjectSortedMap<V> implements java.io.Serializable, Cloneable {
+	/** The root of the tree (a leaf, an inner node or {@code null}). */
+	protected transient Object root;
+	/** Number of entries in this map. */
+	protected int count;
+	/**
+	 * The value of this variable remembers, after a {@code put()} or a {@code remove()}, whether the
+	 * <em>domain</em> of the map has been modified.
+	 */
+	protected transient boolean modified;
+	/** The whole map as a submap, which provides the views of this map. */
+	private transient Submap whole;
+	private static final long serialVersionUID = -7046029254386353129L;
+
+	/**
+	 * Creates a new empty ART map.
+	 */
+	public Int2ObjectARTMap() {
+	}
+
+	/**
+	 * Creates a new ART map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new map.
+	 */
+	public Int2ObjectARTMap(final Map<? extends Integer, ? extends V> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new ART map copying a given type-specific map.
+	 *
+	 * @param m a type-specific map to be copied into the new map.
+	 */
+	public Int2ObjectARTMap(final Int2ObjectMap<V> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new ART map using the elements of two parallel arrays.
+	 *
+	 * @param k the array of keys of the new map.
+	 * @param v the array of corresponding values in the new map.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Int2ObjectARTMap(final int[] k, final V v[]) {
+		this();
+		if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+		for (int i = 0; i < k.length; i++) this.put(k[i], v[i]);
+	}
+
+	/**
+	 * A leaf of the tree, that is, an entry of the map.
+	 */
+	private static final class Leaf<V> extends AbstractInt2ObjectMap.BasicEntry<V> {
+		Leaf(final int k, final V v) {
+			super(k, v);
+		}
+
+		@Override
+		public V setValue(final V value) {
+			final V oldValue = this.value;
+			this.value = value;
+			return oldValue;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=>" + value;
+		}
+	}
+
+	/**
+	 * An inner node of the tree.
+	 *
+	 * <p>
+	 * An inner node branches on the byte of given {@linkplain #level level} of the keys in its subtree,
+	 * which share all preceding bytes; {@link #prefix} contains the (flipped) key of some leaf in the
+	 * subtree, so that the common bytes can be recovered. Children are leaves or inner nodes.
+	 */
+	private abstract static class Inner implements Cloneable {
+		/** The flipped key of some leaf in the subtree rooted at this node. */
+		int prefix;
+		/** The index of the byte this node branches on. */
+		int level;
+		/** The number of children. */
+		int count;
+
+		Inner(final int prefix, final int level) {
+			this.prefix = prefix;
+			this.level = level;
+		}
+
+		/**
+		 * Returns the child associated with a byte.
+		 *
+		 * @param b a byte (as an unsigned integer).
+		 * @return the child associated with {@code b}, or {@code null}.
+		 */
+		abstract Object child(int b);
+
+		/**
+		 * Replaces the child associated with a byte.
+		 *
+		 * @param b a byte with an associated child.
+		 * @param c the new child.
+		 */
+		abstract void set(int b, Object c);
+
+		/**
+		 * Adds a child.
+		 *
+		 * @param b a byte with no associated child.
+		 * @param c the new child.
+		 * @return this node, or a larger node containing the same children plus {@code c}.
+		 */
+		abstract Inner add(int b, Object c);
+
+		/**
+		 * Removes a child.
+		 *
+		 * @param b a byte with an associated child.
+		 * @return this node, or a smaller node containing the same children minus the removed one.
+		 */
+		abstract Inner remove(int b);
+
+		/**
+		 * Returns the smallest byte greater than or equal to the given one with an associated child.
+		 *
+		 * @param b a byte.
+		 * @return the smallest byte greater than or equal to {@code b} with an associated child, or -1.
+		 */
+		abstract int next(int b);
+
+		/**
+		 * Returns the largest byte smaller than or equal to the given one with an associated child.
+		 *
+		 * @param b a byte.
+		 * @return the largest byte smaller than or equal to {@code b} with an associated child, or -1.
+		 */
+		abstract int prev(int b);
+
+		@Override
+		public Inner clone() {
+			try {
+				return (Inner)super.clone();
+			} catch (CloneNotSupportedException cantHappen) {
+				throw new InternalError();
+			}
+		}
+	}
+
+	/** An inner node with at most {@link #CAPACITY} children, sorted by byte. */
+	private static class Node4 extends Inner {
+		static final int CAPACITY = 4;
+		byte[] keys;
+		Object[] children;
+
+		Node4(final int prefix, final int level, final int capacity) {
+			super(prefix, level);
+			keys = new byte[capacity];
+			children = new Object[capacity];
+		}
+
+		Node4(final int prefix, final int level, final int b0, final Object c0, final int b1, final Object c1) {
+			this(prefix, level, CAPACITY);
+			if (b0 < b1) {
+				keys[0] = (byte)b0;
+				children[0] = c0;
+				keys[1] = (byte)b1;
+				children[1] = c1;
+			} else {
+				keys[0] = (byte)b1;
+				children[0] = c1;
+				keys[1] = (byte)b0;
+				children[1] = c0;
+			}
+			count = 2;
+		}
+
+		/** Returns the position of a byte, or the opposite of its insertion point minus one. */
+		int find(final int b) {
+			int i = 0;
+			while (i < count && (keys[i] & 0xFF) < b) i++;
+			return i < count && (keys[i] & 0xFF) == b ? i : -i - 1;
+		}
+
+		@Override
+		Object child(final int b) {
+			for (int i = count; i-- != 0;) if ((keys[i] & 0xFF) == b) return children[i];
+			return null;
+		}
+
+		@Override
+		void set(final int b, final Object c) {
+			children[find(b)] = c;
+		}
+
+		@Override
+		Inner add(final int b, final Object c) {
+			if (count == keys.length) {
+				final Inner n = grow();
+				return n.add(b, c);
+			}
+			final int i = -find(b) - 1;
+			System.arraycopy(keys, i, keys, i + 1, count - i);
+			System.arraycopy(children, i, children, i + 1, count - i);
+			keys[i] = (byte)b;
+			children[i] = c;
+			count++;
+			return this;
+		}
+
+		/** Returns a larger node containing the same children of this node. */
+		Inner grow() {
+			final Node4 n = new Node16(prefix, level);
+			System.arraycopy(keys, 0, n.keys, 0, count);
+			System.arraycopy(children, 0, n.children, 0, count);
+			n.count = count;
+			return n;
+		}
+
+		@Override
+		Inner remove(final int b) {
+			final int i = find(b);
+			count--;
+			System.arraycopy(keys, i + 1, keys, i, count - i);
+			System.arraycopy(children, i + 1, children, i, count - i);
+			children[count] = null;
+			return this;
+		}
+
+		@Override
+		int next(final int b) {
+			for (int i = 0; i < count; i++) if ((keys[i] & 0xFF) >= b) return keys[i] & 0xFF;
+			return -1;
+		}
+
+		@Override
+		int prev(final int b) {
+			for (int i = count; i-- != 0;) if ((keys[i] & 0xFF) <= b) return keys[i] & 0xFF;
+			return -1;
+		}
+
+		@Override
+		public Node4 clone() {
+			final Node4 n = (Node4)super.clone();
+			n.keys = keys.clone();
+			n.children = children.clone();
+			return n;
+		}
+	}
+
+	/** An inner node with at most {@link #CAPACITY} children, sorted by byte. */
+	private static final class Node16 extends Node4 {
+		static final int CAPACITY = 16;
+		/** When the number of children goes below this threshold, the node is shrunk. */
+		static final int SHRINK = 3;
+
+		Node16(final int prefix, final int level) {
+			super(prefix, level, CAPACITY);
+		}
+
+		@Override
+		Object child(final int b) {
+			// Binary search on unsigned bytes.
+			int from = 0, to = count - 1;
+			while (from <= to) {
+				final int mid = (from + to) >>> 1;
+				final int midVal = keys[mid] & 0xFF;
+				if (midVal < b) from = mid + 1;
+				else if (midVal > b) to = mid - 1;
+				else return children[mid];
+			}
+			return null;
+		}
+
+		@Override
+		Inner grow() {
+			final Node48 n = new Node48(prefix, level);
+			for (int i = 0; i < count; i++) {
+				n.index[keys[i] & 0xFF] = (byte)(i + 1);
+				n.children[i] = children[i];
+			}
+			n.count = count;
+			return n;
+		}
+
+		@Override
+		Inner remove(final int b) {
+			super.remove(b);
+			if (count > SHRINK) return this;
+			final Node4 n = new Node4(prefix, level, Node4.CAPACITY);
+			System.arraycopy(keys, 0, n.keys, 0, count);
+			System.arraycopy(children, 0, n.children, 0, count);
+			n.count = count;
+			return n;
+		}
+	}
+
+	/** An inner node with at most {@link #CAPACITY} children, indexed by a 256-element array. */
+	private static final class Node48 extends Inner {
+		static final int CAPACITY = 48;
+		/** When the number of children goes below this threshold, the node is shrunk. */
+		static final int SHRINK = 12;
+		/** For each byte, one plus the index in {@link #children} of the associated child, or 0. */
+		byte[] index = new byte[256];
+		Object[] children = new Object[CAPACITY];
+
+		Node48(final int prefix, final int level) {
+			super(prefix, level);
+		}
+
+		@Override
+		Object child(final int b) {
+			final int i = index[b];
+			return i == 0 ? null : children[i - 1];
+		}
+
+		@Override
+		void set(final int b, final Object c) {
+			children[index[b] - 1] = c;
+		}
+
+		@Override
+		Inner add(final int b, final Object c) {
+			if (count == CAPACITY) {
+				final Node256 n = new Node256(prefix, level);
+				for (int i = 0; i < 256; i++) if (index[i] != 0) n.children[i] = children[index[i] - 1];
+				n.count = count;
+				return n.add(b, c);
+			}
+			int i = 0;
+			while (children[i] != null) i++;
+			children[i] = c;
+			index[b] = (byte)(i + 1);
+			count++;
+			return this;
+		}
+
+		@Override
+		Inner remove(final int b) {
+			children[index[b] - 1] = null;
+			index[b] = 0;
+			count--;
+			if (count > SHRINK) return this;
+			final Node16 n = new Node16(prefix, level);
+			for (int i = 0, j = 0; i < 256; i++) if (index[i] != 0) {
+				n.keys[j] = (byte)i;
+				n.children[j++] = children[index[i] - 1];
+			}
+			n.count = count;
+			return n;
+		}
+
+		@Override
+		int next(int b) {
+			for (; b < 256; b++) if (index[b] != 0) return b;
+			return -1;
+		}
+
+		@Override
+		int prev(int b) {
+			for (; b >= 0; b--) if (index[b] != 0) return b;
+			return -1;
+		}
+
+		@Override
+		public Node48 clone() {
+			final Node48 n = (Node48)super.clone();
+			n.index = index.clone();
+			n.children = children.clone();
+			return n;
+		}
+	}
+
+	/** An inner node with a child pointer for each byte. */
+	private static final class Node256 extends Inner {
+		/** When the number of children goes below this threshold, the node is shrunk. */
+		static final int SHRINK = 36;
+		Object[] children = new Object[256];
+
+		Node256(final int prefix, final int level) {
+			super(prefix, level);
+		}
+
+		@Override
+		Object child(final int b) {
+			return children[b];
+		}
+
+		@Override
+		void set(final int b, final Object c) {
+			children[b] = c;
+		}
+
+		@Override
+		Inner add(final int b, final Object c) {
+			children[b] = c;
+			count++;
+			return this;
+		}
+
+		@Override
+		Inner remove(final int b) {
+			children[b] = null;
+			count--;
+			if (count > SHRINK) return this;
+			final Node48 n = new Node48(prefix, level);
+			for (int i = 0, j = 0; i < 256; i++) if (children[i] != null) {
+				n.index[i] = (byte)(j + 1);
+				n.children[j++] = children[i];
+			}
+			n.count = count;
+			return n;
+		}
+
+		@Override
+		int next(int b) {
+			for (; b < 256; b++) if (children[b] != null) return b;
+			return -1;
+		}
+
+		@Override
+		int prev(int b) {
+			for (; b >= 0; b--) if (children[b] != null) return b;
+			return -1;
+		}
+
+		@Override
+		public Node256 clone() {
+			final Node256 n = (Node256)super.clone();
+			n.children = children.clone();
+			return n;
+		}
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by all accessors. Keys are
+	 * "flipped" (i.e., their sign bit is inverted), so that their unsigned order coincides with the
+	 * natural order of the original keys, and then they are seen as a sequence of bytes, most
+	 * significant first.
+	 */
+	/**
+	 * Returns the flipped version of a key.
+	 *
+	 * @param k a key.
+	 * @return {@code k} with its sign bit inverted.
+	 */
+	private static int flip(final int k) {
+		return k ^ Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Returns a byte of a flipped key.
+	 *
+	 * @param u a flipped key.
+	 * @param level the index of a byte (0 is the most significant byte).
+	 * @return the byte of {@code u} of index {@code level}, as an unsigned integer.
+	 */
+	private static int byteAt(final int u, final int level) {
+		return u >>> (Integer.BYTES - 1 - level) * Byte.SIZE & 0xFF;
+	}
+
+	/**
+	 * Returns a mask selecting the bytes of a key that precede the given level.
+	 *
+	 * @param level the index of a byte.
+	 * @return a mask selecting the first {@code level} bytes of a key.
+	 */
+	private static int mask(final int level) {
+		return level == 0 ? 0 : -1 << (Integer.BYTES - level) * Byte.SIZE;
+	}
+
+	/**
+	 * Replaces a child of an inner node, or the root.
+	 *
+	 * @param parent an inner node, or {@code null} to replace the root.
+	 * @param b the byte associated with the child in {@code parent}.
+	 * @param c the new child.
+	 */
+	private void replace(final Inner parent, final int b, final Object c) {
+		if (parent == null) root = c;
+		else parent.set(b, c);
+	}
+
+	/**
+	 * Returns the leaf associated with a key.
+	 *
+	 * @param k a key.
+	 * @return the leaf associated with {@code k}, or {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	final Leaf<V> findKey(final int k) {
+		final int u = flip(k);
+		Object n = root;
+		// Prefixes are checked only once, when we reach a leaf.
+		while (n instanceof Inner) {
+			final Inner i = (Inner)n;
+			n = i.child(byteAt(u, i.level));
+		}
+		return n != null && ((Leaf<V>)n).key == k ? (Leaf<V>)n : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(final int k, final V v) {
+		modified = false;
+		final int u = flip(k);
+		final Leaf<V> leaf;
+		Inner parent = null;
+		int pb = 0;
+		Object n = root;
+		for (;;) {
+			if (n == null) {
+				root = new Leaf<>(k, v);
+				break;
+			}
+			if (n instanceof Leaf) {
+				final Leaf<V> l = (Leaf<V>)n;
+				if (l.key == k) {
+					final V oldValue = l.value;
+					l.value = v;
+					return oldValue;
+				}
+				final int lu = flip(l.key);
+				final int d = Integer.numberOfLeadingZeros(lu ^ u) / Byte.SIZE;
+				replace(parent, pb, new Node4(u, d, byteAt(lu, d), l, byteAt(u, d), new Leaf<>(k, v)));
+				break;
+			}
+			final Inner i = (Inner)n;
+			final int diff = (i.prefix ^ u) & mask(i.level);
+			if (diff != 0) {
+				// The key diverges from the compressed path leading to i.
+				final int d = Integer.numberOfLeadingZeros(diff) / Byte.SIZE;
+				replace(parent, pb, new Node4(u, d, byteAt(i.prefix, d), i, byteAt(u, d), new Leaf<>(k, v)));
+				break;
+			}
+			final int b = byteAt(u, i.level);
+			final Object c = i.child(b);
+			if (c == null) {
+				final Inner j = i.add(b, new Leaf<>(k, v));
+				if (j != i) replace(parent, pb, j);
+				break;
+			}
+			parent = i;
+			pb = b;
+			n = c;
+		}
+		modified = true;
+		count++;
+		return defRetValue;
+	}
+
+	/*
+	 * After execution of this method, {@link #modified} is true iff an entry has been deleted.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(final int k) {
+		modified = false;
+		final int u = flip(k);
+		Inner grandparent = null, parent = null;
+		int gb = 0, pb = 0;
+		Object n = root;
+		while (n instanceof Inner) {
+			final Inner i = (Inner)n;
+			final int b = byteAt(u, i.level);
+			grandparent = parent;
+			gb = pb;
+			parent = i;
+			pb = b;
+			n = i.child(b);
+		}
+		if (n == null || ((Leaf<V>)n).key != k) return defRetValue;
+		if (parent == null) root = null;
+		else {
+			final Inner j = parent.remove(pb);
+			// A node with just one child is replaced by the child, as paths are compressed.
+			if (j.count == 1) replace(grandparent, gb, j.child(j.next(0)));
+			else if (j != parent) replace(grandparent, gb, j);
+		}
+		modified = true;
+		count--;
+		return ((Leaf<V>)n).value;
+	}
+
+	/**
+	 * Returns the first leaf of a subtree.
+	 *
+	 * @param n a nonempty subtree.
+	 * @return the first leaf of {@code n}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Leaf<V> first(Object n) {
+		while (n instanceof Inner) {
+			final Inner i = (Inner)n;
+			n = i.child(i.next(0));
+		}
+		return (Leaf<V>)n;
+	}
+
+	/**
+	 * Returns the last leaf of a subtree.
+	 *
+	 * @param n a nonempty subtree.
+	 * @return the last leaf of {@code n}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Leaf<V> last(Object n) {
+		while (n instanceof Inner) {
+			final Inner i = (Inner)n;
+			n = i.child(i.prev(255));
+		}
+		return (Leaf<V>)n;
+	}
+
+	/**
+	 * Returns the leaf with the smallest key greater than or equal to a given flipped key in a
+	 * subtree.
+	 *
+	 * @param n a subtree, or {@code null}.
+	 * @param u a flipped key.
+	 * @return the leaf with the smallest key greater than or equal to {@code u}, or {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Leaf<V> ceiling(final Object n, final int u) {
+		if (n == null) return null;
+		if (n instanceof Leaf) return Integer.compareUnsigned(flip(((Leaf<V>)n).key), u) >= 0 ? (Leaf<V>)n : null;
+		final Inner i = (Inner)n;
+		final int m = mask(i.level);
+		final int cmp = Integer.compareUnsigned(i.prefix & m, u & m);
+		if (cmp > 0) return first(i);
+		if (cmp < 0) return null;
+		final int b = byteAt(u, i.level);
+		final Leaf<V> l = ceiling(i.child(b), u);
+		if (l != null || b == 255) return l;
+		final int c = i.next(b + 1);
+		return c == -1 ? null : first(i.child(c));
+	}
+
+	/**
+	 * Returns the leaf with the largest key smaller than or equal to a given flipped key in a subtree.
+	 *
+	 * @param n a subtree, or {@code null}.
+	 * @param u a flipped key.
+	 * @return the leaf with the largest key smaller than or equal to {@code u}, or {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Leaf<V> floor(final Object n, final int u) {
+		if (n == null) return null;
+		if (n instanceof Leaf) return Integer.compareUnsigned(flip(((Leaf<V>)n).key), u) <= 0 ? (Leaf<V>)n : null;
+		final Inner i = (Inner)n;
+		final int m = mask(i.level);
+		final int cmp = Integer.compareUnsigned(i.prefix & m, u & m);
+		if (cmp < 0) return last(i);
+		if (cmp > 0) return null;
+		final int b = byteAt(u, i.level);
+		final Leaf<V> l = floor(i.child(b), u);
+		if (l != null || b == 0) return l;
+		final int c = i.prev(b - 1);
+		return c == -1 ? null : last(i.child(c));
+	}
+
+	private static final int EQ = 1;
+	private static final int LT = 2;
+	private static final int GT = 0;
+
+	/**
+	 * Returns the leaf closest to a given key according to a relation.
+	 *
+	 * @param k a key.
+	 * @param rel a relation: a combination of {@link #LT} or {@link #GT} with {@link #EQ}.
+	 * @return the leaf satisfying the relation, or {@code null}.
+	 */
+	private Leaf<V> findNear(final int k, final int rel) {
+		final int u = flip(k);
+		switch (rel) {
+		case GT | EQ:
+			return ceiling(root, u);
+		case GT:
+			return k == Integer.MAX_VALUE ? null : ceiling(root, u + 1);
+		case LT | EQ:
+			return floor(root, u);
+		default:
+			return k == Integer.MIN_VALUE ? null : floor(root, u - 1);
+		}
+	}
+
+	@Override
+	public V get(final int k) {
+		final Leaf<V> l = findKey(k);
+		return l == null ? defRetValue : l.value;
+	}
+
+	@Override
+	public boolean containsKey(final int k) {
+		return findKey(k) != null;
+	}
+
+	@Override
+	public boolean containsValue(final Object v) {
+		for (Leaf<V> l = root == null ? null : first(root); l != null; l = findNear(l.key, GT)) if (Objects.equals(l.value, v)) return true;
+		return false;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public void clear() {
+		count = 0;
+		root = null;
+	}
+
+	@Override
+	public int firstIntKey() {
+		if (root == null) throw new NoSuchElementException();
+		return first(root).key;
+	}
+
+	@Override
+	public int lastIntKey() {
+		if (root == null) throw new NoSuchElementException();
+		return last(root).key;
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> floorEntry(final int k) {
+		return findNear(k, LT | EQ);
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> ceilingEntry(final int k) {
+		return findNear(k, GT | EQ);
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> higherEntry(final int k) {
+		return findNear(k, GT);
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> lowerEntry(final int k) {
+		return findNear(k, LT);
+	}
+
+	@Override
+	public int floorIntKey(final int k) {
+		return keyOf(findNear(k, LT | EQ));
+	}
+
+	@Override
+	public int ceilingIntKey(final int k) {
+		return keyOf(findNear(k, GT | EQ));
+	}
+
+	@Override
+	public int higherIntKey(final int k) {
+		return keyOf(findNear(k, GT));
+	}
+
+	@Override
+	public int lowerIntKey(final int k) {
+		return keyOf(findNear(k, LT));
+	}
+
+	private static int keyOf(final Leaf<?> l) {
+		if (l == null) throw new NoSuchElementException();
+		return l.key;
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> pollFirstEntry() {
+		if (root == null) return null;
+		final Leaf<V> l = first(root);
+		remove(l.key);
+		return l;
+	}
+
+	@Override
+	public Int2ObjectMap.Entry<V> pollLastEntry() {
+		if (root == null) return null;
+		final Leaf<V> l = last(root);
+		remove(l.key);
+		return l;
+	}
+
+	/**
+	 * Returns the whole map as a (unbounded) submap, which provides the views of this map.
+	 *
+	 * @return the whole map as a submap.
+	 */
+	private Submap whole() {
+		if (whole == null) whole = new Submap(0, true, 0, true);
+		return whole;
+	}
+
+	@Override
+	public ObjectSortedSet<Int2ObjectMap.Entry<V>> int2ObjectEntrySet() {
+		return whole().int2ObjectEntrySet();
+	}
+
+	@Override
+	public IntSortedSet keySet() {
+		return whole().keySet();
+	}
+
+	@Override
+	public ObjectCollection<V> values() {
+		return whole().values();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implSpec This implementation returns {@code null}, as keys are always sorted in their natural
+	 *           order.
+	 */
+	@Override
+	public IntComparator comparator() {
+		return null;
+	}
+
+	@Override
+	public Int2ObjectSortedMap<V> headMap(final int to) {
+		return new Submap(0, true, to, false);
+	}
+
+	@Override
+	public Int2ObjectSortedMap<V> tailMap(final int from) {
+		return new Submap(from, false, 0, true);
+	}
+
+	@Override
+	public Int2ObjectSortedMap<V> subMap(final int from, final int to) {
+		return new Submap(from, false, to, false);
+	}
+
+	/**
+	 * Returns a view of the portion of this map whose keys share a given number of leading bits with a
+	 * given key.
+	 *
+	 * <p>
+	 * Since keys are sorted in their natural order, the keys of the view form a range, and the view is
+	 * equivalent to a suitable {@linkplain #subMap(int, int) submap}. For example, if keys are packed
+	 * coordinates with the <var>x</var> coordinate in the upper 16 bits, {@code prefixMap(x << 16, 16)}
+	 * returns the entries with given <var>x</var> coordinate.
+	 *
+	 * @param prefix a key.
+	 * @param bits a number of bits between 0 and {@link Integer#SIZE} (inclusive).
+	 * @return a view of the portion of this map whose keys share their {@code bits} most significant
+	 *         bits with {@code prefix}.
+	 */
+	public Int2ObjectSortedMap<V> prefixMap(final int prefix, final int bits) {
+		if (bits < 0 || bits > Integer.SIZE) throw new IllegalArgumentException("Illegal number of bits (" + bits + ")");
+		if (bits == 0) return whole();
+		final int low = flip(prefix) & -1 << Integer.SIZE - bits, high = bits == Integer.SIZE ? low : low | -1 >>> bits;
+		if (high == -1) return new Submap(flip(low), false, 0, true);
+		return new Submap(flip(low), false, flip(high + 1), false);
+	}
+
+	/**
+	 * An iterator on a range of the map.
+	 *
+	 * <p>
+	 * This class keeps track of the next and previous leaves; moving in either direction requires a
+	 * search from the root, which visits at most {@link Integer#BYTES} inner nodes.
+	 */
+	private class LeafIterator {
+		/** The range on which we iterate. */
+		final Submap range;
+		/** The leaf that will be returned by {@link #nextLeaf()}, or {@code null}. */
+		Leaf<V> next;
+		/** The leaf that will be returned by {@link #previousLeaf()}, or {@code null}. */
+		Leaf<V> prev;
+		/** The last returned leaf, or {@code null} if there is no leaf to remove. */
+		Leaf<V> curr;
+
+		LeafIterator(final Submap range) {
+			this.range = range;
+			next = range.loLeaf();
+		}
+
+		LeafIterator(final Submap range, final int k) {
+			this.range = range;
+			if (range.tooHigh(k)) prev = range.hiLeaf();
+			else if (range.tooLow(k)) next = range.loLeaf();
+			else {
+				next = inRange(findNear(k, GT));
+				prev = inRange(findNear(k, LT | EQ));
+			}
+		}
+
+		/**
+		 * Returns the given leaf, if it is in range.
+		 *
+		 * @param l a leaf, or {@code null}.
+		 * @return {@code l}, if it is in range; {@code null}, otherwise.
+		 */
+		private Leaf<V> inRange(final Leaf<V> l) {
+			return l == null || !range.in(l.key) ? null : l;
+		}
+
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		public boolean hasPrevious() {
+			return prev != null;
+		}
+
+		Leaf<V> nextLeaf() {
+			if (next == null) throw new NoSuchElementException();
+			prev = curr = next;
+			next = inRange(findNear(curr.key, GT));
+			return curr;
+		}
+
+		Leaf<V> previousLeaf() {
+			if (prev == null) throw new NoSuchElementException();
+			next = curr = prev;
+			prev = inRange(findNear(curr.key, LT));
+			return curr;
+		}
+
+		public void remove() {
+			if (curr == null) throw new IllegalStateException();
+			if (curr == prev) prev = inRange(findNear(curr.key, LT));
+			else next = inRange(findNear(curr.key, GT));
+			Int2ObjectARTMap.this.remove(curr.key);
+			curr = null;
+		}
+	}
+
+	private final class EntryIterator extends LeafIterator implements ObjectBidirectionalIterator<Int2ObjectMap.Entry<V>> {
+		EntryIterator(final Submap range) {
+			super(range);
+		}
+
+		EntryIterator(final Submap range, final int k) {
+			super(range, k);
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> next() {
+			return nextLeaf();
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> previous() {
+			return previousLeaf();
+		}
+	}
+
+	private final class KeyIterator extends LeafIterator implements IntBidirectionalIterator {
+		KeyIterator(final Submap range) {
+			super(range);
+		}
+
+		KeyIterator(final Submap range, final int k) {
+			super(range, k);
+		}
+
+		@Override
+		public int nextInt() {
+			return nextLeaf().key;
+		}
+
+		@Override
+		public int previousInt() {
+			return previousLeaf().key;
+		}
+	}
+
+	private final class ValueIterator extends LeafIterator implements ObjectIterator<V> {
+		ValueIterator(final Submap range) {
+			super(range);
+		}
+
+		@Override
+		public V next() {
+			return nextLeaf().value;
+		}
+	}
+
+	/**
+	 * A submap with given range.
+	 *
+	 * <p>
+	 * This class represents a submap. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the submap is a view on the map, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly.
+	 */
+	private final class Submap extends AbstractInt2ObjectSortedMap<V> implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the submap range, unless {@link #bottom} is true. */
+		final int from;
+		/** The end of the submap range, unless {@link #top} is true. */
+		final int to;
+		/** If true, the submap range starts from -&infin;. */
+		final boolean bottom;
+		/** If true, the submap range goes to &infin;. */
+		final boolean top;
+		/** Cached set of entries. */
+		protected transient ObjectSortedSet<Int2ObjectMap.Entry<V>> entries;
+		/** Cached set of keys. */
+		protected transient IntSortedSet keys;
+		/** Cached collection of values. */
+		protected transient ObjectCollection<V> values;
+
+		/**
+		 * Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Submap(final int from, final boolean bottom, final int to, final boolean top) {
+			if (!bottom && !top && from > to) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+			this.defRetValue = Int2ObjectARTMap.this.defRetValue;
+		}
+
+		/**
+		 * Checks whether a key is smaller than the start of the range.
+		 *
+		 * @param k a key.
+		 * @return true if {@code k} is smaller than the start of the range.
+		 */
+		final boolean tooLow(final int k) {
+			return !bottom && k < from;
+		}
+
+		/**
+		 * Checks whether a key is greater than or equal to the end of the range.
+		 *
+		 * @param k a key.
+		 * @return true if {@code k} is greater than or equal to the end of the range.
+		 */
+		final boolean tooHigh(final int k) {
+			return !top && k >= to;
+		}
+
+		/**
+		 * Checks whether a key is in the submap range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+		final boolean in(final int k) {
+			return !tooLow(k) && !tooHigh(k);
+		}
+
+		/**
+		 * Returns the first leaf in range.
+		 *
+		 * @return the first leaf in range, or {@code null}.
+		 */
+		Leaf<V> loLeaf() {
+			final Leaf<V> l = bottom ? (root == null ? null : first(root)) : findNear(from, GT | EQ);
+			return l == null || tooHigh(l.key) ? null : l;
+		}
+
+		/**
+		 * Returns the last leaf in range.
+		 *
+		 * @return the last leaf in range, or {@code null}.
+		 */
+		Leaf<V> hiLeaf() {
+			final Leaf<V> l = top ? (root == null ? null : last(root)) : findNear(to, LT);
+			return l == null || tooLow(l.key) ? null : l;
+		}
+
+		@Override
+		public ObjectSortedSet<Int2ObjectMap.Entry<V>> int2ObjectEntrySet() {
+			if (entries == null) entries = new AbstractObjectSortedSet<Int2ObjectMap.Entry<V>>() {
+				final Comparator<? super Int2ObjectMap.Entry<V>> comparator = (Comparator<Int2ObjectMap.Entry<V>>)(x, y) -> (Integer.compare((x.getIntKey()), (y.getIntKey())));
+
+				@Override
+				public Comparator<? super Int2ObjectMap.Entry<V>> comparator() {
+					return comparator;
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Int2ObjectMap.Entry<V>> iterator() {
+					return new EntryIterator(Submap.this);
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Int2ObjectMap.Entry<V>> iterator(final Int2ObjectMap.Entry<V> from) {
+					return new EntryIterator(Submap.this, from.getIntKey());
+				}
+
+				@Override
+				public boolean contains(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					final int k = ((Integer)(e.getKey())).intValue();
+					if (!in(k)) return false;
+					final Leaf<V> l = findKey(k);
+					return l != null && Objects.equals(l.value, e.getValue());
+				}
+
+				@Override
+				public boolean remove(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Integer)) return false;
+					final int k = ((Integer)(e.getKey())).intValue();
+					if (!in(k)) return false;
+					final Leaf<V> l = findKey(k);
+					if (l == null || !Objects.equals(l.value, e.getValue())) return false;
+					Int2ObjectARTMap.this.remove(k);
+					return true;
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return Submap.this.isEmpty();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+
+				@Override
+				public Int2ObjectMap.Entry<V> first() {
+					final Leaf<V> l = loLeaf();
+					if (l == null) throw new NoSuchElementException();
+					return l;
+				}
+
+				@Override
+				public Int2ObjectMap.Entry<V> last() {
+					final Leaf<V> l = hiLeaf();
+					if (l == null) throw new NoSuchElementException();
+					return l;
+				}
+
+				@Override
+				public ObjectSortedSet<Int2ObjectMap.Entry<V>> subSet(Int2ObjectMap.Entry<V> from, Int2ObjectMap.Entry<V> to) {
+					return subMap(from.getIntKey(), to.getIntKey()).int2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2ObjectMap.Entry<V>> headSet(Int2ObjectMap.Entry<V> to) {
+					return headMap(to.getIntKey()).int2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Int2ObjectMap.Entry<V>> tailSet(Int2ObjectMap.Entry<V> from) {
+					return tailMap(from.getIntKey()).int2ObjectEntrySet();
+				}
+			};
+			return entries;
+		}
+
+		/** A keyset implementation using a more direct implementation for iterators. */
+		private class KeySet extends AbstractInt2ObjectSortedMap<V>.KeySet {
+			@Override
+			public IntBidirectionalIterator iterator() {
+				return new KeyIterator(Submap.this);
+			}
+
+			@Override
+			public IntBidirectionalIterator iterator(final int from) {
+				return new KeyIterator(Submap.this, from);
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return Submap.this.isEmpty();
+			}
+		}
+
+		@Override
+		public IntSortedSet keySet() {
+			if (keys == null) keys = new KeySet();
+			return keys;
+		}
+
+		@Override
+		public ObjectCollection<V> values() {
+			if (values == null) values = new AbstractObjectCollection<V>() {
+				@Override
+				public ObjectIterator<V> iterator() {
+					return new ValueIterator(Submap.this);
+				}
+
+				@Override
+				public boolean contains(final Object k) {
+					return containsValue(k);
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return Submap.this.isEmpty();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+			};
+			return values;
+		}
+
+		@Override
+		public boolean containsKey(final int k) {
+			return in(k) && Int2ObjectARTMap.this.containsKey(k);
+		}
+
+		@Override
+		public boolean containsValue(final Object v) {
+			final ValueIterator i = new ValueIterator(this);
+			while (i.hasNext()) if (Objects.equals(i.next(), v)) return true;
+			return false;
+		}
+
+		@Override
+		public V get(final int k) {
+			final Leaf<V> l;
+			return in(k) && (l = findKey(k)) != null ? l.value : this.defRetValue;
+		}
+
+		@Override
+		public V put(final int k, final V v) {
+			modified = false;
+			if (!in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			final V oldValue = Int2ObjectARTMap.this.put(k, v);
+			return modified ? this.defRetValue : oldValue;
+		}
+
+		@Override
+		public V remove(final int k) {
+			modified = false;
+			if (!in(k)) return this.defRetValue;
+			final V oldValue = Int2ObjectARTMap.this.remove(k);
+			return modified ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public int size() {
+			if (bottom && top) return count;
+			int n = 0;
+			for (final LeafIterator i = new LeafIterator(this); i.hasNext(); i.nextLeaf()) n++;
+			return n;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return loLeaf() == null;
+		}
+
+		@Override
+		public void clear() {
+			if (bottom && top) Int2ObjectARTMap.this.clear();
+			else for (final LeafIterator i = new LeafIterator(this); i.hasNext();) {
+				i.nextLeaf();
+				i.remove();
+			}
+		}
+
+		@Override
+		public IntComparator comparator() {
+			return null;
+		}
+
+		@Override
+		public Int2ObjectSortedMap<V> headMap(final int to) {
+			if (top) return new Submap(from, bottom, to, false);
+			return to < this.to ? new Submap(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public Int2ObjectSortedMap<V> tailMap(final int from) {
+			if (bottom) return new Submap(from, false, to, top);
+			return from > this.from ? new Submap(from, false, to, top) : this;
+		}
+
+		@Override
+		public Int2ObjectSortedMap<V> subMap(int from, int to) {
+			if (top && bottom) return new Submap(from, false, to, false);
+			if (!top) to = to < this.to ? to : this.to;
+			if (!bottom) from = from > this.from ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Submap(from, false, to, false);
+		}
+
+		@Override
+		public int firstIntKey() {
+			final Leaf<V> l = loLeaf();
+			if (l == null) throw new NoSuchElementException();
+			return l.key;
+		}
+
+		@Override
+		public int lastIntKey() {
+			final Leaf<V> l = hiLeaf();
+			if (l == null) throw new NoSuchElementException();
+			return l.key;
+		}
+	}
+
+	/**
+	 * Returns a deep copy of a subtree.
+	 *
+	 * @param n a subtree.
+	 * @return a deep copy of {@code n}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Object copy(final Object n) {
+		if (n instanceof Leaf) return new Leaf<>(((Leaf<V>)n).key, ((Leaf<V>)n).value);
+		final Inner c = ((Inner)n).clone();
+		for (int b = c.next(0); b != -1; b = b == 255 ? -1 : c.next(b + 1)) c.set(b, copy(c.child(b)));
+		return c;
+	}
+
+	/**
+	 * Returns a deep copy of this ART map.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this ART map; the data stored in the map, however, is not
+	 * cloned.
+	 *
+	 * @return a deep copy of this ART map.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Int2ObjectARTMap<V> clone() {
+		Int2ObjectARTMap<V> c;
+		try {
+			c = (Int2ObjectARTMap<V>)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.whole = null;
+		if (root != null) c.root = copy(root);
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (Leaf<V> l = root == null ? null : first(root); l != null; l = findNear(l.key, GT)) {
+			s.writeInt(l.key);
+			s.writeObject(l.value);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		int n = count;
+		count = 0;
+		while (n-- != 0) {
+			final int k = s.readInt();
+			put(k, (V)s.readObject());
+		}
+	}
+}
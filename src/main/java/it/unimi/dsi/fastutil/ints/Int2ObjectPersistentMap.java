@@ -0,0 +1,718 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.objects.ObjectArrays;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific persistent (i.e., immutable) map based on a hash array mapped trie.
+ *
+ * <p>
+ * Instances of this class cannot be modified: {@link #with(int, Object)} and {@link #without(int)}
+ * return a new map that shares with this map all the trie nodes but those on the path to the
+ * modified key, so they require time and space proportional to the depth of the trie, that is,
+ * logarithmic in base 32 in the size of the map. Thus, a map can be kept as a snapshot in constant
+ * time by simply keeping a reference to it.
+ *
+ * <p>
+ * The trie follows the compressed layout of Steindorfer and Vinju's CHAMP: each node contains a
+ * bitmap of the entries stored inline, a bitmap of the children, a type-specific array of keys, an
+ * array of values and an array of children. Keys are placed in the trie using the bits of their
+ * {@linkplain HashCommon#mix(int) mixed} value, five at a time; since mixing is a bijection, two
+ * distinct keys always end up in distinct positions, and no collision handling is necessary.
+ *
+ * <p>
+ * Long sequences of modifications can be performed more efficiently on a {@linkplain Transient
+ * transient} map, obtained by {@link #asTransient()}: a transient map is a standard mutable
+ * {@link Int2ObjectMap} that modifies in place the nodes it has already copied, and that can
+ * return at any time, in constant time, a persistent snapshot of its content using
+ * {@link Transient#persistent()}.
+ *
+ * <p>
+ * Entries returned by iterators are immutable.
+ */
+public class Int2ObjectPersistentMap<V> extends AbstractInt2ObjectMap<V> implements java.io.Serializable {
+	private static final long serialVersionUID = -7046029254386353129L;
+	/** The number of bits of the hash used at each level of the trie. */
+	private static final int BITS_PER_LEVEL = 5;
+	/** The maximum depth of the trie. */
+	private static final int MAX_DEPTH = (Integer.SIZE + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL;
+	@SuppressWarnings("rawtypes")
+	private static final Node[] EMPTY_NODES = {};
+	/** The root of the trie. */
+	protected transient Node<V> root;
+	/** The number of entries in this map. */
+	protected int size;
+
+	/**
+	 * An edit token.
+	 *
+	 * <p>
+	 * Nodes created by an operation are marked with the token of the operation; an operation may
+	 * modify in place the nodes marked with its own token. Besides, tokens are used to return the
+	 * result of an operation.
+	 */
+	private static final class Edit {
+		/** Whether the last operation added or removed a key. */
+		boolean modified;
+		/** The value previously associated with the key of the last operation, if any. */
+		Object oldValue;
+	}
+
+	/** A node of the trie. */
+	private static final class Node<V> {
+		/** The token of the operation that created this node. */
+		Edit owner;
+		/** The bitmap of the entries stored in this node. */
+		int dataMap;
+		/** The bitmap of the children of this node. */
+		int nodeMap;
+		/** The keys stored in this node. */
+		int[] key;
+		/** The values stored in this node. */
+		Object[] value;
+		/** The children of this node. */
+		Node<V>[] node;
+
+		@SuppressWarnings("unchecked")
+		Node(final Edit owner) {
+			this(owner, 0, 0, IntArrays.EMPTY_ARRAY, ObjectArrays.EMPTY_ARRAY, EMPTY_NODES);
+		}
+
+		Node(final Edit owner, final int dataMap, final int nodeMap, final int[] key, final Object[] value, final Node<V>[] node) {
+			this.owner = owner;
+			this.dataMap = dataMap;
+			this.nodeMap = nodeMap;
+			this.key = key;
+			this.value = value;
+			this.node = node;
+		}
+	}
+
+	/**
+	 * Creates a new empty persistent map.
+	 */
+	public Int2ObjectPersistentMap() {
+		root = new Node<>(null);
+	}
+
+	/**
+	 * Creates a new persistent map copying a given map.
+	 *
+	 * @param m a type-specific map to be copied into the new persistent map.
+	 */
+	public Int2ObjectPersistentMap(final Int2ObjectMap<V> m) {
+		if (m instanceof Int2ObjectPersistentMap) {
+			root = ((Int2ObjectPersistentMap<V>)m).root;
+			size = m.size();
+		} else {
+			final Transient<V> t = new Transient<>();
+			t.putAll(m);
+			root = t.root;
+			size = t.size;
+		}
+		defRetValue = m.defaultReturnValue();
+	}
+
+	/**
+	 * Creates a new persistent map copying a given map.
+	 *
+	 * @param m a map to be copied into the new persistent map.
+	 */
+	@SuppressWarnings("unchecked")
+	public Int2ObjectPersistentMap(final Map<? extends Integer, ? extends V> m) {
+		final Transient<V> t = new Transient<>();
+		t.putAll(m);
+		root = t.root;
+		size = t.size;
+		if (m instanceof Int2ObjectMap) defRetValue = ((Int2ObjectMap<? extends V>)m).defaultReturnValue();
+	}
+
+	private Int2ObjectPersistentMap(final Node<V> root, final int size, final V defRetValue) {
+		this.root = root;
+		this.size = size;
+		this.defRetValue = defRetValue;
+	}
+
+	/**
+	 * Returns an empty persistent map.
+	 *
+	 * @return an empty persistent map.
+	 */
+	public static <V> Int2ObjectPersistentMap<V> of() {
+		return new Int2ObjectPersistentMap<>();
+	}
+
+	/**
+	 * Returns the hash of a key; it determines the position of the key in the trie.
+	 *
+	 * @param k a key.
+	 * @return the hash of {@code k}.
+	 */
+	private static int hash(final int k) {
+		return HashCommon.mix(k);
+	}
+
+	/*
+	 * The following static methods implement the trie operations. They are shared by persistent and
+	 * transient maps: a persistent map uses a new edit token for each operation, whereas a transient
+	 * map uses the same token until a snapshot is taken.
+	 */
+	/**
+	 * Returns a node with the given content, modifying the given node in place if it is owned by the
+	 * given token.
+	 *
+	 * <p>
+	 * The arrays passed to this method must not be shared with other nodes, unless they are the
+	 * arrays of {@code n}, in which case they will be cloned if necessary.
+	 */
+	private static <V> Node<V> update(final Node<V> n, final Edit e, final int dataMap, final int nodeMap, final int[] key, final Object[] value, final Node<V>[] node) {
+		if (n.owner == e) {
+			n.dataMap = dataMap;
+			n.nodeMap = nodeMap;
+			n.key = key;
+			n.value = value;
+			n.node = node;
+			return n;
+		}
+		return new Node<>(e, dataMap, nodeMap, key == n.key && key.length != 0 ? key.clone() : key, value == n.value && value.length != 0 ? value.clone() : value, node == n.node && node.length != 0 ? node.clone() : node);
+	}
+
+	/** Returns the given node, or a copy of it owned by the given token if the node is not owned. */
+	private static <V> Node<V> editable(final Node<V> n, final Edit e) {
+		return n.owner == e ? n : update(n, e, n.dataMap, n.nodeMap, n.key, n.value, n.node);
+	}
+
+	private static int[] insert(final int[] a, final int i, final int k) {
+		final int[] b = new int[a.length + 1];
+		System.arraycopy(a, 0, b, 0, i);
+		b[i] = k;
+		System.arraycopy(a, i, b, i + 1, a.length - i);
+		return b;
+	}
+
+	private static int[] delete(final int[] a, final int i) {
+		final int[] b = new int[a.length - 1];
+		System.arraycopy(a, 0, b, 0, i);
+		System.arraycopy(a, i + 1, b, i, b.length - i);
+		return b;
+	}
+
+	private static <K> K[] insert(final K[] a, final int i, final K k) {
+		final K[] b = java.util.Arrays.copyOf(a, a.length + 1);
+		System.arraycopy(a, i, b, i + 1, a.length - i);
+		b[i] = k;
+		return b;
+	}
+
+	private static <K> K[] delete(final K[] a, final int i) {
+		final K[] b = java.util.Arrays.copyOf(a, a.length - 1);
+		System.arraycopy(a, i + 1, b, i, b.length - i);
+		return b;
+	}
+
+	/** Returns a new node containing two entries whose keys have the given distinct hashes. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <V> Node<V> pair(final int k0, final int h0, final Object v0, final int k1, final int h1, final Object v1, final int shift, final Edit e) {
+		final int b0 = h0 >>> shift & 31, b1 = h1 >>> shift & 31;
+		if (b0 == b1) return new Node<>(e, 0, 1 << b0, IntArrays.EMPTY_ARRAY, ObjectArrays.EMPTY_ARRAY, new Node[] { pair(k0, h0, v0, k1, h1, v1, shift + BITS_PER_LEVEL, e) });
+		return b0 < b1 ? new Node<>(e, 1 << b0 | 1 << b1, 0, new int[] { k0, k1 }, new Object[] { v0, v1 }, EMPTY_NODES) : new Node<>(e, 1 << b0 | 1 << b1, 0, new int[] { k1, k0 }, new Object[] { v1, v0 }, EMPTY_NODES);
+	}
+
+	/**
+	 * Associates a value with a key in the given subtrie.
+	 *
+	 * <p>
+	 * After execution of this method, {@link Edit#modified} is true iff a new key has been added;
+	 * otherwise, {@link Edit#oldValue} contains the previous value, if the key was present.
+	 *
+	 * @return the new subtrie (possibly {@code n} itself).
+	 */
+	private static <V> Node<V> put(final Node<V> n, final int k, final int h, final V v, final int shift, final Edit e) {
+		final int bit = 1 << (h >>> shift & 31);
+		if ((n.dataMap & bit) != 0) {
+			final int i = Integer.bitCount(n.dataMap & bit - 1);
+			final int k0 = n.key[i];
+			if (k0 == k) {
+				e.oldValue = n.value[i];
+				if (n.value[i] == v) return n;
+				final Node<V> m = editable(n, e);
+				m.value[i] = v;
+				return m;
+			}
+			e.modified = true;
+			final Node<V> child = pair(k0, hash(k0), n.value[i], k, h, v, shift + BITS_PER_LEVEL, e);
+			return update(n, e, n.dataMap ^ bit, n.nodeMap | bit, delete(n.key, i), delete(n.value, i), insert(n.node, Integer.bitCount(n.nodeMap & bit - 1), child));
+		}
+		if ((n.nodeMap & bit) != 0) {
+			final int j = Integer.bitCount(n.nodeMap & bit - 1);
+			final Node<V> c = n.node[j], d = put(c, k, h, v, shift + BITS_PER_LEVEL, e);
+			// If c has been modified in place, so has been n.
+			if (c == d) return n;
+			final Node<V> m = editable(n, e);
+			m.node[j] = d;
+			return m;
+		}
+		e.modified = true;
+		final int i = Integer.bitCount(n.dataMap & bit - 1);
+		return update(n, e, n.dataMap | bit, n.nodeMap, insert(n.key, i, k), insert(n.value, i, v), n.node);
+	}
+
+	/**
+	 * Removes a key from the given subtrie.
+	 *
+	 * <p>
+	 * After execution of this method, {@link Edit#modified} is true iff the key has been removed, and
+	 * in that case {@link Edit#oldValue} contains the associated value. Children left with a single
+	 * entry are inlined in their parent, so that the trie is always in canonical form.
+	 *
+	 * @return the new subtrie (possibly {@code n} itself).
+	 */
+	private static <V> Node<V> remove(final Node<V> n, final int k, final int h, final int shift, final Edit e) {
+		final int bit = 1 << (h >>> shift & 31);
+		if ((n.dataMap & bit) != 0) {
+			final int i = Integer.bitCount(n.dataMap & bit - 1);
+			if (n.key[i] != k) return n;
+			e.modified = true;
+			e.oldValue = n.value[i];
+			return update(n, e, n.dataMap ^ bit, n.nodeMap, delete(n.key, i), delete(n.value, i), n.node);
+		}
+		if ((n.nodeMap & bit) != 0) {
+			final int j = Integer.bitCount(n.nodeMap & bit - 1);
+			final Node<V> c = n.node[j], d = remove(c, k, h, shift + BITS_PER_LEVEL, e);
+			if (!e.modified) return n;
+			if (d.nodeMap == 0 && d.key.length == 1) {
+				final int i = Integer.bitCount(n.dataMap & bit - 1);
+				return update(n, e, n.dataMap | bit, n.nodeMap ^ bit, insert(n.key, i, d.key[0]), insert(n.value, i, d.value[0]), delete(n.node, j));
+			}
+			if (c == d) return n;
+			final Node<V> m = editable(n, e);
+			m.node[j] = d;
+			return m;
+		}
+		return n;
+	}
+
+	/**
+	 * Returns the value associated with a key in the given trie.
+	 *
+	 * @return the value associated with {@code k}, or {@code defRetValue} if {@code k} is not in the
+	 *         trie.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> V get(Node<V> n, final int k, final V defRetValue) {
+		final int h = hash(k);
+		for (int shift = 0;; shift += BITS_PER_LEVEL) {
+			final int bit = 1 << (h >>> shift & 31);
+			if ((n.dataMap & bit) != 0) {
+				final int i = Integer.bitCount(n.dataMap & bit - 1);
+				return n.key[i] == k ? (V)n.value[i] : defRetValue;
+			}
+			if ((n.nodeMap & bit) == 0) return defRetValue;
+			n = n.node[Integer.bitCount(n.nodeMap & bit - 1)];
+		}
+	}
+
+	/**
+	 * Returns whether the given trie contains a key.
+	 *
+	 * @return true if {@code k} is in the trie.
+	 */
+	private static boolean containsKey(Node<?> n, final int k) {
+		final int h = hash(k);
+		for (int shift = 0;; shift += BITS_PER_LEVEL) {
+			final int bit = 1 << (h >>> shift & 31);
+			if ((n.dataMap & bit) != 0) return n.key[Integer.bitCount(n.dataMap & bit - 1)] == k;
+			if ((n.nodeMap & bit) == 0) return false;
+			n = n.node[Integer.bitCount(n.nodeMap & bit - 1)];
+		}
+	}
+
+	/**
+	 * Returns a persistent map obtained by associating a value with a key in this map.
+	 *
+	 * <p>
+	 * This map is not modified; the returned map shares with this map all nodes but those on the path
+	 * to the given key. The returned map has the same {@linkplain #defaultReturnValue() default
+	 * return value} as this map.
+	 *
+	 * @param k the key.
+	 * @param v the value.
+	 * @return a persistent map containing the same entries of this map, except that {@code k} is
+	 *         associated with {@code v} (possibly this map, if {@code k} is already associated with
+	 *         {@code v}).
+	 */
+	public Int2ObjectPersistentMap<V> with(final int k, final V v) {
+		final Edit e = new Edit();
+		final Node<V> r = put(root, k, hash(k), v, 0, e);
+		if (r == root) return this;
+		return new Int2ObjectPersistentMap<>(r, e.modified ? size + 1 : size, defRetValue);
+	}
+
+	/**
+	 * Returns a persistent map obtained by removing a key from this map.
+	 *
+	 * <p>
+	 * This map is not modified; the returned map shares with this map all nodes but those on the path
+	 * to the given key. The returned map has the same {@linkplain #defaultReturnValue() default
+	 * return value} as this map.
+	 *
+	 * @param k the key.
+	 * @return a persistent map containing the same entries of this map, except for the entry with key
+	 *         {@code k} (possibly this map, if {@code k} is not in this map).
+	 */
+	public Int2ObjectPersistentMap<V> without(final int k) {
+		final Edit e = new Edit();
+		final Node<V> r = remove(root, k, hash(k), 0, e);
+		if (!e.modified) return this;
+		return new Int2ObjectPersistentMap<>(r, size - 1, defRetValue);
+	}
+
+	/**
+	 * Returns a transient map initially containing the same entries of this map.
+	 *
+	 * <p>
+	 * This method requires constant time, as the transient map shares its nodes with this map, and
+	 * copies them only when they are first modified.
+	 *
+	 * @return a transient map initially containing the same entries of this map.
+	 */
+	public Transient<V> asTransient() {
+		return new Transient<>(root, size, defRetValue);
+	}
+
+	/**
+	 * Throws an {@link UnsupportedOperationException}, as persistent maps are immutable.
+	 *
+	 * <p>
+	 * The default return value of a persistent map is copied from the map it has been built from,
+	 * or it can be set on a {@linkplain #asTransient() transient} map before taking a snapshot.
+	 */
+	@Override
+	public void defaultReturnValue(final V defRetValue) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public V get(final int k) {
+		return get(root, k, defRetValue);
+	}
+
+	@Override
+	public boolean containsKey(final int k) {
+		return containsKey(root, k);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public ObjectSet<Int2ObjectMap.Entry<V>> int2ObjectEntrySet() {
+		return new BasicEntrySet<V>(this) {
+			@Override
+			public ObjectIterator<Int2ObjectMap.Entry<V>> iterator() {
+				return new EntryIterator<>(root);
+			}
+		};
+	}
+
+	/**
+	 * An iterator on the entries of a trie.
+	 *
+	 * <p>
+	 * The trie is visited in preorder: the entries stored in a node are returned before those
+	 * contained in its children. Tries are never modified during the visit, as persistent tries are
+	 * immutable, and transient maps take a snapshot when an iterator is created.
+	 */
+	private static class EntryIterator<V> implements ObjectIterator<Int2ObjectMap.Entry<V>> {
+		/** The stack of nodes on the path to the current node. */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private final Node<V>[] stack = new Node[MAX_DEPTH + 1];
+		/** For each node in {@link #stack}, the index of the next child to visit. */
+		private final int[] child = new int[MAX_DEPTH + 1];
+		/** The depth of the current node. */
+		private int depth;
+		/** The index of the next entry of the current node to be returned. */
+		private int pos;
+
+		EntryIterator(final Node<V> root) {
+			stack[0] = root;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (pos == stack[depth].key.length) {
+				// We move to the next child, or go back towards the root if there is none.
+				while (child[depth] == stack[depth].node.length) if (depth-- == 0) {
+					// We leave the iterator in a state in which it is exhausted.
+					depth = 0;
+					pos = stack[0].key.length;
+					return false;
+				}
+				final Node<V> c = stack[depth].node[child[depth]++];
+				stack[++depth] = c;
+				child[depth] = 0;
+				pos = 0;
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the next entry of the trie.
+		 *
+		 * @return the next entry of the trie.
+		 */
+		@SuppressWarnings("unchecked")
+		Int2ObjectMap.Entry<V> nextEntry() {
+			if (!hasNext()) throw new NoSuchElementException();
+			final Node<V> n = stack[depth];
+			final int i = pos++;
+			return new AbstractInt2ObjectMap.BasicEntry<>(n.key[i], (V)n.value[i]);
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> next() {
+			return nextEntry();
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		final EntryIterator<V> i = new EntryIterator<>(root);
+		for (int j = size; j-- != 0;) {
+			final Int2ObjectMap.Entry<V> e = i.nextEntry();
+			s.writeInt(e.getIntKey());
+			s.writeObject(e.getValue());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		final Edit e = new Edit();
+		root = new Node<>(e);
+		for (int j = size; j-- != 0;) {
+			final int k = s.readInt();
+			root = put(root, k, hash(k), (V)s.readObject(), 0, e);
+		}
+	}
+
+	/**
+	 * A transient map, that is, a mutable map sharing nodes with persistent maps.
+	 *
+	 * <p>
+	 * A transient map is a standard {@link Int2ObjectMap}. Initially, all its nodes are shared with
+	 * the persistent map it has been created from; a node is copied the first time it is modified,
+	 * and subsequent modifications happen in place, so bulk modifications are much faster than on
+	 * persistent maps. At any time, {@link #persistent()} returns in constant time a persistent map
+	 * with the same content; after that, nodes are shared again, and will be copied again when first
+	 * modified.
+	 *
+	 * <p>
+	 * Iterators of a transient map iterate on a snapshot taken when they are created, so they never
+	 * throw a {@link java.util.ConcurrentModificationException}. Their {@code remove()} method removes
+	 * the last returned key from the map.
+	 */
+	public static class Transient<V> extends AbstractInt2ObjectMap<V> implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The root of the trie. */
+		protected transient Node<V> root;
+		/** The number of entries in this map. */
+		protected int size;
+		/** The edit token of this map; nodes marked with this token are not shared. */
+		private transient Edit edit;
+		/**
+		 * Whether an iterator has been created since {@link #edit} was last replaced: in that case, the
+		 * nodes marked with {@link #edit} may be visited by the iterator, and must be copied before being
+		 * modified.
+		 */
+		private transient boolean iterated;
+
+		/**
+		 * Creates a new empty transient map.
+		 */
+		public Transient() {
+			edit = new Edit();
+			root = new Node<>(edit);
+		}
+
+		private Transient(final Node<V> root, final int size, final V defRetValue) {
+			edit = new Edit();
+			this.root = root;
+			this.size = size;
+			this.defRetValue = defRetValue;
+		}
+
+		/**
+		 * Returns a persistent map containing the same entries of this map.
+		 *
+		 * <p>
+		 * This method requires constant time. The returned map has the same
+		 * {@linkplain #defaultReturnValue() default return value} as this map, and it is not affected by
+		 * further modifications of this map.
+		 *
+		 * @return a persistent map containing the same entries of this map.
+		 */
+		public Int2ObjectPersistentMap<V> persistent() {
+			// From now on, all current nodes are shared.
+			edit = new Edit();
+			iterated = false;
+			return new Int2ObjectPersistentMap<>(root, size, defRetValue);
+		}
+
+		/**
+		 * Returns the edit token to be used for a modification.
+		 *
+		 * <p>
+		 * The token is replaced only if an iterator has been created since it was last replaced, so that
+		 * the snapshot visited by the iterator is not modified in place; read-only iterations thus do not
+		 * cause any copying.
+		 *
+		 * @return the edit token to be used for a modification.
+		 */
+		private Edit edit() {
+			if (iterated) {
+				edit = new Edit();
+				iterated = false;
+			}
+			return edit;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V put(final int k, final V v) {
+			final Edit e = edit();
+			e.modified = false;
+			e.oldValue = defRetValue;
+			root = Int2ObjectPersistentMap.put(root, k, hash(k), v, 0, e);
+			final V oldValue = (V)e.oldValue;
+			e.oldValue = null;
+			if (e.modified) {
+				size++;
+				return defRetValue;
+			}
+			return oldValue;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V remove(final int k) {
+			final Edit e = edit();
+			e.modified = false;
+			root = Int2ObjectPersistentMap.remove(root, k, hash(k), 0, e);
+			final V oldValue = (V)e.oldValue;
+			e.oldValue = null;
+			if (!e.modified) return defRetValue;
+			size--;
+			return oldValue;
+		}
+
+		@Override
+		public V get(final int k) {
+			return Int2ObjectPersistentMap.get(root, k, defRetValue);
+		}
+
+		@Override
+		public boolean containsKey(final int k) {
+			return Int2ObjectPersistentMap.containsKey(root, k);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		@Override
+		public void clear() {
+			root = new Node<>(edit);
+			size = 0;
+		}
+
+		@Override
+		public ObjectSet<Int2ObjectMap.Entry<V>> int2ObjectEntrySet() {
+			return new BasicEntrySet<V>(this) {
+				@Override
+				public ObjectIterator<Int2ObjectMap.Entry<V>> iterator() {
+					// We take a snapshot, so that modifications will not affect the iteration: the
+					// current nodes will be copied by the first modification, if any.
+					iterated = true;
+					return new EntryIterator<V>(root) {
+						private int last;
+						private boolean canRemove;
+
+						@Override
+						Int2ObjectMap.Entry<V> nextEntry() {
+							final Int2ObjectMap.Entry<V> e = super.nextEntry();
+							last = e.getIntKey();
+							canRemove = true;
+							return e;
+						}
+
+						@Override
+						public void remove() {
+							if (!canRemove) throw new IllegalStateException();
+							Transient.this.remove(last);
+							canRemove = false;
+						}
+					};
+				}
+
+				@Override
+				public void clear() {
+					Transient.this.clear();
+				}
+			};
+		}
+
+		private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+			s.defaultWriteObject();
+			final EntryIterator<V> i = new EntryIterator<>(root);
+			for (int j = size; j-- != 0;) {
+				final Int2ObjectMap.Entry<V> e = i.nextEntry();
+				s.writeInt(e.getIntKey());
+				s.writeObject(e.getValue());
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+			s.defaultReadObject();
+			edit = new Edit();
+			root = new Node<>(edit);
+			for (int j = size; j-- != 0;) {
+				final int k = s.readInt();
+				root = Int2ObjectPersistentMap.put(root, k, hash(k), (V)s.readObject(), 0, edit);
+			}
+		}
+	}
+}
@@ -494,6 +494,76 @@ public final class Int2ObjectSortedMaps {
 			}
 		}
 
+		@Override
+		public Int2ObjectMap.Entry<V> floorEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> ceilingEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> higherEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> lowerEntry(final int k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public int floorIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.floorIntKey(k);
+			}
+		}
+
+		@Override
+		public int ceilingIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.ceilingIntKey(k);
+			}
+		}
+
+		@Override
+		public int higherIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.higherIntKey(k);
+			}
+		}
+
+		@Override
+		public int lowerIntKey(final int k) {
+			synchronized (sync) {
+				return sortedMap.lowerIntKey(k);
+			}
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -643,6 +713,60 @@ public final class Int2ObjectSortedMaps {
 			return sortedMap.lastIntKey();
 		}
 
+		@Override
+		public Int2ObjectMap.Entry<V> floorEntry(final int k) {
+			final Int2ObjectMap.Entry<? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractInt2ObjectMap.BasicEntry<>(e.getIntKey(), e.getValue());
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> ceilingEntry(final int k) {
+			final Int2ObjectMap.Entry<? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractInt2ObjectMap.BasicEntry<>(e.getIntKey(), e.getValue());
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> higherEntry(final int k) {
+			final Int2ObjectMap.Entry<? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractInt2ObjectMap.BasicEntry<>(e.getIntKey(), e.getValue());
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> lowerEntry(final int k) {
+			final Int2ObjectMap.Entry<? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractInt2ObjectMap.BasicEntry<>(e.getIntKey(), e.getValue());
+		}
+
+		@Override
+		public int floorIntKey(final int k) {
+			return sortedMap.floorIntKey(k);
+		}
+
+		@Override
+		public int ceilingIntKey(final int k) {
+			return sortedMap.ceilingIntKey(k);
+		}
+
+		@Override
+		public int higherIntKey(final int k) {
+			return sortedMap.higherIntKey(k);
+		}
+
+		@Override
+		public int lowerIntKey(final int k) {
+			return sortedMap.lowerIntKey(k);
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Int2ObjectMap.Entry<V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
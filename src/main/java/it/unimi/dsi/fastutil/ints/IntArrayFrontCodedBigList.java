@@ -23,9 +23,15 @@ import static it.unimi.dsi.fastutil.ints.IntArrayFrontCodedList.count;
 import static it.unimi.dsi.fastutil.ints.IntArrayFrontCodedList.readInt;
 import static it.unimi.dsi.fastutil.ints.IntArrayFrontCodedList.writeInt;
 import it.unimi.dsi.fastutil.BigArrays;
+import it.unimi.dsi.fastutil.io.BinIO;
+import it.unimi.dsi.fastutil.io.FastBufferedOutputStream;
 import it.unimi.dsi.fastutil.objects.AbstractObjectBigList;
 import it.unimi.dsi.fastutil.objects.ObjectBigListIterator;
 import it.unimi.dsi.fastutil.longs.LongBigArrays;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Collection;
@@ -66,6 +72,9 @@ import java.util.RandomAccess;
  * Note that the typical usage of front-coded lists is under the form of serialized objects;
  * usually, the data that has to be compacted is processed offline, and the resulting structure is
  * stored permanently. Since the pointer array is not stored, the serialized format is very small.
+ * Alternatively, a list can be {@linkplain #store(DataOutput) stored} in a stable binary format
+ * that can be {@linkplain IntArrayMappedFrontCodedBigList#map(java.nio.channels.FileChannel)
+ * memory-mapped} later, so that it can be used without reading it in memory.
  *
  * <H2>Implementation Details</H2>
  *
@@ -91,6 +100,12 @@ import java.util.RandomAccess;
  */
 public class IntArrayFrontCodedBigList extends AbstractObjectBigList<int[]> implements Serializable, Cloneable, RandomAccess {
 	private static final long serialVersionUID = 1L;
+	/** The magic number starting the {@linkplain #store(DataOutput) binary format}. */
+	static final int MAGIC = 0x4643424C;
+	/** The current version of the {@linkplain #store(DataOutput) binary format}. */
+	static final int VERSION = 0;
+	/** The size in bytes of the header of the {@linkplain #store(DataOutput) binary format}. */
+	static final int HEADER_SIZE = 32;
 	/** The number of arrays in the list. */
 	protected final long n;
 	/** The ratio of this front-coded list. */
@@ -423,6 +438,45 @@ public class IntArrayFrontCodedBigList extends AbstractObjectBigList<int[]> impl
 		for (long[] s : p) for (long e : s) pointers.writeLong(e);
 	}
 
+	/**
+	 * Stores this list in a stable binary format.
+	 *
+	 * <p>
+	 * The format is made of a header of 32 bytes, followed by the pointer big array and by the big
+	 * array containing the compressed arrays, all written using the standard Java (i.e.,
+	 * {@link DataOutput}) byte order. The header contains, in this order, the magic number
+	 * {@code 0x4643424C} (<samp>FCBL</samp> in ASCII) and the version of the format (currently 0) as
+	 * integers, the number of arrays in the list as a long, the ratio and the number of bytes of an
+	 * element as integers, and the length of the big array containing the compressed arrays as a long.
+	 * The number of pointers is the number of arrays divided by the ratio, rounded up, so the
+	 * compressed arrays always start at a position that is a multiple of eight.
+	 *
+	 * @param dataOutput a data output.
+	 * @see IntArrayMappedFrontCodedBigList#map(java.nio.channels.FileChannel)
+	 */
+	public void store(final DataOutput dataOutput) throws IOException {
+		dataOutput.writeInt(MAGIC);
+		dataOutput.writeInt(VERSION);
+		dataOutput.writeLong(n);
+		dataOutput.writeInt(ratio);
+		dataOutput.writeInt(Integer.BYTES);
+		dataOutput.writeLong(BigArrays.length(array));
+		BinIO.storeLongs(p, dataOutput);
+		BinIO.storeInts(array, dataOutput);
+	}
+
+	/**
+	 * Stores this list in a stable binary format in a file given by a filename.
+	 *
+	 * @param filename a filename.
+	 * @see #store(DataOutput)
+	 */
+	public void store(final CharSequence filename) throws IOException {
+		final DataOutputStream dos = new DataOutputStream(new FastBufferedOutputStream(new FileOutputStream(filename.toString())));
+		store(dos);
+		dos.close();
+	}
+
 	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
 		s.defaultReadObject();
 		// Rebuild pointer array
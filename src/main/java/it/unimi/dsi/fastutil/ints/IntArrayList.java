@@ -344,8 +344,12 @@ public class IntArrayList extends AbstractIntList implements RandomAccess, Clone
 
 	@Override
 	public int indexOf(final int k) {
-		for (int i = 0; i < size; i++) if (((k) == (a[i]))) return i;
-		return -1;
+		return IntArrays.indexOf(a, 0, size, k);
+	}
+
+	@Override
+	public boolean contains(final int k) {
+		return IntArrays.indexOf(a, 0, size, k) != -1;
 	}
 
 	@Override
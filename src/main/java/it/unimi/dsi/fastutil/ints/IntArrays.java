@@ -31,6 +31,7 @@ package it.unimi.dsi.fastutil.ints;
 
 import it.unimi.dsi.fastutil.Arrays;
 import it.unimi.dsi.fastutil.Hash;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
@@ -53,6 +54,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  * of elements in {@link java.io.DataInput} format (i.e., not as objects) or as sequences of lines
  * of text.
  *
+ * <h2>Bulk operations</h2>
+ *
+ * <p>
+ * The methods {@code indexOf()}, {@code count()}, {@code sum()}, {@code min()}, {@code max()},
+ * {@code mismatch()}, {@code filter()}, {@code gather()}, {@code scatter()}, {@code add()} and
+ * {@code multiply()} operate on array fragments. They are plain scalar loops: they do not use the
+ * Vector API ({@code jdk.incubator.vector}), and whether they run on SIMD instructions depends
+ * entirely on the auto-vectorization performed by the JIT compiler.
+ *
  * <h2>Sorting</h2>
  *
  * <p>
@@ -205,6 +215,31 @@ public final class IntArrays {
 		return array;
 	}
 
+	/**
+	 * Grows the given array like {@link #grow(int[], int, int)}, but borrowing the new array from
+	 * {@link IntArrayPool} and releasing the old one to it.
+	 *
+	 * <p>
+	 * This method is meant for scratch arrays that are eventually released to the pool, too. The
+	 * array passed as argument must not be used anymore if a new array is returned, and the entries of
+	 * the new array past the first {@code preserve} ones are undefined.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @param preserve the number of elements of the array that must be preserved in case a new
+	 *            allocation is necessary.
+	 * @return {@code array}, if it can contain {@code length} entries; otherwise, a pooled array with
+	 *         at least max({@code length},{@code array.length}/&phi;) entries whose first
+	 *         {@code preserve} entries are the same as those of {@code array}.
+	 */
+	public static int[] pooledGrow(final int[] array, final int length, final int preserve) {
+		if (length <= array.length) return array;
+		final int t[] = IntArrayPool.borrow((int)Math.max(Math.min((long)array.length + (array.length >> 1), Arrays.MAX_ARRAY_SIZE), length));
+		System.arraycopy(array, 0, t, 0, preserve);
+		IntArrayPool.release(array);
+		return t;
+	}
+
 	/**
 	 * Trims the given array to the given length.
 	 *
@@ -833,6 +868,175 @@ public final class IntArrays {
 		parallelQuickSort(x, 0, x.length);
 	}
 
+	/** The maximum length of a range sorted by a sorting network in {@link #vectorSort(int[], int, int)}. */
+	private static final int SORTING_NETWORK_SIZE = 16;
+	/**
+	 * Sorting networks for all lengths up to {@link #SORTING_NETWORK_SIZE}, as sequences of pairs of
+	 * positions; the network for length <var>n</var> is obtained from Batcher's odd&ndash;even
+	 * mergesort network for {@link #SORTING_NETWORK_SIZE} elements by discarding the comparators
+	 * involving positions greater than or equal to <var>n</var>, which would never exchange elements
+	 * if the missing positions contained infinite values.
+	 */
+	private static final int[][] SORTING_NETWORK = new int[SORTING_NETWORK_SIZE + 1][];
+	static {
+		final int[] network = new int[2 * SORTING_NETWORK_SIZE * SORTING_NETWORK_SIZE];
+		int size = 0;
+		for (int p = 1; p < SORTING_NETWORK_SIZE; p <<= 1) {
+			for (int k = p; k >= 1; k >>= 1) {
+				for (int j = k % p; j + k < SORTING_NETWORK_SIZE; j += 2 * k) {
+					for (int i = 0; i < Math.min(k, SORTING_NETWORK_SIZE - j - k); i++) {
+						if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+							network[size++] = i + j;
+							network[size++] = i + j + k;
+						}
+					}
+				}
+			}
+		}
+		for (int n = 0; n <= SORTING_NETWORK_SIZE; n++) {
+			int c = 0;
+			for (int i = 0; i < size; i += 2) if (network[i + 1] < n) c += 2;
+			SORTING_NETWORK[n] = new int[c];
+			c = 0;
+			for (int i = 0; i < size; i += 2) {
+				if (network[i + 1] < n) {
+					SORTING_NETWORK[n][c++] = network[i];
+					SORTING_NETWORK[n][c++] = network[i + 1];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sorts a range of at most {@link #SORTING_NETWORK_SIZE} elements using a sorting network.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	private static void networkSort(final int[] x, final int from, final int to) {
+		final int[] network = SORTING_NETWORK[to - from];
+		for (int c = 0; c < network.length; c += 2) {
+			final int i = from + network[c], j = from + network[c + 1];
+			final int a = x[i], b = x[j];
+			x[i] = Math.min(a, b);
+			x[j] = Math.max(a, b);
+		}
+	}
+
+	/**
+	 * Partitions a range without branching on the outcome of comparisons.
+	 *
+	 * <p>
+	 * This is a variant of Lomuto's scheme in which every element is swapped with the first element
+	 * not smaller than the pivot, and the boundary is advanced by the outcome of the comparison.
+	 *
+	 * @param x an array.
+	 * @param from the index of the first element (inclusive) to be partitioned.
+	 * @param to the index of the last element (exclusive) to be partitioned.
+	 * @param v the pivot.
+	 * @param inclusive whether elements equal to the pivot should be placed in the first part.
+	 * @return the index of the first element of the second part: elements before it are smaller
+	 *         than (or equal to, if {@code inclusive} is true) {@code v}; elements starting from it
+	 *         are greater than or equal to (greater than, if {@code inclusive} is true) {@code v}.
+	 */
+	private static int branchlessPartition(final int[] x, final int from, final int to, final int v, final boolean inclusive) {
+		int m = from;
+		if (inclusive) {
+			for (int i = from; i < to; i++) {
+				final int e = x[i];
+				x[i] = x[m];
+				x[m] = e;
+				m += e <= v ? 1 : 0;
+			}
+		} else {
+			for (int i = from; i < to; i++) {
+				final int e = x[i];
+				x[i] = x[m];
+				x[m] = e;
+				m += e < v ? 1 : 0;
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Sorts a range using a branch-free quicksort.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param depth the number of partitioning steps after which we switch to radix sort.
+	 */
+	private static void vectorSort(final int[] x, int from, int to, int depth) {
+		while (to - from > SORTING_NETWORK_SIZE) {
+			if (depth-- == 0) {
+				// Too many unbalanced partitions: radix sort has linear worst-case complexity
+				radixSort(x, from, to);
+				return;
+			}
+			// Choose a partition element, v
+			final int len = to - from;
+			int m = from + len / 2;
+			int l = from;
+			int n = to - 1;
+			if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+				int s = len / 8;
+				l = med3(x, l, l + s, l + 2 * s);
+				m = med3(x, m - s, m, m + s);
+				n = med3(x, n - 2 * s, n - s, n);
+			}
+			final int v = x[med3(x, l, m, n)]; // Mid-size, med of 3
+			final int p = branchlessPartition(x, from, to, v, false);
+			if (p == from) {
+				// v is the minimum: the elements equal to v are gathered at the start, where they belong
+				from = branchlessPartition(x, from, to, v, true);
+				continue;
+			}
+			// Recurse on the smaller part, iterate on the larger one
+			if (p - from < to - p) {
+				vectorSort(x, from, p, depth);
+				from = p;
+			} else {
+				vectorSort(x, p, to, depth);
+				to = p;
+			}
+		}
+		networkSort(x, from, to);
+	}
+
+	/**
+	 * Sorts the specified range of elements according to the natural ascending order using a
+	 * branch-free quicksort.
+	 *
+	 * <p>
+	 * This method borrows the structure of vectorized sorting algorithms, and it is meant to be
+	 * faster than {@link #quickSort(int[], int, int)} when the outcome of comparisons is
+	 * unpredictable, as it happens with random data. Partitioning uses a variant of Lomuto's scheme
+	 * in which comparisons affect only the arithmetic of indices, so that the inner loop does not
+	 * contain data-dependent branches, and ranges of at most sixteen elements are sorted by
+	 * min&ndash;max sorting networks. If partitioning turns out to be too unbalanced, sorting
+	 * continues using {@linkplain #radixSort(int[], int, int) radix sort}.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void vectorSort(final int[] x, final int from, final int to) {
+		ensureFromTo(x, from, to);
+		vectorSort(x, from, to, 2 * (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(Math.max(1, to - from))));
+	}
+
+	/**
+	 * Sorts an array according to the natural ascending order using a branch-free quicksort.
+	 *
+	 * @param x the array to be sorted.
+	 * @see #vectorSort(int[], int, int)
+	 */
+	public static void vectorSort(final int[] x) {
+		vectorSort(x, 0, x.length);
+	}
+
 	private static int med3Indirect(final int perm[], final int x[], final int a, final int b, final int c) {
 		final int aa = x[perm[a]];
 		final int bb = x[perm[b]];
@@ -1559,6 +1763,49 @@ public final class IntArrays {
 		mergeSort(a, 0, a.length, comp);
 	}
 
+	/**
+	 * Sorts the specified range of elements according to the natural ascending order using mergesort,
+	 * borrowing the support array from {@link IntArrayPool}.
+	 *
+	 * <p>
+	 * This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result of
+	 * the sort. The support array is released to the pool when the sort is complete, so repeated sorts
+	 * of small and medium-sized arrays will not allocate any memory.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void pooledMergeSort(final int a[], final int from, final int to) {
+		ensureFromTo(a, from, to);
+		final int supp[] = IntArrayPool.borrow(to);
+		System.arraycopy(a, from, supp, from, to - from);
+		mergeSort(a, from, to, supp);
+		IntArrayPool.release(supp);
+	}
+
+	/**
+	 * Sorts the specified range of elements according to the order induced by the specified comparator
+	 * using mergesort, borrowing the support array from {@link IntArrayPool}.
+	 *
+	 * <p>
+	 * This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result of
+	 * the sort. The support array is released to the pool when the sort is complete, so repeated sorts
+	 * of small and medium-sized arrays will not allocate any memory.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static void pooledMergeSort(final int a[], final int from, final int to, final IntComparator comp) {
+		ensureFromTo(a, from, to);
+		final int supp[] = IntArrayPool.borrow(to);
+		System.arraycopy(a, from, supp, from, to - from);
+		mergeSort(a, from, to, comp, supp);
+		IntArrayPool.release(supp);
+	}
+
 	/**
 	 * Sorts an array according to the natural ascending order, potentially dynamically choosing an
 	 * appropriate algorithm given the type and size of the array. The sort will be stable unless it is
@@ -2014,6 +2261,46 @@ public final class IntArrays {
 			if (stable) stabilize(perm, a, from, to);
 			return;
 		}
+		radixSortIndirect(perm, a, from, to, stable ? new int[perm.length] : null);
+	}
+
+	/**
+	 * Sorts the specified range of an array using stable indirect radix sort, borrowing the support
+	 * array from {@link IntArrayPool}.
+	 *
+	 * <p>
+	 * This method is equivalent to {@link #radixSortIndirect(int[], int[], int, int, boolean)} with
+	 * {@code stable} set to true, but the support array is released to the pool when the sort is
+	 * complete, so repeated sorts of small and medium-sized ranges will not allocate any memory.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 */
+	public static void pooledRadixSortIndirect(final int[] perm, final int[] a, final int from, final int to) {
+		if (to - from < RADIXSORT_NO_REC) {
+			quickSortIndirect(perm, a, from, to);
+			stabilize(perm, a, from, to);
+			return;
+		}
+		final int[] support = IntArrayPool.borrow(to - from);
+		radixSortIndirect(perm, a, from, to, support);
+		IntArrayPool.release(support);
+	}
+
+	/**
+	 * Sorts the specified range of an array using indirect radix sort and a given support array.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param support an array of at least {@code to - from} elements for a stable sort, or
+	 *            {@code null} for an unstable sort.
+	 */
+	private static void radixSortIndirect(final int[] perm, final int[] a, final int from, final int to, final int[] support) {
+		final boolean stable = support != null;
 		final int maxLevel = DIGITS_PER_ELEMENT - 1;
 		final int stackSize = ((1 << DIGIT_BITS) - 1) * (DIGITS_PER_ELEMENT - 1) + 1;
 		int stackPos = 0;
@@ -2025,7 +2312,6 @@ public final class IntArrays {
 		levelStack[stackPos++] = 0;
 		final int[] count = new int[1 << DIGIT_BITS];
 		final int[] pos = new int[1 << DIGIT_BITS];
-		final int[] support = stable ? new int[perm.length] : null;
 		while (stackPos > 0) {
 			final int first = offsetStack[--stackPos];
 			final int length = lengthStack[stackPos];
@@ -2115,13 +2401,56 @@ public final class IntArrays {
 			radixSortIndirect(perm, a, from, to, stable);
 			return;
 		}
+		parallelRadixSortIndirect(perm, a, from, to, pool, stable ? new int[perm.length] : null);
+	}
+
+	/**
+	 * Sorts the specified range of an array using parallel stable indirect radix sort, borrowing the
+	 * support array from {@link IntArrayPool}.
+	 *
+	 * <p>
+	 * This method is equivalent to
+	 * {@link #parallelRadixSortIndirect(int[], int[], int, int, boolean)} with {@code stable} set to
+	 * true, but the support array is borrowed by the calling thread and released to the pool when the
+	 * sort is complete.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void pooledParallelRadixSortIndirect(final int perm[], final int[] a, final int from, final int to) {
+		ForkJoinPool pool = getPool();
+		if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+			pooledRadixSortIndirect(perm, a, from, to);
+			return;
+		}
+		// Segments are moved to the same positions of the support array
+		final int[] support = IntArrayPool.borrow(to);
+		parallelRadixSortIndirect(perm, a, from, to, pool, support);
+		IntArrayPool.release(support);
+	}
+
+	/**
+	 * Sorts the specified range of an array using parallel indirect radix sort and a given support
+	 * array.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param pool the pool executing the sort.
+	 * @param support an array of at least {@code to} elements for a stable sort, or {@code null} for
+	 *            an unstable sort.
+	 */
+	private static void parallelRadixSortIndirect(final int perm[], final int[] a, final int from, final int to, final ForkJoinPool pool, final int[] support) {
+		final boolean stable = support != null;
 		final int maxLevel = DIGITS_PER_ELEMENT - 1;
 		final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
 		queue.add(new Segment(from, to - from, 0));
 		final AtomicInteger queueSize = new AtomicInteger(1);
 		final int numberOfThreads = pool.getParallelism();
 		final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
-		final int[] support = stable ? new int[perm.length] : null;
 		for (int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
 			final int[] count = new int[1 << DIGIT_BITS];
 			final int[] pos = new int[1 << DIGIT_BITS];
@@ -2508,6 +2837,49 @@ public final class IntArrays {
 			insertionSortIndirect(perm, a, b, from, to);
 			return;
 		}
+		radixSortIndirect(perm, a, b, from, to, stable ? new int[perm.length] : null);
+	}
+
+	/**
+	 * Sorts the specified pair of arrays lexicographically using stable indirect radix sort, borrowing
+	 * the support array from {@link IntArrayPool}.
+	 *
+	 * <p>
+	 * This method is equivalent to
+	 * {@link #radixSortIndirect(int[], int[], int[], int, int, boolean)} with {@code stable} set to
+	 * true, but the support array is released to the pool when the sort is complete, so repeated
+	 * sorts of small and medium-sized ranges will not allocate any memory.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 */
+	public static void pooledRadixSortIndirect(final int[] perm, final int[] a, final int[] b, final int from, final int to) {
+		if (to - from < RADIXSORT_NO_REC_SMALL) {
+			insertionSortIndirect(perm, a, b, from, to);
+			return;
+		}
+		final int[] support = IntArrayPool.borrow(to - from);
+		radixSortIndirect(perm, a, b, from, to, support);
+		IntArrayPool.release(support);
+	}
+
+	/**
+	 * Sorts the specified pair of arrays lexicographically using indirect radix sort and a given
+	 * support array.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param support an array of at least {@code to - from} elements for a stable sort, or
+	 *            {@code null} for an unstable sort.
+	 */
+	private static void radixSortIndirect(final int[] perm, final int[] a, final int[] b, final int from, final int to, final int[] support) {
+		final boolean stable = support != null;
 		final int layers = 2;
 		final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
 		final int stackSize = ((1 << DIGIT_BITS) - 1) * (layers * DIGITS_PER_ELEMENT - 1) + 1;
@@ -2520,7 +2892,6 @@ public final class IntArrays {
 		levelStack[stackPos++] = 0;
 		final int[] count = new int[1 << DIGIT_BITS];
 		final int[] pos = new int[1 << DIGIT_BITS];
-		final int[] support = stable ? new int[perm.length] : null;
 		while (stackPos > 0) {
 			final int first = offsetStack[--stackPos];
 			final int length = lengthStack[stackPos];
@@ -2775,6 +3146,218 @@ public final class IntArrays {
 		return a;
 	}
 
+	/**
+	 * Returns the index of the first occurrence of a given element in an array fragment.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be searched.
+	 * @param to the index of the last element (exclusive) to be searched.
+	 * @param k the element to search for.
+	 * @return the index of the first occurrence of {@code k} in the given fragment, or -1 if there is
+	 *         no such occurrence.
+	 */
+	public static int indexOf(final int[] a, final int from, final int to, final int k) {
+		ensureFromTo(a, from, to);
+		for (int i = from; i < to; i++) if (a[i] == k) return i;
+		return -1;
+	}
+
+	/**
+	 * Counts the occurrences of a given element in an array fragment.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @param k the element to count.
+	 * @return the number of occurrences of {@code k} in the given fragment.
+	 */
+	public static int count(final int[] a, final int from, final int to, final int k) {
+		ensureFromTo(a, from, to);
+		int c = 0;
+		for (int i = from; i < to; i++) c += a[i] == k ? 1 : 0;
+		return c;
+	}
+
+	/**
+	 * Returns the sum of the elements of an array fragment.
+	 *
+	 * <p>
+	 * The sum is computed using {@code long} arithmetic, so it cannot overflow.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be summed.
+	 * @param to the index of the last element (exclusive) to be summed.
+	 * @return the sum of the elements of the given fragment.
+	 */
+	public static long sum(final int[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		long s = 0;
+		for (int i = from; i < to; i++) s += a[i];
+		return s;
+	}
+
+	/**
+	 * Returns the smallest element of an array fragment.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @return the smallest element of the given fragment.
+	 * @throws NoSuchElementException if the fragment is empty.
+	 */
+	public static int min(final int[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		if (from == to) throw new NoSuchElementException();
+		int m = a[from];
+		for (int i = from + 1; i < to; i++) m = Math.min(m, a[i]);
+		return m;
+	}
+
+	/**
+	 * Returns the largest element of an array fragment.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be examined.
+	 * @param to the index of the last element (exclusive) to be examined.
+	 * @return the largest element of the given fragment.
+	 * @throws NoSuchElementException if the fragment is empty.
+	 */
+	public static int max(final int[] a, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		if (from == to) throw new NoSuchElementException();
+		int m = a[from];
+		for (int i = from + 1; i < to; i++) m = Math.max(m, a[i]);
+		return m;
+	}
+
+	/**
+	 * Finds the first mismatch between two array fragments of the same length.
+	 *
+	 * <p>
+	 * This method delegates to
+	 * {@link java.util.Arrays#mismatch(int[], int, int, int[], int, int)}, which is
+	 * intrinsified in recent JVMs.
+	 *
+	 * @param a an array.
+	 * @param aFrom the index of the first element (inclusive) of the fragment of {@code a}.
+	 * @param b another array.
+	 * @param bFrom the index of the first element (inclusive) of the fragment of {@code b}.
+	 * @param length the length of the fragments.
+	 * @return the relative index of the first mismatch between the two fragments, or -1 if the
+	 *         fragments are equal.
+	 */
+	public static int mismatch(final int[] a, final int aFrom, final int[] b, final int bFrom, final int length) {
+		return java.util.Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	/**
+	 * Copies the elements of an array fragment satisfying a predicate into another array.
+	 *
+	 * <p>
+	 * The satisfying elements are packed contiguously in {@code dest} starting at {@code offset},
+	 * preserving their order. The destination array may be {@code a} itself, provided that
+	 * {@code offset} is not greater than {@code from}, in which case the fragment is filtered in
+	 * place.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) to be filtered.
+	 * @param to the index of the last element (exclusive) to be filtered.
+	 * @param predicate a predicate.
+	 * @param dest the destination array.
+	 * @param offset the index in {@code dest} of the first copied element.
+	 * @return the number of elements copied.
+	 */
+	public static int filter(final int[] a, final int from, final int to, final IntPredicate predicate, final int[] dest, final int offset) {
+		ensureFromTo(a, from, to);
+		int j = offset;
+		for (int i = from; i < to; i++) {
+			final int e = a[i];
+			if (predicate.test(e)) dest[j++] = e;
+		}
+		return j - offset;
+	}
+
+	/**
+	 * Gathers elements of an array at given indices.
+	 *
+	 * <p>
+	 * This method sets {@code dest[offset + i - from]} to {@code a[index[i]]} for all {@code i}
+	 * between {@code from} (inclusive) and {@code to} (exclusive).
+	 *
+	 * @param a an array.
+	 * @param index an array of indices into {@code a}.
+	 * @param from the index of the first element (inclusive) of {@code index} to be used.
+	 * @param to the index of the last element (exclusive) of {@code index} to be used.
+	 * @param dest the destination array.
+	 * @param offset the index in {@code dest} of the first gathered element.
+	 */
+	public static void gather(final int[] a, final int[] index, final int from, final int to, final int[] dest, final int offset) {
+		ensureFromTo(index, from, to);
+		ensureOffsetLength(dest, offset, to - from);
+		for (int i = from; i < to; i++) dest[offset + i - from] = a[index[i]];
+	}
+
+	/**
+	 * Scatters elements into an array at given indices.
+	 *
+	 * <p>
+	 * This method sets {@code a[index[i]]} to {@code src[offset + i - from]} for all {@code i} between
+	 * {@code from} (inclusive) and {@code to} (exclusive); if an index appears more than once, the
+	 * last assignment wins.
+	 *
+	 * @param a an array.
+	 * @param index an array of indices into {@code a}.
+	 * @param from the index of the first element (inclusive) of {@code index} to be used.
+	 * @param to the index of the last element (exclusive) of {@code index} to be used.
+	 * @param src the source array.
+	 * @param offset the index in {@code src} of the first element to be scattered.
+	 */
+	public static void scatter(final int[] a, final int[] index, final int from, final int to, final int[] src, final int offset) {
+		ensureFromTo(index, from, to);
+		ensureOffsetLength(src, offset, to - from);
+		for (int i = from; i < to; i++) a[index[i]] = src[offset + i - from];
+	}
+
+	/**
+	 * Adds elementwise two array fragments.
+	 *
+	 * <p>
+	 * This method sets {@code dest[i]} to {@code a[i] + b[i]} for all {@code i} between {@code from}
+	 * (inclusive) and {@code to} (exclusive). The destination array may be one of the two arguments.
+	 *
+	 * @param a an array.
+	 * @param b another array.
+	 * @param dest the destination array.
+	 * @param from the index of the first element (inclusive) to be added.
+	 * @param to the index of the last element (exclusive) to be added.
+	 */
+	public static void add(final int[] a, final int[] b, final int[] dest, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		ensureFromTo(b, from, to);
+		ensureFromTo(dest, from, to);
+		for (int i = from; i < to; i++) dest[i] = a[i] + b[i];
+	}
+
+	/**
+	 * Multiplies elementwise two array fragments.
+	 *
+	 * <p>
+	 * This method sets {@code dest[i]} to {@code a[i] * b[i]} for all {@code i} between {@code from}
+	 * (inclusive) and {@code to} (exclusive). The destination array may be one of the two arguments.
+	 *
+	 * @param a an array.
+	 * @param b another array.
+	 * @param dest the destination array.
+	 * @param from the index of the first element (inclusive) to be multiplied.
+	 * @param to the index of the last element (exclusive) to be multiplied.
+	 */
+	public static void multiply(final int[] a, final int[] b, final int[] dest, final int from, final int to) {
+		ensureFromTo(a, from, to);
+		ensureFromTo(b, from, to);
+		ensureFromTo(dest, from, to);
+		for (int i = from; i < to; i++) dest[i] = a[i] * b[i];
+	}
+
 	/** A type-specific content-based hash strategy for arrays. */
 	private static final class ArrayHashStrategy implements Hash.Strategy<int[]>, java.io.Serializable {
 		private static final long serialVersionUID = -7046029254386353129L;
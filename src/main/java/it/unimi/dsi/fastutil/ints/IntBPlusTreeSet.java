@@ -0,0 +1,1243 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific B+tree set with a fast, cache-friendly implementation.
+ *
+ * <p>
+ * Contrarily to {@link IntRBTreeSet} and {@link IntAVLTreeSet}, this set does not allocate an object
+ * per element: keys are stored in primitive arrays inside leaves holding up to
+ * {@value #LEAF_CAPACITY} keys, and leaves are linked in both directions, so that iteration and
+ * range scans access memory sequentially. Internal nodes store separator keys in primitive arrays
+ * and have a fan-out of up to {@value #INTERNAL_CAPACITY}.
+ *
+ * <p>
+ * Internal nodes record the number of keys in each of their subtrees, so this class provides
+ * order statistics: {@link #rank(int)} and {@link #select(long)} run in logarithmic time, and so
+ * does the computation of the size of a range view.
+ *
+ * <p>
+ * The iterators provided by this class are type-specific
+ * {@link it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}.
+ *
+ * @see Int2IntBPlusTreeMap
+ */
+public class IntBPlusTreeSet extends AbstractIntSortedSet implements java.io.Serializable, Cloneable, IntSortedSet {
+	/** The maximum number of keys in a leaf. */
+	public static final int LEAF_CAPACITY = 64;
+	/** The maximum number of children of an internal node. */
+	public static final int INTERNAL_CAPACITY = 64;
+	/** The minimum number of keys in a leaf that is not the root. */
+	private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+	/** The minimum number of children of an internal node that is not the root. */
+	private static final int INTERNAL_MIN = INTERNAL_CAPACITY / 2;
+	/** The maximum height of the tree (it suffices for more than 2<sup>64</sup> elements). */
+	private static final int MAX_HEIGHT = 16;
+	/** A reference to the root node, or {@code null} if the set is empty. */
+	protected transient Node root;
+	/** The height of the tree (0 if the root is a leaf). */
+	protected transient int height;
+	/** Number of elements in this set. */
+	protected int count;
+	/** The first leaf in this set. */
+	protected transient Leaf firstLeaf;
+	/** The last leaf in this set. */
+	protected transient Leaf lastLeaf;
+	/** This set's comparator, as provided in the constructor. */
+	protected Comparator<? super Integer> storedComparator;
+	/**
+	 * This set's actual comparator; it may differ from {@link #storedComparator} because it is always a
+	 * type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient IntComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353133L;
+	{
+		allocatePaths();
+	}
+
+	/**
+	 * Creates a new empty tree set.
+	 */
+	public IntBPlusTreeSet() {
+		root = null;
+		count = 0;
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = IntComparators.asIntComparator(storedComparator);
+	}
+
+	/**
+	 * Creates a new empty tree set with the given comparator.
+	 *
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntBPlusTreeSet(final Comparator<? super Integer> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new tree set copying a given collection.
+	 *
+	 * @param c a collection to be copied into the new tree set.
+	 */
+	public IntBPlusTreeSet(final Collection<? extends Integer> c) {
+		this();
+		addAll(c);
+	}
+
+	/**
+	 * Creates a new tree set copying a given sorted set (and its {@link Comparator}).
+	 *
+	 * @param s a {@link SortedSet} to be copied into the new tree set.
+	 */
+	public IntBPlusTreeSet(final SortedSet<Integer> s) {
+		this(s.comparator());
+		addAll(s);
+	}
+
+	/**
+	 * Creates a new tree set copying a given type-specific collection.
+	 *
+	 * @param c a type-specific collection to be copied into the new tree set.
+	 */
+	public IntBPlusTreeSet(final IntCollection c) {
+		this();
+		addAll(c);
+	}
+
+	/**
+	 * Creates a new tree set copying a given type-specific sorted set (and its {@link Comparator}).
+	 *
+	 * @param s a type-specific sorted set to be copied into the new tree set.
+	 */
+	public IntBPlusTreeSet(final IntSortedSet s) {
+		this(s.comparator());
+		addAll(s);
+	}
+
+	/**
+	 * Creates a new tree set using elements provided by a type-specific iterator.
+	 *
+	 * @param i a type-specific iterator whose elements will fill the set.
+	 */
+	public IntBPlusTreeSet(final IntIterator i) {
+		while (i.hasNext()) add(i.nextInt());
+	}
+
+	/**
+	 * Creates a new tree set using elements provided by an iterator.
+	 *
+	 * @param i an iterator whose elements will fill the set.
+	 */
+
+	public IntBPlusTreeSet(final Iterator<?> i) {
+		this(IntIterators.asIntIterator(i));
+	}
+
+	/**
+	 * Creates a new tree set and fills it with the elements of a given array using a given
+	 * {@link Comparator}.
+	 *
+	 * @param a an array whose elements will be used to fill the set.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntBPlusTreeSet(final int[] a, final int offset, final int length, final Comparator<? super Integer> c) {
+		this(c);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		for (int i = 0; i < length; i++) add(a[offset + i]);
+	}
+
+	/**
+	 * Creates a new tree set and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the set.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public IntBPlusTreeSet(final int[] a, final int offset, final int length) {
+		this(a, offset, length, null);
+	}
+
+	/**
+	 * Creates a new tree set copying the elements of an array.
+	 *
+	 * @param a an array to be copied into the new tree set.
+	 */
+	public IntBPlusTreeSet(final int[] a) {
+		this();
+		for (int i = 0; i < a.length; i++) add(a[i]);
+	}
+
+	/**
+	 * Creates a new tree set copying the elements of an array using a given {@link Comparator}.
+	 *
+	 * @param a an array to be copied into the new tree set.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntBPlusTreeSet(final int[] a, final Comparator<? super Integer> c) {
+		this(c);
+		for (int i = 0; i < a.length; i++) add(a[i]);
+	}
+
+	/** A node of the tree. */
+	private abstract static class Node {
+		/** The number of keys (in a leaf) or children (in an internal node). */
+		int size;
+	}
+
+	/** A leaf, containing keys in an array, and linked to its neighbours. */
+	private static final class Leaf extends Node {
+		final int[] key = new int[LEAF_CAPACITY];
+		/** The previous and next leaf in key order. */
+		Leaf prev, next;
+	}
+
+	/**
+	 * An internal node. The key {@code key[i]} separates the subtree {@code child[i]} (containing
+	 * smaller keys) from the subtree {@code child[i + 1]} (containing greater or equal keys), and
+	 * {@code count[i]} is the number of keys in the subtree {@code child[i]}.
+	 */
+	private static final class Internal extends Node {
+		final int[] key = new int[INTERNAL_CAPACITY - 1];
+		final Node[] child = new Node[INTERNAL_CAPACITY];
+		final int[] count = new int[INTERNAL_CAPACITY];
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by all accessors. They are (and
+	 * should be maintained) identical to those used in Int2IntBPlusTreeMap.
+	 */
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+
+	final int compare(final int k1, final int k2) {
+		return actualComparator == null ? (Integer.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Returns the index of the child of an internal node that might contain a given key.
+	 *
+	 * @param n an internal node.
+	 * @param k a key.
+	 * @return the number of separators of {@code n} that are smaller than or equal to {@code k}.
+	 */
+	private int childIndex(final Internal n, final int k) {
+		final int[] key = n.key;
+		int from = 0, to = n.size - 1;
+		if (actualComparator == null) {
+			while (from < to) {
+				final int mid = (from + to) >>> 1;
+				if (key[mid] <= k) from = mid + 1;
+				else to = mid;
+			}
+		} else {
+			while (from < to) {
+				final int mid = (from + to) >>> 1;
+				if (actualComparator.compare(key[mid], k) <= 0) from = mid + 1;
+				else to = mid;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * Searches a key in a leaf.
+	 *
+	 * @param l a leaf.
+	 * @param k a key.
+	 * @return the index of the key, if it is contained in the leaf; otherwise,
+	 *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+	 */
+	private int search(final Leaf l, final int k) {
+		final int[] key = l.key;
+		int from = 0, to = l.size - 1;
+		if (actualComparator == null) {
+			while (from <= to) {
+				final int mid = (from + to) >>> 1;
+				final int midVal = key[mid];
+				if (midVal < k) from = mid + 1;
+				else if (midVal > k) to = mid - 1;
+				else return mid;
+			}
+		} else {
+			while (from <= to) {
+				final int mid = (from + to) >>> 1;
+				final int cmp = actualComparator.compare(key[mid], k);
+				if (cmp < 0) from = mid + 1;
+				else if (cmp > 0) to = mid - 1;
+				else return mid;
+			}
+		}
+		return -(from + 1);
+	}
+
+	/**
+	 * Returns the leaf that might contain a given key.
+	 *
+	 * @param k a key.
+	 * @return the leaf that contains {@code k}, if {@code k} is in the set, or the leaf in which
+	 *         {@code k} would be inserted; {@code null} if the set is empty.
+	 */
+	private Leaf leafFor(final int k) {
+		Node n = root;
+		for (int h = height; h-- != 0;) n = ((Internal)n).child[childIndex((Internal)n, k)];
+		return (Leaf)n;
+	}
+
+	/**
+	 * This vector remembers the internal nodes and the child indices followed during the current
+	 * insertion or deletion.
+	 */
+	private transient Internal nodePath[];
+	private transient int indexPath[];
+
+	private void allocatePaths() {
+		nodePath = new Internal[MAX_HEIGHT];
+		indexPath = new int[MAX_HEIGHT];
+	}
+
+	/**
+	 * Returns the leaf that might contain a given key, recording the path followed in
+	 * {@link #nodePath} and {@link #indexPath}.
+	 *
+	 * @param k a key.
+	 * @return the leaf that might contain {@code k}.
+	 */
+	private Leaf descend(final int k) {
+		Node n = root;
+		for (int h = 0; h < height; h++) {
+			final Internal i = (Internal)n;
+			final int c = childIndex(i, k);
+			nodePath[h] = i;
+			indexPath[h] = c;
+			n = i.child[c];
+		}
+		return (Leaf)n;
+	}
+
+	/** Cleans up the node path, or we could have stale references later. */
+	private void clearPath() {
+		for (int h = height; h-- != 0;) nodePath[h] = null;
+	}
+
+	/**
+	 * Returns the number of keys in a subtree.
+	 *
+	 * @param n the root of a subtree.
+	 * @return the number of keys in the subtree rooted at {@code n}.
+	 */
+	private static int weight(final Node n) {
+		if (n instanceof Leaf) return n.size;
+		final int[] count = ((Internal)n).count;
+		int w = 0;
+		for (int i = n.size; i-- != 0;) w += count[i];
+		return w;
+	}
+
+	/**
+	 * Creates the first leaf of an empty set.
+	 *
+	 * @param k the first key.
+	 */
+	private void insertFirst(final int k) {
+		final Leaf l = new Leaf();
+		l.key[0] = k;
+		l.size = 1;
+		root = firstLeaf = lastLeaf = l;
+		height = 0;
+		count = 1;
+	}
+
+	/**
+	 * Inserts a new key in a leaf reached by {@link #descend(int)}, splitting nodes as necessary.
+	 *
+	 * @param l the leaf.
+	 * @param pos the insertion point.
+	 * @param k the new key.
+	 */
+	private void insert(final Leaf l, final int pos, final int k) {
+		count++;
+		for (int h = height; h-- != 0;) nodePath[h].count[indexPath[h]]++;
+		if (l.size < LEAF_CAPACITY) {
+			final int s = l.size - pos;
+			System.arraycopy(l.key, pos, l.key, pos + 1, s);
+			l.key[pos] = k;
+			l.size++;
+			clearPath();
+			return;
+		}
+		final Leaf r = new Leaf();
+		// When appending to the last leaf we do not split in halves, so that sequential loads fill leaves
+		// completely.
+		final int split = pos == LEAF_CAPACITY && l.next == null ? LEAF_CAPACITY : (LEAF_CAPACITY + 1) / 2;
+		if (pos < split) {
+			final int moved = LEAF_CAPACITY - split + 1;
+			System.arraycopy(l.key, split - 1, r.key, 0, moved);
+			System.arraycopy(l.key, pos, l.key, pos + 1, split - 1 - pos);
+			l.key[pos] = k;
+			r.size = moved;
+		} else {
+			final int before = pos - split, after = LEAF_CAPACITY - pos;
+			System.arraycopy(l.key, split, r.key, 0, before);
+			r.key[before] = k;
+			System.arraycopy(l.key, pos, r.key, before + 1, after);
+			r.size = before + 1 + after;
+		}
+		l.size = split;
+		r.next = l.next;
+		r.prev = l;
+		if (l.next != null) l.next.prev = r;
+		else lastLeaf = r;
+		l.next = r;
+		insertChild(height - 1, r.key[0], r);
+	}
+
+	/**
+	 * Inserts a new child in an internal node of the current path, splitting nodes as necessary.
+	 *
+	 * @param h the depth of the internal node in the current path, or -1 if a new root must be created.
+	 * @param separator the separator key for the new child.
+	 * @param c the new child, which will be placed just after the child followed by the current path.
+	 */
+	private void insertChild(int h, int separator, Node c) {
+		for (;;) {
+			if (h < 0) {
+				final Internal newRoot = new Internal();
+				newRoot.child[0] = root;
+				newRoot.child[1] = c;
+				newRoot.key[0] = separator;
+				newRoot.size = 2;
+				newRoot.count[1] = weight(c);
+				newRoot.count[0] = count - newRoot.count[1];
+				root = newRoot;
+				height++;
+				clearPath();
+				return;
+			}
+			final Internal n = nodePath[h];
+			final int pos = indexPath[h] + 1;
+			if (n.size < INTERNAL_CAPACITY) {
+				System.arraycopy(n.key, pos - 1, n.key, pos, n.size - pos);
+				System.arraycopy(n.child, pos, n.child, pos + 1, n.size - pos);
+				System.arraycopy(n.count, pos, n.count, pos + 1, n.size - pos);
+				n.key[pos - 1] = separator;
+				n.child[pos] = c;
+				// The new child contains part of the keys of its left sibling.
+				n.count[pos - 1] -= n.count[pos] = weight(c);
+				n.size++;
+				clearPath();
+				return;
+			}
+			// We build the (overfull) sequences of keys and children, and split them in halves.
+			final int[] key = new int[INTERNAL_CAPACITY];
+			final Node[] child = new Node[INTERNAL_CAPACITY + 1];
+			System.arraycopy(n.key, 0, key, 0, pos - 1);
+			key[pos - 1] = separator;
+			System.arraycopy(n.key, pos - 1, key, pos, INTERNAL_CAPACITY - pos);
+			System.arraycopy(n.child, 0, child, 0, pos);
+			child[pos] = c;
+			System.arraycopy(n.child, pos, child, pos + 1, INTERNAL_CAPACITY - pos);
+			final int[] counts = new int[INTERNAL_CAPACITY + 1];
+			System.arraycopy(n.count, 0, counts, 0, pos);
+			counts[pos - 1] -= counts[pos] = weight(c);
+			System.arraycopy(n.count, pos, counts, pos + 1, INTERNAL_CAPACITY - pos);
+			final int leftSize = (INTERNAL_CAPACITY + 1) / 2, rightSize = INTERNAL_CAPACITY + 1 - leftSize;
+			final Internal r = new Internal();
+			System.arraycopy(key, 0, n.key, 0, leftSize - 1);
+			System.arraycopy(child, 0, n.child, 0, leftSize);
+			System.arraycopy(counts, 0, n.count, 0, leftSize);
+			java.util.Arrays.fill(n.child, leftSize, INTERNAL_CAPACITY, null);
+			n.size = leftSize;
+			System.arraycopy(key, leftSize, r.key, 0, rightSize - 1);
+			System.arraycopy(child, leftSize, r.child, 0, rightSize);
+			System.arraycopy(counts, leftSize, r.count, 0, rightSize);
+			r.size = rightSize;
+			separator = key[leftSize - 1];
+			c = r;
+			nodePath[h--] = null;
+		}
+	}
+
+	@Override
+	public boolean add(final int k) {
+		if (root == null) {
+			insertFirst(k);
+			return true;
+		}
+		final Leaf l = descend(k);
+		final int pos = search(l, k);
+		if (pos >= 0) {
+			clearPath();
+			return false;
+		}
+		insert(l, -pos - 1, k);
+		return true;
+	}
+
+	@Override
+	public boolean remove(final int k) {
+		if (root == null) return false;
+		final Leaf l = descend(k);
+		final int pos = search(l, k);
+		if (pos < 0) {
+			clearPath();
+			return false;
+		}
+		removeAt(l, pos);
+		return true;
+	}
+
+	/**
+	 * Removes a key from a leaf reached by {@link #descend(int)}, rebalancing the tree as necessary.
+	 *
+	 * @param l the leaf.
+	 * @param pos the position of the key to be removed.
+	 */
+	private void removeAt(final Leaf l, final int pos) {
+		count--;
+		for (int h = height; h-- != 0;) nodePath[h].count[indexPath[h]]--;
+		final int s = l.size - pos - 1;
+		System.arraycopy(l.key, pos + 1, l.key, pos, s);
+		l.size--;
+		if (height == 0) {
+			if (l.size == 0) root = firstLeaf = lastLeaf = null;
+			return;
+		}
+		if (l.size >= LEAF_MIN) {
+			clearPath();
+			return;
+		}
+		final Internal p = nodePath[height - 1];
+		final int c = indexPath[height - 1];
+		if (c > 0) {
+			final Leaf left = (Leaf)p.child[c - 1];
+			if (left.size > LEAF_MIN) {
+				// Borrow the last key of the left sibling.
+				System.arraycopy(l.key, 0, l.key, 1, l.size);
+				left.size--;
+				l.key[0] = left.key[left.size];
+				l.size++;
+				p.key[c - 1] = l.key[0];
+				p.count[c - 1]--;
+				p.count[c]++;
+				clearPath();
+				return;
+			}
+		}
+		if (c < p.size - 1) {
+			final Leaf right = (Leaf)p.child[c + 1];
+			if (right.size > LEAF_MIN) {
+				// Borrow the first key of the right sibling.
+				l.key[l.size] = right.key[0];
+				l.size++;
+				right.size--;
+				System.arraycopy(right.key, 1, right.key, 0, right.size);
+				p.key[c] = right.key[0];
+				p.count[c + 1]--;
+				p.count[c]++;
+				clearPath();
+				return;
+			}
+		}
+		// We merge with a sibling.
+		if (c > 0) mergeLeaves((Leaf)p.child[c - 1], l);
+		else mergeLeaves(l, (Leaf)p.child[c + 1]);
+		removeChild(height - 1, c > 0 ? c : c + 1);
+	}
+
+	/**
+	 * Moves the content of a leaf into its left neighbour, and unlinks it.
+	 *
+	 * @param l the left leaf.
+	 * @param r the right leaf, which will be discarded.
+	 */
+	private void mergeLeaves(final Leaf l, final Leaf r) {
+		System.arraycopy(r.key, 0, l.key, l.size, r.size);
+		l.size += r.size;
+		l.next = r.next;
+		if (r.next != null) r.next.prev = l;
+		else lastLeaf = l;
+	}
+
+	/**
+	 * Removes a child (and the separator preceding it) from an internal node of the current path,
+	 * rebalancing the tree as necessary.
+	 *
+	 * @param h the depth of the internal node in the current path.
+	 * @param c the index of the child to be removed (always positive).
+	 */
+	private void removeChild(int h, int c) {
+		for (;;) {
+			final Internal n = nodePath[h];
+			// The keys of the removed child have been merged into its left sibling.
+			n.count[c - 1] += n.count[c];
+			System.arraycopy(n.key, c, n.key, c - 1, n.size - c - 1);
+			System.arraycopy(n.child, c + 1, n.child, c, n.size - c - 1);
+			System.arraycopy(n.count, c + 1, n.count, c, n.size - c - 1);
+			n.child[--n.size] = null;
+			if (h == 0) {
+				if (n.size == 1) {
+					// The root has a single child: we lower the tree.
+					root = n.child[0];
+					nodePath[0] = null;
+					height--;
+				}
+				clearPath();
+				return;
+			}
+			if (n.size >= INTERNAL_MIN) {
+				clearPath();
+				return;
+			}
+			final Internal p = nodePath[h - 1];
+			final int i = indexPath[h - 1];
+			if (i > 0) {
+				final Internal left = (Internal)p.child[i - 1];
+				if (left.size > INTERNAL_MIN) {
+					// Rotate the last child of the left sibling through the parent.
+					System.arraycopy(n.key, 0, n.key, 1, n.size - 1);
+					System.arraycopy(n.child, 0, n.child, 1, n.size);
+					System.arraycopy(n.count, 0, n.count, 1, n.size);
+					n.key[0] = p.key[i - 1];
+					n.child[0] = left.child[left.size - 1];
+					final int w = n.count[0] = left.count[left.size - 1];
+					p.count[i - 1] -= w;
+					p.count[i] += w;
+					n.size++;
+					p.key[i - 1] = left.key[left.size - 2];
+					left.child[--left.size] = null;
+					clearPath();
+					return;
+				}
+			}
+			if (i < p.size - 1) {
+				final Internal right = (Internal)p.child[i + 1];
+				if (right.size > INTERNAL_MIN) {
+					// Rotate the first child of the right sibling through the parent.
+					n.key[n.size - 1] = p.key[i];
+					final int w = n.count[n.size] = right.count[0];
+					p.count[i + 1] -= w;
+					p.count[i] += w;
+					n.child[n.size++] = right.child[0];
+					p.key[i] = right.key[0];
+					System.arraycopy(right.key, 1, right.key, 0, right.size - 2);
+					System.arraycopy(right.child, 1, right.child, 0, right.size - 1);
+					System.arraycopy(right.count, 1, right.count, 0, right.size - 1);
+					right.child[--right.size] = null;
+					clearPath();
+					return;
+				}
+			}
+			// We merge with a sibling, pulling down the separator.
+			if (i > 0) mergeInternals((Internal)p.child[i - 1], p.key[i - 1], n);
+			else mergeInternals(n, p.key[i], (Internal)p.child[i + 1]);
+			nodePath[h--] = null;
+			c = i > 0 ? i : i + 1;
+		}
+	}
+
+	/**
+	 * Moves the content of an internal node into its left neighbour.
+	 *
+	 * @param l the left node.
+	 * @param separator the separator between the two nodes in their parent.
+	 * @param r the right node, which will be discarded.
+	 */
+	private static void mergeInternals(final Internal l, final int separator, final Internal r) {
+		l.key[l.size - 1] = separator;
+		System.arraycopy(r.key, 0, l.key, l.size, r.size - 1);
+		System.arraycopy(r.child, 0, l.child, l.size, r.size);
+		System.arraycopy(r.count, 0, l.count, l.size, r.size);
+		l.size += r.size;
+	}
+
+	@Override
+	public boolean contains(final int k) {
+		return root != null && search(leafFor(k), k) >= 0;
+	}
+
+	@Override
+	public void clear() {
+		count = 0;
+		height = 0;
+		root = null;
+		firstLeaf = lastLeaf = null;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Returns the number of keys in this set that are smaller than a given key.
+	 *
+	 * <p>
+	 * This method runs in logarithmic time.
+	 *
+	 * @param k a key.
+	 * @return the number of keys in this set that are smaller than {@code k} (i.e., the index of
+	 *         {@code k} in the sorted sequence of keys, if {@code k} is in this set).
+	 */
+	public int rank(final int k) {
+		if (root == null) return 0;
+		Node n = root;
+		int r = 0;
+		for (int h = height; h-- != 0;) {
+			final Internal i = (Internal)n;
+			final int c = childIndex(i, k);
+			for (int j = 0; j < c; j++) r += i.count[j];
+			n = i.child[c];
+		}
+		final int pos = search((Leaf)n, k);
+		return r + (pos >= 0 ? pos : -pos - 1);
+	}
+
+	/**
+	 * Returns the key of given rank in this set.
+	 *
+	 * <p>
+	 * This method runs in logarithmic time.
+	 *
+	 * @param index a rank.
+	 * @return the key in this set that is preceded by exactly {@code index} keys.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not smaller than the size of
+	 *             this set.
+	 */
+	public int select(final long index) {
+		if (index < 0 || index >= count) throw new IndexOutOfBoundsException("Index (" + index + ") is not in [0.." + count + ")");
+		int r = (int)index;
+		Node n = root;
+		for (int h = height; h-- != 0;) {
+			final Internal i = (Internal)n;
+			int c = 0;
+			while (r >= i.count[c]) r -= i.count[c++];
+			n = i.child[c];
+		}
+		return ((Leaf)n).key[r];
+	}
+
+	@Override
+	public int firstInt() {
+		if (root == null) throw new NoSuchElementException();
+		return firstLeaf.key[0];
+	}
+
+	@Override
+	public int lastInt() {
+		if (root == null) throw new NoSuchElementException();
+		return lastLeaf.key[lastLeaf.size - 1];
+	}
+
+	@Override
+	public int floorInt(final int k) {
+		return new SetIterator(k).previousInt();
+	}
+
+	@Override
+	public int ceilingInt(final int k) {
+		final SetIterator i = new SetIterator();
+		i.moveTo(k);
+		return i.nextInt();
+	}
+
+	@Override
+	public int higherInt(final int k) {
+		return new SetIterator(k).nextInt();
+	}
+
+	@Override
+	public int lowerInt(final int k) {
+		final SetIterator i = new SetIterator();
+		i.moveTo(k);
+		return i.previousInt();
+	}
+
+	@Override
+	public void forEach(final java.util.function.IntConsumer action) {
+		for (Leaf l = firstLeaf; l != null; l = l.next) {
+			final int[] key = l.key;
+			for (int i = 0, s = l.size; i < s; i++) action.accept(key[i]);
+		}
+	}
+
+	/**
+	 * An iterator on the whole range.
+	 *
+	 * <p>
+	 * The iterator keeps track of a position between two elements, expressed by a leaf and an index in
+	 * the leaf (which might be equal to the size of the leaf). This class can iterate in both
+	 * directions on the linked leaves.
+	 */
+	private class SetIterator implements IntBidirectionalIterator {
+		/** The leaf of the current position, or {@code null} if the set is empty. */
+		Leaf leaf;
+		/** The index of the current position in {@link #leaf}. */
+		int index;
+		/** Whether there is a last returned element that can be removed. */
+		boolean canRemove;
+		/** The last returned element. */
+		int curr;
+
+		SetIterator() {
+			leaf = firstLeaf;
+		}
+
+		SetIterator(final int k) {
+			if ((leaf = leafFor(k)) != null) {
+				final int pos = search(leaf, k);
+				index = pos >= 0 ? pos + 1 : -pos - 1;
+			}
+		}
+
+		/**
+		 * Positions this iterator just before the smallest element greater than or equal to a given key.
+		 *
+		 * @param k a key.
+		 */
+		void moveTo(final int k) {
+			if ((leaf = leafFor(k)) != null) {
+				final int pos = search(leaf, k);
+				index = pos >= 0 ? pos : -pos - 1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return leaf != null && (index < leaf.size || leaf.next != null);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return leaf != null && (index > 0 || leaf.prev != null);
+		}
+
+		/**
+		 * Returns the element that would be returned by {@link #nextInt()}.
+		 *
+		 * @return the next element.
+		 */
+		int peekNext() {
+			return index < leaf.size ? leaf.key[index] : leaf.next.key[0];
+		}
+
+		/**
+		 * Returns the element that would be returned by {@link #previousInt()}.
+		 *
+		 * @return the previous element.
+		 */
+		int peekPrevious() {
+			return index > 0 ? leaf.key[index - 1] : leaf.prev.key[leaf.prev.size - 1];
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) throw new NoSuchElementException();
+			if (index == leaf.size) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			canRemove = true;
+			return curr = leaf.key[index++];
+		}
+
+		@Override
+		public int previousInt() {
+			if (!hasPrevious()) throw new NoSuchElementException();
+			if (index == 0) {
+				leaf = leaf.prev;
+				index = leaf.size;
+			}
+			canRemove = true;
+			return curr = leaf.key[--index];
+		}
+
+		@Override
+		public void remove() {
+			if (!canRemove) throw new IllegalStateException();
+			canRemove = false;
+			IntBPlusTreeSet.this.remove(curr);
+			// The tree might have been restructured, so we locate again our position.
+			moveTo(curr);
+		}
+	}
+
+	@Override
+	public IntBidirectionalIterator iterator() {
+		return new SetIterator();
+	}
+
+	@Override
+	public IntBidirectionalIterator iterator(final int from) {
+		return new SetIterator(from);
+	}
+
+	@Override
+	public IntComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public IntSortedSet headSet(final int to) {
+		return new Subset((0), true, to, false);
+	}
+
+	@Override
+	public IntSortedSet tailSet(final int from) {
+		return new Subset(from, false, (0), true);
+	}
+
+	@Override
+	public IntSortedSet subSet(final int from, final int to) {
+		return new Subset(from, false, to, false);
+	}
+
+	/**
+	 * A subset with given range.
+	 *
+	 * <p>
+	 * This class represents a subset. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the subset is a view on the set, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main set. Thus, things such as
+	 * {@link java.util.SortedSet#first()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly; the latter, however, scans leaves rather than single elements.
+	 */
+	private final class Subset extends AbstractIntSortedSet implements java.io.Serializable, IntSortedSet {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the subset range, unless {@link #bottom} is true. */
+		int from;
+		/** The end of the subset range, unless {@link #top} is true. */
+		int to;
+		/** If true, the subset range starts from -&infin;. */
+		boolean bottom;
+		/** If true, the subset range goes to &infin;. */
+		boolean top;
+
+		/**
+		 * Creates a new subset with given key range.
+		 *
+		 * @param from the start of the subset range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the subset range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Subset(final int from, final boolean bottom, final int to, final boolean top) {
+			if (!bottom && !top && IntBPlusTreeSet.this.compare(from, to) > 0) throw new IllegalArgumentException("Start element (" + from + ") is larger than end element (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+		}
+
+		@Override
+		public void clear() {
+			final SubsetIterator i = new SubsetIterator();
+			while (i.hasNext()) {
+				i.nextInt();
+				i.remove();
+			}
+		}
+
+		/**
+		 * Checks whether a key is in the subset range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the subset range.
+		 */
+		final boolean in(final int k) {
+			return (bottom || IntBPlusTreeSet.this.compare(k, from) >= 0) && (top || IntBPlusTreeSet.this.compare(k, to) < 0);
+		}
+
+		@Override
+
+		public boolean contains(final int k) {
+			return in(k) && IntBPlusTreeSet.this.contains(k);
+		}
+
+		@Override
+		public boolean add(final int k) {
+			if (!in(k)) throw new IllegalArgumentException("Element (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			return IntBPlusTreeSet.this.add(k);
+		}
+
+		@Override
+
+		public boolean remove(final int k) {
+			if (!in(k)) return false;
+			return IntBPlusTreeSet.this.remove(k);
+		}
+
+		@Override
+		public int size() {
+			// Since the range is never inverted, the size is just a difference of ranks.
+			return (top ? count : IntBPlusTreeSet.this.rank(to)) - (bottom ? 0 : IntBPlusTreeSet.this.rank(from));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !new SubsetIterator().hasNext();
+		}
+
+		@Override
+		public IntComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator() {
+			return new SubsetIterator();
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator(final int from) {
+			return new SubsetIterator(from);
+		}
+
+		@Override
+		public IntSortedSet headSet(final int to) {
+			if (top) return new Subset(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Subset(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public IntSortedSet tailSet(final int from) {
+			if (bottom) return new Subset(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Subset(from, false, to, top) : this;
+		}
+
+		@Override
+		public IntSortedSet subSet(int from, int to) {
+			if (top && bottom) return new Subset(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Subset(from, false, to, false);
+		}
+
+		@Override
+		public int firstInt() {
+			final SubsetIterator i = new SubsetIterator();
+			if (!i.hasNext()) throw new NoSuchElementException();
+			return i.peekNext();
+		}
+
+		@Override
+		public int lastInt() {
+			final SubsetIterator i = new SubsetIterator();
+			i.toEnd();
+			if (!i.hasPrevious()) throw new NoSuchElementException();
+			return i.peekPrevious();
+		}
+
+		/**
+		 * An iterator for subranges.
+		 *
+		 * <p>
+		 * This class inherits from {@link SetIterator}, but checks the range of the subset when deciding
+		 * whether a next or previous element exists.
+		 */
+		private final class SubsetIterator extends SetIterator {
+			SubsetIterator() {
+				if (!bottom) moveTo(from);
+			}
+
+			SubsetIterator(final int k) {
+				this();
+				if (hasNext() && (bottom || compare(k, from) >= 0)) {
+					if (!top && compare(k, to) >= 0) toEnd();
+					else {
+						moveTo(k);
+						// We skip k itself, if present.
+						if (hasNext() && compare(peekNext(), k) == 0) nextInt();
+						canRemove = false;
+					}
+				}
+			}
+
+			/** Positions this iterator after the last element of the subset. */
+			void toEnd() {
+				if (top) {
+					leaf = lastLeaf;
+					index = leaf == null ? 0 : leaf.size;
+				} else moveTo(to);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return super.hasNext() && (top || IntBPlusTreeSet.this.compare(peekNext(), to) < 0);
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return super.hasPrevious() && (bottom || IntBPlusTreeSet.this.compare(peekPrevious(), from) >= 0);
+			}
+		}
+	}
+
+	/**
+	 * Returns a deep copy of this tree set.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this tree set; the data stored in the set, however, is not
+	 * cloned. Note that this makes a difference only for object keys.
+	 *
+	 * @return a deep copy of this tree set.
+	 */
+	@Override
+
+	public Object clone() {
+		IntBPlusTreeSet c;
+		try {
+			c = (IntBPlusTreeSet)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.allocatePaths();
+		c.firstLeaf = c.lastLeaf = null;
+		if (root != null) c.root = c.copy(root, height);
+		return c;
+	}
+
+	/**
+	 * Copies recursively a subtree, linking the copied leaves at the end of the list of leaves.
+	 *
+	 * @param n the root of the subtree.
+	 * @param h the height of the subtree.
+	 * @return a copy of the subtree.
+	 */
+	private Node copy(final Node n, final int h) {
+		if (h == 0) {
+			final Leaf l = (Leaf)n, c = new Leaf();
+			System.arraycopy(l.key, 0, c.key, 0, l.size);
+			c.size = l.size;
+			if ((c.prev = lastLeaf) != null) lastLeaf.next = c;
+			else firstLeaf = c;
+			lastLeaf = c;
+			return c;
+		}
+		final Internal i = (Internal)n, c = new Internal();
+		System.arraycopy(i.key, 0, c.key, 0, i.size - 1);
+		System.arraycopy(i.count, 0, c.count, 0, i.size);
+		for (int j = 0; j < i.size; j++) c.child[j] = copy(i.child[j], h - 1);
+		c.size = i.size;
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (Leaf l = firstLeaf; l != null; l = l.next) for (int i = 0; i < l.size; i++) s.writeInt(l.key[i]);
+	}
+
+	/**
+	 * Builds the internal nodes of a tree whose leaves have been already linked, distributing children
+	 * evenly.
+	 *
+	 * @param leaves the number of leaves.
+	 */
+	private void buildIndex(final int leaves) {
+		Node[] level = new Node[leaves];
+		int[] min = new int[leaves];
+		int[] weight = new int[leaves];
+		int i = 0;
+		for (Leaf l = firstLeaf; l != null; l = l.next) {
+			level[i] = l;
+			weight[i] = l.size;
+			min[i++] = l.key[0];
+		}
+		int n = leaves;
+		height = 0;
+		while (n > 1) {
+			final int parents = (n + INTERNAL_CAPACITY - 1) / INTERNAL_CAPACITY;
+			final Node[] up = new Node[parents];
+			final int[] upMin = new int[parents];
+			final int[] upWeight = new int[parents];
+			for (int p = 0, c = 0; p < parents; p++) {
+				final Internal node = new Internal();
+				final int size = n / parents + (p < n % parents ? 1 : 0);
+				upMin[p] = min[c];
+				for (int j = 0; j < size; j++, c++) {
+					node.child[j] = level[c];
+					upWeight[p] += node.count[j] = weight[c];
+					if (j != 0) node.key[j - 1] = min[c];
+				}
+				node.size = size;
+				up[p] = node;
+			}
+			level = up;
+			min = upMin;
+			weight = upWeight;
+			n = parents;
+			height++;
+		}
+		root = level[0];
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		allocatePaths();
+		if (count != 0) {
+			// We distribute keys evenly among leaves, so that each leaf is at least half full.
+			final int leaves = (count + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+			for (int i = 0; i < leaves; i++) {
+				final Leaf l = new Leaf();
+				l.size = count / leaves + (i < count % leaves ? 1 : 0);
+				for (int j = 0; j < l.size; j++) l.key[j] = s.readInt();
+				if ((l.prev = lastLeaf) != null) lastLeaf.next = l;
+				else firstLeaf = l;
+				lastLeaf = l;
+			}
+			buildIndex(leaves);
+		}
+	}
+}
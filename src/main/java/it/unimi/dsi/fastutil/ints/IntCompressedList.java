@@ -0,0 +1,444 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * A type-specific immutable list storing its elements in compressed form.
+ *
+ * <p>
+ * Elements are divided in blocks of {@link #BLOCK_SIZE} elements, and each block is coded using
+ * <em>frame of reference</em>: the minimum of the block is stored explicitly, and the differences
+ * between the elements and the minimum (the <em>residuals</em>) are stored in a bit array using a
+ * fixed number of bits per residual. To avoid that a few large residuals force a large width on the
+ * whole block, the width is chosen so as to minimize the space occupied by the block, storing the
+ * highest bits of residuals that do not fit the width in a separate array of <em>exceptions</em>
+ * (<em>patched</em> frame of reference).
+ *
+ * <p>
+ * Optionally, a list can be <em>delta coded</em>: the first element of each block is stored
+ * explicitly, and frame of reference is applied to the differences between consecutive elements.
+ * Delta coding is very effective for monotone (e.g., sorted) sequences, but it makes random access
+ * slower, as it requires to decode the block up to the requested element. The constructors that do
+ * not specify whether to use delta coding use it if the elements are nondecreasing.
+ *
+ * <p>
+ * Random access is supported through a block index. Iterators,
+ * {@link #forEach(java.util.function.IntConsumer) forEach()} and
+ * {@link #getElements(int, int[], int, int) getElements()} decode a whole block at a time using
+ * straight-line loops with no data-dependent branches, which are amenable to vectorization by the
+ * JIT compiler.
+ *
+ * @see IntImmutableList
+ */
+public class IntCompressedList extends IntLists.ImmutableListBase implements RandomAccess, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The base-2 logarithm of {@link #BLOCK_SIZE}. */
+	private static final int LOG2_BLOCK_SIZE = 7;
+	/** The number of elements in a block. */
+	public static final int BLOCK_SIZE = 1 << LOG2_BLOCK_SIZE;
+	/** The mask used to compute the position of an element in its block. */
+	private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+	/** The cost in bits of an exception (position and highest bits). */
+	private static final int EXCEPTION_COST = Byte.SIZE + Integer.SIZE;
+	/** The number of elements. */
+	private final int size;
+	/** Whether this list is delta coded. */
+	private final boolean delta;
+	/** The bit array containing the residuals, followed by a padding word. */
+	private final long[] data;
+	/** For each block, the index in {@link #data} of the first word of the block. */
+	private final int[] offset;
+	/** For each block, the number of bits per residual. */
+	private final byte[] width;
+	/** For each block, the minimum (or the minimum difference, if {@link #delta} is true). */
+	private final int[] min;
+	/** For each block, the first element, if {@link #delta} is true; {@code null} otherwise. */
+	private final int[] first;
+	/**
+	 * For each block, the index in {@link #exceptionPosition} of the first exception of the block,
+	 * plus a final entry.
+	 */
+	private final int[] exceptionStart;
+	/** The positions in their block of the elements whose residual is an exception. */
+	private final byte[] exceptionPosition;
+	/** The highest bits of exceptional residuals. */
+	private final int[] exceptionHigh;
+
+	/**
+	 * Creates a new compressed list containing the elements of an array, using delta coding if the
+	 * elements are nondecreasing.
+	 *
+	 * @param a an array.
+	 */
+	public IntCompressedList(final int[] a) {
+		this(a, 0, a.length);
+	}
+
+	/**
+	 * Creates a new compressed list containing the elements of a fragment of an array, using delta
+	 * coding if the elements are nondecreasing.
+	 *
+	 * @param a an array.
+	 * @param offset the index of the first element of {@code a} to be used.
+	 * @param length the number of elements to be used.
+	 */
+	public IntCompressedList(final int[] a, final int offset, final int length) {
+		this(a, offset, length, isNondecreasing(a, offset, length));
+	}
+
+	/**
+	 * Creates a new compressed list containing the elements of an array.
+	 *
+	 * @param a an array.
+	 * @param delta whether to use delta coding.
+	 */
+	public IntCompressedList(final int[] a, final boolean delta) {
+		this(a, 0, a.length, delta);
+	}
+
+	/**
+	 * Creates a new compressed list containing the elements of a type-specific collection, using
+	 * delta coding if the elements are nondecreasing.
+	 *
+	 * @param c a type-specific collection.
+	 */
+	public IntCompressedList(final IntCollection c) {
+		this(c.toIntArray());
+	}
+
+	/**
+	 * Creates a new compressed list containing the elements returned by a type-specific iterator,
+	 * using delta coding if the elements are nondecreasing.
+	 *
+	 * @param i a type-specific iterator.
+	 */
+	public IntCompressedList(final IntIterator i) {
+		this(IntIterators.unwrap(i));
+	}
+
+	/**
+	 * Creates a new compressed list containing the elements of a fragment of an array.
+	 *
+	 * @param a an array.
+	 * @param offset the index of the first element of {@code a} to be used.
+	 * @param length the number of elements to be used.
+	 * @param delta whether to use delta coding.
+	 */
+	public IntCompressedList(final int[] a, final int offset, final int length, final boolean delta) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		this.size = length;
+		this.delta = delta;
+		final int blocks = (length + BLOCK_MASK) >>> LOG2_BLOCK_SIZE;
+		this.offset = new int[blocks + 1];
+		width = new byte[blocks];
+		min = new int[blocks];
+		first = delta ? new int[blocks] : null;
+		exceptionStart = new int[blocks + 1];
+		long[] data = new long[16];
+		byte[] exceptionPosition = ByteArrays.EMPTY_ARRAY;
+		int[] exceptionHigh = IntArrays.EMPTY_ARRAY;
+		final int[] residual = new int[BLOCK_SIZE];
+		final int[] count = new int[Integer.SIZE + 1];
+		int words = 0, exceptions = 0;
+		for (int block = 0; block < blocks; block++) {
+			final int from = offset + (block << LOG2_BLOCK_SIZE);
+			final int l = Math.min(BLOCK_SIZE, offset + length - from);
+			// Compute the frame of reference and the residuals (padding with zeroes)
+			int m;
+			if (delta) {
+				first[block] = a[from];
+				m = l > 1 ? a[from + 1] - a[from] : 0;
+				for (int i = 2; i < l; i++) m = Math.min(m, a[from + i] - a[from + i - 1]);
+				residual[0] = 0;
+				for (int i = 1; i < l; i++) residual[i] = a[from + i] - a[from + i - 1] - m;
+			} else {
+				m = a[from];
+				for (int i = 1; i < l; i++) m = Math.min(m, a[from + i]);
+				for (int i = 0; i < l; i++) residual[i] = a[from + i] - m;
+			}
+			java.util.Arrays.fill(residual, l, BLOCK_SIZE, 0);
+			min[block] = m;
+			// Choose the width minimizing the cost of the block, exceptions included
+			java.util.Arrays.fill(count, 0);
+			for (int i = 0; i < BLOCK_SIZE; i++) count[Integer.SIZE - Integer.numberOfLeadingZeros(residual[i])]++;
+			int maxWidth = Integer.SIZE;
+			while (maxWidth > 0 && count[maxWidth] == 0) maxWidth--;
+			int b = maxWidth;
+			long bestCost = (long)BLOCK_SIZE * maxWidth;
+			for (int w = maxWidth - 1, e = 0; w >= 0; w--) {
+				e += count[w + 1];
+				final long cost = (long)BLOCK_SIZE * w + (long)e * EXCEPTION_COST;
+				if (cost < bestCost) {
+					bestCost = cost;
+					b = w;
+				}
+			}
+			width[block] = (byte)b;
+			// Write the residuals (a block occupies exactly 2b words) and the exceptions
+			this.offset[block] = words;
+			data = LongArrays.grow(data, words + 2 * b + 1);
+			if (b != 0) {
+				final long mask = -1L >>> Long.SIZE - b;
+				for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += b) {
+					final long r = residual[i] & 0xFFFFFFFFL;
+					final int w = words + (bit >>> 6), o = bit & 63;
+					data[w] |= (r & mask) << o;
+					if (o + b > Long.SIZE) data[w + 1] |= (r & mask) >>> Long.SIZE - o;
+				}
+			}
+			words += 2 * b;
+			if (b < maxWidth) {
+				for (int i = 0; i < BLOCK_SIZE; i++) {
+					if ((residual[i] >>> b) != 0) {
+						exceptionPosition = ByteArrays.grow(exceptionPosition, exceptions + 1);
+						exceptionHigh = IntArrays.grow(exceptionHigh, exceptions + 1);
+						exceptionPosition[exceptions] = (byte)i;
+						exceptionHigh[exceptions++] = residual[i] >>> b;
+					}
+				}
+			}
+			exceptionStart[block + 1] = exceptions;
+		}
+		this.offset[blocks] = words;
+		this.data = LongArrays.trim(data, words + 1);
+		this.exceptionPosition = ByteArrays.trim(exceptionPosition, exceptions);
+		this.exceptionHigh = IntArrays.trim(exceptionHigh, exceptions);
+	}
+
+	private static boolean isNondecreasing(final int[] a, final int offset, final int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		for (int i = offset + length; i-- > offset + 1;) if (a[i - 1] > a[i]) return false;
+		return true;
+	}
+
+	/**
+	 * Returns the residual at a given position of a block, exceptions excluded.
+	 *
+	 * @param block a block.
+	 * @param pos a position in {@code block}.
+	 * @return the lowest bits of the residual at position {@code pos} of {@code block}.
+	 */
+	private int packed(final int block, final int pos) {
+		final int b = width[block];
+		if (b == 0) return 0;
+		final int bit = pos * b;
+		final int w = offset[block] + (bit >>> 6), o = bit & 63;
+		return (int)((data[w] >>> o | data[w + 1] << 1 << 63 - o) & -1L >>> Long.SIZE - b);
+	}
+
+	/**
+	 * Decodes a block.
+	 *
+	 * @param block a block.
+	 * @param out an array of at least {@link #BLOCK_SIZE} elements that will contain the elements of
+	 *            {@code block} (the content past the end of the list is undefined).
+	 */
+	private void decode(final int block, final int[] out) {
+		final int b = width[block];
+		if (b == 0) java.util.Arrays.fill(out, 0, BLOCK_SIZE, 0);
+		else {
+			final long[] data = this.data;
+			final long mask = -1L >>> Long.SIZE - b;
+			final int base = offset[block];
+			for (int i = 0, bit = 0; i < BLOCK_SIZE; i++, bit += b) {
+				final int w = base + (bit >>> 6), o = bit & 63;
+				out[i] = (int)((data[w] >>> o | data[w + 1] << 1 << 63 - o) & mask);
+			}
+		}
+		for (int e = exceptionStart[block]; e < exceptionStart[block + 1]; e++) out[exceptionPosition[e]] |= exceptionHigh[e] << b;
+		final int m = min[block];
+		if (delta) {
+			int v = first[block];
+			out[0] = v;
+			for (int i = 1; i < BLOCK_SIZE; i++) out[i] = v += m + out[i];
+		} else for (int i = 0; i < BLOCK_SIZE; i++) out[i] += m;
+	}
+
+	@Override
+	public int getInt(final int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final int block = index >>> LOG2_BLOCK_SIZE, pos = index & BLOCK_MASK;
+		final int b = width[block];
+		final int end = exceptionStart[block + 1];
+		if (delta) {
+			// We sum the residuals up to pos
+			int v = first[block] + pos * min[block];
+			for (int i = 1; i <= pos; i++) v += packed(block, i);
+			for (int e = exceptionStart[block]; e < end && exceptionPosition[e] <= pos; e++) v += exceptionHigh[e] << b;
+			return v;
+		}
+		int r = packed(block, pos);
+		for (int e = exceptionStart[block]; e < end && exceptionPosition[e] <= pos; e++) if (exceptionPosition[e] == pos) r |= exceptionHigh[e] << b;
+		return min[block] + r;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns whether this list is delta coded.
+	 *
+	 * @return true if this list is delta coded.
+	 */
+	public boolean isDeltaCoded() {
+		return delta;
+	}
+
+	/**
+	 * Returns the number of bits used by this list.
+	 *
+	 * @return the number of bits used by the bit array, the block index and the exceptions.
+	 */
+	public long numBits() {
+		final long blocks = width.length;
+		return (long)data.length * Long.SIZE + blocks * (Integer.SIZE + Byte.SIZE + Integer.SIZE + (delta ? Integer.SIZE : 0) + Integer.SIZE) + (long)exceptionHigh.length * EXCEPTION_COST;
+	}
+
+	@Override
+	public void getElements(int from, final int[] a, int offset, int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		ensureIndex(from);
+		if (from + length > size) throw new IndexOutOfBoundsException("End index (" + (from + length) + ") is greater than list size (" + size + ")");
+		final int[] buffer = new int[BLOCK_SIZE];
+		while (length > 0) {
+			decode(from >>> LOG2_BLOCK_SIZE, buffer);
+			final int pos = from & BLOCK_MASK;
+			final int l = Math.min(length, BLOCK_SIZE - pos);
+			System.arraycopy(buffer, pos, a, offset, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void forEach(final java.util.function.IntConsumer action) {
+		final int[] buffer = new int[BLOCK_SIZE];
+		for (int block = 0, from = 0; from < size; block++, from += BLOCK_SIZE) {
+			decode(block, buffer);
+			final int l = Math.min(BLOCK_SIZE, size - from);
+			for (int i = 0; i < l; i++) action.accept(buffer[i]);
+		}
+	}
+
+	@Override
+	public int[] toIntArray() {
+		final int[] a = new int[size];
+		getElements(0, a, 0, size);
+		return a;
+	}
+
+	@Override
+	public IntListIterator listIterator(final int index) {
+		ensureIndex(index);
+		return new IntListIterator() {
+			/** The elements of the block {@link #block}. */
+			private final int[] buffer = new int[BLOCK_SIZE];
+			/** The block currently decoded in {@link #buffer}, or -1. */
+			private int block = -1;
+			/** The index of the next element to be returned. */
+			private int pos = index;
+
+			private int element(final int i) {
+				final int block = i >>> LOG2_BLOCK_SIZE;
+				if (block != this.block) decode(this.block = block, buffer);
+				return buffer[i & BLOCK_MASK];
+			}
+
+			@Override
+			public boolean hasNext() {
+				return pos < size;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return pos > 0;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) throw new NoSuchElementException();
+				return element(pos++);
+			}
+
+			@Override
+			public int previousInt() {
+				if (!hasPrevious()) throw new NoSuchElementException();
+				return element(--pos);
+			}
+
+			@Override
+			public int nextIndex() {
+				return pos;
+			}
+
+			@Override
+			public int previousIndex() {
+				return pos - 1;
+			}
+
+			@Override
+			public void forEachRemaining(final java.util.function.IntConsumer action) {
+				while (pos < size) {
+					element(pos);
+					final int end = Math.min(size, (block + 1) << LOG2_BLOCK_SIZE);
+					for (int i = pos & BLOCK_MASK; pos < end; pos++) action.accept(buffer[i++]);
+				}
+			}
+
+			@Override
+			public int back(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int remaining = pos;
+				if (n < remaining) pos -= n;
+				else {
+					pos = 0;
+					return remaining;
+				}
+				return n;
+			}
+
+			@Override
+			public int skip(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int remaining = size - pos;
+				if (n < remaining) pos += n;
+				else {
+					pos = size;
+					return remaining;
+				}
+				return n;
+			}
+		};
+	}
+
+	@Override
+	public IntSpliterator spliterator() {
+		return IntSpliterators.asSpliterator(iterator(), size, IntSpliterators.LIST_SPLITERATOR_CHARACTERISTICS | java.util.Spliterator.IMMUTABLE);
+	}
+}
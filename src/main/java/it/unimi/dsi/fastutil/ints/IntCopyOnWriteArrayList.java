@@ -0,0 +1,501 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A type-specific thread-safe array-based list in which all mutative operations make a fresh copy
+ * of the backing array; provides some additional methods that use polymorphism to avoid
+ * (un)boxing.
+ *
+ * <p>
+ * This class is the type-specific analogue of {@link java.util.concurrent.CopyOnWriteArrayList}:
+ * the backing array, whose length is always equal to the size of the list, is never modified after
+ * having been published through a volatile field. Reads do not lock and always see a consistent
+ * state of the list; iterators work on the <em>snapshot</em> of the list at the time of their
+ * creation, never throw {@link java.util.ConcurrentModificationException}, and do not support
+ * mutative operations. The current snapshot is returned by {@link #elements()}, which is the
+ * fastest way to scan the list in tight loops.
+ *
+ * <p>
+ * Mutative operations synchronize on the list and cost time linear in the size of the list: this
+ * class is thus useful when reads vastly outnumber writes, as in the case of listener lists.
+ * Sublists are views that read the current state of the list, and are not snapshots.
+ *
+ * @see IntArrayList
+ * @see IntLists#synchronize(IntList)
+ */
+public class IntCopyOnWriteArrayList extends AbstractIntList implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The backing array, which is never modified after publication. */
+	private transient volatile int[] a;
+
+	/** Creates a new empty copy-on-write list. */
+	public IntCopyOnWriteArrayList() {
+		a = IntArrays.EMPTY_ARRAY;
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with a given type-specific collection.
+	 *
+	 * @param c a type-specific collection that will be used to fill the list.
+	 */
+	public IntCopyOnWriteArrayList(final IntCollection c) {
+		a = c.toIntArray();
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with a given collection.
+	 *
+	 * @param c a collection that will be used to fill the list.
+	 */
+	public IntCopyOnWriteArrayList(final Collection<? extends Integer> c) {
+		a = IntIterators.unwrap(IntIterators.asIntIterator(c.iterator()));
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the list.
+	 */
+	public IntCopyOnWriteArrayList(final int a[]) {
+		this(a, 0, a.length);
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the list.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public IntCopyOnWriteArrayList(final int a[], final int offset, final int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		this.a = length == 0 ? IntArrays.EMPTY_ARRAY : Arrays.copyOfRange(a, offset, offset + length);
+	}
+
+	/**
+	 * Returns the current snapshot of this list.
+	 *
+	 * <p>
+	 * The returned array has length equal to the size of the list at the time of the call, and it
+	 * will not reflect subsequent modifications to the list. It <strong>must not</strong> be
+	 * modified.
+	 *
+	 * @return the current backing array of this list.
+	 */
+	public int[] elements() {
+		return a;
+	}
+
+	@Override
+	public int getInt(final int index) {
+		final int[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		return a[index];
+	}
+
+	@Override
+	public int size() {
+		return a.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return a.length == 0;
+	}
+
+	@Override
+	public int indexOf(final int k) {
+		final int[] a = this.a;
+		return IntArrays.indexOf(a, 0, a.length, k);
+	}
+
+	@Override
+	public boolean contains(final int k) {
+		return indexOf(k) != -1;
+	}
+
+	@Override
+	public int lastIndexOf(final int k) {
+		final int[] a = this.a;
+		for (int i = a.length; i-- != 0;) if (((k) == (a[i]))) return i;
+		return -1;
+	}
+
+	@Override
+	public synchronized boolean add(final int k) {
+		final int[] a = this.a;
+		final int[] t = Arrays.copyOf(a, a.length + 1);
+		t[a.length] = k;
+		this.a = t;
+		return true;
+	}
+
+	/**
+	 * Adds an element to this list, if it is not already present.
+	 *
+	 * @param k the element to be added.
+	 * @return true if the element was added.
+	 */
+	public synchronized boolean addIfAbsent(final int k) {
+		if (contains(k)) return false;
+		return add(k);
+	}
+
+	@Override
+	public synchronized void add(final int index, final int k) {
+		final int[] a = this.a;
+		ensureIndex(index);
+		final int[] t = new int[a.length + 1];
+		System.arraycopy(a, 0, t, 0, index);
+		t[index] = k;
+		System.arraycopy(a, index, t, index + 1, a.length - index);
+		this.a = t;
+	}
+
+	@Override
+	public synchronized int set(final int index, final int k) {
+		final int[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		final int old = a[index];
+		if (old != k) {
+			final int[] t = a.clone();
+			t[index] = k;
+			this.a = t;
+		}
+		return old;
+	}
+
+	@Override
+	public synchronized int removeInt(final int index) {
+		final int[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		final int old = a[index];
+		removeElements(index, index + 1);
+		return old;
+	}
+
+	@Override
+	public synchronized boolean rem(final int k) {
+		final int index = indexOf(k);
+		if (index == -1) return false;
+		removeElements(index, index + 1);
+		return true;
+	}
+
+	@Override
+	public synchronized void clear() {
+		a = IntArrays.EMPTY_ARRAY;
+	}
+
+	@Override
+	public synchronized void size(final int size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		a = size == 0 ? IntArrays.EMPTY_ARRAY : Arrays.copyOf(a, size);
+	}
+
+	/**
+	 * Copies element of this type-specific list into the given array using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(final int from, final int[] a, final int offset, final int length) {
+		final int[] t = this.a;
+		IntArrays.ensureOffsetLength(a, offset, length);
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(t.length, from, from + length);
+		System.arraycopy(t, from, a, offset, length);
+	}
+
+	/**
+	 * Removes elements of this type-specific list using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param to the end index (exclusive).
+	 */
+	@Override
+	public synchronized void removeElements(final int from, final int to) {
+		final int[] a = this.a;
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(a.length, from, to);
+		if (from == to) return;
+		final int[] t = a.length == to - from ? IntArrays.EMPTY_ARRAY : new int[a.length - (to - from)];
+		System.arraycopy(a, 0, t, 0, from);
+		System.arraycopy(a, to, t, from, a.length - to);
+		this.a = t;
+	}
+
+	/**
+	 * Adds elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public synchronized void addElements(final int index, final int a[], final int offset, final int length) {
+		final int[] s = this.a;
+		ensureIndex(index);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		if (length == 0) return;
+		final int[] t = new int[s.length + length];
+		System.arraycopy(s, 0, t, 0, index);
+		System.arraycopy(a, offset, t, index, length);
+		System.arraycopy(s, index, t, index + length, s.length - index);
+		this.a = t;
+	}
+
+	/**
+	 * Sets elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to start setting elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public synchronized void setElements(final int index, final int a[], final int offset, final int length) {
+		final int[] s = this.a;
+		ensureIndex(index);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		if (index + length > s.length) throw new IndexOutOfBoundsException("End index (" + (index + length) + ") is greater than list size (" + s.length + ")");
+		final int[] t = s.clone();
+		System.arraycopy(a, offset, t, index, length);
+		this.a = t;
+	}
+
+	@Override
+	public boolean addAll(final int index, final IntCollection c) {
+		final int[] a = c.toIntArray();
+		addElements(index, a, 0, a.length);
+		return a.length != 0;
+	}
+
+	@Override
+	public boolean addAll(final IntCollection c) {
+		final int[] a = c.toIntArray();
+		synchronized (this) {
+			addElements(size(), a, 0, a.length);
+		}
+		return a.length != 0;
+	}
+
+	@Override
+	public boolean addAll(final int index, final Collection<? extends Integer> c) {
+		if (c instanceof IntCollection) return addAll(index, (IntCollection)c);
+		final int[] a = IntIterators.unwrap(IntIterators.asIntIterator(c.iterator()));
+		addElements(index, a, 0, a.length);
+		return a.length != 0;
+	}
+
+	@Override
+	public boolean addAll(final Collection<? extends Integer> c) {
+		if (c instanceof IntCollection) return addAll((IntCollection)c);
+		final int[] a = IntIterators.unwrap(IntIterators.asIntIterator(c.iterator()));
+		synchronized (this) {
+			addElements(size(), a, 0, a.length);
+		}
+		return a.length != 0;
+	}
+
+	@Override
+	public synchronized boolean removeIf(final java.util.function.IntPredicate filter) {
+		java.util.Objects.requireNonNull(filter);
+		final int[] a = this.a;
+		final int[] t = new int[a.length];
+		int j = 0;
+		for (final int k : a) if (!filter.test(k)) t[j++] = k;
+		if (j == a.length) return false;
+		this.a = j == 0 ? IntArrays.EMPTY_ARRAY : Arrays.copyOf(t, j);
+		return true;
+	}
+
+	@Override
+	public boolean removeAll(final IntCollection c) {
+		return removeIf((java.util.function.IntPredicate)c::contains);
+	}
+
+	@Override
+	public boolean removeAll(final Collection<?> c) {
+		return removeIf((java.util.function.IntPredicate)k -> c.contains(Integer.valueOf(k)));
+	}
+
+	@Override
+	public boolean retainAll(final IntCollection c) {
+		return removeIf((java.util.function.IntPredicate)k -> !c.contains(k));
+	}
+
+	@Override
+	public boolean retainAll(final Collection<?> c) {
+		return removeIf((java.util.function.IntPredicate)k -> !c.contains(Integer.valueOf(k)));
+	}
+
+	@Override
+	public synchronized void replaceAll(final java.util.function.IntUnaryOperator operator) {
+		java.util.Objects.requireNonNull(operator);
+		final int[] t = a.clone();
+		for (int i = 0; i < t.length; i++) t[i] = operator.applyAsInt(t[i]);
+		a = t;
+	}
+
+	@Override
+	public synchronized void sort(final IntComparator comparator) {
+		final int[] t = a.clone();
+		if (comparator == null) IntArrays.unstableSort(t);
+		else IntArrays.stableSort(t, comparator);
+		a = t;
+	}
+
+	@Override
+	public synchronized void unstableSort(final IntComparator comparator) {
+		final int[] t = a.clone();
+		if (comparator == null) IntArrays.unstableSort(t);
+		else IntArrays.unstableSort(t, comparator);
+		a = t;
+	}
+
+	@Override
+	public void forEach(final java.util.function.IntConsumer action) {
+		for (final int k : a) action.accept(k);
+	}
+
+	@Override
+	public int[] toIntArray() {
+		final int[] a = this.a;
+		return a.length == 0 ? IntArrays.EMPTY_ARRAY : a.clone();
+	}
+
+	@Override
+	public int[] toArray(int a[]) {
+		final int[] t = this.a;
+		if (a == null || a.length < t.length) a = new int[t.length];
+		System.arraycopy(t, 0, a, 0, t.length);
+		return a;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned iterator works on the current snapshot of this list, and does not support the
+	 * optional mutative operations.
+	 */
+	@Override
+	public IntListIterator listIterator(final int index) {
+		final int[] a = this.a;
+		if (index < 0 || index > a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is out of range [0.." + a.length + "]");
+		return new IntListIterator() {
+			int pos = index;
+
+			@Override
+			public boolean hasNext() {
+				return pos < a.length;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return pos > 0;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) throw new NoSuchElementException();
+				return a[pos++];
+			}
+
+			@Override
+			public int previousInt() {
+				if (!hasPrevious()) throw new NoSuchElementException();
+				return a[--pos];
+			}
+
+			@Override
+			public int nextIndex() {
+				return pos;
+			}
+
+			@Override
+			public int previousIndex() {
+				return pos - 1;
+			}
+
+			@Override
+			public void forEachRemaining(final java.util.function.IntConsumer action) {
+				while (pos < a.length) action.accept(a[pos++]);
+			}
+
+			@Override
+			public int back(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int skipped = Math.min(n, pos);
+				pos -= skipped;
+				return skipped;
+			}
+
+			@Override
+			public int skip(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int skipped = Math.min(n, a.length - pos);
+				pos += skipped;
+				return skipped;
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned spliterator works on the current snapshot of this list.
+	 */
+	@Override
+	public IntSpliterator spliterator() {
+		return IntSpliterators.wrap(a, 0, a.length, java.util.Spliterator.IMMUTABLE);
+	}
+
+	@Override
+	public IntCopyOnWriteArrayList clone() {
+		try {
+			// The backing array is never modified, so it can be shared
+			return (IntCopyOnWriteArrayList)super.clone();
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		final int[] a = this.a;
+		s.defaultWriteObject();
+		s.writeInt(a.length);
+		for (final int k : a) s.writeInt(k);
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		final int[] a = new int[s.readInt()];
+		for (int i = 0; i < a.length; i++) a[i] = s.readInt();
+		this.a = a;
+	}
+}
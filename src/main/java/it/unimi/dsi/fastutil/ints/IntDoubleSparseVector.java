@@ -0,0 +1,525 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.Arrays;
+import it.unimi.dsi.fastutil.doubles.DoubleArrays;
+
+/**
+ * An immutable sparse vector of doubles indexed by integers.
+ *
+ * <p>
+ * Instances of this class store the nonzero entries of a vector in two parallel arrays, containing
+ * the indices, in strictly increasing order, and the associated values. With respect to an
+ * {@link Int2DoubleMap}, this representation is much more compact and makes it possible to compute
+ * {@linkplain #dot(IntDoubleSparseVector) inner products} and
+ * {@linkplain #axpy(double, IntDoubleSparseVector, IntDoubleSparseVector) linear combinations} by
+ * merging, which requires just sequential scans. When one of the two vectors is much sparser than
+ * the other, inner products search the indices of the sparser vector in the denser one, instead.
+ *
+ * <p>
+ * Vectors can be built from an {@link Int2DoubleMap}, from parallel arrays, or incrementally using a
+ * {@link Builder}, which accumulates entries in an {@link Int2DoubleOpenHashMap}. Entries whose
+ * value is zero are never stored.
+ *
+ * @see Int2DoubleOpenHashMap
+ */
+public class IntDoubleSparseVector implements java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/**
+	 * The ratio between the number of entries of two vectors above which inner products use binary
+	 * searches instead of merging.
+	 */
+	private static final int SEARCH_RATIO = 16;
+	/** The empty vector. */
+	public static final IntDoubleSparseVector EMPTY = new IntDoubleSparseVector(IntArrays.EMPTY_ARRAY, DoubleArrays.EMPTY_ARRAY, 0, false);
+	/** The indices of the nonzero entries, in strictly increasing order. */
+	private final int[] index;
+	/** The values of the nonzero entries, parallel to {@link #index}. */
+	private final double[] value;
+
+	/**
+	 * Checks that two arrays can be used as the entries of a sparse vector.
+	 *
+	 * @param index the indices.
+	 * @param value the values.
+	 * @return the length of the arrays.
+	 * @throws IllegalArgumentException if the arrays have different lengths or {@code index} is not
+	 *             strictly increasing.
+	 */
+	private static int check(final int[] index, final double[] value) {
+		if (index.length != value.length) throw new IllegalArgumentException("The index array and the value array have different lengths (" + index.length + ", " + value.length + ")");
+		for (int i = 1; i < index.length; i++) if (index[i - 1] >= index[i]) throw new IllegalArgumentException("Indices are not strictly increasing at position " + i + " (" + index[i - 1] + ", " + index[i] + ")");
+		return index.length;
+	}
+
+	/**
+	 * Creates a new sparse vector with given entries.
+	 *
+	 * <p>
+	 * Entries with value zero will be skipped.
+	 *
+	 * @param index the indices, in strictly increasing order.
+	 * @param value the values, parallel to {@code index}.
+	 * @throws IllegalArgumentException if the arrays have different lengths or {@code index} is not
+	 *             strictly increasing.
+	 */
+	public IntDoubleSparseVector(final int[] index, final double[] value) {
+		this(index, value, check(index, value), true);
+	}
+
+	/**
+	 * Creates a new sparse vector with the entries of a map.
+	 *
+	 * <p>
+	 * Entries with value zero will be skipped.
+	 *
+	 * @param m a map from indices to values.
+	 */
+	public IntDoubleSparseVector(final Int2DoubleMap m) {
+		this(fromMap(m));
+	}
+
+	/**
+	 * Creates a new sparse vector sharing the arrays of another sparse vector.
+	 *
+	 * @param v a sparse vector.
+	 */
+	private IntDoubleSparseVector(final IntDoubleSparseVector v) {
+		this.index = v.index;
+		this.value = v.value;
+	}
+
+	/**
+	 * Creates a new sparse vector from a prefix of parallel arrays, skipping zero values.
+	 *
+	 * @param index the indices, in strictly increasing order.
+	 * @param value the values, parallel to {@code index}.
+	 * @param n the number of entries to use.
+	 * @param copy whether to copy the arrays even if they can be used as they are.
+	 */
+	private IntDoubleSparseVector(final int[] index, final double[] value, final int n, final boolean copy) {
+		int nonZero = 0;
+		for (int i = 0; i < n; i++) if (value[i] != 0) nonZero++;
+		if (nonZero == n && !copy && n == index.length) {
+			this.index = index;
+			this.value = value;
+			return;
+		}
+		this.index = new int[nonZero];
+		this.value = new double[nonZero];
+		for (int i = 0, j = 0; i < n; i++) {
+			if (value[i] != 0) {
+				this.index[j] = index[i];
+				this.value[j++] = value[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns the entries of a map as a sparse vector.
+	 *
+	 * @param m a map from indices to values.
+	 * @return a sparse vector containing the entries of {@code m} with nonzero value.
+	 */
+	private static IntDoubleSparseVector fromMap(final Int2DoubleMap m) {
+		final int n = m.size();
+		final int[] key = new int[n];
+		final int[] perm = new int[n];
+		final double[] v = new double[n];
+		int i = 0;
+		for (final Int2DoubleMap.Entry e : Int2DoubleMaps.fastIterable(m)) {
+			key[i] = e.getIntKey();
+			v[i] = e.getDoubleValue();
+			perm[i] = i++;
+		}
+		// Keys are distinct, so sorting pairs sorts the keys and moves the original positions along
+		IntArrays.radixSort(key, perm);
+		final double[] value = new double[n];
+		for (i = 0; i < n; i++) value[i] = v[perm[i]];
+		return new IntDoubleSparseVector(key, value, n, false);
+	}
+
+	/**
+	 * Returns a sparse vector with given entries, checking that indices are strictly increasing but
+	 * without copying the arrays if they contain no zero values.
+	 *
+	 * @param index the indices, in strictly increasing order.
+	 * @param value the values, parallel to {@code index}.
+	 * @return a sparse vector with given entries, possibly backed by the given arrays.
+	 * @throws IllegalArgumentException if the arrays have different lengths or {@code index} is not
+	 *             strictly increasing.
+	 */
+	public static IntDoubleSparseVector wrap(final int[] index, final double[] value) {
+		return new IntDoubleSparseVector(index, value, check(index, value), false);
+	}
+
+	/**
+	 * Returns the number of nonzero entries of this vector.
+	 *
+	 * @return the number of nonzero entries of this vector.
+	 */
+	public int size() {
+		return index.length;
+	}
+
+	/**
+	 * Returns the index of a nonzero entry.
+	 *
+	 * @param i the rank of a nonzero entry in the order of indices.
+	 * @return the index of the nonzero entry of rank {@code i}.
+	 */
+	public int index(final int i) {
+		return index[i];
+	}
+
+	/**
+	 * Returns the value of a nonzero entry.
+	 *
+	 * @param i the rank of a nonzero entry in the order of indices.
+	 * @return the value of the nonzero entry of rank {@code i}.
+	 */
+	public double value(final int i) {
+		return value[i];
+	}
+
+	/**
+	 * Returns the value of this vector at a given index.
+	 *
+	 * @param index an index.
+	 * @return the value of this vector at {@code index} (possibly zero).
+	 */
+	public double get(final int index) {
+		final int p = IntArrays.binarySearch(this.index, index);
+		return p < 0 ? 0 : value[p];
+	}
+
+	/**
+	 * Returns the inner product of this vector with another sparse vector.
+	 *
+	 * @param v a sparse vector.
+	 * @return the inner product of this vector and {@code v}.
+	 */
+	public double dot(final IntDoubleSparseVector v) {
+		IntDoubleSparseVector a = this, b = v;
+		if (a.index.length > b.index.length) {
+			a = v;
+			b = this;
+		}
+		final int[] ai = a.index, bi = b.index;
+		final double[] av = a.value, bv = b.value;
+		final int na = ai.length, nb = bi.length;
+		double s = 0;
+		if ((long)na * SEARCH_RATIO < nb) {
+			for (int i = 0, from = 0; i < na && from < nb; i++) {
+				final int p = IntArrays.binarySearch(bi, from, nb, ai[i]);
+				if (p >= 0) {
+					s += av[i] * bv[p];
+					from = p + 1;
+				} else from = -p - 1;
+			}
+			return s;
+		}
+		for (int i = 0, j = 0; i < na && j < nb;) {
+			final int x = ai[i], y = bi[j];
+			if (x < y) i++;
+			else if (x > y) j++;
+			else s += av[i++] * bv[j++];
+		}
+		return s;
+	}
+
+	/**
+	 * Returns the inner product of this vector with a dense vector.
+	 *
+	 * @param v a dense vector, whose length must be larger than all indices of this vector.
+	 * @return the inner product of this vector and {@code v}.
+	 */
+	public double dot(final double[] v) {
+		final int[] index = this.index;
+		final double[] value = this.value;
+		double s = 0;
+		for (int i = 0; i < index.length; i++) s += value[i] * v[index[i]];
+		return s;
+	}
+
+	/**
+	 * Returns the inner product of this vector with a vector represented by a map.
+	 *
+	 * @param m a map from indices to values, whose {@linkplain Int2DoubleMap#defaultReturnValue()
+	 *            default return value} is zero.
+	 * @return the inner product of this vector and {@code m}.
+	 */
+	public double dot(final Int2DoubleMap m) {
+		double s = 0;
+		for (int i = 0; i < index.length; i++) s += value[i] * m.get(index[i]);
+		return s;
+	}
+
+	/**
+	 * Adds a multiple of this vector to a dense vector.
+	 *
+	 * @param alpha the multiplier.
+	 * @param y a dense vector, whose length must be larger than all indices of this vector, that will
+	 *            be replaced by &alpha;{@code this} + {@code y}.
+	 */
+	public void axpy(final double alpha, final double[] y) {
+		final int[] index = this.index;
+		final double[] value = this.value;
+		for (int i = 0; i < index.length; i++) y[index[i]] += alpha * value[i];
+	}
+
+	/**
+	 * Returns a linear combination of two sparse vectors.
+	 *
+	 * @param alpha the multiplier of {@code x}.
+	 * @param x a sparse vector.
+	 * @param y a sparse vector.
+	 * @return &alpha;{@code x} + {@code y}.
+	 */
+	public static IntDoubleSparseVector axpy(final double alpha, final IntDoubleSparseVector x, final IntDoubleSparseVector y) {
+		final int[] xi = x.index, yi = y.index;
+		final double[] xv = x.value, yv = y.value;
+		final int nx = xi.length, ny = yi.length;
+		final int[] index = new int[nx + ny];
+		final double[] value = new double[nx + ny];
+		int i = 0, j = 0, n = 0;
+		while (i < nx && j < ny) {
+			final int a = xi[i], b = yi[j];
+			if (a < b) {
+				index[n] = a;
+				value[n++] = alpha * xv[i++];
+			} else if (a > b) {
+				index[n] = b;
+				value[n++] = yv[j++];
+			} else {
+				index[n] = a;
+				value[n++] = alpha * xv[i++] + yv[j++];
+			}
+		}
+		while (i < nx) {
+			index[n] = xi[i];
+			value[n++] = alpha * xv[i++];
+		}
+		while (j < ny) {
+			index[n] = yi[j];
+			value[n++] = yv[j++];
+		}
+		return new IntDoubleSparseVector(index, value, n, true);
+	}
+
+	/**
+	 * Returns this vector multiplied by a scalar.
+	 *
+	 * @param alpha the multiplier.
+	 * @return &alpha;{@code this}.
+	 */
+	public IntDoubleSparseVector scale(final double alpha) {
+		final double[] value = new double[this.value.length];
+		for (int i = 0; i < value.length; i++) value[i] = alpha * this.value[i];
+		return new IntDoubleSparseVector(index, value, index.length, false);
+	}
+
+	/**
+	 * Returns the Euclidean norm of this vector.
+	 *
+	 * @return the Euclidean norm of this vector.
+	 */
+	public double norm() {
+		double s = 0;
+		for (final double v : value) s += v * v;
+		return Math.sqrt(s);
+	}
+
+	/**
+	 * Returns the vector formed by the entries of this vector with the largest values.
+	 *
+	 * <p>
+	 * Ties are broken in favor of smaller indices. The selection uses a heap of size {@code k}, so it
+	 * requires time <var>O</var>(<var>n</var> log {@code k}), where <var>n</var> is the number of
+	 * nonzero entries of this vector.
+	 *
+	 * @param k the maximum number of entries to select.
+	 * @return a vector containing the (at most) {@code k} entries of this vector with the largest
+	 *         values.
+	 */
+	public IntDoubleSparseVector topK(final int k) {
+		if (k < 0) throw new IllegalArgumentException("Negative number of entries (" + k + ")");
+		final int n = index.length;
+		if (k >= n) return this;
+		final double[] value = this.value;
+		// A min-heap of positions: the smallest value, and then the largest position, is on top
+		final IntComparator c = (p, q) -> {
+			final int t = Double.compare(value[p], value[q]);
+			return t != 0 ? t : Integer.compare(q, p);
+		};
+		final int[] heap = new int[k];
+		for (int p = 0; p < k; p++) {
+			heap[p] = p;
+			IntHeaps.upHeap(heap, p + 1, p, c);
+		}
+		for (int p = k; p < n; p++) {
+			if (k != 0 && c.compare(p, heap[0]) > 0) {
+				heap[0] = p;
+				IntHeaps.downHeap(heap, k, 0, c);
+			}
+		}
+		IntArrays.quickSort(heap);
+		final int[] topIndex = new int[k];
+		final double[] topValue = new double[k];
+		for (int i = 0; i < k; i++) {
+			topIndex[i] = index[heap[i]];
+			topValue[i] = value[heap[i]];
+		}
+		return new IntDoubleSparseVector(topIndex, topValue, k, false);
+	}
+
+	/**
+	 * Returns the entries of this vector as a map.
+	 *
+	 * @return a new hash map containing the nonzero entries of this vector.
+	 */
+	public Int2DoubleOpenHashMap toMap() {
+		final Int2DoubleOpenHashMap m = new Int2DoubleOpenHashMap(index.length);
+		for (int i = 0; i < index.length; i++) m.put(index[i], value[i]);
+		return m;
+	}
+
+	/**
+	 * Returns the entries of this vector as a dense vector.
+	 *
+	 * @param length the length of the dense vector, which must be larger than all indices of this
+	 *            vector.
+	 * @return a new array of given length containing the values of this vector.
+	 */
+	public double[] toArray(final int length) {
+		final double[] a = new double[length];
+		for (int i = 0; i < index.length; i++) a[index[i]] = value[i];
+		return a;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (o == this) return true;
+		if (!(o instanceof IntDoubleSparseVector)) return false;
+		final IntDoubleSparseVector v = (IntDoubleSparseVector)o;
+		return Arrays.equals(index, v.index) && Arrays.equals(value, v.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(index) + Arrays.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder s = new StringBuilder();
+		s.append('{');
+		for (int i = 0; i < index.length; i++) {
+			if (i != 0) s.append(", ");
+			s.append(index[i]).append("=>").append(value[i]);
+		}
+		return s.append('}').toString();
+	}
+
+	/**
+	 * A mutable builder for sparse vectors.
+	 *
+	 * <p>
+	 * Entries are accumulated in an {@link Int2DoubleOpenHashMap}, and sorted when
+	 * {@link #build()} is called. A builder can be reused after building a vector.
+	 */
+	public static class Builder {
+		/** The map accumulating the entries. */
+		private final Int2DoubleOpenHashMap map;
+
+		/** Creates a new builder. */
+		public Builder() {
+			map = new Int2DoubleOpenHashMap();
+		}
+
+		/**
+		 * Creates a new builder for the given expected number of entries.
+		 *
+		 * @param expected the expected number of entries.
+		 */
+		public Builder(final int expected) {
+			map = new Int2DoubleOpenHashMap(expected);
+		}
+
+		/**
+		 * Adds a value to an entry.
+		 *
+		 * @param index an index.
+		 * @param v the value to add to the entry of given index.
+		 * @return this builder.
+		 */
+		public Builder add(final int index, final double v) {
+			map.addTo(index, v);
+			return this;
+		}
+
+		/**
+		 * Sets the value of an entry.
+		 *
+		 * @param index an index.
+		 * @param v the new value of the entry of given index.
+		 * @return this builder.
+		 */
+		public Builder set(final int index, final double v) {
+			map.put(index, v);
+			return this;
+		}
+
+		/**
+		 * Adds a multiple of a sparse vector to the entries of this builder.
+		 *
+		 * @param alpha the multiplier.
+		 * @param x a sparse vector.
+		 * @return this builder.
+		 */
+		public Builder axpy(final double alpha, final IntDoubleSparseVector x) {
+			final int[] index = x.index;
+			final double[] value = x.value;
+			for (int i = 0; i < index.length; i++) map.addTo(index[i], alpha * value[i]);
+			return this;
+		}
+
+		/**
+		 * Returns the current value of an entry.
+		 *
+		 * @param index an index.
+		 * @return the current value of the entry of given index (possibly zero).
+		 */
+		public double get(final int index) {
+			return map.get(index);
+		}
+
+		/** Removes all entries from this builder. */
+		public void clear() {
+			map.clear();
+		}
+
+		/**
+		 * Builds a sparse vector containing the entries of this builder.
+		 *
+		 * @return a sparse vector containing the nonzero entries of this builder.
+		 */
+		public IntDoubleSparseVector build() {
+			return fromMap(map);
+		}
+	}
+}
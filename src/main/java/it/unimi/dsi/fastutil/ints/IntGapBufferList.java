@@ -0,0 +1,433 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A type-specific array-based list with a movable gap; provides some additional methods that use
+ * polymorphism to avoid (un)boxing.
+ *
+ * <p>
+ * Instances of this class keep the unused part of the backing array (the <em>gap</em>) at the
+ * position of the last insertion or removal, rather than at its end as {@link IntArrayList} does.
+ * Insertions and removals near the gap cost time proportional to the distance from the gap (in
+ * particular, a sequence of edits at or around the same position requires amortized constant time
+ * per edit), and random access requires just an additional comparison. This class is thus
+ * particularly useful for editable sequences and for queues whose insertions happen mostly in a
+ * small region; iterators (including those of {@linkplain #subList(int, int) sublists}) add and
+ * remove elements at the gap.
+ *
+ * <p>
+ * The backing array is enlarged as needed when new entries are created (by increasing its current
+ * length by 50%), but is <em>never</em> made smaller (even on a {@link #clear()}). A family of
+ * {@linkplain #trim() trimming methods} lets you control the size of the backing array.
+ *
+ * <p>
+ * This class implements the bulk methods {@code removeElements()}, {@code addElements()} and
+ * {@code getElements()} using high-performance system calls (e.g.,
+ * {@link System#arraycopy(Object,int,Object,int,int) System.arraycopy()}) instead of expensive
+ * loops.
+ *
+ * @see IntArrayList
+ */
+public class IntGapBufferList extends AbstractIntList implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The initial default capacity of a gap-buffer list. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 10;
+	/** The backing array. */
+	protected transient int a[];
+	/** The current actual size of the list (never greater than the backing-array length). */
+	protected int size;
+	/**
+	 * The start of the gap; the gap ends at {@code gap + a.length - size}, where the elements of index
+	 * greater than or equal to {@code gap} start.
+	 */
+	protected transient int gap;
+
+	/**
+	 * Creates a new gap-buffer list with given capacity.
+	 *
+	 * @param capacity the initial capacity of the gap-buffer list (may be 0).
+	 */
+	public IntGapBufferList(final int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		a = capacity == 0 ? IntArrays.EMPTY_ARRAY : new int[capacity];
+	}
+
+	/** Creates a new gap-buffer list with {@link #DEFAULT_INITIAL_CAPACITY} capacity. */
+	public IntGapBufferList() {
+		a = IntArrays.DEFAULT_EMPTY_ARRAY; // We delay allocation
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with a given type-specific collection.
+	 *
+	 * @param c a type-specific collection that will be used to fill the gap-buffer list.
+	 */
+	public IntGapBufferList(final IntCollection c) {
+		this(c.size());
+		if (c instanceof IntList) ((IntList)c).getElements(0, a, 0, c.size());
+		else IntIterators.unwrap(c.iterator(), a);
+		gap = size = a.length;
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the gap-buffer list.
+	 */
+	public IntGapBufferList(final int a[]) {
+		this(a, 0, a.length);
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the gap-buffer list.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public IntGapBufferList(final int a[], final int offset, final int length) {
+		this(length);
+		System.arraycopy(a, offset, this.a, 0, length);
+		gap = size = length;
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements returned by a type-specific
+	 * iterator.
+	 *
+	 * @param i a type-specific iterator whose returned elements will fill the gap-buffer list.
+	 */
+	public IntGapBufferList(final IntIterator i) {
+		this();
+		while (i.hasNext()) this.add(i.nextInt());
+	}
+
+	/**
+	 * Returns the index in the backing array of an element.
+	 *
+	 * @param index the index of an element.
+	 * @return the index in the backing array of the element of index {@code index}.
+	 */
+	private int position(final int index) {
+		return index < gap ? index : index + a.length - size;
+	}
+
+	/**
+	 * Moves the gap to a given position.
+	 *
+	 * @param index the index of the element that will follow the gap.
+	 */
+	private void moveGap(final int index) {
+		if (index < gap) System.arraycopy(a, index, a, index + a.length - size, gap - index);
+		else if (index > gap) System.arraycopy(a, gap + a.length - size, a, gap, index - gap);
+		gap = index;
+	}
+
+	/**
+	 * Reallocates the backing array, moving the gap to the end of the list.
+	 *
+	 * @param capacity the new length of the backing array.
+	 */
+	private void reallocate(final int capacity) {
+		final int t[] = capacity == 0 ? IntArrays.EMPTY_ARRAY : new int[capacity];
+		getElements(0, t, 0, size);
+		a = t;
+		gap = size;
+	}
+
+	/**
+	 * Ensures that this gap-buffer list can contain the given number of entries without resizing.
+	 *
+	 * @param capacity the new minimum capacity for this gap-buffer list.
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity <= a.length || (a == IntArrays.DEFAULT_EMPTY_ARRAY && capacity <= DEFAULT_INITIAL_CAPACITY)) return;
+		reallocate(capacity);
+	}
+
+	/**
+	 * Grows this gap-buffer list, ensuring that it can contain the given number of entries without
+	 * resizing, and in case increasing the current capacity at least by a factor of 50%.
+	 *
+	 * @param capacity the new minimum capacity for this gap-buffer list.
+	 */
+	private void grow(int capacity) {
+		if (capacity <= a.length) return;
+		if (a != IntArrays.DEFAULT_EMPTY_ARRAY) capacity = (int)Math.max(Math.min((long)a.length + (a.length >> 1), it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE), capacity);
+		else if (capacity < DEFAULT_INITIAL_CAPACITY) capacity = DEFAULT_INITIAL_CAPACITY;
+		reallocate(capacity);
+	}
+
+	@Override
+	public void add(final int index, final int k) {
+		ensureIndex(index);
+		grow(size + 1);
+		moveGap(index);
+		a[gap++] = k;
+		size++;
+	}
+
+	@Override
+	public boolean add(final int k) {
+		grow(size + 1);
+		moveGap(size);
+		a[gap++] = k;
+		size++;
+		return true;
+	}
+
+	@Override
+	public int getInt(final int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		return a[position(index)];
+	}
+
+	@Override
+	public int indexOf(final int k) {
+		final int i = IntArrays.indexOf(a, 0, gap, k);
+		if (i != -1) return i;
+		final int j = IntArrays.indexOf(a, gap + a.length - size, a.length, k);
+		return j == -1 ? -1 : j - (a.length - size);
+	}
+
+	@Override
+	public boolean contains(final int k) {
+		return indexOf(k) != -1;
+	}
+
+	@Override
+	public int lastIndexOf(final int k) {
+		for (int i = size; i-- != 0;) if (((k) == (a[position(i)]))) return i;
+		return -1;
+	}
+
+	@Override
+	public int removeInt(final int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		moveGap(index);
+		final int old = a[gap + a.length - size];
+		size--;
+		return old;
+	}
+
+	@Override
+	public boolean rem(final int k) {
+		final int index = indexOf(k);
+		if (index == -1) return false;
+		removeInt(index);
+		return true;
+	}
+
+	@Override
+	public int set(final int index, final int k) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final int p = position(index);
+		final int old = a[p];
+		a[p] = k;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		size = gap = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void size(final int size) {
+		if (size < this.size) {
+			removeElements(size, this.size);
+			return;
+		}
+		if (size > a.length) reallocate(size);
+		moveGap(this.size);
+		Arrays.fill(a, this.size, size, (0));
+		gap = this.size = size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Trims this gap-buffer list so that the capacity is equal to the size.
+	 *
+	 * @see java.util.ArrayList#trimToSize()
+	 */
+	public void trim() {
+		trim(0);
+	}
+
+	/**
+	 * Trims the backing array if it is too large.
+	 *
+	 * If the current array length is smaller than or equal to {@code n}, this method does nothing.
+	 * Otherwise, it trims the array length to the maximum between {@code n} and {@link #size()}.
+	 *
+	 * @param n the threshold for the trimming.
+	 */
+	public void trim(final int n) {
+		if (n >= a.length || size == a.length) return;
+		reallocate(Math.max(n, size));
+	}
+
+	/**
+	 * Copies element of this type-specific list into the given array using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(final int from, final int[] a, final int offset, final int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(size, from, from + length);
+		// Elements before the gap
+		final int l = Math.max(0, Math.min(length, gap - from));
+		System.arraycopy(this.a, from, a, offset, l);
+		System.arraycopy(this.a, from + l + this.a.length - size, a, offset + l, length - l);
+	}
+
+	/**
+	 * Removes elements of this type-specific list using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param to the end index (exclusive).
+	 */
+	@Override
+	public void removeElements(final int from, final int to) {
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(size, from, to);
+		moveGap(from);
+		size -= to - from;
+	}
+
+	/**
+	 * Adds elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public void addElements(final int index, final int a[], final int offset, final int length) {
+		ensureIndex(index);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		grow(size + length);
+		moveGap(index);
+		System.arraycopy(a, offset, this.a, gap, length);
+		gap += length;
+		size += length;
+	}
+
+	/**
+	 * Sets elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to start setting elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public void setElements(final int index, final int a[], final int offset, final int length) {
+		ensureIndex(index);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		if (index + length > size) throw new IndexOutOfBoundsException("End index (" + (index + length) + ") is greater than list size (" + size + ")");
+		// Elements before the gap
+		final int l = Math.max(0, Math.min(length, gap - index));
+		System.arraycopy(a, offset, this.a, index, l);
+		System.arraycopy(a, offset + l, this.a, index + l + this.a.length - size, length - l);
+	}
+
+	@Override
+	public void forEach(final java.util.function.IntConsumer action) {
+		final int[] a = this.a;
+		for (int i = 0; i < gap; i++) action.accept(a[i]);
+		for (int i = gap + a.length - size; i < a.length; i++) action.accept(a[i]);
+	}
+
+	@Override
+	public boolean addAll(int index, final IntCollection c) {
+		if (c instanceof IntList) {
+			return addAll(index, (IntList)c);
+		}
+		ensureIndex(index);
+		int n = c.size();
+		if (n == 0) return false;
+		grow(size + n);
+		moveGap(index);
+		final IntIterator i = c.iterator();
+		size += n;
+		while (n-- != 0) a[gap++] = i.nextInt();
+		return true;
+	}
+
+	@Override
+	public boolean addAll(final int index, final IntList l) {
+		ensureIndex(index);
+		final int n = l.size();
+		if (n == 0) return false;
+		grow(size + n);
+		moveGap(index);
+		l.getElements(0, a, gap, n);
+		gap += n;
+		size += n;
+		return true;
+	}
+
+	@Override
+	public int[] toArray(int a[]) {
+		if (a == null || a.length < size) a = new int[size];
+		getElements(0, a, 0, size);
+		return a;
+	}
+
+	@Override
+	public IntGapBufferList clone() {
+		final IntGapBufferList cloned;
+		try {
+			cloned = (IntGapBufferList)super.clone();
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+		cloned.a = toIntArray();
+		cloned.gap = size;
+		return cloned;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (int i = 0; i < size; i++) s.writeInt(a[position(i)]);
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		a = new int[size];
+		for (int i = 0; i < size; i++) a[i] = s.readInt();
+		gap = size;
+	}
+}
@@ -0,0 +1,485 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.RandomAccess;
+import it.unimi.dsi.fastutil.Arrays;
+import it.unimi.dsi.fastutil.BigArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * A type-specific big list of small nonnegative integers packed using a fixed number of bits per
+ * element.
+ *
+ * <p>
+ * Elements are stored in an array of longs using a {@linkplain #width() width} between 1 and 32
+ * bits, starting from the lowest bits of each word. There are two packing modes:
+ * <ul>
+ * <li>in <em>straddling</em> mode, elements are stored one after the other, and an element may span
+ * two consecutive words, so no space is wasted;
+ * <li>in <em>non-straddling</em> mode, each word contains &lfloor;64 / <var>w</var>&rfloor; elements of
+ * width <var>w</var>, and its highest bits are unused if <var>w</var> does not divide 64; in exchange,
+ * every access touches a single word.
+ * </ul>
+ *
+ * <p>
+ * Elements are unsigned values of the given width: storing a value that does not fit (e.g., a
+ * negative value if the width is smaller than 32) causes an {@link IllegalArgumentException}. If the
+ * width is 32, all values can be stored, and they are returned unchanged.
+ *
+ * <p>
+ * Besides the usual {@link #getInt(long)} and {@link #set(long, int)} (which returns the previous
+ * value, and thus provides a get-and-set operation), this class provides a fast bulk
+ * {@linkplain #getElements(long, int[], int, int) unpacking method}, methods to
+ * {@linkplain #addElements(int[], int, int) append} elements in bulk, and the possibility of
+ * {@linkplain #width(int) changing the width} of all elements in a single pass. The backing array can
+ * be {@linkplain #elements() accessed directly}, and an existing array of longs can be
+ * {@linkplain #wrap(long[], long, int, boolean) wrapped}, for interoperability with other
+ * implementations of the same layout.
+ *
+ * <p>
+ * The bits of the backing array that do not belong to an element are always zero.
+ *
+ * @see IntBigArrayBigList
+ */
+public class IntPackedBigList extends AbstractIntBigList implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The backing array. */
+	protected transient long[] bits;
+	/** The number of elements in this big list. */
+	protected long size;
+	/** The number of bits per element. */
+	protected int width;
+	/** Whether elements may straddle two words. */
+	protected final boolean straddle;
+	/** The mask containing {@link #width} ones in the lowest bits. */
+	protected transient long mask;
+	/** The number of elements per word, in non-straddling mode. */
+	protected transient int perWord;
+	/** A multiplicative reciprocal of {@link #perWord}, in non-straddling mode. */
+	protected transient long reciprocal;
+
+	/**
+	 * Sets the width and the derived fields.
+	 *
+	 * @param width the new width.
+	 */
+	private void init(final int width) {
+		if (width < 1 || width > Integer.SIZE) throw new IllegalArgumentException("Width (" + width + ") is not between 1 and " + Integer.SIZE);
+		this.width = width;
+		mask = -1L >>> Long.SIZE - width;
+		perWord = Long.SIZE / width;
+		// Scaled by 2^62, so to yield exact quotients for all indices of elements that fit in an array
+		reciprocal = (1L << 62) / perWord + 1;
+	}
+
+	/**
+	 * Creates a new empty packed big list.
+	 *
+	 * @param width the number of bits per element, between 1 and 32.
+	 * @param straddle whether elements may straddle two words.
+	 */
+	public IntPackedBigList(final int width, final boolean straddle) {
+		this.straddle = straddle;
+		init(width);
+		bits = LongArrays.EMPTY_ARRAY;
+	}
+
+	/**
+	 * Creates a new empty packed big list with given capacity.
+	 *
+	 * @param width the number of bits per element, between 1 and 32.
+	 * @param straddle whether elements may straddle two words.
+	 * @param capacity the initial capacity of the big list (may be 0).
+	 */
+	public IntPackedBigList(final int width, final boolean straddle, final long capacity) {
+		this(width, straddle);
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		if (capacity != 0) bits = new long[words(capacity)];
+	}
+
+	/**
+	 * Creates a new packed big list containing the elements of an array.
+	 *
+	 * @param a an array.
+	 * @param width the number of bits per element, between 1 and 32.
+	 * @param straddle whether elements may straddle two words.
+	 */
+	public IntPackedBigList(final int[] a, final int width, final boolean straddle) {
+		this(width, straddle, a.length);
+		addElements(a, 0, a.length);
+	}
+
+	/**
+	 * Wraps an array of longs containing packed elements into a packed big list.
+	 *
+	 * <p>
+	 * The unused bits of the array (i.e., the bits that do not belong to the first {@code size}
+	 * elements, including, in non-straddling mode, the highest bits of each word) will be cleared.
+	 *
+	 * @param bits an array of longs containing packed elements.
+	 * @param size the number of elements.
+	 * @param width the number of bits per element, between 1 and 32.
+	 * @param straddle whether elements may straddle two words.
+	 * @return a new packed big list using {@code bits} as backing array.
+	 */
+	public static IntPackedBigList wrap(final long[] bits, final long size, final int width, final boolean straddle) {
+		final IntPackedBigList l = new IntPackedBigList(width, straddle);
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		if (l.words(size) > bits.length) throw new IllegalArgumentException("The array length (" + bits.length + ") is too small for " + size + " elements of width " + width);
+		l.bits = bits;
+		l.size = size;
+		l.clear(size, bits.length);
+		final int used = l.perWord * width;
+		if (!straddle && used < Long.SIZE) for (int i = l.words(size); i-- != 0;) bits[i] &= (1L << used) - 1;
+		return l;
+	}
+
+	/**
+	 * Returns the number of words necessary to store a given number of elements.
+	 *
+	 * @param n a number of elements.
+	 * @return the number of words necessary to store {@code n} elements.
+	 */
+	private int words(final long n) {
+		final long words = straddle ? (n * width + Long.SIZE - 1) >>> 6 : (n + perWord - 1) / perWord;
+		if (words > Arrays.MAX_ARRAY_SIZE) throw new IllegalArgumentException("Too many elements (" + n + ") for width " + width);
+		return (int)words;
+	}
+
+	/**
+	 * Returns the index of the word containing the first bit of an element in non-straddling mode.
+	 *
+	 * @param index the index of an element.
+	 * @return the index of the word containing the element.
+	 */
+	private long word(final long index) {
+		return Math.multiplyHigh(index << 2, reciprocal);
+	}
+
+	/**
+	 * Checks that a value fits the current width and returns it as an unsigned long.
+	 *
+	 * @param k a value.
+	 * @return {@code k} as an unsigned long.
+	 */
+	private long value(final int k) {
+		final long v = k & 0xFFFFFFFFL;
+		if ((v & ~mask) != 0) throw new IllegalArgumentException("Value (" + k + ") does not fit in " + width + " bits");
+		return v;
+	}
+
+	/**
+	 * Ensures that the backing array can contain the given number of elements.
+	 *
+	 * @param capacity a number of elements.
+	 */
+	private void grow(final long capacity) {
+		final int words = words(capacity);
+		if (words <= bits.length) return;
+		bits = java.util.Arrays.copyOf(bits, (int)Math.max(Math.min((long)bits.length + (bits.length >> 1), Arrays.MAX_ARRAY_SIZE), words));
+	}
+
+	/**
+	 * Writes a value at a given position, assuming the value fits.
+	 *
+	 * @param index a position.
+	 * @param v the value to write, which must fit in {@link #width} bits.
+	 */
+	private void write(final long index, final long v) {
+		final long[] bits = this.bits;
+		if (straddle) {
+			final long pos = index * width;
+			final int w = (int)(pos >>> 6), shift = (int)pos & 63;
+			bits[w] = bits[w] & ~(mask << shift) | v << shift;
+			if (shift + width > Long.SIZE) {
+				final int r = Long.SIZE - shift;
+				bits[w + 1] = bits[w + 1] & ~(mask >>> r) | v >>> r;
+			}
+		} else {
+			final long q = word(index);
+			final int w = (int)q, shift = (int)(index - q * perWord) * width;
+			bits[w] = bits[w] & ~(mask << shift) | v << shift;
+		}
+	}
+
+	@Override
+	public int getInt(final long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final long[] bits = this.bits;
+		if (straddle) {
+			final long pos = index * width;
+			final int w = (int)(pos >>> 6), shift = (int)pos & 63;
+			if (shift + width <= Long.SIZE) return (int)(bits[w] >>> shift & mask);
+			return (int)((bits[w] >>> shift | bits[w + 1] << Long.SIZE - shift) & mask);
+		}
+		final long q = word(index);
+		return (int)(bits[(int)q] >>> (int)(index - q * perWord) * width & mask);
+	}
+
+	/**
+	 * Replaces the element at the specified position in this big list with the specified element.
+	 *
+	 * @param index the index of the element to replace.
+	 * @param k the element to be stored at the specified position.
+	 * @return the element previously at the specified position.
+	 * @throws IllegalArgumentException if {@code k} does not fit in {@link #width()} bits.
+	 */
+	@Override
+	public int set(final long index, final int k) {
+		final int old = getInt(index);
+		write(index, value(k));
+		return old;
+	}
+
+	@Override
+	public boolean add(final int k) {
+		final long v = value(k);
+		grow(size + 1);
+		write(size++, v);
+		return true;
+	}
+
+	/**
+	 * Appends elements to this big list.
+	 *
+	 * <p>
+	 * If some element does not fit in the current width, this big list is left unchanged.
+	 *
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to append.
+	 * @param length the number of elements to append.
+	 * @throws IllegalArgumentException if some element does not fit in {@link #width()} bits.
+	 */
+	public void addElements(final int[] a, int offset, int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		final long n = length;
+		int or = 0;
+		for (int i = offset; i < offset + length; i++) or |= a[i];
+		if (((or & 0xFFFFFFFFL) & ~mask) != 0) for (int i = offset; i < offset + length; i++) value(a[i]);
+		grow(size + n);
+		final long[] bits = this.bits;
+		final int width = this.width;
+		if (straddle) {
+			final long pos = size * width;
+			int w = (int)(pos >>> 6), shift = (int)pos & 63;
+			while (length-- != 0) {
+				final long v = a[offset++] & 0xFFFFFFFFL;
+				bits[w] |= v << shift;
+				if (shift + width > Long.SIZE) bits[w + 1] |= v >>> Long.SIZE - shift;
+				shift += width;
+				w += shift >>> 6;
+				shift &= 63;
+			}
+		} else {
+			final long q = word(size);
+			final int limit = perWord * width;
+			int w = (int)q, shift = (int)(size - q * perWord) * width;
+			while (length-- != 0) {
+				bits[w] |= (a[offset++] & 0xFFFFFFFFL) << shift;
+				if ((shift += width) == limit) {
+					shift = 0;
+					w++;
+				}
+			}
+		}
+		size += n;
+	}
+
+	/**
+	 * Copies (hopefully quickly) elements of this big list into an array, unpacking them.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(final long from, final int[] a, int offset, int length) {
+		IntArrays.ensureOffsetLength(a, offset, length);
+		BigArrays.ensureFromTo(size, from, from + length);
+		final long[] bits = this.bits;
+		final long mask = this.mask;
+		final int width = this.width;
+		if (straddle) {
+			final long pos = from * width;
+			int w = (int)(pos >>> 6), shift = (int)pos & 63;
+			while (length-- != 0) {
+				long v = bits[w] >>> shift;
+				if (shift + width > Long.SIZE) v |= bits[w + 1] << Long.SIZE - shift;
+				a[offset++] = (int)(v & mask);
+				shift += width;
+				w += shift >>> 6;
+				shift &= 63;
+			}
+		} else {
+			final long q = word(from);
+			final int limit = perWord * width;
+			int w = (int)q, shift = (int)(from - q * perWord) * width;
+			while (length-- != 0) {
+				a[offset++] = (int)(bits[w] >>> shift & mask);
+				if ((shift += width) == limit) {
+					shift = 0;
+					w++;
+				}
+			}
+		}
+	}
+
+	@Override
+	public long size64() {
+		return size;
+	}
+
+	/**
+	 * Sets the size of this big list.
+	 *
+	 * <p>
+	 * If the specified size is greater than the current size, new elements are set to zero.
+	 *
+	 * @param size the new size.
+	 */
+	@Override
+	public void size(final long size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		if (size > this.size) grow(size);
+		else if (size < this.size) clear(size, words(this.size));
+		this.size = size;
+	}
+
+	/**
+	 * Clears the bits of the elements starting from a given index.
+	 *
+	 * @param from the index of the first element to be cleared.
+	 * @param end the index of the word (exclusive) where clearing stops.
+	 */
+	private void clear(final long from, final int end) {
+		final int w;
+		final int shift;
+		if (straddle) {
+			final long pos = from * width;
+			w = (int)(pos >>> 6);
+			shift = (int)pos & 63;
+		} else {
+			final long q = word(from);
+			w = (int)q;
+			shift = (int)(from - q * perWord) * width;
+		}
+		if (w < end) {
+			bits[w] &= (1L << shift) - 1;
+			java.util.Arrays.fill(bits, w + 1, end, 0);
+		}
+	}
+
+	@Override
+	public void clear() {
+		java.util.Arrays.fill(bits, 0, words(size), 0);
+		size = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of bits per element.
+	 *
+	 * @return the number of bits per element.
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * Changes the number of bits per element, repacking all elements in a single pass.
+	 *
+	 * <p>
+	 * If some element does not fit in the new width, this big list is left unchanged.
+	 *
+	 * @param width the new number of bits per element, between 1 and 32.
+	 * @throws IllegalArgumentException if some element does not fit in {@code width} bits.
+	 */
+	public void width(final int width) {
+		if (width == this.width) return;
+		final IntPackedBigList t = new IntPackedBigList(width, straddle, size);
+		final int[] buffer = new int[(int)Math.min(size, 1024)];
+		for (long from = 0; from < size;) {
+			final int length = (int)Math.min(buffer.length, size - from);
+			getElements(from, buffer, 0, length);
+			t.addElements(buffer, 0, length);
+			from += length;
+		}
+		bits = t.bits;
+		init(width);
+	}
+
+	/**
+	 * Returns whether elements may straddle two words.
+	 *
+	 * @return true if this big list uses straddling packing mode.
+	 */
+	public boolean isStraddling() {
+		return straddle;
+	}
+
+	/**
+	 * Returns the backing array of this big list.
+	 *
+	 * <p>
+	 * The array may be longer than necessary; its unused bits are zero.
+	 *
+	 * @return the backing array.
+	 */
+	public long[] elements() {
+		return bits;
+	}
+
+	/**
+	 * Trims the backing array so that it has exactly the length necessary to store the elements of this
+	 * big list.
+	 */
+	public void trim() {
+		final int words = words(size);
+		if (words < bits.length) bits = words == 0 ? LongArrays.EMPTY_ARRAY : java.util.Arrays.copyOf(bits, words);
+	}
+
+	@Override
+	public IntPackedBigList clone() {
+		final IntPackedBigList cloned;
+		try {
+			cloned = (IntPackedBigList)super.clone();
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+		cloned.bits = java.util.Arrays.copyOf(bits, words(size));
+		return cloned;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		final int words = words(size);
+		for (int i = 0; i < words; i++) s.writeLong(bits[i]);
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		init(width);
+		bits = new long[words(size)];
+		for (int i = 0; i < bits.length; i++) bits[i] = s.readLong();
+	}
+}
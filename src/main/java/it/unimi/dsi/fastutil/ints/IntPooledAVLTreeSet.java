@@ -0,0 +1,1078 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.ints;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific AVL tree set whose nodes are stored in parallel arrays.
+ *
+ * <p>
+ * Instances of this class behave like an {@link IntAVLTreeSet}, but no object is allocated per
+ * element: each node of the tree is an index into parallel arrays containing keys, children, parents
+ * and heights. Nodes of deleted elements are kept in a free list and reused by subsequent
+ * insertions, and {@link #clear()} takes constant time, as it simply discards all nodes at once.
+ *
+ * <p>
+ * The backing arrays grow as needed, but they never shrink, except by {@link #trim()}.
+ *
+ * <p>
+ * The iterators provided by this class are type-specific
+ * {@link it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. Moreover, the
+ * iterator returned by {@code iterator()} can be safely cast to a type-specific
+ * {@linkplain java.util.ListIterator list iterator}.
+ *
+ * @see Int2IntPooledAVLTreeMap
+ */
+public class IntPooledAVLTreeSet extends AbstractIntSortedSet implements java.io.Serializable, Cloneable, IntSortedSet {
+	/** The index of the null node. */
+	private static final int NIL = -1;
+	/** The default initial capacity of a set. */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	/** The index of the root node, or {@link #NIL}. */
+	protected transient int tree = NIL;
+	/** Number of elements in this set. */
+	protected int count;
+	/** The node of the first element of this set, or {@link #NIL}. */
+	protected transient int firstNode = NIL;
+	/** The node of the last element of this set, or {@link #NIL}. */
+	protected transient int lastNode = NIL;
+	/** The keys, indexed by node. */
+	protected transient int[] key;
+	/** The left children, indexed by node ({@link #NIL} if missing). */
+	protected transient int[] left;
+	/**
+	 * The right children, indexed by node ({@link #NIL} if missing); for free nodes, the next free
+	 * node.
+	 */
+	protected transient int[] right;
+	/** The parents, indexed by node ({@link #NIL} for the root). */
+	protected transient int[] parent;
+	/** The heights of the subtrees rooted at each node. */
+	protected transient byte[] height;
+	/** The number of nodes that have ever been used since the last {@link #clear()}. */
+	protected transient int used;
+	/** The first free node below {@link #used}, or {@link #NIL}. */
+	protected transient int free = NIL;
+	/** This set's comparator, as provided in the constructor. */
+	protected Comparator<? super Integer> storedComparator;
+	/**
+	 * This set's actual comparator; it may differ from {@link #storedComparator} because it is always a
+	 * type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient IntComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353130L;
+
+	/**
+	 * Creates a new empty tree set with a given initial capacity.
+	 *
+	 * @param capacity the number of elements the set will be able to hold without growing its arrays.
+	 */
+	public IntPooledAVLTreeSet(final int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		allocate(capacity);
+	}
+
+	/**
+	 * Creates a new empty tree set.
+	 */
+	public IntPooledAVLTreeSet() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = IntComparators.asIntComparator(storedComparator);
+	}
+
+	/**
+	 * Creates a new empty tree set with the given comparator.
+	 *
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntPooledAVLTreeSet(final Comparator<? super Integer> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new tree set copying a given set.
+	 *
+	 * @param c a collection to be copied into the new tree set.
+	 */
+	public IntPooledAVLTreeSet(final Collection<? extends Integer> c) {
+		this(c.size());
+		addAll(c);
+	}
+
+	/**
+	 * Creates a new tree set copying a given sorted set (and its {@link Comparator}).
+	 *
+	 * @param s a {@link SortedSet} to be copied into the new tree set.
+	 */
+	public IntPooledAVLTreeSet(final SortedSet<Integer> s) {
+		this(s.comparator());
+		addAll(s);
+	}
+
+	/**
+	 * Creates a new tree set copying a given type-specific collection.
+	 *
+	 * @param c a type-specific collection to be copied into the new tree set.
+	 */
+	public IntPooledAVLTreeSet(final IntCollection c) {
+		this(c.size());
+		addAll(c);
+	}
+
+	/**
+	 * Creates a new tree set copying a given type-specific sorted set (and its {@link Comparator}).
+	 *
+	 * @param s a type-specific sorted set to be copied into the new tree set.
+	 */
+	public IntPooledAVLTreeSet(final IntSortedSet s) {
+		this(s.comparator());
+		addAll(s);
+	}
+
+	/**
+	 * Creates a new tree set using elements provided by a type-specific iterator.
+	 *
+	 * @param i a type-specific iterator whose elements will fill the set.
+	 */
+	public IntPooledAVLTreeSet(final IntIterator i) {
+		this();
+		while (i.hasNext()) add(i.nextInt());
+	}
+
+	/**
+	 * Creates a new tree set using elements provided by an iterator.
+	 *
+	 * @param i an iterator whose elements will fill the set.
+	 */
+	public IntPooledAVLTreeSet(final Iterator<?> i) {
+		this(IntIterators.asIntIterator(i));
+	}
+
+	/**
+	 * Creates a new tree set and fills it with the elements of a given array using a given
+	 * {@link Comparator}.
+	 *
+	 * @param a an array whose elements will be used to fill the set.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntPooledAVLTreeSet(final int[] a, final int offset, final int length, final Comparator<? super Integer> c) {
+		this(c);
+		IntArrays.ensureOffsetLength(a, offset, length);
+		for (int i = 0; i < length; i++) add(a[offset + i]);
+	}
+
+	/**
+	 * Creates a new tree set and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the set.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public IntPooledAVLTreeSet(final int[] a, final int offset, final int length) {
+		this(a, offset, length, null);
+	}
+
+	/**
+	 * Creates a new tree set copying the elements of an array.
+	 *
+	 * @param a an array to be copied into the new tree set.
+	 */
+	public IntPooledAVLTreeSet(final int[] a) {
+		this(a, 0, a.length, null);
+	}
+
+	/**
+	 * Creates a new tree set copying the elements of an array using a given {@link Comparator}.
+	 *
+	 * @param a an array to be copied into the new tree set.
+	 * @param c a {@link Comparator} (even better, a type-specific comparator).
+	 */
+	public IntPooledAVLTreeSet(final int[] a, final Comparator<? super Integer> c) {
+		this(a, 0, a.length, c);
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by
+	 * all accessors.  They are (and should be maintained) identical to those
+	 * used in Int2IntPooledAVLTreeMap.
+	 *
+	 * The tree is not threaded: nodes keep the index of their parent, and
+	 * deletions relink nodes rather than moving keys, so the index of a node
+	 * never changes while its key is in the set.
+	 */
+	/**
+	 * Allocates the backing arrays.
+	 *
+	 * @param capacity the length of the arrays.
+	 */
+	private void allocate(final int capacity) {
+		key = new int[capacity];
+		left = new int[capacity];
+		right = new int[capacity];
+		parent = new int[capacity];
+		height = new byte[capacity];
+	}
+
+	/**
+	 * Returns a new node, taken from the free list if possible.
+	 *
+	 * @param k the key of the new node.
+	 * @return the index of the new node.
+	 */
+	private int newNode(final int k) {
+		final int n;
+		if (free != NIL) {
+			n = free;
+			free = right[n];
+		} else {
+			if (used == key.length) {
+				final int length = (int)Math.min(it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE, Math.max(DEFAULT_INITIAL_CAPACITY, used + ((long)used >> 1)));
+				if (length == used) throw new IllegalStateException("Maximum number of elements reached");
+				key = IntArrays.grow(key, length, used);
+				left = IntArrays.grow(left, length, used);
+				right = IntArrays.grow(right, length, used);
+				parent = IntArrays.grow(parent, length, used);
+				height = ByteArrays.grow(height, length, used);
+			}
+			n = used++;
+		}
+		key[n] = k;
+		left[n] = right[n] = parent[n] = NIL;
+		height[n] = 1;
+		return n;
+	}
+
+	/**
+	 * Returns the height of a subtree.
+	 *
+	 * @param n a node, or {@link #NIL}.
+	 * @return the height of the subtree rooted at {@code n}.
+	 */
+	private int height(final int n) {
+		return n == NIL ? 0 : height[n];
+	}
+
+	/**
+	 * Recomputes the height of a node from the heights of its children.
+	 *
+	 * @param n a node.
+	 */
+	private void update(final int n) {
+		height[n] = (byte)(1 + Math.max(height(left[n]), height(right[n])));
+	}
+
+	/**
+	 * Returns the node following a given node.
+	 *
+	 * @param n a node.
+	 * @return the node following {@code n} in key order, or {@link #NIL}.
+	 */
+	final int next(int n) {
+		if (right[n] != NIL) {
+			n = right[n];
+			while (left[n] != NIL) n = left[n];
+			return n;
+		}
+		int p;
+		while ((p = parent[n]) != NIL && right[p] == n) n = p;
+		return p;
+	}
+
+	/**
+	 * Returns the node preceding a given node.
+	 *
+	 * @param n a node.
+	 * @return the node preceding {@code n} in key order, or {@link #NIL}.
+	 */
+	final int prev(int n) {
+		if (left[n] != NIL) {
+			n = left[n];
+			while (right[n] != NIL) n = right[n];
+			return n;
+		}
+		int p;
+		while ((p = parent[n]) != NIL && left[p] == n) n = p;
+		return p;
+	}
+
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+	final int compare(final int k1, final int k2) {
+		return actualComparator == null ? (Integer.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Returns the node corresponding to the given key, if it is in the tree; {@link #NIL}, otherwise.
+	 *
+	 * @param k the key to search for.
+	 * @return the corresponding node, or {@link #NIL} if no node with the given key exists.
+	 */
+	final int findKey(final int k) {
+		int e = tree;
+		int cmp;
+		while (e != NIL && (cmp = compare(k, key[e])) != 0) e = cmp < 0 ? left[e] : right[e];
+		return e;
+	}
+
+	/**
+	 * Locates a key.
+	 *
+	 * @param k a key.
+	 * @return the last node on a search for the given key; this will be the given key, if it present;
+	 *         otherwise, it will be either the smallest greater key or the greatest smaller key.
+	 */
+	final int locateKey(final int k) {
+		int e = tree, last = tree;
+		int cmp = 0;
+		while (e != NIL && (cmp = compare(k, key[e])) != 0) {
+			last = e;
+			e = cmp < 0 ? left[e] : right[e];
+		}
+		return cmp == 0 ? e : last;
+	}
+
+	@Override
+	public boolean add(final int k) {
+		if (tree == NIL) {
+			count++;
+			tree = lastNode = firstNode = newNode(k);
+			return true;
+		}
+		int p = tree, q = NIL;
+		int cmp = 0;
+		while (p != NIL) {
+			if ((cmp = compare(k, key[p])) == 0) return false;
+			q = p;
+			p = cmp < 0 ? left[p] : right[p];
+		}
+		final int e = newNode(k);
+		parent[e] = q;
+		if (cmp < 0) {
+			left[q] = e;
+			if (q == firstNode) firstNode = e;
+		} else {
+			right[q] = e;
+			if (q == lastNode) lastNode = e;
+		}
+		rebalance(q);
+		count++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(final int k) {
+		final int p = findKey(k);
+		if (p == NIL) return false;
+		if (p == firstNode) firstNode = next(p);
+		if (p == lastNode) lastNode = prev(p);
+		final int fix;
+		if (left[p] == NIL) {
+			fix = parent[p];
+			transplant(p, right[p]);
+		} else if (right[p] == NIL) {
+			fix = parent[p];
+			transplant(p, left[p]);
+		} else {
+			// We replace p with its successor, so that keys are never moved between nodes.
+			int s = right[p];
+			while (left[s] != NIL) s = left[s];
+			if (parent[s] != p) {
+				fix = parent[s];
+				transplant(s, right[s]);
+				right[s] = right[p];
+				parent[right[s]] = s;
+			} else fix = s;
+			transplant(p, s);
+			left[s] = left[p];
+			parent[left[s]] = s;
+			// s now takes the place of p, so rebalancing compares against the old height of p.
+			height[s] = height[p];
+		}
+		rebalance(fix);
+		right[p] = free;
+		free = p;
+		count--;
+		return true;
+	}
+
+	/**
+	 * Replaces, in the parent of a given node, the given node with another one.
+	 *
+	 * @param u a node.
+	 * @param v the node replacing {@code u} (possibly {@link #NIL}).
+	 */
+	private void transplant(final int u, final int v) {
+		final int p = parent[u];
+		if (p == NIL) tree = v;
+		else if (left[p] == u) left[p] = v;
+		else right[p] = v;
+		if (v != NIL) parent[v] = p;
+	}
+
+	/**
+	 * Rotates right the subtree rooted at the given node.
+	 *
+	 * @param x the root of a subtree with a nonempty left subtree.
+	 */
+	private void rotateRight(final int x) {
+		final int y = left[x];
+		left[x] = right[y];
+		if (right[y] != NIL) parent[right[y]] = x;
+		transplant(x, y);
+		right[y] = x;
+		parent[x] = y;
+		update(x);
+		update(y);
+	}
+
+	/**
+	 * Rotates left the subtree rooted at the given node.
+	 *
+	 * @param x the root of a subtree with a nonempty right subtree.
+	 */
+	private void rotateLeft(final int x) {
+		final int y = right[x];
+		right[x] = left[y];
+		if (left[y] != NIL) parent[left[y]] = x;
+		transplant(x, y);
+		left[y] = x;
+		parent[x] = y;
+		update(x);
+		update(y);
+	}
+
+	/**
+	 * Updates heights from the given node up to the root, restoring the AVL property along the way.
+	 *
+	 * <p>
+	 * The walk stops as soon as the height of a node that needs no rotation does not change.
+	 *
+	 * @param e a node (possibly {@link #NIL}).
+	 */
+	private void rebalance(int e) {
+		while (e != NIL) {
+			final int p = parent[e];
+			final int oldHeight = height[e];
+			update(e);
+			final int balance = height(left[e]) - height(right[e]);
+			if (balance > 1) {
+				if (height(left[left[e]]) < height(right[left[e]])) rotateLeft(left[e]);
+				rotateRight(e);
+			} else if (balance < -1) {
+				if (height(right[right[e]]) < height(left[right[e]])) rotateRight(right[e]);
+				rotateLeft(e);
+			} else if (height[e] == oldHeight) return;
+			e = p;
+		}
+	}
+
+	@Override
+	public boolean contains(final int k) {
+		return findKey(k) != NIL;
+	}
+
+	/**
+	 * Removes all of the elements from this set.
+	 *
+	 * <p>
+	 * This method takes constant time, as it just discards all nodes; the backing arrays are not
+	 * shrunk.
+	 */
+	@Override
+	public void clear() {
+		count = 0;
+		tree = firstNode = lastNode = free = NIL;
+		used = 0;
+	}
+
+	/**
+	 * Trims the backing arrays of this set so that they contain exactly the current elements.
+	 *
+	 * <p>
+	 * This method renumbers the nodes so that they are laid out in key order, which also improves the
+	 * locality of lookups and iteration. It takes linear time.
+	 */
+	public void trim() {
+		final int[] k = new int[count];
+		for (int e = firstNode, i = 0; e != NIL; e = next(e), i++) k[i] = key[e];
+		allocate(count);
+		System.arraycopy(k, 0, key, 0, count);
+		build();
+	}
+
+	/**
+	 * Rebuilds a perfectly balanced tree on the first {@link #count} nodes, whose keys must be sorted.
+	 */
+	private void build() {
+		used = count;
+		free = NIL;
+		tree = build(0, count, NIL);
+		firstNode = count == 0 ? NIL : 0;
+		lastNode = count - 1;
+	}
+
+	/**
+	 * Builds a perfectly balanced tree on a range of nodes.
+	 *
+	 * @param from the first node (inclusive).
+	 * @param to the last node (exclusive).
+	 * @param p the parent of the root of the tree.
+	 * @return the root of the tree.
+	 */
+	private int build(final int from, final int to, final int p) {
+		if (from == to) return NIL;
+		final int m = (from + to) >>> 1;
+		parent[m] = p;
+		left[m] = build(from, m, m);
+		right[m] = build(m + 1, to, m);
+		update(m);
+		return m;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public int firstInt() {
+		if (tree == NIL) throw new NoSuchElementException();
+		return key[firstNode];
+	}
+
+	@Override
+	public int lastInt() {
+		if (tree == NIL) throw new NoSuchElementException();
+		return key[lastNode];
+	}
+
+	/**
+	 * Returns the node with the greatest key less than or equal to a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the greatest key less than or equal to {@code k}, or {@link #NIL}.
+	 */
+	final int floorNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) > 0) e = prev(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the least key greater than or equal to a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the least key greater than or equal to {@code k}, or {@link #NIL}.
+	 */
+	final int ceilingNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) < 0) e = next(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the least key strictly greater than a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the least key strictly greater than {@code k}, or {@link #NIL}.
+	 */
+	final int higherNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) <= 0) e = next(e);
+		return e;
+	}
+
+	/**
+	 * Returns the node with the greatest key strictly less than a given key.
+	 *
+	 * @param k a key.
+	 * @return the node with the greatest key strictly less than {@code k}, or {@link #NIL}.
+	 */
+	final int lowerNode(final int k) {
+		int e = locateKey(k);
+		if (e != NIL && compare(key[e], k) >= 0) e = prev(e);
+		return e;
+	}
+
+	@Override
+	public int floorInt(final int k) {
+		final int e = floorNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int ceilingInt(final int k) {
+		final int e = ceilingNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int higherInt(final int k) {
+		final int e = higherNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	@Override
+	public int lowerInt(final int k) {
+		final int e = lowerNode(k);
+		if (e == NIL) throw new NoSuchElementException();
+		return key[e];
+	}
+
+	/**
+	 * An iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on a tree.
+	 */
+	private class SetIterator implements IntListIterator {
+		/**
+		 * The node that will be returned by the next call to {@link java.util.ListIterator#previous()} (or
+		 * {@link #NIL} if no previous node exists).
+		 */
+		int prev = NIL;
+		/**
+		 * The node that will be returned by the next call to {@link java.util.ListIterator#next()} (or
+		 * {@link #NIL} if no next node exists).
+		 */
+		int next = NIL;
+		/**
+		 * The last node that was returned (or {@link #NIL} if we did not iterate or used
+		 * {@link #remove()}).
+		 */
+		int curr = NIL;
+		/**
+		 * The current index (in the sense of a {@link java.util.ListIterator}). Note that this value is not
+		 * meaningful when this {@link SetIterator} has been created using the nonempty constructor.
+		 */
+		int index = 0;
+
+		SetIterator() {
+			next = firstNode;
+		}
+
+		SetIterator(final int k) {
+			if ((next = locateKey(k)) != NIL) {
+				if (compare(key[next], k) <= 0) {
+					prev = next;
+					next = IntPooledAVLTreeSet.this.next(next);
+				} else prev = IntPooledAVLTreeSet.this.prev(next);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != NIL;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return prev != NIL;
+		}
+
+		void updateNext() {
+			next = IntPooledAVLTreeSet.this.next(next);
+		}
+
+		int nextNode() {
+			if (!hasNext()) throw new NoSuchElementException();
+			curr = prev = next;
+			index++;
+			updateNext();
+			return curr;
+		}
+
+		@Override
+		public int nextInt() {
+			return key[nextNode()];
+		}
+
+		@Override
+		public int previousInt() {
+			return key[previousNode()];
+		}
+
+		void updatePrevious() {
+			prev = IntPooledAVLTreeSet.this.prev(prev);
+		}
+
+		int previousNode() {
+			if (!hasPrevious()) throw new NoSuchElementException();
+			curr = next = prev;
+			index--;
+			updatePrevious();
+			return curr;
+		}
+
+		@Override
+		public int nextIndex() {
+			return index;
+		}
+
+		@Override
+		public int previousIndex() {
+			return index - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (curr == NIL) throw new IllegalStateException();
+			/* If the last operation was a next(), we are removing an entry that preceeds
+				   the current index, and thus we must decrement it. */
+			if (curr == prev) index--;
+			next = prev = curr;
+			updatePrevious();
+			updateNext();
+			IntPooledAVLTreeSet.this.remove(key[curr]);
+			curr = NIL;
+		}
+	}
+
+	@Override
+	public IntBidirectionalIterator iterator() {
+		return new SetIterator();
+	}
+
+	@Override
+	public IntBidirectionalIterator iterator(final int from) {
+		return new SetIterator(from);
+	}
+
+	@Override
+	public IntComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public IntSortedSet headSet(final int to) {
+		return new Subset((0), true, to, false);
+	}
+
+	@Override
+	public IntSortedSet tailSet(final int from) {
+		return new Subset(from, false, (0), true);
+	}
+
+	@Override
+	public IntSortedSet subSet(final int from, final int to) {
+		return new Subset(from, false, to, false);
+	}
+
+	/**
+	 * A subset with given range.
+	 *
+	 * <p>
+	 * This class represents a subset. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the subset is a view on the set, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main set. Thus, things such as
+	 * {@link java.util.SortedSet#first()} or {@link java.util.SortedSet#size()} must be always computed
+	 * on-the-fly.
+	 */
+	private final class Subset extends AbstractIntSortedSet implements java.io.Serializable, IntSortedSet {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the subset range, unless {@link #bottom} is true. */
+		int from;
+		/** The end of the subset range, unless {@link #top} is true. */
+		int to;
+		/** If true, the subset range starts from -&infin;. */
+		boolean bottom;
+		/** If true, the subset range goes to &infin;. */
+		boolean top;
+
+		/**
+		 * Creates a new subset with given key range.
+		 *
+		 * @param from the start of the subset range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the subset range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Subset(final int from, final boolean bottom, final int to, final boolean top) {
+			if (!bottom && !top && IntPooledAVLTreeSet.this.compare(from, to) > 0) throw new IllegalArgumentException("Start element (" + from + ") is larger than end element (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+		}
+
+		@Override
+		public void clear() {
+			final SubsetIterator i = new SubsetIterator();
+			while (i.hasNext()) {
+				i.nextInt();
+				i.remove();
+			}
+		}
+
+		/**
+		 * Checks whether a key is in the subset range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the subset range.
+		 */
+		final boolean in(final int k) {
+			return (bottom || IntPooledAVLTreeSet.this.compare(k, from) >= 0) && (top || IntPooledAVLTreeSet.this.compare(k, to) < 0);
+		}
+
+		@Override
+		public boolean contains(final int k) {
+			return in(k) && IntPooledAVLTreeSet.this.contains(k);
+		}
+
+		@Override
+		public boolean add(final int k) {
+			if (!in(k)) throw new IllegalArgumentException("Element (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			return IntPooledAVLTreeSet.this.add(k);
+		}
+
+		@Override
+		public boolean remove(final int k) {
+			if (!in(k)) return false;
+			return IntPooledAVLTreeSet.this.remove(k);
+		}
+
+		@Override
+		public int size() {
+			final SubsetIterator i = new SubsetIterator();
+			int n = 0;
+			while (i.hasNext()) {
+				n++;
+				i.nextInt();
+			}
+			return n;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !new SubsetIterator().hasNext();
+		}
+
+		@Override
+		public IntComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator() {
+			return new SubsetIterator();
+		}
+
+		@Override
+		public IntBidirectionalIterator iterator(final int from) {
+			return new SubsetIterator(from);
+		}
+
+		@Override
+		public IntSortedSet headSet(final int to) {
+			if (top) return new Subset(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Subset(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public IntSortedSet tailSet(final int from) {
+			if (bottom) return new Subset(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Subset(from, false, to, top) : this;
+		}
+
+		@Override
+		public IntSortedSet subSet(int from, int to) {
+			if (top && bottom) return new Subset(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Subset(from, false, to, false);
+		}
+
+		/**
+		 * Locates the first node.
+		 *
+		 * @return the first node of this subset, or {@link #NIL} if the subset is empty.
+		 */
+		int firstNode() {
+			if (tree == NIL) return NIL;
+			// If this subset goes to -infinity, we return the main set first node; otherwise, we locate the
+			// start of the set.
+			int e;
+			if (bottom) e = firstNode;
+			else {
+				e = locateKey(from);
+				// If we find either the start or something greater we're OK.
+				if (compare(key[e], from) < 0) e = next(e);
+			}
+			// Finally, if this subset doesn't go to infinity, we check that the resulting key isn't greater
+			// than the end.
+			if (e == NIL || !top && compare(key[e], to) >= 0) return NIL;
+			return e;
+		}
+
+		/**
+		 * Locates the last node.
+		 *
+		 * @return the last node of this subset, or {@link #NIL} if the subset is empty.
+		 */
+		int lastNode() {
+			if (tree == NIL) return NIL;
+			// If this subset goes to infinity, we return the main set last node; otherwise, we locate the end
+			// of the set.
+			int e;
+			if (top) e = lastNode;
+			else {
+				e = locateKey(to);
+				// If we find something smaller than the end we're OK.
+				if (compare(key[e], to) >= 0) e = prev(e);
+			}
+			// Finally, if this subset doesn't go to -infinity, we check that the resulting key isn't smaller
+			// than the start.
+			if (e == NIL || !bottom && compare(key[e], from) < 0) return NIL;
+			return e;
+		}
+
+		@Override
+		public int firstInt() {
+			final int e = firstNode();
+			if (e == NIL) throw new NoSuchElementException();
+			return key[e];
+		}
+
+		@Override
+		public int lastInt() {
+			final int e = lastNode();
+			if (e == NIL) throw new NoSuchElementException();
+			return key[e];
+		}
+
+		/**
+		 * An iterator for subranges.
+		 *
+		 * <p>
+		 * This class inherits from {@link SetIterator}, but overrides the methods that update the pointer
+		 * after a {@link java.util.ListIterator#next()} or {@link java.util.ListIterator#previous()}. If we
+		 * would move out of the range of the subset we just overwrite the next or previous node with
+		 * {@link #NIL}.
+		 */
+		private final class SubsetIterator extends SetIterator {
+			SubsetIterator() {
+				next = firstNode();
+			}
+
+			SubsetIterator(final int k) {
+				this();
+				if (next != NIL) {
+					if (!bottom && compare(k, key[next]) < 0) prev = NIL;
+					else if (!top && compare(k, key[prev = lastNode()]) >= 0) next = NIL;
+					else {
+						next = locateKey(k);
+						if (compare(key[next], k) <= 0) {
+							prev = next;
+							next = IntPooledAVLTreeSet.this.next(next);
+						} else prev = IntPooledAVLTreeSet.this.prev(next);
+					}
+				}
+			}
+
+			@Override
+			void updatePrevious() {
+				prev = IntPooledAVLTreeSet.this.prev(prev);
+				if (!bottom && prev != NIL && IntPooledAVLTreeSet.this.compare(key[prev], from) < 0) prev = NIL;
+			}
+
+			@Override
+			void updateNext() {
+				next = IntPooledAVLTreeSet.this.next(next);
+				if (!top && next != NIL && IntPooledAVLTreeSet.this.compare(key[next], to) >= 0) next = NIL;
+			}
+		}
+	}
+
+	/**
+	 * Returns a deep copy of this tree set.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this tree set; since nodes are stored in arrays, it just
+	 * copies the backing arrays.
+	 *
+	 * @return a deep copy of this tree set.
+	 */
+	@Override
+	public Object clone() {
+		IntPooledAVLTreeSet c;
+		try {
+			c = (IntPooledAVLTreeSet)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.key = key.clone();
+		c.left = left.clone();
+		c.right = right.clone();
+		c.parent = parent.clone();
+		c.height = height.clone();
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (int e = firstNode; e != NIL; e = next(e)) s.writeInt(key[e]);
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		allocate(count);
+		for (int i = 0; i < count; i++) key[i] = s.readInt();
+		build();
+	}
+}
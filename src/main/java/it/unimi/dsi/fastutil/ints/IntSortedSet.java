@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.ints;
 
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.SortedSet;
 import java.util.Collection;
@@ -221,4 +222,98 @@ public interface IntSortedSet extends IntSet, SortedSet<Integer>, IntBidirection
 	default Integer last() {
 		return Integer.valueOf(lastInt());
 	}
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(int) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default int floorInt(final int k) {
+		final IntBidirectionalIterator i = iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousInt();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(int) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default int ceilingInt(final int k) {
+		if (contains(k)) return k;
+		final IntBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextInt();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(int) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default int higherInt(final int k) {
+		final IntBidirectionalIterator i = iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		return i.nextInt();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(int) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such element.
+	 */
+	default int lowerInt(final int k) {
+		final IntBidirectionalIterator i = iterator(k);
+		if (contains(k)) i.previousInt();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		return i.previousInt();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #firstInt()} and {@link #remove(int)}.
+	 *
+	 * @return the (former) lowest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default int pollFirstInt() {
+		final int k = firstInt();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #lastInt()} and {@link #remove(int)}.
+	 *
+	 * @return the (former) highest element.
+	 * @throws NoSuchElementException if this set is empty.
+	 */
+	default int pollLastInt() {
+		final int k = lastInt();
+		remove(k);
+		return k;
+	}
 }
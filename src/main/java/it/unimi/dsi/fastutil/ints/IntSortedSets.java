@@ -387,6 +387,48 @@ public final class IntSortedSets {
 			}
 		}
 
+		@Override
+		public int floorInt(final int k) {
+			synchronized (sync) {
+				return sortedSet.floorInt(k);
+			}
+		}
+
+		@Override
+		public int ceilingInt(final int k) {
+			synchronized (sync) {
+				return sortedSet.ceilingInt(k);
+			}
+		}
+
+		@Override
+		public int higherInt(final int k) {
+			synchronized (sync) {
+				return sortedSet.higherInt(k);
+			}
+		}
+
+		@Override
+		public int lowerInt(final int k) {
+			synchronized (sync) {
+				return sortedSet.lowerInt(k);
+			}
+		}
+
+		@Override
+		public int pollFirstInt() {
+			synchronized (sync) {
+				return sortedSet.pollFirstInt();
+			}
+		}
+
+		@Override
+		public int pollLastInt() {
+			synchronized (sync) {
+				return sortedSet.pollLastInt();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -521,6 +563,36 @@ public final class IntSortedSets {
 			return sortedSet.lastInt();
 		}
 
+		@Override
+		public int floorInt(final int k) {
+			return sortedSet.floorInt(k);
+		}
+
+		@Override
+		public int ceilingInt(final int k) {
+			return sortedSet.ceilingInt(k);
+		}
+
+		@Override
+		public int higherInt(final int k) {
+			return sortedSet.higherInt(k);
+		}
+
+		@Override
+		public int lowerInt(final int k) {
+			return sortedSet.lowerInt(k);
+		}
+
+		@Override
+		public int pollFirstInt() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int pollLastInt() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
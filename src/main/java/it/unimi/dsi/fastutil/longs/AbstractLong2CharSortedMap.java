@@ -79,6 +79,26 @@ public abstract class AbstractLong2CharSortedMap extends AbstractLong2CharMap im
 			return lastLongKey();
 		}
 
+		@Override
+		public long floorLong(final long k) {
+			return floorLongKey(k);
+		}
+
+		@Override
+		public long ceilingLong(final long k) {
+			return ceilingLongKey(k);
+		}
+
+		@Override
+		public long higherLong(final long k) {
+			return higherLongKey(k);
+		}
+
+		@Override
+		public long lowerLong(final long k) {
+			return lowerLongKey(k);
+		}
+
 		@Override
 		public LongSortedSet headSet(final long to) {
 			return headMap(to).keySet();
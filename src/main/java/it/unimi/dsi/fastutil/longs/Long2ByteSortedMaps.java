@@ -475,6 +475,76 @@ public final class Long2ByteSortedMaps {
 			}
 		}
 
+		@Override
+		public Long2ByteMap.Entry floorEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Long2ByteMap.Entry ceilingEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Long2ByteMap.Entry higherEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Long2ByteMap.Entry lowerEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorLongKey(k);
+			}
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingLongKey(k);
+			}
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherLongKey(k);
+			}
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerLongKey(k);
+			}
+		}
+
+		@Override
+		public Long2ByteMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Long2ByteMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Long2ByteSortedMaps {
 			return sortedMap.lastLongKey();
 		}
 
+		@Override
+		public Long2ByteMap.Entry floorEntry(final long k) {
+			final Long2ByteMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractLong2ByteMap.BasicEntry(e.getLongKey(), e.getByteValue());
+		}
+
+		@Override
+		public Long2ByteMap.Entry ceilingEntry(final long k) {
+			final Long2ByteMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractLong2ByteMap.BasicEntry(e.getLongKey(), e.getByteValue());
+		}
+
+		@Override
+		public Long2ByteMap.Entry higherEntry(final long k) {
+			final Long2ByteMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractLong2ByteMap.BasicEntry(e.getLongKey(), e.getByteValue());
+		}
+
+		@Override
+		public Long2ByteMap.Entry lowerEntry(final long k) {
+			final Long2ByteMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractLong2ByteMap.BasicEntry(e.getLongKey(), e.getByteValue());
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			return sortedMap.floorLongKey(k);
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			return sortedMap.ceilingLongKey(k);
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			return sortedMap.higherLongKey(k);
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			return sortedMap.lowerLongKey(k);
+		}
+
+		@Override
+		public Long2ByteMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Long2ByteMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
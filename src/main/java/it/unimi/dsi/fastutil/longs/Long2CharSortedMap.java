@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.longs;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.chars.CharCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,172 @@ public interface Long2CharSortedMap extends Long2CharMap, SortedMap<Long, Charac
 	 */
 	@Override
 	LongComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Long2CharMap.Entry floorEntry(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final long key = i.previousLong();
+		return new AbstractLong2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Long2CharMap.Entry ceilingEntry(final long k) {
+		if (containsKey(k)) return new AbstractLong2CharMap.BasicEntry(k, get(k));
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final long key = i.nextLong();
+		return new AbstractLong2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Long2CharMap.Entry higherEntry(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final long key = i.nextLong();
+		return new AbstractLong2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Long2CharMap.Entry lowerEntry(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousLong();
+		if (!i.hasPrevious()) return null;
+		final long key = i.previousLong();
+		return new AbstractLong2CharMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default long floorLongKey(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final long key = i.previousLong();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default long ceilingLongKey(final long k) {
+		if (containsKey(k)) return k;
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final long key = i.nextLong();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default long higherLongKey(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final long key = i.nextLong();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link LongSortedSet#iterator(long)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default long lowerLongKey(final long k) {
+		final LongBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousLong();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final long key = i.previousLong();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstLongKey()} and {@link #remove(long)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Long2CharMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final long k = firstLongKey();
+		return new AbstractLong2CharMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastLongKey()} and {@link #remove(long)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Long2CharMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final long k = lastLongKey();
+		return new AbstractLong2CharMap.BasicEntry(k, remove(k));
+	}
 }
@@ -475,6 +475,76 @@ public final class Long2DoubleSortedMaps {
 			}
 		}
 
+		@Override
+		public Long2DoubleMap.Entry floorEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Long2DoubleMap.Entry ceilingEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Long2DoubleMap.Entry higherEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Long2DoubleMap.Entry lowerEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorLongKey(k);
+			}
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingLongKey(k);
+			}
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherLongKey(k);
+			}
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerLongKey(k);
+			}
+		}
+
+		@Override
+		public Long2DoubleMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Long2DoubleMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Long2DoubleSortedMaps {
 			return sortedMap.lastLongKey();
 		}
 
+		@Override
+		public Long2DoubleMap.Entry floorEntry(final long k) {
+			final Long2DoubleMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractLong2DoubleMap.BasicEntry(e.getLongKey(), e.getDoubleValue());
+		}
+
+		@Override
+		public Long2DoubleMap.Entry ceilingEntry(final long k) {
+			final Long2DoubleMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractLong2DoubleMap.BasicEntry(e.getLongKey(), e.getDoubleValue());
+		}
+
+		@Override
+		public Long2DoubleMap.Entry higherEntry(final long k) {
+			final Long2DoubleMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractLong2DoubleMap.BasicEntry(e.getLongKey(), e.getDoubleValue());
+		}
+
+		@Override
+		public Long2DoubleMap.Entry lowerEntry(final long k) {
+			final Long2DoubleMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractLong2DoubleMap.BasicEntry(e.getLongKey(), e.getDoubleValue());
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			return sortedMap.floorLongKey(k);
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			return sortedMap.ceilingLongKey(k);
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			return sortedMap.higherLongKey(k);
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			return sortedMap.lowerLongKey(k);
+		}
+
+		@Override
+		public Long2DoubleMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Long2DoubleMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
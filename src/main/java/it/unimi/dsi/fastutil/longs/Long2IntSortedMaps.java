@@ -475,6 +475,76 @@ public final class Long2IntSortedMaps {
 			}
 		}
 
+		@Override
+		public Long2IntMap.Entry floorEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Long2IntMap.Entry ceilingEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Long2IntMap.Entry higherEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Long2IntMap.Entry lowerEntry(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.floorLongKey(k);
+			}
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.ceilingLongKey(k);
+			}
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.higherLongKey(k);
+			}
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			synchronized (sync) {
+				return sortedMap.lowerLongKey(k);
+			}
+		}
+
+		@Override
+		public Long2IntMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Long2IntMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Long2IntSortedMaps {
 			return sortedMap.lastLongKey();
 		}
 
+		@Override
+		public Long2IntMap.Entry floorEntry(final long k) {
+			final Long2IntMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractLong2IntMap.BasicEntry(e.getLongKey(), e.getIntValue());
+		}
+
+		@Override
+		public Long2IntMap.Entry ceilingEntry(final long k) {
+			final Long2IntMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractLong2IntMap.BasicEntry(e.getLongKey(), e.getIntValue());
+		}
+
+		@Override
+		public Long2IntMap.Entry higherEntry(final long k) {
+			final Long2IntMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractLong2IntMap.BasicEntry(e.getLongKey(), e.getIntValue());
+		}
+
+		@Override
+		public Long2IntMap.Entry lowerEntry(final long k) {
+			final Long2IntMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractLong2IntMap.BasicEntry(e.getLongKey(), e.getIntValue());
+		}
+
+		@Override
+		public long floorLongKey(final long k) {
+			return sortedMap.floorLongKey(k);
+		}
+
+		@Override
+		public long ceilingLongKey(final long k) {
+			return sortedMap.ceilingLongKey(k);
+		}
+
+		@Override
+		public long higherLongKey(final long k) {
+			return sortedMap.higherLongKey(k);
+		}
+
+		@Override
+		public long lowerLongKey(final long k) {
+			return sortedMap.lowerLongKey(k);
+		}
+
+		@Override
+		public Long2IntMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Long2IntMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
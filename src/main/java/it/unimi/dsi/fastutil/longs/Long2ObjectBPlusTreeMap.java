@@ -0,0 +1,1934 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.NoSuchElementException;
+
+/**
+ * A type-specific B+tree map with a fast, cache-friendly implementation.
+ *
+ * <p>
+ * Contrarily to {@link Long2ObjectRBTreeMap} and {@link Long2ObjectAVLTreeMap}, this map does not allocate
+ * an object per entry: keys and values are stored in parallel primitive arrays inside leaves holding
+ * up to {@value #LEAF_CAPACITY} entries, and leaves are linked in both directions, so that iteration
+ * and range scans access memory sequentially. Internal nodes store separator keys in primitive arrays
+ * and have a fan-out of up to {@value #INTERNAL_CAPACITY}.
+ *
+ * <p>
+ * Internal nodes record the number of keys in each of their subtrees, so this class provides
+ * order statistics: {@link #rank(long)}, {@link #select(long)} and {@link #selectKey(long)} run in
+ * logarithmic time, and so does the computation of the size of a range view.
+ *
+ * <p>
+ * The iterators provided by the views of this class are type-specific
+ * {@linkplain it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. The entry set
+ * is a {@linkplain Long2ObjectSortedMap.FastSortedEntrySet fast entry set}; note that entries returned
+ * by iterators are backed by the leaf they come from, and become invalid after a structural
+ * modification of the map.
+ *
+ * @see Long2ObjectRBTreeMap
+ */
+public class Long2ObjectBPlusTreeMap<V> extends AbstractLong2ObjectSortedMap<V> implements java.io.Serializable, Cloneable {
+	/** The maximum number of entries in a leaf. */
+	public static final int LEAF_CAPACITY = 64;
+	/** The maximum number of children of an internal node. */
+	public static final int INTERNAL_CAPACITY = 64;
+	/** The minimum number of entries in a leaf that is not the root. */
+	private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+	/** The minimum number of children of an internal node that is not the root. */
+	private static final int INTERNAL_MIN = INTERNAL_CAPACITY / 2;
+	/** The maximum height of the tree (it suffices for more than 2<sup>64</sup> entries). */
+	private static final int MAX_HEIGHT = 16;
+	/** A reference to the root node, or {@code null} if the map is empty. */
+	protected transient Node root;
+	/** The height of the tree (0 if the root is a leaf). */
+	protected transient int height;
+	/** Number of entries in this map. */
+	protected int count;
+	/** The first leaf in this map. */
+	protected transient Leaf firstLeaf;
+	/** The last leaf in this map. */
+	protected transient Leaf lastLeaf;
+	/** Cached set of entries. */
+	protected transient FastSortedEntrySet<V> entries;
+	/** Cached set of keys. */
+	protected transient LongSortedSet keys;
+	/** Cached collection of values. */
+	protected transient ObjectCollection<V> values;
+	/**
+	 * The value of this variable remembers, after a {@code put()} or a {@code remove()}, whether the
+	 * <em>domain</em> of the map has been modified.
+	 */
+	protected transient boolean modified;
+	/** This map's comparator, as provided in the constructor. */
+	protected Comparator<? super Long> storedComparator;
+	/**
+	 * This map's actual comparator; it may differ from {@link #storedComparator} because it is always a
+	 * type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient LongComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353132L;
+	{
+		allocatePaths();
+	}
+
+	/**
+	 * Creates a new empty tree map.
+	 */
+	public Long2ObjectBPlusTreeMap() {
+		root = null;
+		count = 0;
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = LongComparators.asLongComparator(storedComparator);
+	}
+
+	/**
+	 * Creates a new empty tree map with the given comparator.
+	 *
+	 * @param c a (possibly type-specific) comparator.
+	 */
+	public Long2ObjectBPlusTreeMap(final Comparator<? super Long> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new tree map.
+	 */
+	public Long2ObjectBPlusTreeMap(final Map<? extends Long, ? extends V> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a {@link SortedMap} to be copied into the new tree map.
+	 */
+	public Long2ObjectBPlusTreeMap(final SortedMap<Long, V> m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given map.
+	 *
+	 * @param m a type-specific map to be copied into the new tree map.
+	 */
+	public Long2ObjectBPlusTreeMap(final Long2ObjectMap<? extends V> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a type-specific sorted map to be copied into the new tree map.
+	 */
+	public Long2ObjectBPlusTreeMap(final Long2ObjectSortedMap<V> m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays and the given comparator.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @param c a (possibly type-specific) comparator.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Long2ObjectBPlusTreeMap(final long[] k, final V v[], final Comparator<? super Long> c) {
+		this(c);
+		if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+		for (int i = 0; i < k.length; i++) this.put(k[i], v[i]);
+	}
+
+	/**
+	 * Creates a new tree map using the elements of two parallel arrays.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Long2ObjectBPlusTreeMap(final long[] k, final V v[]) {
+		this(k, v, null);
+	}
+
+	/** A node of the tree. */
+	private abstract static class Node {
+		/** The number of keys (in a leaf) or children (in an internal node). */
+		int size;
+	}
+
+	/** A leaf, containing keys and values in parallel arrays, and linked to its neighbours. */
+	private static final class Leaf extends Node {
+		final long[] key = new long[LEAF_CAPACITY];
+		final Object[] value = new Object[LEAF_CAPACITY];
+		/** The previous and next leaf in key order. */
+		Leaf prev, next;
+	}
+
+	/**
+	 * An internal node. The key {@code key[i]} separates the subtree {@code child[i]} (containing
+	 * smaller keys) from the subtree {@code child[i + 1]} (containing greater or equal keys), and
+	 * {@code count[i]} is the number of keys in the subtree {@code child[i]}.
+	 */
+	private static final class Internal extends Node {
+		final long[] key = new long[INTERNAL_CAPACITY - 1];
+		final Node[] child = new Node[INTERNAL_CAPACITY];
+		final int[] count = new int[INTERNAL_CAPACITY];
+	}
+
+	/*
+	 * The following methods implements some basic building blocks used by all accessors. They are (and
+	 * should be maintained) identical to those used in LongBPlusTreeSet.
+	 */
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+
+	final int compare(final long k1, final long k2) {
+		return actualComparator == null ? (Long.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Returns the index of the child of an internal node that might contain a given key.
+	 *
+	 * @param n an internal node.
+	 * @param k a key.
+	 * @return the number of separators of {@code n} that are smaller than or equal to {@code k}.
+	 */
+	private int childIndex(final Internal n, final long k) {
+		final long[] key = n.key;
+		int from = 0, to = n.size - 1;
+		if (actualComparator == null) {
+			while (from < to) {
+				final int mid = (from + to) >>> 1;
+				if (key[mid] <= k) from = mid + 1;
+				else to = mid;
+			}
+		} else {
+			while (from < to) {
+				final int mid = (from + to) >>> 1;
+				if (actualComparator.compare(key[mid], k) <= 0) from = mid + 1;
+				else to = mid;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * Searches a key in a leaf.
+	 *
+	 * @param l a leaf.
+	 * @param k a key.
+	 * @return the index of the key, if it is contained in the leaf; otherwise,
+	 *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(long[], long)}.
+	 */
+	private int search(final Leaf l, final long k) {
+		final long[] key = l.key;
+		int from = 0, to = l.size - 1;
+		if (actualComparator == null) {
+			while (from <= to) {
+				final int mid = (from + to) >>> 1;
+				final long midVal = key[mid];
+				if (midVal < k) from = mid + 1;
+				else if (midVal > k) to = mid - 1;
+				else return mid;
+			}
+		} else {
+			while (from <= to) {
+				final int mid = (from + to) >>> 1;
+				final int cmp = actualComparator.compare(key[mid], k);
+				if (cmp < 0) from = mid + 1;
+				else if (cmp > 0) to = mid - 1;
+				else return mid;
+			}
+		}
+		return -(from + 1);
+	}
+
+	/**
+	 * Returns the leaf that might contain a given key.
+	 *
+	 * @param k a key.
+	 * @return the leaf that contains {@code k}, if {@code k} is in the map, or the leaf in which
+	 *         {@code k} would be inserted; {@code null} if the map is empty.
+	 */
+	private Leaf leafFor(final long k) {
+		Node n = root;
+		for (int h = height; h-- != 0;) n = ((Internal)n).child[childIndex((Internal)n, k)];
+		return (Leaf)n;
+	}
+
+	/**
+	 * This vector remembers the internal nodes and the child indices followed during the current
+	 * insertion or deletion.
+	 */
+	private transient Internal nodePath[];
+	private transient int indexPath[];
+
+	private void allocatePaths() {
+		nodePath = new Internal[MAX_HEIGHT];
+		indexPath = new int[MAX_HEIGHT];
+	}
+
+	/**
+	 * Returns the leaf that might contain a given key, recording the path followed in
+	 * {@link #nodePath} and {@link #indexPath}.
+	 *
+	 * @param k a key.
+	 * @return the leaf that might contain {@code k}.
+	 */
+	private Leaf descend(final long k) {
+		Node n = root;
+		for (int h = 0; h < height; h++) {
+			final Internal i = (Internal)n;
+			final int c = childIndex(i, k);
+			nodePath[h] = i;
+			indexPath[h] = c;
+			n = i.child[c];
+		}
+		return (Leaf)n;
+	}
+
+	/** Cleans up the node path, or we could have stale references later. */
+	private void clearPath() {
+		for (int h = height; h-- != 0;) nodePath[h] = null;
+	}
+
+	/**
+	 * Returns the number of keys in a subtree.
+	 *
+	 * @param n the root of a subtree.
+	 * @return the number of keys in the subtree rooted at {@code n}.
+	 */
+	private static int weight(final Node n) {
+		if (n instanceof Leaf) return n.size;
+		final int[] count = ((Internal)n).count;
+		int w = 0;
+		for (int i = n.size; i-- != 0;) w += count[i];
+		return w;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(final long k, final V v) {
+		modified = false;
+		if (root == null) {
+			insertFirst(k, v);
+			return defRetValue;
+		}
+		final Leaf l = descend(k);
+		final int pos = search(l, k);
+		if (pos >= 0) {
+			clearPath();
+			final V oldValue = (V)l.value[pos];
+			l.value[pos] = v;
+			return oldValue;
+		}
+		insert(l, -pos - 1, k, v);
+		return defRetValue;
+	}
+
+	/**
+	 * Creates the first leaf of an empty map.
+	 *
+	 * @param k the first key.
+	 * @param v the corresponding value.
+	 */
+	private void insertFirst(final long k, final V v) {
+		final Leaf l = new Leaf();
+		l.key[0] = k;
+		l.value[0] = v;
+		l.size = 1;
+		root = firstLeaf = lastLeaf = l;
+		height = 0;
+		count = 1;
+		modified = true;
+	}
+
+	/**
+	 * Inserts a new entry in a leaf reached by {@link #descend(long)}, splitting nodes as necessary.
+	 *
+	 * @param l the leaf.
+	 * @param pos the insertion point.
+	 * @param k the new key.
+	 * @param v the new value.
+	 */
+	private void insert(final Leaf l, final int pos, final long k, final V v) {
+		modified = true;
+		count++;
+		for (int h = height; h-- != 0;) nodePath[h].count[indexPath[h]]++;
+		if (l.size < LEAF_CAPACITY) {
+			final int s = l.size - pos;
+			System.arraycopy(l.key, pos, l.key, pos + 1, s);
+			System.arraycopy(l.value, pos, l.value, pos + 1, s);
+			l.key[pos] = k;
+			l.value[pos] = v;
+			l.size++;
+			clearPath();
+			return;
+		}
+		final Leaf r = new Leaf();
+		// When appending to the last leaf we do not split in halves, so that sequential loads fill leaves
+		// completely.
+		final int split = pos == LEAF_CAPACITY && l.next == null ? LEAF_CAPACITY : (LEAF_CAPACITY + 1) / 2;
+		if (pos < split) {
+			final int moved = LEAF_CAPACITY - split + 1;
+			System.arraycopy(l.key, split - 1, r.key, 0, moved);
+			System.arraycopy(l.value, split - 1, r.value, 0, moved);
+			System.arraycopy(l.key, pos, l.key, pos + 1, split - 1 - pos);
+			System.arraycopy(l.value, pos, l.value, pos + 1, split - 1 - pos);
+			l.key[pos] = k;
+			l.value[pos] = v;
+			r.size = moved;
+		} else {
+			final int before = pos - split, after = LEAF_CAPACITY - pos;
+			System.arraycopy(l.key, split, r.key, 0, before);
+			System.arraycopy(l.value, split, r.value, 0, before);
+			r.key[before] = k;
+			r.value[before] = v;
+			System.arraycopy(l.key, pos, r.key, before + 1, after);
+			System.arraycopy(l.value, pos, r.value, before + 1, after);
+			r.size = before + 1 + after;
+		}
+		java.util.Arrays.fill(l.value, split, LEAF_CAPACITY, null);
+		l.size = split;
+		r.next = l.next;
+		r.prev = l;
+		if (l.next != null) l.next.prev = r;
+		else lastLeaf = r;
+		l.next = r;
+		insertChild(height - 1, r.key[0], r);
+	}
+
+	/**
+	 * Inserts a new child in an internal node of the current path, splitting nodes as necessary.
+	 *
+	 * @param h the depth of the internal node in the current path, or -1 if a new root must be created.
+	 * @param separator the separator key for the new child.
+	 * @param c the new child, which will be placed just after the child followed by the current path.
+	 */
+	private void insertChild(int h, long separator, Node c) {
+		for (;;) {
+			if (h < 0) {
+				final Internal newRoot = new Internal();
+				newRoot.child[0] = root;
+				newRoot.child[1] = c;
+				newRoot.key[0] = separator;
+				newRoot.size = 2;
+				newRoot.count[1] = weight(c);
+				newRoot.count[0] = count - newRoot.count[1];
+				root = newRoot;
+				height++;
+				clearPath();
+				return;
+			}
+			final Internal n = nodePath[h];
+			final int pos = indexPath[h] + 1;
+			if (n.size < INTERNAL_CAPACITY) {
+				System.arraycopy(n.key, pos - 1, n.key, pos, n.size - pos);
+				System.arraycopy(n.child, pos, n.child, pos + 1, n.size - pos);
+				System.arraycopy(n.count, pos, n.count, pos + 1, n.size - pos);
+				n.key[pos - 1] = separator;
+				n.child[pos] = c;
+				// The new child contains part of the keys of its left sibling.
+				n.count[pos - 1] -= n.count[pos] = weight(c);
+				n.size++;
+				clearPath();
+				return;
+			}
+			// We build the (overfull) sequences of keys and children, and split them in halves.
+			final long[] key = new long[INTERNAL_CAPACITY];
+			final Node[] child = new Node[INTERNAL_CAPACITY + 1];
+			System.arraycopy(n.key, 0, key, 0, pos - 1);
+			key[pos - 1] = separator;
+			System.arraycopy(n.key, pos - 1, key, pos, INTERNAL_CAPACITY - pos);
+			System.arraycopy(n.child, 0, child, 0, pos);
+			child[pos] = c;
+			System.arraycopy(n.child, pos, child, pos + 1, INTERNAL_CAPACITY - pos);
+			final int[] counts = new int[INTERNAL_CAPACITY + 1];
+			System.arraycopy(n.count, 0, counts, 0, pos);
+			counts[pos - 1] -= counts[pos] = weight(c);
+			System.arraycopy(n.count, pos, counts, pos + 1, INTERNAL_CAPACITY - pos);
+			final int leftSize = (INTERNAL_CAPACITY + 1) / 2, rightSize = INTERNAL_CAPACITY + 1 - leftSize;
+			final Internal r = new Internal();
+			System.arraycopy(key, 0, n.key, 0, leftSize - 1);
+			System.arraycopy(child, 0, n.child, 0, leftSize);
+			System.arraycopy(counts, 0, n.count, 0, leftSize);
+			java.util.Arrays.fill(n.child, leftSize, INTERNAL_CAPACITY, null);
+			n.size = leftSize;
+			System.arraycopy(key, leftSize, r.key, 0, rightSize - 1);
+			System.arraycopy(child, leftSize, r.child, 0, rightSize);
+			System.arraycopy(counts, leftSize, r.count, 0, rightSize);
+			r.size = rightSize;
+			separator = key[leftSize - 1];
+			c = r;
+			nodePath[h--] = null;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(final long k) {
+		modified = false;
+		if (root == null) return defRetValue;
+		final Leaf l = descend(k);
+		final int pos = search(l, k);
+		if (pos < 0) {
+			clearPath();
+			return defRetValue;
+		}
+		final V oldValue = (V)l.value[pos];
+		removeAt(l, pos);
+		return oldValue;
+	}
+
+	/**
+	 * Removes an entry from a leaf reached by {@link #descend(long)}, rebalancing the tree as necessary.
+	 *
+	 * @param l the leaf.
+	 * @param pos the position of the entry to be removed.
+	 */
+	private void removeAt(final Leaf l, final int pos) {
+		modified = true;
+		count--;
+		for (int h = height; h-- != 0;) nodePath[h].count[indexPath[h]]--;
+		final int s = l.size - pos - 1;
+		System.arraycopy(l.key, pos + 1, l.key, pos, s);
+		System.arraycopy(l.value, pos + 1, l.value, pos, s);
+		l.value[--l.size] = null;
+		if (height == 0) {
+			if (l.size == 0) root = firstLeaf = lastLeaf = null;
+			return;
+		}
+		if (l.size >= LEAF_MIN) {
+			clearPath();
+			return;
+		}
+		final Internal p = nodePath[height - 1];
+		final int c = indexPath[height - 1];
+		if (c > 0) {
+			final Leaf left = (Leaf)p.child[c - 1];
+			if (left.size > LEAF_MIN) {
+				// Borrow the last entry of the left sibling.
+				System.arraycopy(l.key, 0, l.key, 1, l.size);
+				System.arraycopy(l.value, 0, l.value, 1, l.size);
+				left.size--;
+				l.key[0] = left.key[left.size];
+				l.value[0] = left.value[left.size];
+				left.value[left.size] = null;
+				l.size++;
+				p.key[c - 1] = l.key[0];
+				p.count[c - 1]--;
+				p.count[c]++;
+				clearPath();
+				return;
+			}
+		}
+		if (c < p.size - 1) {
+			final Leaf right = (Leaf)p.child[c + 1];
+			if (right.size > LEAF_MIN) {
+				// Borrow the first entry of the right sibling.
+				l.key[l.size] = right.key[0];
+				l.value[l.size] = right.value[0];
+				l.size++;
+				right.size--;
+				System.arraycopy(right.key, 1, right.key, 0, right.size);
+				System.arraycopy(right.value, 1, right.value, 0, right.size);
+				right.value[right.size] = null;
+				p.key[c] = right.key[0];
+				p.count[c + 1]--;
+				p.count[c]++;
+				clearPath();
+				return;
+			}
+		}
+		// We merge with a sibling.
+		if (c > 0) mergeLeaves((Leaf)p.child[c - 1], l);
+		else mergeLeaves(l, (Leaf)p.child[c + 1]);
+		removeChild(height - 1, c > 0 ? c : c + 1);
+	}
+
+	/**
+	 * Moves the content of a leaf into its left neighbour, and unlinks it.
+	 *
+	 * @param l the left leaf.
+	 * @param r the right leaf, which will be discarded.
+	 */
+	private void mergeLeaves(final Leaf l, final Leaf r) {
+		System.arraycopy(r.key, 0, l.key, l.size, r.size);
+		System.arraycopy(r.value, 0, l.value, l.size, r.size);
+		l.size += r.size;
+		l.next = r.next;
+		if (r.next != null) r.next.prev = l;
+		else lastLeaf = l;
+	}
+
+	/**
+	 * Removes a child (and the separator preceding it) from an internal node of the current path,
+	 * rebalancing the tree as necessary.
+	 *
+	 * @param h the depth of the internal node in the current path.
+	 * @param c the index of the child to be removed (always positive).
+	 */
+	private void removeChild(int h, int c) {
+		for (;;) {
+			final Internal n = nodePath[h];
+			// The keys of the removed child have been merged into its left sibling.
+			n.count[c - 1] += n.count[c];
+			System.arraycopy(n.key, c, n.key, c - 1, n.size - c - 1);
+			System.arraycopy(n.child, c + 1, n.child, c, n.size - c - 1);
+			System.arraycopy(n.count, c + 1, n.count, c, n.size - c - 1);
+			n.child[--n.size] = null;
+			if (h == 0) {
+				if (n.size == 1) {
+					// The root has a single child: we lower the tree.
+					root = n.child[0];
+					nodePath[0] = null;
+					height--;
+				}
+				clearPath();
+				return;
+			}
+			if (n.size >= INTERNAL_MIN) {
+				clearPath();
+				return;
+			}
+			final Internal p = nodePath[h - 1];
+			final int i = indexPath[h - 1];
+			if (i > 0) {
+				final Internal left = (Internal)p.child[i - 1];
+				if (left.size > INTERNAL_MIN) {
+					// Rotate the last child of the left sibling through the parent.
+					System.arraycopy(n.key, 0, n.key, 1, n.size - 1);
+					System.arraycopy(n.child, 0, n.child, 1, n.size);
+					System.arraycopy(n.count, 0, n.count, 1, n.size);
+					n.key[0] = p.key[i - 1];
+					n.child[0] = left.child[left.size - 1];
+					final int w = n.count[0] = left.count[left.size - 1];
+					p.count[i - 1] -= w;
+					p.count[i] += w;
+					n.size++;
+					p.key[i - 1] = left.key[left.size - 2];
+					left.child[--left.size] = null;
+					clearPath();
+					return;
+				}
+			}
+			if (i < p.size - 1) {
+				final Internal right = (Internal)p.child[i + 1];
+				if (right.size > INTERNAL_MIN) {
+					// Rotate the first child of the right sibling through the parent.
+					n.key[n.size - 1] = p.key[i];
+					final int w = n.count[n.size] = right.count[0];
+					p.count[i + 1] -= w;
+					p.count[i] += w;
+					n.child[n.size++] = right.child[0];
+					p.key[i] = right.key[0];
+					System.arraycopy(right.key, 1, right.key, 0, right.size - 2);
+					System.arraycopy(right.child, 1, right.child, 0, right.size - 1);
+					System.arraycopy(right.count, 1, right.count, 0, right.size - 1);
+					right.child[--right.size] = null;
+					clearPath();
+					return;
+				}
+			}
+			// We merge with a sibling, pulling down the separator.
+			if (i > 0) mergeInternals((Internal)p.child[i - 1], p.key[i - 1], n);
+			else mergeInternals(n, p.key[i], (Internal)p.child[i + 1]);
+			nodePath[h--] = null;
+			c = i > 0 ? i : i + 1;
+		}
+	}
+
+	/**
+	 * Moves the content of an internal node into its left neighbour.
+	 *
+	 * @param l the left node.
+	 * @param separator the separator between the two nodes in their parent.
+	 * @param r the right node, which will be discarded.
+	 */
+	private static void mergeInternals(final Internal l, final long separator, final Internal r) {
+		l.key[l.size - 1] = separator;
+		System.arraycopy(r.key, 0, l.key, l.size, r.size - 1);
+		System.arraycopy(r.child, 0, l.child, l.size, r.size);
+		System.arraycopy(r.count, 0, l.count, l.size, r.size);
+		l.size += r.size;
+	}
+
+	@Override
+	public boolean containsValue(final Object v) {
+		for (Leaf l = firstLeaf; l != null; l = l.next) {
+			final Object[] value = l.value;
+			for (int i = l.size; i-- != 0;) if (java.util.Objects.equals(value[i], v)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		count = 0;
+		height = 0;
+		root = null;
+		entries = null;
+		values = null;
+		keys = null;
+		firstLeaf = lastLeaf = null;
+	}
+
+	@Override
+	public boolean containsKey(final long k) {
+		return root != null && search(leafFor(k), k) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(final long k) {
+		if (root == null) return defRetValue;
+		final Leaf l = leafFor(k);
+		final int pos = search(l, k);
+		return pos < 0 ? defRetValue : (V)l.value[pos];
+	}
+
+	/**
+	 * Returns the number of keys in this map that are smaller than a given key.
+	 *
+	 * <p>
+	 * This method runs in logarithmic time.
+	 *
+	 * @param k a key.
+	 * @return the number of keys in this map that are smaller than {@code k} (i.e., the index of
+	 *         {@code k} in the sorted sequence of keys, if {@code k} is in this map).
+	 */
+	public int rank(final long k) {
+		if (root == null) return 0;
+		Node n = root;
+		int r = 0;
+		for (int h = height; h-- != 0;) {
+			final Internal i = (Internal)n;
+			final int c = childIndex(i, k);
+			for (int j = 0; j < c; j++) r += i.count[j];
+			n = i.child[c];
+		}
+		final int pos = search((Leaf)n, k);
+		return r + (pos >= 0 ? pos : -pos - 1);
+	}
+
+	/**
+	 * Returns the entry of given rank in this map.
+	 *
+	 * <p>
+	 * This method runs in logarithmic time.
+	 *
+	 * @param index a rank.
+	 * @return the entry in this map that is preceded by exactly {@code index} keys.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not smaller than the size of
+	 *             this map.
+	 */
+	public Long2ObjectMap.Entry<V> select(final long index) {
+		final long k = selectKey(index);
+		return new BasicEntry<>(k, get(k));
+	}
+
+	/**
+	 * Returns the key of given rank in this map.
+	 *
+	 * <p>
+	 * This method runs in logarithmic time.
+	 *
+	 * @param index a rank.
+	 * @return the key in this map that is preceded by exactly {@code index} keys.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not smaller than the size of
+	 *             this map.
+	 */
+	public long selectKey(final long index) {
+		if (index < 0 || index >= count) throw new IndexOutOfBoundsException("Index (" + index + ") is not in [0.." + count + ")");
+		int r = (int)index;
+		Node n = root;
+		for (int h = height; h-- != 0;) {
+			final Internal i = (Internal)n;
+			int c = 0;
+			while (r >= i.count[c]) r -= i.count[c++];
+			n = i.child[c];
+		}
+		return ((Leaf)n).key[r];
+	}
+
+	@Override
+	public long firstLongKey() {
+		if (root == null) throw new NoSuchElementException();
+		return firstLeaf.key[0];
+	}
+
+	@Override
+	public long lastLongKey() {
+		if (root == null) throw new NoSuchElementException();
+		return lastLeaf.key[lastLeaf.size - 1];
+	}
+
+	/**
+	 * Returns an iterator whose last returned entry is the one closest to a given key in a given
+	 * direction.
+	 *
+	 * @param k a key.
+	 * @param up whether we are looking for a key greater than (rather than smaller than) {@code k}.
+	 * @param inclusive whether {@code k} itself is acceptable.
+	 * @return an iterator whose {@link TreeIterator#currLeaf currLeaf} and
+	 *         {@link TreeIterator#currIndex currIndex} denote the entry, or {@code null} if there
+	 *         is no such entry.
+	 */
+	private TreeIterator near(final long k, final boolean up, final boolean inclusive) {
+		final TreeIterator i = new TreeIterator(k);
+		if (up == inclusive) i.moveTo(k);
+		if (up) {
+			if (!i.hasNext()) return null;
+			i.nextEntry();
+		} else {
+			if (!i.hasPrevious()) return null;
+			i.previousEntry();
+		}
+		return i;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Long2ObjectMap.Entry<V> nearEntry(final long k, final boolean up, final boolean inclusive) {
+		final TreeIterator i = near(k, up, inclusive);
+		return i == null ? null : new BasicEntry<>(i.currLeaf.key[i.currIndex], (V)i.currLeaf.value[i.currIndex]);
+	}
+
+	private long nearKey(final long k, final boolean up, final boolean inclusive) {
+		final TreeIterator i = near(k, up, inclusive);
+		if (i == null) throw new NoSuchElementException();
+		return i.currLeaf.key[i.currIndex];
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> floorEntry(final long k) {
+		return nearEntry(k, false, true);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> ceilingEntry(final long k) {
+		return nearEntry(k, true, true);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> higherEntry(final long k) {
+		return nearEntry(k, true, false);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> lowerEntry(final long k) {
+		return nearEntry(k, false, false);
+	}
+
+	@Override
+	public long floorLongKey(final long k) {
+		return nearKey(k, false, true);
+	}
+
+	@Override
+	public long ceilingLongKey(final long k) {
+		return nearKey(k, true, true);
+	}
+
+	@Override
+	public long higherLongKey(final long k) {
+		return nearKey(k, true, false);
+	}
+
+	@Override
+	public long lowerLongKey(final long k) {
+		return nearKey(k, false, false);
+	}
+
+	/**
+	 * An entry of this map, backed by a position in a leaf.
+	 *
+	 * <p>
+	 * Entries are valid until the next structural modification of the map.
+	 */
+	private static final class MapEntry<V> implements Long2ObjectMap.Entry<V> {
+		Leaf leaf;
+		int index;
+
+		MapEntry() {
+		}
+
+		MapEntry(final Leaf leaf, final int index) {
+			this.leaf = leaf;
+			this.index = index;
+		}
+
+		@Override
+		public long getLongKey() {
+			return leaf.key[index];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V)leaf.value[index];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(final V v) {
+			final V oldValue = (V)leaf.value[index];
+			leaf.value[index] = v;
+			return oldValue;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @deprecated Please use the corresponding type-specific method instead.
+		 */
+		@Deprecated
+		@Override
+		public Long getKey() {
+			return Long.valueOf(leaf.key[index]);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			final Map.Entry<Long, V> e = (Map.Entry<Long, V>)o;
+			return ((leaf.key[index]) == ((e.getKey()).longValue())) && java.util.Objects.equals(leaf.value[index], (e.getValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			return it.unimi.dsi.fastutil.HashCommon.long2int(leaf.key[index]) ^ ((leaf.value[index]) == null ? 0 : (leaf.value[index]).hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return leaf.key[index] + "=>" + leaf.value[index];
+		}
+	}
+
+	/**
+	 * An abstract iterator on the whole range.
+	 *
+	 * <p>
+	 * The iterator keeps track of a position between two entries, expressed by a leaf and an index in
+	 * the leaf (which might be equal to the size of the leaf). Iterators return {@code true} from
+	 * {@link #hasNext()} and {@link #hasPrevious()} on the basis of the leaf links.
+	 */
+	private class TreeIterator {
+		/** The leaf of the current position, or {@code null} if the map is empty. */
+		Leaf leaf;
+		/** The index of the current position in {@link #leaf}. */
+		int index;
+		/** The leaf containing the last returned entry, or {@code null}. */
+		Leaf currLeaf;
+		/** The index of the last returned entry in {@link #currLeaf}. */
+		int currIndex;
+
+		TreeIterator() {
+			leaf = firstLeaf;
+		}
+
+		TreeIterator(final long k) {
+			if ((leaf = leafFor(k)) != null) {
+				final int pos = search(leaf, k);
+				index = pos >= 0 ? pos + 1 : -pos - 1;
+			}
+		}
+
+		/**
+		 * Positions this iterator just before the smallest key greater than or equal to a given key.
+		 *
+		 * @param k a key.
+		 */
+		void moveTo(final long k) {
+			if ((leaf = leafFor(k)) != null) {
+				final int pos = search(leaf, k);
+				index = pos >= 0 ? pos : -pos - 1;
+			}
+		}
+
+		public boolean hasNext() {
+			return leaf != null && (index < leaf.size || leaf.next != null);
+		}
+
+		public boolean hasPrevious() {
+			return leaf != null && (index > 0 || leaf.prev != null);
+		}
+
+		/** Advances the position, storing the returned entry in {@link #currLeaf}/{@link #currIndex}. */
+		void nextEntry() {
+			if (!hasNext()) throw new NoSuchElementException();
+			if (index == leaf.size) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			currLeaf = leaf;
+			currIndex = index++;
+		}
+
+		/** Moves back the position, storing the returned entry in {@link #currLeaf}/{@link #currIndex}. */
+		void previousEntry() {
+			if (!hasPrevious()) throw new NoSuchElementException();
+			if (index == 0) {
+				leaf = leaf.prev;
+				index = leaf.size;
+			}
+			currLeaf = leaf;
+			currIndex = --index;
+		}
+
+		/**
+		 * Returns the key that would be returned by {@link #nextEntry()}.
+		 *
+		 * @return the next key.
+		 */
+		long peekNextKey() {
+			return index < leaf.size ? leaf.key[index] : leaf.next.key[0];
+		}
+
+		/**
+		 * Returns the key that would be returned by {@link #previousEntry()}.
+		 *
+		 * @return the previous key.
+		 */
+		long peekPreviousKey() {
+			return index > 0 ? leaf.key[index - 1] : leaf.prev.key[leaf.prev.size - 1];
+		}
+
+		public void remove() {
+			if (currLeaf == null) throw new IllegalStateException();
+			final long k = currLeaf.key[currIndex];
+			currLeaf = null;
+			Long2ObjectBPlusTreeMap.this.remove(k);
+			// The tree might have been restructured, so we locate again our position.
+			moveTo(k);
+		}
+
+		public int skip(final int n) {
+			int i = n;
+			while (i-- != 0 && hasNext()) nextEntry();
+			return n - i - 1;
+		}
+
+		public int back(final int n) {
+			int i = n;
+			while (i-- != 0 && hasPrevious()) previousEntry();
+			return n - i - 1;
+		}
+	}
+
+	/**
+	 * An iterator on the whole range.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the linked leaves.
+	 */
+	private class EntryIterator extends TreeIterator implements ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> {
+		EntryIterator() {
+		}
+
+		EntryIterator(final long k) {
+			super(k);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> next() {
+			nextEntry();
+			return new MapEntry<>(currLeaf, currIndex);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> previous() {
+			previousEntry();
+			return new MapEntry<>(currLeaf, currIndex);
+		}
+	}
+
+	/**
+	 * An iterator on the whole range returning always the same entry.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the linked leaves.
+	 */
+	private final class FastEntryIterator extends TreeIterator implements ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> {
+		private final MapEntry<V> entry = new MapEntry<>();
+
+		FastEntryIterator() {
+		}
+
+		FastEntryIterator(final long k) {
+			super(k);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> next() {
+			nextEntry();
+			entry.leaf = currLeaf;
+			entry.index = currIndex;
+			return entry;
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> previous() {
+			previousEntry();
+			entry.leaf = currLeaf;
+			entry.index = currIndex;
+			return entry;
+		}
+	}
+
+	private final class EntrySet extends AbstractObjectSortedSet<Long2ObjectMap.Entry<V>> implements FastSortedEntrySet<V> {
+		final Comparator<? super Long2ObjectMap.Entry<V>> comparator = (Long2ObjectBPlusTreeMap.this.actualComparator == null ? (Comparator<Long2ObjectMap.Entry<V>>)(x, y) -> (Long.compare((x.getLongKey()), (y.getLongKey()))) : (Comparator<Long2ObjectMap.Entry<V>>)(x, y) -> Long2ObjectBPlusTreeMap.this.actualComparator.compare(x.getLongKey(), y.getLongKey()));
+
+		@Override
+		public Comparator<? super Long2ObjectMap.Entry<V>> comparator() {
+			return comparator;
+		}
+
+		@Override
+		public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator(final Long2ObjectMap.Entry<V> from) {
+			return new EntryIterator(from.getLongKey());
+		}
+
+		@Override
+		public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> fastIterator() {
+			return new FastEntryIterator();
+		}
+
+		@Override
+		public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> fastIterator(final Long2ObjectMap.Entry<V> from) {
+			return new FastEntryIterator(from.getLongKey());
+		}
+
+		@Override
+		public void fastForEach(final java.util.function.Consumer<? super Long2ObjectMap.Entry<V>> consumer) {
+			final MapEntry<V> entry = new MapEntry<>();
+			for (Leaf l = firstLeaf; l != null; l = l.next) {
+				entry.leaf = l;
+				for (int i = 0; i < l.size; i++) {
+					entry.index = i;
+					consumer.accept(entry);
+				}
+			}
+		}
+
+		@Override
+
+		public boolean contains(final Object o) {
+			if (o == null || !(o instanceof Map.Entry)) return false;
+			final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+			if (e.getKey() == null) return false;
+			if (!(e.getKey() instanceof Long)) return false;
+			final long k = ((Long)(e.getKey())).longValue();
+			return containsKey(k) && java.util.Objects.equals(get(k), (e.getValue()));
+		}
+
+		@Override
+
+		public boolean remove(final Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+			if (e.getKey() == null) return false;
+			if (!(e.getKey() instanceof Long)) return false;
+			final long k = ((Long)(e.getKey())).longValue();
+			if (!containsKey(k) || !java.util.Objects.equals(get(k), (e.getValue()))) return false;
+			Long2ObjectBPlusTreeMap.this.remove(k);
+			return true;
+		}
+
+		@Override
+		public int size() {
+			return count;
+		}
+
+		@Override
+		public void clear() {
+			Long2ObjectBPlusTreeMap.this.clear();
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> first() {
+			if (root == null) throw new NoSuchElementException();
+			return new MapEntry<>(firstLeaf, 0);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> last() {
+			if (root == null) throw new NoSuchElementException();
+			return new MapEntry<>(lastLeaf, lastLeaf.size - 1);
+		}
+
+		@Override
+		public ObjectSortedSet<Long2ObjectMap.Entry<V>> subSet(Long2ObjectMap.Entry<V> from, Long2ObjectMap.Entry<V> to) {
+			return subMap(from.getLongKey(), to.getLongKey()).long2ObjectEntrySet();
+		}
+
+		@Override
+		public ObjectSortedSet<Long2ObjectMap.Entry<V>> headSet(Long2ObjectMap.Entry<V> to) {
+			return headMap(to.getLongKey()).long2ObjectEntrySet();
+		}
+
+		@Override
+		public ObjectSortedSet<Long2ObjectMap.Entry<V>> tailSet(Long2ObjectMap.Entry<V> from) {
+			return tailMap(from.getLongKey()).long2ObjectEntrySet();
+		}
+	}
+
+	@Override
+	public FastSortedEntrySet<V> long2ObjectEntrySet() {
+		if (entries == null) entries = new EntrySet();
+		return entries;
+	}
+
+	/**
+	 * An iterator on the whole range of keys.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the keys of the linked leaves.
+	 */
+	private final class KeyIterator extends TreeIterator implements LongBidirectionalIterator {
+		public KeyIterator() {
+		}
+
+		public KeyIterator(final long k) {
+			super(k);
+		}
+
+		@Override
+		public long nextLong() {
+			nextEntry();
+			return currLeaf.key[currIndex];
+		}
+
+		@Override
+		public long previousLong() {
+			previousEntry();
+			return currLeaf.key[currIndex];
+		}
+	};
+
+	/** A keyset implementation using a more direct implementation for iterators. */
+	private class KeySet extends AbstractLong2ObjectSortedMap<V>.KeySet {
+		@Override
+		public LongBidirectionalIterator iterator() {
+			return new KeyIterator();
+		}
+
+		@Override
+		public LongBidirectionalIterator iterator(final long from) {
+			return new KeyIterator(from);
+		}
+
+		@Override
+		public void forEach(final java.util.function.LongConsumer action) {
+			for (Leaf l = firstLeaf; l != null; l = l.next) {
+				final long[] key = l.key;
+				for (int i = 0, s = l.size; i < s; i++) action.accept(key[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns a type-specific sorted set view of the keys contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#keySet()}, you can safely cast the set
+	 * returned by this call to a type-specific sorted set interface.
+	 *
+	 * @return a type-specific sorted set view of the keys contained in this map.
+	 */
+	@Override
+	public LongSortedSet keySet() {
+		if (keys == null) keys = new KeySet();
+		return keys;
+	}
+
+	/**
+	 * An iterator on the whole range of values.
+	 *
+	 * <p>
+	 * This class can iterate in both directions on the values of the linked leaves.
+	 */
+	private final class ValueIterator extends TreeIterator implements ObjectBidirectionalIterator<V> {
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next() {
+			nextEntry();
+			return (V)currLeaf.value[currIndex];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V previous() {
+			previousEntry();
+			return (V)currLeaf.value[currIndex];
+		}
+	};
+
+	/**
+	 * Returns a type-specific collection view of the values contained in this map.
+	 *
+	 * <p>
+	 * In addition to the semantics of {@link java.util.Map#values()}, you can safely cast the
+	 * collection returned by this call to a type-specific collection interface.
+	 *
+	 * @return a type-specific collection view of the values contained in this map.
+	 */
+	@Override
+	public ObjectCollection<V> values() {
+		if (values == null) values = new AbstractObjectCollection<V>() {
+			@Override
+			public ObjectIterator<V> iterator() {
+				return new ValueIterator();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public void forEach(final java.util.function.Consumer<? super V> action) {
+				for (Leaf l = firstLeaf; l != null; l = l.next) {
+					final Object[] value = l.value;
+					for (int i = 0, s = l.size; i < s; i++) action.accept((V)value[i]);
+				}
+			}
+
+			@Override
+			public boolean contains(final Object k) {
+				return containsValue(k);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+
+			@Override
+			public void clear() {
+				Long2ObjectBPlusTreeMap.this.clear();
+			}
+		};
+		return values;
+	}
+
+	@Override
+	public LongComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> headMap(long to) {
+		return new Submap((0), true, to, false);
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> tailMap(long from) {
+		return new Submap(from, false, (0), true);
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> subMap(long from, long to) {
+		return new Submap(from, false, to, false);
+	}
+
+	/**
+	 * A submap with given range.
+	 *
+	 * <p>
+	 * This class represents a submap. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the submap is a view on the map, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly; the latter, however, scans leaves rather than single entries.
+	 */
+	private final class Submap extends AbstractLong2ObjectSortedMap<V> implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the submap range, unless {@link #bottom} is true. */
+		long from;
+		/** The end of the submap range, unless {@link #top} is true. */
+		long to;
+		/** If true, the submap range starts from -&infin;. */
+		boolean bottom;
+		/** If true, the submap range goes to &infin;. */
+		boolean top;
+		/** Cached set of entries. */
+		protected transient ObjectSortedSet<Long2ObjectMap.Entry<V>> entries;
+		/** Cached set of keys. */
+		protected transient LongSortedSet keys;
+		/** Cached collection of values. */
+		protected transient ObjectCollection<V> values;
+
+		/**
+		 * Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Submap(final long from, final boolean bottom, final long to, final boolean top) {
+			if (!bottom && !top && Long2ObjectBPlusTreeMap.this.compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+			this.defRetValue = Long2ObjectBPlusTreeMap.this.defRetValue;
+		}
+
+		@Override
+		public void clear() {
+			final SubmapIterator i = new SubmapIterator();
+			while (i.hasNext()) {
+				i.nextEntry();
+				i.remove();
+			}
+		}
+
+		/**
+		 * Checks whether a key is in the submap range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+		final boolean in(final long k) {
+			return (bottom || Long2ObjectBPlusTreeMap.this.compare(k, from) >= 0) && (top || Long2ObjectBPlusTreeMap.this.compare(k, to) < 0);
+		}
+
+		@Override
+		public ObjectSortedSet<Long2ObjectMap.Entry<V>> long2ObjectEntrySet() {
+			if (entries == null) entries = new AbstractObjectSortedSet<Long2ObjectMap.Entry<V>>() {
+				@Override
+				public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator() {
+					return new SubmapEntryIterator();
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator(final Long2ObjectMap.Entry<V> from) {
+					return new SubmapEntryIterator(from.getLongKey());
+				}
+
+				@Override
+				public Comparator<? super Long2ObjectMap.Entry<V>> comparator() {
+					return Long2ObjectBPlusTreeMap.this.long2ObjectEntrySet().comparator();
+				}
+
+				@Override
+
+				public boolean contains(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Long)) return false;
+					final long k = ((Long)(e.getKey())).longValue();
+					return in(k) && Long2ObjectBPlusTreeMap.this.containsKey(k) && java.util.Objects.equals(Long2ObjectBPlusTreeMap.this.get(k), (e.getValue()));
+				}
+
+				@Override
+
+				public boolean remove(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Long)) return false;
+					final long k = ((Long)(e.getKey())).longValue();
+					if (!in(k) || !Long2ObjectBPlusTreeMap.this.containsKey(k) || !java.util.Objects.equals(Long2ObjectBPlusTreeMap.this.get(k), (e.getValue()))) return false;
+					Submap.this.remove(k);
+					return true;
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return !new SubmapIterator().hasNext();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+
+				@Override
+				public Long2ObjectMap.Entry<V> first() {
+					final SubmapEntryIterator i = new SubmapEntryIterator();
+					if (!i.hasNext()) throw new NoSuchElementException();
+					return i.next();
+				}
+
+				@Override
+				public Long2ObjectMap.Entry<V> last() {
+					final SubmapEntryIterator i = new SubmapEntryIterator();
+					i.toEnd();
+					if (!i.hasPrevious()) throw new NoSuchElementException();
+					return i.previous();
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> subSet(Long2ObjectMap.Entry<V> from, Long2ObjectMap.Entry<V> to) {
+					return subMap(from.getLongKey(), to.getLongKey()).long2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> headSet(Long2ObjectMap.Entry<V> to) {
+					return headMap(to.getLongKey()).long2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> tailSet(Long2ObjectMap.Entry<V> from) {
+					return tailMap(from.getLongKey()).long2ObjectEntrySet();
+				}
+			};
+			return entries;
+		}
+
+		private class KeySet extends AbstractLong2ObjectSortedMap<V>.KeySet {
+			@Override
+			public LongBidirectionalIterator iterator() {
+				return new SubmapKeyIterator();
+			}
+
+			@Override
+			public LongBidirectionalIterator iterator(final long from) {
+				return new SubmapKeyIterator(from);
+			}
+		}
+
+		@Override
+		public LongSortedSet keySet() {
+			if (keys == null) keys = new KeySet();
+			return keys;
+		}
+
+		@Override
+		public ObjectCollection<V> values() {
+			if (values == null) values = new AbstractObjectCollection<V>() {
+				@Override
+				public ObjectIterator<V> iterator() {
+					return new SubmapValueIterator();
+				}
+
+				@Override
+				public boolean contains(final Object k) {
+					return containsValue(k);
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+			};
+			return values;
+		}
+
+		@Override
+
+		public boolean containsKey(final long k) {
+
+			return in(k) && Long2ObjectBPlusTreeMap.this.containsKey(k);
+		}
+
+		@Override
+		public boolean containsValue(final Object v) {
+			final SubmapIterator i = new SubmapIterator();
+			while (i.hasNext()) {
+				i.nextEntry();
+				if (java.util.Objects.equals(i.currLeaf.value[i.currIndex], v)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V get(final long k) {
+			if (!in(k) || root == null) return this.defRetValue;
+			final Leaf l = leafFor(k);
+			final int pos = search(l, k);
+			return pos < 0 ? this.defRetValue : (V)l.value[pos];
+		}
+
+		@Override
+		public V put(final long k, final V v) {
+			modified = false;
+			if (!in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			final V oldValue = Long2ObjectBPlusTreeMap.this.put(k, v);
+			return modified ? this.defRetValue : oldValue;
+		}
+
+		@Override
+
+		public V remove(final long k) {
+			modified = false;
+			if (!in(k)) return this.defRetValue;
+			final V oldValue = Long2ObjectBPlusTreeMap.this.remove(k);
+			return modified ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public int size() {
+			// Since the range is never inverted, the size is just a difference of ranks.
+			return (top ? count : Long2ObjectBPlusTreeMap.this.rank(to)) - (bottom ? 0 : Long2ObjectBPlusTreeMap.this.rank(from));
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !new SubmapIterator().hasNext();
+		}
+
+		@Override
+		public LongComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> headMap(final long to) {
+			if (top) return new Submap(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Submap(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> tailMap(final long from) {
+			if (bottom) return new Submap(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Submap(from, false, to, top) : this;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> subMap(long from, long to) {
+			if (top && bottom) return new Submap(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Submap(from, false, to, false);
+		}
+
+		@Override
+		public long firstLongKey() {
+			final SubmapIterator i = new SubmapIterator();
+			if (!i.hasNext()) throw new NoSuchElementException();
+			return i.peekNextKey();
+		}
+
+		@Override
+		public long lastLongKey() {
+			final SubmapIterator i = new SubmapIterator();
+			i.toEnd();
+			if (!i.hasPrevious()) throw new NoSuchElementException();
+			return i.peekPreviousKey();
+		}
+
+		/**
+		 * An iterator for subranges.
+		 *
+		 * <p>
+		 * This class inherits from {@link TreeIterator}, but checks the range of the submap when deciding
+		 * whether a next or previous entry exists.
+		 */
+		private class SubmapIterator extends TreeIterator {
+			SubmapIterator() {
+				if (!bottom) moveTo(from);
+			}
+
+			SubmapIterator(final long k) {
+				this();
+				if (hasNext() && (bottom || compare(k, from) >= 0)) {
+					if (!top && compare(k, to) >= 0) toEnd();
+					else {
+						moveTo(k);
+						// We skip k itself, if present.
+						if (hasNext() && compare(peekNextKey(), k) == 0) nextEntry();
+						currLeaf = null;
+					}
+				}
+			}
+
+			/** Positions this iterator after the last entry of the submap. */
+			void toEnd() {
+				if (top) {
+					leaf = lastLeaf;
+					index = leaf == null ? 0 : leaf.size;
+				} else moveTo(to);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return super.hasNext() && (top || Long2ObjectBPlusTreeMap.this.compare(peekNextKey(), to) < 0);
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return super.hasPrevious() && (bottom || Long2ObjectBPlusTreeMap.this.compare(peekPreviousKey(), from) >= 0);
+			}
+		}
+
+		private class SubmapEntryIterator extends SubmapIterator implements ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> {
+			SubmapEntryIterator() {
+			}
+
+			SubmapEntryIterator(final long k) {
+				super(k);
+			}
+
+			@Override
+			public Long2ObjectMap.Entry<V> next() {
+				nextEntry();
+				return new MapEntry<>(currLeaf, currIndex);
+			}
+
+			@Override
+			public Long2ObjectMap.Entry<V> previous() {
+				previousEntry();
+				return new MapEntry<>(currLeaf, currIndex);
+			}
+		}
+
+		/**
+		 * An iterator on a subrange of keys.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on a subrange of the keys of the linked leaves.
+		 */
+		private final class SubmapKeyIterator extends SubmapIterator implements LongBidirectionalIterator {
+			public SubmapKeyIterator() {
+				super();
+			}
+
+			public SubmapKeyIterator(long from) {
+				super(from);
+			}
+
+			@Override
+			public long nextLong() {
+				nextEntry();
+				return currLeaf.key[currIndex];
+			}
+
+			@Override
+			public long previousLong() {
+				previousEntry();
+				return currLeaf.key[currIndex];
+			}
+		};
+
+		/**
+		 * An iterator on a subrange of values.
+		 *
+		 * <p>
+		 * This class can iterate in both directions on the values of a subrange of the keys of the linked
+		 * leaves.
+		 */
+		private final class SubmapValueIterator extends SubmapIterator implements ObjectBidirectionalIterator<V> {
+			@Override
+			@SuppressWarnings("unchecked")
+			public V next() {
+				nextEntry();
+				return (V)currLeaf.value[currIndex];
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public V previous() {
+				previousEntry();
+				return (V)currLeaf.value[currIndex];
+			}
+		};
+	}
+
+	/**
+	 * Returns a deep copy of this tree map.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this tree map; the data stored in the map, however, is not
+	 * cloned. Note that this makes a difference only for object keys.
+	 *
+	 * @return a deep copy of this tree map.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Long2ObjectBPlusTreeMap<V> clone() {
+		Long2ObjectBPlusTreeMap<V> c;
+		try {
+			c = (Long2ObjectBPlusTreeMap<V>)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.keys = null;
+		c.values = null;
+		c.entries = null;
+		c.allocatePaths();
+		c.firstLeaf = c.lastLeaf = null;
+		if (root != null) c.root = c.copy(root, height);
+		return c;
+	}
+
+	/**
+	 * Copies recursively a subtree, linking the copied leaves at the end of the list of leaves.
+	 *
+	 * @param n the root of the subtree.
+	 * @param h the height of the subtree.
+	 * @return a copy of the subtree.
+	 */
+	private Node copy(final Node n, final int h) {
+		if (h == 0) {
+			final Leaf l = (Leaf)n, c = new Leaf();
+			System.arraycopy(l.key, 0, c.key, 0, l.size);
+			System.arraycopy(l.value, 0, c.value, 0, l.size);
+			c.size = l.size;
+			if ((c.prev = lastLeaf) != null) lastLeaf.next = c;
+			else firstLeaf = c;
+			lastLeaf = c;
+			return c;
+		}
+		final Internal i = (Internal)n, c = new Internal();
+		System.arraycopy(i.key, 0, c.key, 0, i.size - 1);
+		System.arraycopy(i.count, 0, c.count, 0, i.size);
+		for (int j = 0; j < i.size; j++) c.child[j] = copy(i.child[j], h - 1);
+		c.size = i.size;
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (Leaf l = firstLeaf; l != null; l = l.next) {
+			for (int i = 0; i < l.size; i++) {
+				s.writeLong(l.key[i]);
+				s.writeObject(l.value[i]);
+			}
+		}
+	}
+
+	/**
+	 * Builds the internal nodes of a tree whose leaves have been already linked, distributing children
+	 * evenly.
+	 *
+	 * @param leaves the number of leaves.
+	 */
+	private void buildIndex(final int leaves) {
+		Node[] level = new Node[leaves];
+		long[] min = new long[leaves];
+		int[] weight = new int[leaves];
+		int i = 0;
+		for (Leaf l = firstLeaf; l != null; l = l.next) {
+			level[i] = l;
+			weight[i] = l.size;
+			min[i++] = l.key[0];
+		}
+		int n = leaves;
+		height = 0;
+		while (n > 1) {
+			final int parents = (n + INTERNAL_CAPACITY - 1) / INTERNAL_CAPACITY;
+			final Node[] up = new Node[parents];
+			final long[] upMin = new long[parents];
+			final int[] upWeight = new int[parents];
+			for (int p = 0, c = 0; p < parents; p++) {
+				final Internal node = new Internal();
+				final int size = n / parents + (p < n % parents ? 1 : 0);
+				upMin[p] = min[c];
+				for (int j = 0; j < size; j++, c++) {
+					node.child[j] = level[c];
+					upWeight[p] += node.count[j] = weight[c];
+					if (j != 0) node.key[j - 1] = min[c];
+				}
+				node.size = size;
+				up[p] = node;
+			}
+			level = up;
+			min = upMin;
+			weight = upWeight;
+			n = parents;
+			height++;
+		}
+		root = level[0];
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		allocatePaths();
+		if (count != 0) {
+			// We distribute entries evenly among leaves, so that each leaf is at least half full.
+			final int leaves = (count + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+			for (int i = 0; i < leaves; i++) {
+				final Leaf l = new Leaf();
+				l.size = count / leaves + (i < count % leaves ? 1 : 0);
+				for (int j = 0; j < l.size; j++) {
+					l.key[j] = s.readLong();
+					l.value[j] = s.readObject();
+				}
+				if ((l.prev = lastLeaf) != null) lastLeaf.next = l;
+				else firstLeaf = l;
+				lastLeaf = l;
+			}
+			buildIndex(leaves);
+		}
+	}
+}
@@ -0,0 +1,1404 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A type-specific concurrent skip-list map.
+ *
+ * <p>
+ * This class implements the lock-free skip list used by
+ * {@link java.util.concurrent.ConcurrentSkipListMap}, but stores keys as primitive values, so no key
+ * is ever boxed. Insertions, removals, updates and accesses can be safely executed concurrently by
+ * multiple threads; {@link #put(long, Object)}, {@link #remove(long)}, {@link #putIfAbsent(long, Object)},
+ * {@link #remove(long, Object)}, both {@code replace()} methods, {@link #pollFirstEntry()} and
+ * {@link #pollLastEntry()} are atomic. Bulk operations such as {@link #putAll(Map)} and {@link #clear()}
+ * are not.
+ *
+ * <p>
+ * Iterators and views are <em>weakly consistent</em>: they never throw
+ * {@link java.util.ConcurrentModificationException}, they return elements reflecting the state of
+ * the map at some point at or since their creation, and they may or may not reflect modifications
+ * happened after their creation. Entries returned by iterators or by the polling methods are
+ * snapshots, and do not support {@link java.util.Map.Entry#setValue(Object) setValue()}.
+ *
+ * <p>
+ * Differently from other type-specific maps, this map does not accept {@code null} values, as
+ * {@code null} is used internally to mark deleted entries. Note also that {@link #size()} is not a
+ * constant-time operation, and that its result may be inaccurate if the map is being concurrently
+ * modified.
+ *
+ * @see java.util.concurrent.ConcurrentSkipListMap
+ */
+public class Long2ObjectConcurrentSkipListMap<V> extends AbstractLong2ObjectSortedMap<V> implements java.io.Serializable, Cloneable {
+	/**
+	 * A node of the base list. Deleted nodes have a {@code null} value. Sentinel nodes (the base header
+	 * and the markers appended to deleted nodes before unlinking them) have no meaningful key.
+	 */
+	private static final class Node<V> {
+		final long key;
+		final boolean sentinel;
+		volatile V val;
+		volatile Node<V> next;
+
+		Node(final long key, final V val, final Node<V> next) {
+			this.key = key;
+			this.val = val;
+			this.next = next;
+			this.sentinel = false;
+		}
+
+		/**
+		 * Creates a sentinel node.
+		 *
+		 * @param next the next node.
+		 */
+		Node(final Node<V> next) {
+			this.key = 0;
+			this.next = next;
+			this.sentinel = true;
+		}
+	}
+
+	/** A node of an index level. */
+	private static final class Index<V> {
+		final Node<V> node;
+		final Index<V> down;
+		volatile Index<V> right;
+
+		Index(final Node<V> node, final Index<V> down, final Index<V> right) {
+			this.node = node;
+			this.down = down;
+			this.right = right;
+		}
+	}
+
+	private static final VarHandle HEAD;
+	private static final VarHandle NEXT;
+	private static final VarHandle VAL;
+	private static final VarHandle RIGHT;
+	static {
+		try {
+			final MethodHandles.Lookup l = MethodHandles.lookup();
+			HEAD = l.findVarHandle(Long2ObjectConcurrentSkipListMap.class, "head", Index.class);
+			NEXT = l.findVarHandle(Node.class, "next", Node.class);
+			VAL = l.findVarHandle(Node.class, "val", Object.class);
+			RIGHT = l.findVarHandle(Index.class, "right", Index.class);
+		} catch (final ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/** The topmost head index of the skip list. */
+	private transient volatile Index<V> head;
+	/** The number of entries in this map. */
+	private transient LongAdder adder;
+	/** Cached view of the whole map, used to provide key, value and entry views. */
+	private transient Submap whole;
+	/** This map's comparator, as provided in the constructor. */
+	protected Comparator<? super Long> storedComparator;
+	/**
+	 * This map's actual comparator; it may differ from {@link #storedComparator} because it is always
+	 * a type-specific comparator, so it could be derived from the former by wrapping.
+	 */
+	protected transient LongComparator actualComparator;
+	private static final long serialVersionUID = -7046029254386353131L;
+
+	/**
+	 * Creates a new empty concurrent skip-list map.
+	 */
+	public Long2ObjectConcurrentSkipListMap() {
+		initialize();
+	}
+
+	/**
+	 * Creates a new empty concurrent skip-list map with the given comparator.
+	 *
+	 * @param c a (possibly type-specific) comparator.
+	 */
+	public Long2ObjectConcurrentSkipListMap(final Comparator<? super Long> c) {
+		this();
+		storedComparator = c;
+		setActualComparator();
+	}
+
+	/**
+	 * Creates a new concurrent skip-list map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new map.
+	 */
+	public Long2ObjectConcurrentSkipListMap(final Map<? extends Long, ? extends V> m) {
+		this();
+		putAll(m);
+	}
+
+	/**
+	 * Creates a new concurrent skip-list map copying a given type-specific sorted map (and its
+	 * {@link Comparator}).
+	 *
+	 * @param m a type-specific sorted map to be copied into the new map.
+	 */
+	public Long2ObjectConcurrentSkipListMap(final Long2ObjectSortedMap<V> m) {
+		this(m.comparator());
+		putAll(m);
+	}
+
+	/** Creates an empty skip list. */
+	private void initialize() {
+		head = new Index<>(new Node<>(null), null, null);
+		adder = new LongAdder();
+	}
+
+	/**
+	 * Generates the comparator that will be actually used.
+	 *
+	 * <p>
+	 * When a given {@link Comparator} is specified and stored in {@link #storedComparator}, we must
+	 * check whether it is type-specific. If it is so, we can used directly, and we store it in
+	 * {@link #actualComparator}. Otherwise, we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+		actualComparator = LongComparators.asLongComparator(storedComparator);
+	}
+
+	/**
+	 * Compares two keys in the right way.
+	 *
+	 * <p>
+	 * This method uses the {@link #actualComparator} if it is non-{@code null}. Otherwise, it resorts
+	 * to primitive type comparisons or to {@link Comparable#compareTo(Object) compareTo()}.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual (i.e., when k1 &lt; k2, k1 =
+	 *         k2 or k1 &gt; k2, respectively).
+	 */
+	final int compare(final long k1, final long k2) {
+		return actualComparator == null ? (Long.compare((k1), (k2))) : actualComparator.compare(k1, k2);
+	}
+
+	/**
+	 * Unlinks a deleted node from its predecessor, appending a marker to it if necessary.
+	 *
+	 * <p>
+	 * The marker guarantees that no insertion can happen after a deleted node while it is being
+	 * unlinked.
+	 *
+	 * @param b the predecessor.
+	 * @param n the node to be unlinked.
+	 */
+	private static <V> void unlinkNode(final Node<V> b, final Node<V> n) {
+		if (b != null && n != null) {
+			Node<V> f, p;
+			for (;;) {
+				if ((f = n.next) != null && f.sentinel) {
+					p = f.next; // Already marked
+					break;
+				} else if (NEXT.compareAndSet(n, f, new Node<>(f))) {
+					p = f; // Marker added
+					break;
+				}
+			}
+			NEXT.compareAndSet(b, n, p);
+		}
+	}
+
+	/**
+	 * Returns a base-level node whose key is smaller than a given key, or the base header if there is
+	 * no such node. Along the way, unlinks indices to deleted nodes.
+	 *
+	 * @param k a key.
+	 * @return a predecessor of {@code k}.
+	 */
+	private Node<V> findPredecessor(final long k) {
+		for (Index<V> q = head, r, d;;) {
+			while ((r = q.right) != null) {
+				final Node<V> p = r.node;
+				if (p.val == null) RIGHT.compareAndSet(q, r, r.right);
+				else if (compare(k, p.key) > 0) q = r;
+				else break;
+			}
+			if ((d = q.down) != null) q = d;
+			else return q.node;
+		}
+	}
+
+	/**
+	 * Returns the node holding a given key, cleaning up deleted nodes along the way.
+	 *
+	 * @param k a key.
+	 * @return the node holding {@code k}, or {@code null}.
+	 */
+	private Node<V> findNode(final long k) {
+		outer: for (;;) {
+			for (Node<V> b = findPredecessor(k), n;;) {
+				int c;
+				if ((n = b.next) == null) break outer;
+				else if (n.sentinel) break; // b is deleted
+				else if (n.val == null) unlinkNode(b, n); // n is deleted
+				else if ((c = compare(k, n.key)) > 0) b = n;
+				else if (c == 0) return n;
+				else break outer;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value associated with a given key.
+	 *
+	 * @param k a key.
+	 * @return the associated value, or {@code null}.
+	 */
+	private V doGet(final long k) {
+		outer: for (;;) {
+			for (Node<V> b = findPredecessor(k), n;;) {
+				V v;
+				int c;
+				if ((n = b.next) == null) break outer;
+				else if (n.sentinel) break;
+				else if ((v = n.val) == null) unlinkNode(b, n);
+				else if ((c = compare(k, n.key)) > 0) b = n;
+				else if (c == 0) return v;
+				else break outer;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Inserts or updates an entry.
+	 *
+	 * @param k the key.
+	 * @param value the value.
+	 * @param onlyIfAbsent if true, an existing value will not be updated.
+	 * @return the old value, or {@code null} if a new entry was inserted.
+	 */
+	private V doPut(final long k, final V value, final boolean onlyIfAbsent) {
+		Objects.requireNonNull(value);
+		for (;;) {
+			final Index<V> h = head;
+			int levels = 0; // Number of levels descended
+			Node<V> b;
+			for (Index<V> q = h, r, d;;) {
+				while ((r = q.right) != null) {
+					final Node<V> p = r.node;
+					if (p.val == null) RIGHT.compareAndSet(q, r, r.right);
+					else if (compare(k, p.key) > 0) q = r;
+					else break;
+				}
+				if ((d = q.down) != null) {
+					++levels;
+					q = d;
+				} else {
+					b = q.node;
+					break;
+				}
+			}
+			Node<V> z = null; // The new node, if inserted
+			for (;;) {
+				Node<V> n, p;
+				V v;
+				int c;
+				if ((n = b.next) == null) c = -1;
+				else if (n.sentinel) break; // Cannot append: restart
+				else if ((v = n.val) == null) {
+					unlinkNode(b, n);
+					c = 1;
+				} else if ((c = compare(k, n.key)) > 0) b = n;
+				else if (c == 0 && (onlyIfAbsent || VAL.compareAndSet(n, v, value))) return v;
+				if (c < 0 && NEXT.compareAndSet(b, n, p = new Node<>(k, value, n))) {
+					z = p;
+					break;
+				}
+			}
+			if (z != null) {
+				final ThreadLocalRandom random = ThreadLocalRandom.current();
+				if ((random.nextInt() & 3) == 0) { // Add indices with probability 1/4
+					long rnd = random.nextLong();
+					int skips = levels; // Levels to descend before adding
+					Index<V> x = null;
+					for (;;) { // Create at most 62 indices
+						x = new Index<>(z, x, null);
+						if (rnd >= 0L || --skips < 0) break;
+						else rnd <<= 1;
+					}
+					if (addIndices(h, skips, x) && skips < 0 && head == h) { // Try to add a new level
+						final Index<V> hx = new Index<>(z, x, null);
+						final Index<V> nh = new Index<>(h.node, h, hx);
+						HEAD.compareAndSet(this, h, nh);
+					}
+					if (z.val == null) findPredecessor(k); // Deleted while adding indices: clean up
+				}
+				adder.increment();
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Adds a tower of indices to an index level, descending as necessary.
+	 *
+	 * @param q the starting index for the current level.
+	 * @param skips the number of levels to skip before inserting.
+	 * @param x the topmost index of the tower to insert.
+	 * @return false if the node of {@code x} was deleted or a stale index was found.
+	 */
+	private boolean addIndices(Index<V> q, int skips, final Index<V> x) {
+		if (x != null && q != null) {
+			final long k = x.node.key;
+			boolean retrying = false;
+			for (;;) { // Find the splice point
+				Index<V> r, d;
+				int c;
+				if ((r = q.right) != null) {
+					final Node<V> p = r.node;
+					if (p.val == null) {
+						RIGHT.compareAndSet(q, r, r.right);
+						c = 0;
+					} else if ((c = compare(k, p.key)) > 0) q = r;
+					else if (c == 0) break; // Stale
+				} else c = -1;
+				if (c < 0) {
+					if ((d = q.down) != null && skips > 0) {
+						--skips;
+						q = d;
+					} else if (d != null && !retrying && !addIndices(d, 0, x.down)) break;
+					else {
+						x.right = r;
+						if (RIGHT.compareAndSet(q, r, x)) return true;
+						else retrying = true; // Find again the splice point
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes an entry.
+	 *
+	 * @param k the key.
+	 * @param value if not {@code null}, the value that must be associated with {@code k} for the
+	 *            removal to happen.
+	 * @return the removed value, or {@code null}.
+	 */
+	private V doRemove(final long k, final Object value) {
+		V result = null;
+		outer: for (;;) {
+			for (Node<V> b = findPredecessor(k), n;;) {
+				V v;
+				int c;
+				if ((n = b.next) == null) break outer;
+				else if (n.sentinel) break;
+				else if ((v = n.val) == null) unlinkNode(b, n);
+				else if ((c = compare(k, n.key)) > 0) b = n;
+				else if (c < 0) break outer;
+				else if (value != null && !value.equals(v)) break outer;
+				else if (VAL.compareAndSet(n, v, null)) {
+					result = v;
+					unlinkNode(b, n);
+					findPredecessor(k); // Clean up indices
+					break outer;
+				}
+			}
+		}
+		if (result != null) {
+			tryReduceLevel();
+			adder.decrement();
+		}
+		return result;
+	}
+
+	/**
+	 * Tries to reduce the number of levels if the topmost three levels look empty.
+	 */
+	private void tryReduceLevel() {
+		final Index<V> h, d, e;
+		if ((h = head).right == null && (d = h.down) != null && d.right == null && (e = d.down) != null && e.right == null && HEAD.compareAndSet(this, h, d) && h.right != null) // Recheck
+			HEAD.compareAndSet(this, d, h); // Try to back out
+	}
+
+	/**
+	 * Returns the first node that has not been deleted.
+	 *
+	 * @return the first node, or {@code null} if the map is empty.
+	 */
+	private Node<V> findFirst() {
+		final Node<V> b = head.node;
+		Node<V> n;
+		while ((n = b.next) != null) {
+			if (n.val == null) unlinkNode(b, n);
+			else return n;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the last node that has not been deleted.
+	 *
+	 * @return the last node, or {@code null} if the map is empty.
+	 */
+	private Node<V> findLast() {
+		outer: for (;;) {
+			Index<V> q = head;
+			Node<V> b;
+			for (Index<V> r, d;;) {
+				while ((r = q.right) != null) {
+					if (r.node.val == null) RIGHT.compareAndSet(q, r, r.right);
+					else q = r;
+				}
+				if ((d = q.down) != null) q = d;
+				else {
+					b = q.node;
+					break;
+				}
+			}
+			for (;;) {
+				final Node<V> n;
+				if ((n = b.next) == null) {
+					if (b.sentinel) break outer; // Empty
+					else return b;
+				} else if (n.sentinel) break;
+				else if (n.val == null) unlinkNode(b, n);
+				else b = n;
+			}
+		}
+		return null;
+	}
+
+	private static final int EQ = 1;
+	private static final int LT = 2;
+	private static final int GT = 0;
+
+	/**
+	 * Returns the node closest to a given key according to a relation.
+	 *
+	 * @param k a key.
+	 * @param rel a relation: a combination of {@link #LT} or {@link #GT} with {@link #EQ}.
+	 * @return the node satisfying the relation, or {@code null}.
+	 */
+	private Node<V> findNear(final long k, final int rel) {
+		for (;;) {
+			for (Node<V> b = findPredecessor(k), n;;) {
+				int c;
+				if ((n = b.next) == null) return (rel & LT) != 0 && !b.sentinel ? b : null;
+				else if (n.sentinel) break;
+				else if (n.val == null) unlinkNode(b, n);
+				else if (((c = compare(k, n.key)) == 0 && (rel & EQ) != 0) || (c < 0 && (rel & LT) == 0)) return n;
+				else if (c <= 0 && (rel & LT) != 0) return !b.sentinel ? b : null;
+				else b = n;
+			}
+		}
+	}
+
+	@Override
+	public V get(final long k) {
+		final V v = doGet(k);
+		return v != null ? v : defRetValue;
+	}
+
+	@Override
+	public boolean containsKey(final long k) {
+		return doGet(k) != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws NullPointerException if {@code v} is {@code null}.
+	 */
+	@Override
+	public V put(final long k, final V v) {
+		final V oldValue = doPut(k, v, false);
+		return oldValue != null ? oldValue : defRetValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws NullPointerException if {@code v} is {@code null}.
+	 */
+	@Override
+	public V putIfAbsent(final long k, final V v) {
+		final V oldValue = doPut(k, v, true);
+		return oldValue != null ? oldValue : defRetValue;
+	}
+
+	@Override
+	public V remove(final long k) {
+		final V oldValue = doRemove(k, null);
+		return oldValue != null ? oldValue : defRetValue;
+	}
+
+	@Override
+	public boolean remove(final long k, final Object v) {
+		return v != null && doRemove(k, v) != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws NullPointerException if {@code oldValue} or {@code v} is {@code null}.
+	 */
+	@Override
+	public boolean replace(final long k, final V oldValue, final V v) {
+		Objects.requireNonNull(oldValue);
+		Objects.requireNonNull(v);
+		for (;;) {
+			final Node<V> n;
+			final V curr;
+			if ((n = findNode(k)) == null) return false;
+			if ((curr = n.val) != null) {
+				if (!oldValue.equals(curr)) return false;
+				if (VAL.compareAndSet(n, curr, v)) return true;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws NullPointerException if {@code v} is {@code null}.
+	 */
+	@Override
+	public V replace(final long k, final V v) {
+		Objects.requireNonNull(v);
+		for (;;) {
+			final Node<V> n;
+			final V curr;
+			if ((n = findNode(k)) == null) return defRetValue;
+			if ((curr = n.val) != null && VAL.compareAndSet(n, curr, v)) return curr;
+		}
+	}
+
+	@Override
+	public boolean containsValue(final Object v) {
+		if (v == null) return false;
+		for (Node<V> n = head.node.next; n != null; n = n.next) {
+			final V curr = n.val;
+			if (curr != null && v.equals(curr)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of entries in this map.
+	 *
+	 * <p>
+	 * The returned value is computed on-the-fly, and it might be inaccurate if the map is being
+	 * concurrently modified.
+	 *
+	 * @return the number of entries in this map.
+	 */
+	@Override
+	public int size() {
+		final long c = adder.sum();
+		return c <= 0 ? 0 : (int)Math.min(c, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return findFirst() == null;
+	}
+
+	@Override
+	public void clear() {
+		Index<V> h, r, d;
+		while ((h = head) != null) {
+			if ((r = h.right) != null) RIGHT.compareAndSet(h, r, null);
+			else if ((d = h.down) != null) HEAD.compareAndSet(this, h, d);
+			else {
+				long count = 0;
+				final Node<V> b = h.node;
+				Node<V> n;
+				V v;
+				while ((n = b.next) != null) {
+					if ((v = n.val) != null && VAL.compareAndSet(n, v, null)) {
+						--count;
+						v = null;
+					}
+					if (v == null) unlinkNode(b, n);
+				}
+				if (count != 0) adder.add(count);
+				else break;
+			}
+		}
+	}
+
+	@Override
+	public long firstLongKey() {
+		final Node<V> n = findFirst();
+		if (n == null) throw new NoSuchElementException();
+		return n.key;
+	}
+
+	@Override
+	public long lastLongKey() {
+		final Node<V> n = findLast();
+		if (n == null) throw new NoSuchElementException();
+		return n.key;
+	}
+
+	/**
+	 * Returns a snapshot of the entry closest to a given key according to a relation.
+	 *
+	 * @param k a key.
+	 * @param rel a relation: a combination of {@link #LT} or {@link #GT} with {@link #EQ}.
+	 * @return a snapshot of the entry satisfying the relation, or {@code null}.
+	 */
+	private Long2ObjectMap.Entry<V> findNearEntry(final long k, final int rel) {
+		for (;;) {
+			final Node<V> n = findNear(k, rel);
+			if (n == null) return null;
+			final V v = n.val;
+			if (v != null) return new BasicEntry<>(n.key, v);
+		}
+	}
+
+	/**
+	 * Returns the key closest to a given key according to a relation.
+	 *
+	 * @param k a key.
+	 * @param rel a relation: a combination of {@link #LT} or {@link #GT} with {@link #EQ}.
+	 * @return the key satisfying the relation.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	private long findNearKey(final long k, final int rel) {
+		final Node<V> n = findNear(k, rel);
+		if (n == null) throw new NoSuchElementException();
+		return n.key;
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> floorEntry(final long k) {
+		return findNearEntry(k, LT | EQ);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> ceilingEntry(final long k) {
+		return findNearEntry(k, GT | EQ);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> higherEntry(final long k) {
+		return findNearEntry(k, GT);
+	}
+
+	@Override
+	public Long2ObjectMap.Entry<V> lowerEntry(final long k) {
+		return findNearEntry(k, LT);
+	}
+
+	@Override
+	public long floorLongKey(final long k) {
+		return findNearKey(k, LT | EQ);
+	}
+
+	@Override
+	public long ceilingLongKey(final long k) {
+		return findNearKey(k, GT | EQ);
+	}
+
+	@Override
+	public long higherLongKey(final long k) {
+		return findNearKey(k, GT);
+	}
+
+	@Override
+	public long lowerLongKey(final long k) {
+		return findNearKey(k, LT);
+	}
+
+	/**
+	 * Atomically removes and returns the entry with the smallest key.
+	 *
+	 * @return a snapshot of the removed entry, or {@code null} if this map is empty.
+	 */
+	@Override
+	public Long2ObjectMap.Entry<V> pollFirstEntry() {
+		final Node<V> b = head.node;
+		Node<V> n;
+		V v;
+		while ((n = b.next) != null) {
+			if ((v = n.val) == null || VAL.compareAndSet(n, v, null)) {
+				unlinkNode(b, n);
+				if (v != null) {
+					tryReduceLevel();
+					findPredecessor(n.key); // Clean up indices
+					adder.decrement();
+					return new BasicEntry<>(n.key, v);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Atomically removes and returns the entry with the largest key.
+	 *
+	 * @return a snapshot of the removed entry, or {@code null} if this map is empty.
+	 */
+	@Override
+	public Long2ObjectMap.Entry<V> pollLastEntry() {
+		outer: for (;;) {
+			Index<V> q = head;
+			Node<V> b;
+			for (Index<V> r, d;;) {
+				while ((r = q.right) != null) {
+					final Node<V> p = r.node;
+					if (p.val == null) RIGHT.compareAndSet(q, r, r.right);
+					else if (p.next != null) q = r; // Continue only if there is a successor
+					else break;
+				}
+				if ((d = q.down) != null) q = d;
+				else {
+					b = q.node;
+					break;
+				}
+			}
+			for (;;) {
+				final Node<V> n;
+				final V v;
+				if ((n = b.next) == null) {
+					if (b.sentinel) break outer; // Empty
+					else break; // Retry
+				} else if (n.sentinel) break;
+				else if ((v = n.val) == null) unlinkNode(b, n);
+				else if (n.next != null) b = n;
+				else if (VAL.compareAndSet(n, v, null)) {
+					unlinkNode(b, n);
+					tryReduceLevel();
+					findPredecessor(n.key); // Clean up indices
+					adder.decrement();
+					return new BasicEntry<>(n.key, v);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the whole map as a (unbounded) submap, which provides the views of this map.
+	 *
+	 * @return the whole map as a submap.
+	 */
+	private Submap whole() {
+		if (whole == null) whole = new Submap(0, true, 0, true);
+		return whole;
+	}
+
+	@Override
+	public ObjectSortedSet<Long2ObjectMap.Entry<V>> long2ObjectEntrySet() {
+		return whole().long2ObjectEntrySet();
+	}
+
+	@Override
+	public LongSortedSet keySet() {
+		return whole().keySet();
+	}
+
+	@Override
+	public ObjectCollection<V> values() {
+		return whole().values();
+	}
+
+	@Override
+	public LongComparator comparator() {
+		return actualComparator;
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> headMap(final long to) {
+		return new Submap(0, true, to, false);
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> tailMap(final long from) {
+		return new Submap(from, false, 0, true);
+	}
+
+	@Override
+	public Long2ObjectSortedMap<V> subMap(final long from, final long to) {
+		return new Submap(from, false, to, false);
+	}
+
+	/**
+	 * A weakly consistent iterator on a range of the map.
+	 *
+	 * <p>
+	 * This class keeps track of the next and previous nodes, together with a snapshot of their values.
+	 * Moving forward follows the base list, whereas moving backward requires a search.
+	 */
+	private class NodeIterator {
+		/** The range on which we iterate. */
+		final Submap range;
+		/** The node that will be returned by {@link #nextNode()}, or {@code null}. */
+		Node<V> next;
+		/** The value of {@link #next}. */
+		V nextValue;
+		/** The node that will be returned by {@link #previousNode()}, or {@code null}. */
+		Node<V> prev;
+		/** The value of {@link #prev}. */
+		V prevValue;
+		/** The last returned node, or {@code null} if there is no node to remove. */
+		Node<V> curr;
+		/** The value of {@link #curr}. */
+		V currValue;
+
+		NodeIterator(final Submap range) {
+			this.range = range;
+			for (;;) {
+				if ((next = range.loNode()) == null || (nextValue = next.val) != null) break;
+			}
+		}
+
+		NodeIterator(final Submap range, final long k) {
+			this.range = range;
+			if (range.tooHigh(k)) setPrevious(range.to, LT);
+			else if (!range.tooLow(k)) {
+				setNext(k, GT);
+				setPrevious(k, LT | EQ);
+			} else for (;;) {
+				if ((next = range.loNode()) == null || (nextValue = next.val) != null) break;
+			}
+		}
+
+		/**
+		 * Sets {@link #next} to the first live node in range satisfying a relation with a key.
+		 *
+		 * @param k a key.
+		 * @param rel a relation.
+		 */
+		private void setNext(final long k, final int rel) {
+			for (;;) {
+				if ((next = findNear(k, rel)) == null || range.tooHigh(next.key)) {
+					next = null;
+					break;
+				}
+				if ((nextValue = next.val) != null) break;
+			}
+		}
+
+		/**
+		 * Sets {@link #prev} to the last live node in range satisfying a relation with a key.
+		 *
+		 * @param k a key.
+		 * @param rel a relation.
+		 */
+		private void setPrevious(final long k, final int rel) {
+			for (;;) {
+				if ((prev = findNear(k, rel)) == null || range.tooLow(prev.key)) {
+					prev = null;
+					break;
+				}
+				if ((prevValue = prev.val) != null) break;
+			}
+		}
+
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		public boolean hasPrevious() {
+			return prev != null;
+		}
+
+		Node<V> nextNode() {
+			if (next == null) throw new NoSuchElementException();
+			prev = curr = next;
+			prevValue = currValue = nextValue;
+			Node<V> n = curr;
+			V v = null;
+			while ((n = n.next) != null && (v = n.val) == null);
+			next = n == null || range.tooHigh(n.key) ? null : n;
+			nextValue = v;
+			return curr;
+		}
+
+		Node<V> previousNode() {
+			if (prev == null) throw new NoSuchElementException();
+			next = curr = prev;
+			nextValue = currValue = prevValue;
+			setPrevious(curr.key, LT);
+			return curr;
+		}
+
+		public void remove() {
+			if (curr == null) throw new IllegalStateException();
+			Long2ObjectConcurrentSkipListMap.this.remove(curr.key);
+			curr = null;
+		}
+	}
+
+	private final class EntryIterator extends NodeIterator implements ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> {
+		EntryIterator(final Submap range) {
+			super(range);
+		}
+
+		EntryIterator(final Submap range, final long k) {
+			super(range, k);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> next() {
+			nextNode();
+			return new BasicEntry<>(curr.key, currValue);
+		}
+
+		@Override
+		public Long2ObjectMap.Entry<V> previous() {
+			previousNode();
+			return new BasicEntry<>(curr.key, currValue);
+		}
+	}
+
+	private final class KeyIterator extends NodeIterator implements LongBidirectionalIterator {
+		KeyIterator(final Submap range) {
+			super(range);
+		}
+
+		KeyIterator(final Submap range, final long k) {
+			super(range, k);
+		}
+
+		@Override
+		public long nextLong() {
+			return nextNode().key;
+		}
+
+		@Override
+		public long previousLong() {
+			return previousNode().key;
+		}
+	}
+
+	private final class ValueIterator extends NodeIterator implements ObjectIterator<V> {
+		ValueIterator(final Submap range) {
+			super(range);
+		}
+
+		@Override
+		public V next() {
+			nextNode();
+			return currValue;
+		}
+	}
+
+	/**
+	 * A submap with given range.
+	 *
+	 * <p>
+	 * This class represents a submap. One has to specify the left/right limits (which can be set to
+	 * -&infin; or &infin;). Since the submap is a view on the map, at a given moment it could happen
+	 * that the limits of the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always
+	 * computed on-the-fly.
+	 */
+	private final class Submap extends AbstractLong2ObjectSortedMap<V> implements java.io.Serializable {
+		private static final long serialVersionUID = -7046029254386353129L;
+		/** The start of the submap range, unless {@link #bottom} is true. */
+		final long from;
+		/** The end of the submap range, unless {@link #top} is true. */
+		final long to;
+		/** If true, the submap range starts from -&infin;. */
+		final boolean bottom;
+		/** If true, the submap range goes to &infin;. */
+		final boolean top;
+		/** Cached set of entries. */
+		protected transient ObjectSortedSet<Long2ObjectMap.Entry<V>> entries;
+		/** Cached set of keys. */
+		protected transient LongSortedSet keys;
+		/** Cached collection of values. */
+		protected transient ObjectCollection<V> values;
+
+		/**
+		 * Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+		public Submap(final long from, final boolean bottom, final long to, final boolean top) {
+			if (!bottom && !top && Long2ObjectConcurrentSkipListMap.this.compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+			this.from = from;
+			this.bottom = bottom;
+			this.to = to;
+			this.top = top;
+			this.defRetValue = Long2ObjectConcurrentSkipListMap.this.defRetValue;
+		}
+
+		/**
+		 * Checks whether a key is smaller than the start of the range.
+		 *
+		 * @param k a key.
+		 * @return true if {@code k} is smaller than the start of the range.
+		 */
+		final boolean tooLow(final long k) {
+			return !bottom && compare(k, from) < 0;
+		}
+
+		/**
+		 * Checks whether a key is greater than or equal to the end of the range.
+		 *
+		 * @param k a key.
+		 * @return true if {@code k} is greater than or equal to the end of the range.
+		 */
+		final boolean tooHigh(final long k) {
+			return !top && compare(k, to) >= 0;
+		}
+
+		/**
+		 * Checks whether a key is in the submap range.
+		 *
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+		final boolean in(final long k) {
+			return !tooLow(k) && !tooHigh(k);
+		}
+
+		/**
+		 * Returns the first node in range.
+		 *
+		 * @return the first node in range, or {@code null}.
+		 */
+		Node<V> loNode() {
+			final Node<V> n = bottom ? findFirst() : findNear(from, GT | EQ);
+			return n == null || tooHigh(n.key) ? null : n;
+		}
+
+		/**
+		 * Returns the last node in range.
+		 *
+		 * @return the last node in range, or {@code null}.
+		 */
+		Node<V> hiNode() {
+			final Node<V> n = top ? findLast() : findNear(to, LT);
+			return n == null || tooLow(n.key) ? null : n;
+		}
+
+		@Override
+		public ObjectSortedSet<Long2ObjectMap.Entry<V>> long2ObjectEntrySet() {
+			if (entries == null) entries = new AbstractObjectSortedSet<Long2ObjectMap.Entry<V>>() {
+				final Comparator<? super Long2ObjectMap.Entry<V>> comparator = (Long2ObjectConcurrentSkipListMap.this.actualComparator == null ? (Comparator<Long2ObjectMap.Entry<V>>)(x, y) -> (Long.compare((x.getLongKey()), (y.getLongKey()))) : (Comparator<Long2ObjectMap.Entry<V>>)(x, y) -> Long2ObjectConcurrentSkipListMap.this.actualComparator.compare(x.getLongKey(), y.getLongKey()));
+
+				@Override
+				public Comparator<? super Long2ObjectMap.Entry<V>> comparator() {
+					return comparator;
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator() {
+					return new EntryIterator(Submap.this);
+				}
+
+				@Override
+				public ObjectBidirectionalIterator<Long2ObjectMap.Entry<V>> iterator(final Long2ObjectMap.Entry<V> from) {
+					return new EntryIterator(Submap.this, from.getLongKey());
+				}
+
+				@Override
+				public boolean contains(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Long)) return false;
+					final long k = ((Long)(e.getKey())).longValue();
+					if (!in(k)) return false;
+					final V v = doGet(k);
+					return v != null && v.equals(e.getValue());
+				}
+
+				@Override
+				public boolean remove(final Object o) {
+					if (!(o instanceof Map.Entry)) return false;
+					final Map.Entry<?, ?> e = (Map.Entry<?, ?>)o;
+					if (e.getKey() == null || !(e.getKey() instanceof Long)) return false;
+					final long k = ((Long)(e.getKey())).longValue();
+					return in(k) && Long2ObjectConcurrentSkipListMap.this.remove(k, e.getValue());
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return Submap.this.isEmpty();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+
+				@Override
+				public Long2ObjectMap.Entry<V> first() {
+					final EntryIterator i = new EntryIterator(Submap.this);
+					if (!i.hasNext()) throw new NoSuchElementException();
+					return i.next();
+				}
+
+				@Override
+				public Long2ObjectMap.Entry<V> last() {
+					for (;;) {
+						final Node<V> n = hiNode();
+						if (n == null) throw new NoSuchElementException();
+						final V v = n.val;
+						if (v != null) return new BasicEntry<>(n.key, v);
+					}
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> subSet(Long2ObjectMap.Entry<V> from, Long2ObjectMap.Entry<V> to) {
+					return subMap(from.getLongKey(), to.getLongKey()).long2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> headSet(Long2ObjectMap.Entry<V> to) {
+					return headMap(to.getLongKey()).long2ObjectEntrySet();
+				}
+
+				@Override
+				public ObjectSortedSet<Long2ObjectMap.Entry<V>> tailSet(Long2ObjectMap.Entry<V> from) {
+					return tailMap(from.getLongKey()).long2ObjectEntrySet();
+				}
+			};
+			return entries;
+		}
+
+		/** A keyset implementation using a more direct implementation for iterators. */
+		private class KeySet extends AbstractLong2ObjectSortedMap<V>.KeySet {
+			@Override
+			public LongBidirectionalIterator iterator() {
+				return new KeyIterator(Submap.this);
+			}
+
+			@Override
+			public LongBidirectionalIterator iterator(final long from) {
+				return new KeyIterator(Submap.this, from);
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return Submap.this.isEmpty();
+			}
+		}
+
+		@Override
+		public LongSortedSet keySet() {
+			if (keys == null) keys = new KeySet();
+			return keys;
+		}
+
+		@Override
+		public ObjectCollection<V> values() {
+			if (values == null) values = new AbstractObjectCollection<V>() {
+				@Override
+				public ObjectIterator<V> iterator() {
+					return new ValueIterator(Submap.this);
+				}
+
+				@Override
+				public boolean contains(final Object k) {
+					return containsValue(k);
+				}
+
+				@Override
+				public int size() {
+					return Submap.this.size();
+				}
+
+				@Override
+				public boolean isEmpty() {
+					return Submap.this.isEmpty();
+				}
+
+				@Override
+				public void clear() {
+					Submap.this.clear();
+				}
+			};
+			return values;
+		}
+
+		@Override
+		public boolean containsKey(final long k) {
+			return in(k) && Long2ObjectConcurrentSkipListMap.this.containsKey(k);
+		}
+
+		@Override
+		public boolean containsValue(final Object v) {
+			if (bottom && top) return Long2ObjectConcurrentSkipListMap.this.containsValue(v);
+			if (v == null) return false;
+			final ValueIterator i = new ValueIterator(this);
+			while (i.hasNext()) if (v.equals(i.next())) return true;
+			return false;
+		}
+
+		@Override
+		public V get(final long k) {
+			final V v;
+			return in(k) && (v = doGet(k)) != null ? v : this.defRetValue;
+		}
+
+		@Override
+		public V put(final long k, final V v) {
+			if (!in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "-" : String.valueOf(to)) + ")");
+			final V oldValue = doPut(k, v, false);
+			return oldValue != null ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public V remove(final long k) {
+			if (!in(k)) return this.defRetValue;
+			final V oldValue = doRemove(k, null);
+			return oldValue != null ? oldValue : this.defRetValue;
+		}
+
+		@Override
+		public int size() {
+			if (bottom && top) return Long2ObjectConcurrentSkipListMap.this.size();
+			int n = 0;
+			for (final NodeIterator i = new NodeIterator(this); i.hasNext(); i.nextNode()) n++;
+			return n;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return loNode() == null;
+		}
+
+		@Override
+		public void clear() {
+			if (bottom && top) Long2ObjectConcurrentSkipListMap.this.clear();
+			else for (final NodeIterator i = new NodeIterator(this); i.hasNext();) {
+				i.nextNode();
+				i.remove();
+			}
+		}
+
+		@Override
+		public LongComparator comparator() {
+			return actualComparator;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> headMap(final long to) {
+			if (top) return new Submap(from, bottom, to, false);
+			return compare(to, this.to) < 0 ? new Submap(from, bottom, to, false) : this;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> tailMap(final long from) {
+			if (bottom) return new Submap(from, false, to, top);
+			return compare(from, this.from) > 0 ? new Submap(from, false, to, top) : this;
+		}
+
+		@Override
+		public Long2ObjectSortedMap<V> subMap(long from, long to) {
+			if (top && bottom) return new Submap(from, false, to, false);
+			if (!top) to = compare(to, this.to) < 0 ? to : this.to;
+			if (!bottom) from = compare(from, this.from) > 0 ? from : this.from;
+			if (!top && !bottom && from == this.from && to == this.to) return this;
+			return new Submap(from, false, to, false);
+		}
+
+		@Override
+		public long firstLongKey() {
+			final Node<V> n = loNode();
+			if (n == null) throw new NoSuchElementException();
+			return n.key;
+		}
+
+		@Override
+		public long lastLongKey() {
+			final Node<V> n = hiNode();
+			if (n == null) throw new NoSuchElementException();
+			return n.key;
+		}
+	}
+
+	/**
+	 * Returns a copy of this map.
+	 *
+	 * <p>
+	 * This method performs a copy of the entries that are present in this map when the method is
+	 * invoked; the values, however, are not cloned.
+	 *
+	 * @return a copy of this map.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Long2ObjectConcurrentSkipListMap<V> clone() {
+		Long2ObjectConcurrentSkipListMap<V> c;
+		try {
+			c = (Long2ObjectConcurrentSkipListMap<V>)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.initialize();
+		c.whole = null;
+		for (Node<V> n = head.node.next; n != null; n = n.next) {
+			final V v = n.val;
+			if (v != null) c.doPut(n.key, v, false);
+		}
+		return c;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		// Since the map might be modified concurrently, we precede each entry with a flag.
+		for (Node<V> n = head.node.next; n != null; n = n.next) {
+			final V v = n.val;
+			if (v != null) {
+				s.writeBoolean(true);
+				s.writeLong(n.key);
+				s.writeObject(v);
+			}
+		}
+		s.writeBoolean(false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		/* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+		setActualComparator();
+		initialize();
+		while (s.readBoolean()) {
+			final long k = s.readLong();
+			doPut(k, (V)s.readObject(), false);
+		}
+	}
+}
@@ -344,8 +344,12 @@ public class LongArrayList extends AbstractLongList implements RandomAccess, Clo
 
 	@Override
 	public int indexOf(final long k) {
-		for (int i = 0; i < size; i++) if (((k) == (a[i]))) return i;
-		return -1;
+		return LongArrays.indexOf(a, 0, size, k);
+	}
+
+	@Override
+	public boolean contains(final long k) {
+		return LongArrays.indexOf(a, 0, size, k) != -1;
 	}
 
 	@Override
@@ -0,0 +1,135 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A pool of temporary type-specific arrays.
+ *
+ * <p>
+ * This class provides static methods to {@linkplain #borrow(int) borrow} short-lived scratch arrays
+ * and to {@linkplain #release(long[]) release} them when they are no longer needed, so that they can
+ * be reused by subsequent borrowings instead of being allocated anew. Arrays are grouped in
+ * <em>size classes</em>: the length of a pooled array is always a power of two between
+ * {@value #MIN_POOLED_LENGTH} and {@value #MAX_POOLED_LENGTH}, and a borrowed array is the smallest
+ * one that can contain the requested number of elements. Longer arrays are not pooled.
+ *
+ * <p>
+ * Each thread keeps a small cache of arrays for each size class, which is accessed without any
+ * synchronization; arrays that do not fit in the cache of the releasing thread go to a small global
+ * overflow area, which is accessed by compare-and-set, and are discarded when the latter is full,
+ * too. Thus, the amount of memory retained by the pool is bounded.
+ *
+ * <p>
+ * The content of a borrowed array is undefined. An array must not be used after it has been
+ * released, and it must not be released twice.
+ *
+ * @see LongArrays#pooledMergeSort(long[], int, int)
+ * @see LongArrays#pooledGrow(long[], int, int)
+ */
+public final class LongArrayPool {
+	private LongArrayPool() {
+	}
+
+	/** The base-2 logarithm of {@link #MIN_POOLED_LENGTH}. */
+	private static final int MIN_LOG2 = 4;
+	/** The base-2 logarithm of {@link #MAX_POOLED_LENGTH}. */
+	private static final int MAX_LOG2 = 18;
+	/** The number of size classes. */
+	private static final int CLASSES = MAX_LOG2 - MIN_LOG2 + 1;
+	/** The number of arrays per size class cached by each thread. */
+	private static final int LOCAL_DEPTH = 2;
+	/** The number of arrays per size class in the global overflow area. */
+	private static final int GLOBAL_DEPTH = 4;
+	/** The minimum length of a pooled array. */
+	public static final int MIN_POOLED_LENGTH = 1 << MIN_LOG2;
+	/** The maximum length of a pooled array. */
+	public static final int MAX_POOLED_LENGTH = 1 << MAX_LOG2;
+	/** The thread-local caches, indexed by size class and slot. */
+	private static final ThreadLocal<long[][][]> LOCAL = ThreadLocal.withInitial(() -> new long[CLASSES][LOCAL_DEPTH][]);
+	/** The global overflow area; slots of size class {@code c} start at {@code c * GLOBAL_DEPTH}. */
+	private static final AtomicReferenceArray<long[]> GLOBAL = new AtomicReferenceArray<>(CLASSES * GLOBAL_DEPTH);
+
+	/**
+	 * Returns the size class of arrays able to contain a given number of elements.
+	 *
+	 * @param length a number of elements, at most {@link #MAX_POOLED_LENGTH}.
+	 * @return the size class of the smallest pooled arrays of at least {@code length} elements.
+	 */
+	private static int sizeClass(final int length) {
+		return length <= MIN_POOLED_LENGTH ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_LOG2;
+	}
+
+	/**
+	 * Borrows an array from this pool.
+	 *
+	 * @param length the minimum length of the array.
+	 * @return an array of at least {@code length} elements with undefined content; its length will be
+	 *         a power of two if {@code length} is positive and at most {@link #MAX_POOLED_LENGTH}.
+	 */
+	public static long[] borrow(final int length) {
+		if (length < 0) throw new IllegalArgumentException("Length (" + length + ") is negative");
+		if (length == 0) return LongArrays.EMPTY_ARRAY;
+		if (length > MAX_POOLED_LENGTH) return new long[length];
+		final int c = sizeClass(length);
+		final long[][] local = LOCAL.get()[c];
+		for (int i = 0; i < LOCAL_DEPTH; i++) {
+			final long[] a = local[i];
+			if (a != null) {
+				local[i] = null;
+				return a;
+			}
+		}
+		for (int i = c * GLOBAL_DEPTH; i < (c + 1) * GLOBAL_DEPTH; i++) {
+			final long[] a = GLOBAL.get(i);
+			if (a != null && GLOBAL.compareAndSet(i, a, null)) return a;
+		}
+		return new long[1 << c + MIN_LOG2];
+	}
+
+	/**
+	 * Releases an array to this pool.
+	 *
+	 * <p>
+	 * Arrays whose length is not a power of two between {@link #MIN_POOLED_LENGTH} and
+	 * {@link #MAX_POOLED_LENGTH} are silently discarded, so it is always safe to release an array
+	 * returned by {@link #borrow(int)}.
+	 *
+	 * @param a an array that will not be used anymore by the caller.
+	 */
+	public static void release(final long[] a) {
+		final int length = a.length;
+		if (length < MIN_POOLED_LENGTH || length > MAX_POOLED_LENGTH || (length & length - 1) != 0) return;
+		final int c = Integer.numberOfTrailingZeros(length) - MIN_LOG2;
+		final long[][] local = LOCAL.get()[c];
+		for (int i = 0; i < LOCAL_DEPTH; i++) {
+			if (local[i] == null) {
+				local[i] = a;
+				return;
+			}
+		}
+		for (int i = c * GLOBAL_DEPTH; i < (c + 1) * GLOBAL_DEPTH; i++) if (GLOBAL.get(i) == null && GLOBAL.compareAndSet(i, null, a)) return;
+	}
+
+	/**
+	 * Discards all arrays cached by the current thread and all arrays in the global overflow area.
+	 */
+	public static void clear() {
+		for (final long[][] local : LOCAL.get()) java.util.Arrays.fill(local, null);
+		for (int i = 0; i < GLOBAL.length(); i++) GLOBAL.set(i, null);
+	}
+}
@@ -0,0 +1,360 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import it.unimi.dsi.fastutil.BigArrays;
+
+/**
+ * A type-specific thread-safe append-only big list.
+ *
+ * <p>
+ * Instances of this class can be appended to concurrently by any number of threads without
+ * locking: an append reserves a range of indices by a fetch-and-add on a counter, and then copies
+ * the elements into <em>segments</em> that are allocated lazily, installing them by
+ * compare-and-set. Segments start small and double in length until they reach the
+ * {@linkplain BigArrays#SEGMENT_SIZE length of a segment of a big array}; from that point on, the
+ * layout of the list is the same as that of a big array.
+ *
+ * <p>
+ * After copying its elements, an append marks them as completed in a bitmap associated with each
+ * segment, and returns immediately: appends never wait for each other. The elements become
+ * visible, and the {@linkplain #size64() size} of the list grows, when they are
+ * <em>published</em>, that is, when all elements preceding them have been completed, too; the
+ * published prefix is advanced lazily by any thread appending at its end or asking for the size of
+ * the list. Thus, a reader always sees a prefix of the appended elements (the elements of a bulk
+ * append become visible all at once), and a thread calling {@link #size64()} or
+ * {@link #snapshot()} can access all elements up to the returned size without further
+ * synchronization. Note that a thread stalled in the middle of an append delays the publication
+ * (but not the completion) of the elements of subsequent appends; if an append fails (e.g.,
+ * because of an {@link OutOfMemoryError}), the elements following it will never be published.
+ *
+ * <p>
+ * Besides appending, this class does not support mutative operations. The maximum size is
+ * 2<sup>58</sup>.
+ *
+ * @see LongBigArrayBigList
+ */
+public class LongConcurrentAppendBigList extends AbstractLongBigList implements RandomAccess {
+	/** The base-2 logarithm of the length of the first segment. */
+	private static final int INITIAL_SHIFT = 10;
+	/** The number of segments of doubling length (their overall length is a big-array segment). */
+	private static final int SMALL_SEGMENTS = BigArrays.SEGMENT_SHIFT - INITIAL_SHIFT + 1;
+	/** The base-2 logarithm of the length of an inner directory of large segments. */
+	private static final int DIRECTORY_SHIFT = 20;
+	/** The mask used to compute the index of a large segment in its inner directory. */
+	private static final int DIRECTORY_MASK = (1 << DIRECTORY_SHIFT) - 1;
+	/** The number of inner directories of large segments (covering 2<sup>31</sup> segments). */
+	private static final int DIRECTORIES = 1 << 31 - DIRECTORY_SHIFT;
+	/** The segments of doubling length. */
+	private final AtomicReferenceArray<Segment> small = new AtomicReferenceArray<>(SMALL_SEGMENTS);
+	/** The two-level directory of segments of big-array length, allocated lazily. */
+	private final AtomicReference<AtomicReferenceArray<AtomicReferenceArray<Segment>>> large = new AtomicReference<>();
+	/** The number of reserved elements. */
+	private final AtomicLong reserved = new AtomicLong();
+	/** The number of published elements, which is the size of this list. */
+	private final AtomicLong published = new AtomicLong();
+
+	/** A segment, with a bitmap recording which of its elements have been completed. */
+	private static final class Segment {
+		/** The elements. */
+		private final long[] a;
+		/** A bit for each element, set when the element has been completed. */
+		private final AtomicLongArray done;
+
+		private Segment(final int length) {
+			a = new long[length];
+			done = new AtomicLongArray(length / Long.SIZE);
+		}
+	}
+
+	/** Creates a new empty concurrent append-only big list. */
+	public LongConcurrentAppendBigList() {
+	}
+
+	/**
+	 * Returns the segment containing a given element, allocating it if necessary.
+	 *
+	 * @param index the index of an element.
+	 * @return the segment containing the element of given index.
+	 */
+	private Segment segment(final long index) {
+		if (index < BigArrays.SEGMENT_SIZE) {
+			final int k = index < 1 << INITIAL_SHIFT ? 0 : Long.SIZE - Long.numberOfLeadingZeros(index) - INITIAL_SHIFT;
+			Segment s = small.get(k);
+			if (s == null && !small.compareAndSet(k, null, s = new Segment(k == 0 ? 1 << INITIAL_SHIFT : 1 << INITIAL_SHIFT + k - 1))) s = small.get(k);
+			return s;
+		}
+		AtomicReferenceArray<AtomicReferenceArray<Segment>> top = large.get();
+		if (top == null && !large.compareAndSet(null, top = new AtomicReferenceArray<>(DIRECTORIES))) top = large.get();
+		final long j = BigArrays.segment(index) - 1;
+		final int t = (int)(j >>> DIRECTORY_SHIFT);
+		AtomicReferenceArray<Segment> inner = top.get(t);
+		if (inner == null && !top.compareAndSet(t, null, inner = new AtomicReferenceArray<>(1 << DIRECTORY_SHIFT))) inner = top.get(t);
+		final int i = (int)(j & DIRECTORY_MASK);
+		Segment s = inner.get(i);
+		if (s == null && !inner.compareAndSet(i, null, s = new Segment(BigArrays.SEGMENT_SIZE))) s = inner.get(i);
+		return s;
+	}
+
+	/**
+	 * Returns the displacement of an element in its segment.
+	 *
+	 * @param index the index of an element.
+	 * @return the displacement of the element of given index in its segment.
+	 */
+	private static int displacement(final long index) {
+		if (index >= BigArrays.SEGMENT_SIZE) return BigArrays.displacement(index);
+		// Clear the highest bit, if the element is not in the first segment
+		return (int)(index < 1 << INITIAL_SHIFT ? index : index & ~Long.highestOneBit(index));
+	}
+
+	/**
+	 * Marks a range of elements as completed, and advances the published prefix if the range starts
+	 * at its end.
+	 *
+	 * <p>
+	 * Words of the bitmaps are marked starting from the end of the range, so that the published
+	 * prefix cannot end inside the range.
+	 *
+	 * @param from the start of the range (inclusive).
+	 * @param to the end of the range (exclusive).
+	 */
+	private void complete(final long from, final long to) {
+		for (long i = to; i > from;) {
+			// Segments start at multiples of Long.SIZE, so words never span two segments
+			final long start = Math.max(from, i - 1 & -Long.SIZE);
+			final int d = displacement(start);
+			final int l = (int)(i - start);
+			// Shifts of longs use only the six lowest bits of the displacement
+			segment(start).done.accumulateAndGet(d >>> 6, (l == Long.SIZE ? -1L : (1L << l) - 1) << d, (x, y) -> x | y);
+			i = start;
+		}
+		if (published.get() == from) advance();
+	}
+
+	/**
+	 * Advances the published prefix past all completed elements.
+	 *
+	 * @return the number of published elements.
+	 */
+	private long advance() {
+		long p = published.get();
+		final long r = reserved.get();
+		long q = p;
+		while (q < r) {
+			final int d = displacement(q);
+			// The completed elements starting from q in the word of q
+			final int c = Long.numberOfTrailingZeros(~(segment(q).done.get(d >>> 6) >>> d));
+			q += c;
+			if (c < Long.SIZE - (d & Long.SIZE - 1)) break;
+		}
+		while (p < q) {
+			if (published.compareAndSet(p, q)) return q;
+			p = published.get();
+		}
+		return p;
+	}
+
+	/**
+	 * Appends an element to this big list.
+	 *
+	 * @param k the element to be appended.
+	 * @return the index of the appended element.
+	 */
+	public long append(final long k) {
+		final long index = reserved.getAndIncrement();
+		segment(index).a[displacement(index)] = k;
+		complete(index, index + 1);
+		return index;
+	}
+
+	/**
+	 * Appends elements to this big list, atomically.
+	 *
+	 * <p>
+	 * The elements will occupy consecutive positions in this big list.
+	 *
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to append.
+	 * @param length the number of elements to append.
+	 * @return the index of the first appended element.
+	 */
+	public long append(final long[] a, int offset, int length) {
+		LongArrays.ensureOffsetLength(a, offset, length);
+		final long start = reserved.getAndAdd(length);
+		final long end = start + length;
+		for (long index = start; index < end;) {
+			final long[] s = segment(index).a;
+			final int d = displacement(index);
+			final int l = Math.min(length, s.length - d);
+			System.arraycopy(a, offset, s, d, l);
+			index += l;
+			offset += l;
+			length -= l;
+		}
+		complete(start, end);
+		return start;
+	}
+
+	@Override
+	public boolean add(final long k) {
+		append(k);
+		return true;
+	}
+
+	@Override
+	public boolean addAll(final LongCollection c) {
+		final long[] a = c.toLongArray();
+		append(a, 0, a.length);
+		return a.length != 0;
+	}
+
+	@Override
+	public long getLong(final long index) {
+		if (index >= published.get()) {
+			final long size = advance();
+			if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		}
+		return segment(index).a[displacement(index)];
+	}
+
+	/**
+	 * Returns the number of published elements.
+	 *
+	 * @return the number of published elements, which are all visible to the calling thread.
+	 */
+	@Override
+	public long size64() {
+		return advance();
+	}
+
+	/**
+	 * Returns the number of reserved elements.
+	 *
+	 * @return the number of elements appended or being appended; it is always greater than or equal
+	 *         to {@link #size64()}.
+	 */
+	public long reservedSize64() {
+		return reserved.get();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size64() == 0;
+	}
+
+	/**
+	 * Copies (hopefully quickly) elements of this big list into an array.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(long from, final long[] a, int offset, int length) {
+		LongArrays.ensureOffsetLength(a, offset, length);
+		BigArrays.ensureFromTo(size64(), from, from + length);
+		while (length > 0) {
+			final long[] s = segment(from).a;
+			final int d = displacement(from);
+			final int l = Math.min(length, s.length - d);
+			System.arraycopy(s, d, a, offset, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	/**
+	 * Copies (hopefully quickly) elements of this big list into a big array.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination big array.
+	 * @param offset the offset into the destination big array where to store the first element
+	 *            copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(long from, final long[][] a, long offset, long length) {
+		BigArrays.ensureOffsetLength(a, offset, length);
+		BigArrays.ensureFromTo(size64(), from, from + length);
+		while (length > 0) {
+			final long[] s = segment(from).a;
+			final int d = displacement(from);
+			final int l = (int)Math.min(length, s.length - d);
+			BigArrays.copyToBig(s, d, a, offset, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void forEach(final java.util.function.LongConsumer action) {
+		final long size = size64();
+		for (long from = 0; from < size;) {
+			final long[] s = segment(from).a;
+			final int d = displacement(from);
+			final int l = (int)Math.min(size - from, s.length - d);
+			for (int i = d; i < d + l; i++) action.accept(s[i]);
+			from += l;
+		}
+	}
+
+	/**
+	 * Returns an immutable view of the elements of this big list published at the time of the call.
+	 *
+	 * <p>
+	 * The returned big list has fixed size, and its content will not change, as this big list is
+	 * append-only. It can be accessed without synchronization by the calling thread, or by any thread
+	 * to which it is safely published.
+	 *
+	 * @return an immutable view of the current published prefix of this big list.
+	 */
+	public LongBigList snapshot() {
+		final long size = size64();
+		return new AbstractLongBigList() {
+			@Override
+			public long getLong(final long index) {
+				if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+				return segment(index).a[displacement(index)];
+			}
+
+			@Override
+			public long size64() {
+				return size;
+			}
+
+			@Override
+			public void getElements(final long from, final long[] a, final int offset, final int length) {
+				BigArrays.ensureFromTo(size, from, from + length);
+				LongConcurrentAppendBigList.this.getElements(from, a, offset, length);
+			}
+
+			@Override
+			public void getElements(final long from, final long[][] a, final long offset, final long length) {
+				BigArrays.ensureFromTo(size, from, from + length);
+				LongConcurrentAppendBigList.this.getElements(from, a, offset, length);
+			}
+		};
+	}
+}
@@ -0,0 +1,461 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import it.unimi.dsi.fastutil.BigArrays;
+
+/**
+ * An immutable big list of nondecreasing nonnegative longs stored using the Elias&ndash;Fano
+ * representation of monotone sequences.
+ *
+ * <p>
+ * Given a list of <var>n</var> nondecreasing elements smaller than or equal to an <em>upper
+ * bound</em> <var>u</var>, the Elias&ndash;Fano representation stores the lowest
+ * &#x230A;log(<var>u</var>/<var>n</var>)&#x230B; bits of each element explicitly, in a
+ * <em>lower-bits array</em>, and the remaining highest bits in unary code, as gaps in an
+ * <em>upper-bits array</em>: element of index <var>i</var> sets the bit of index
+ * <var>i</var>&nbsp;+&nbsp;(highest bits of the element). The representation uses at most
+ * 2&nbsp;+&nbsp;&#x2308;log(<var>u</var>/<var>n</var>)&#x2309; bits per element, which makes it
+ * ideal to store file offsets, sorted timestamps and posting lists.
+ *
+ * <p>
+ * Random access requires a <em>selection</em> on the upper-bits array, which is performed in
+ * constant time by means of an inventory of the positions of one every
+ * 2<sup>{@value #LOG2_QUANTUM}</sup> ones, followed by a scan of at most
+ * 2<sup>{@value #LOG2_MAX_SPAN}</sup> bits: the positions of the ones of a block spanning more
+ * bits are stored explicitly in a <em>spill</em> array, whose size is at most that of the
+ * upper-bits array (and usually zero, unless the elements are very unevenly distributed). A
+ * symmetric inventory of the
+ * positions of zeroes makes it possible to locate the elements sharing the same highest bits, and
+ * thus to search for {@linkplain #successor(long) successors} and {@linkplain #predecessor(long)
+ * predecessors} in logarithmic time. Iterators decode the upper-bits array sequentially.
+ *
+ * <p>
+ * Instances of this class are built in a single pass over the elements, provided that their number
+ * and an upper bound are known in advance.
+ *
+ * @see LongCompressedList
+ */
+public class LongEliasFanoBigList extends AbstractLongBigList implements RandomAccess, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The base-2 logarithm of the distance between samples of the inventories. */
+	public static final int LOG2_QUANTUM = 8;
+	/** The mask used to compute the distance from the last sample. */
+	private static final long QUANTUM_MASK = (1L << LOG2_QUANTUM) - 1;
+	/**
+	 * The base-2 logarithm of the maximum number of bits spanned by a block of the inventories whose
+	 * positions are not spilled.
+	 */
+	public static final int LOG2_MAX_SPAN = 14;
+	/** The number of elements. */
+	private final long size;
+	/** The number of lower bits. */
+	private final int l;
+	/** The mask used to extract the lower bits. */
+	private final long lowerMask;
+	/** The largest value of the highest bits. */
+	private final long maxHigh;
+	/** The lower-bits array, followed by a padding word. */
+	private final long[][] lower;
+	/** The upper-bits array. */
+	private final long[][] upper;
+	/** The positions in {@link #upper} of one every 2<sup>{@value #LOG2_QUANTUM}</sup> ones. */
+	private final long[][] onesInventory;
+	/** The positions in {@link #upper} of one every 2<sup>{@value #LOG2_QUANTUM}</sup> zeroes. */
+	private final long[][] zeroesInventory;
+	/** The positions of the ones of the blocks of {@link #onesInventory} spanning too many bits. */
+	private final long[][] onesSpill;
+	/** The positions of the zeroes of the blocks of {@link #zeroesInventory} spanning too many bits. */
+	private final long[][] zeroesSpill;
+
+	/**
+	 * Creates a new Elias&ndash;Fano big list containing the elements returned by an iterator.
+	 *
+	 * @param n the number of elements that will be read from {@code iterator}.
+	 * @param upperBound an upper bound (inclusive) on the elements returned by {@code iterator}.
+	 * @param iterator an iterator returning {@code n} nondecreasing nonnegative elements smaller than or
+	 *            equal to {@code upperBound}.
+	 * @throws IllegalArgumentException if {@code iterator} returns fewer than {@code n} elements, or if
+	 *             the elements are not nondecreasing, nonnegative or smaller than or equal to
+	 *             {@code upperBound}.
+	 */
+	public LongEliasFanoBigList(final long n, final long upperBound, final LongIterator iterator) {
+		if (n < 0) throw new IllegalArgumentException("Negative number of elements: " + n);
+		if (upperBound < 0) throw new IllegalArgumentException("Negative upper bound: " + upperBound);
+		size = n;
+		l = n == 0 || upperBound / n == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(upperBound / n);
+		lowerMask = l == 0 ? 0 : -1L >>> Long.SIZE - l;
+		maxHigh = upperBound >>> l;
+		// Both arrays are followed by a padding word
+		lower = LongBigArrays.newBigArray((n * l + Long.SIZE - 1 >>> 6) + 1);
+		final long upperBits = n + maxHigh + 1;
+		upper = LongBigArrays.newBigArray((upperBits + Long.SIZE - 1 >>> 6) + 1);
+		long last = 0;
+		for (long i = 0; i < n; i++) {
+			if (!iterator.hasNext()) throw new IllegalArgumentException("The iterator returned " + i + " elements, but " + n + " were expected");
+			final long x = iterator.nextLong();
+			if (x < last) throw new IllegalArgumentException("The elements are not nondecreasing and nonnegative: " + x + " (index " + i + ") < " + last);
+			if (x > upperBound) throw new IllegalArgumentException("Element " + x + " (index " + i + ") is larger than the upper bound " + upperBound);
+			last = x;
+			if (l != 0) {
+				final long bit = i * l;
+				final long w = bit >>> 6;
+				final int o = (int)(bit & 63);
+				or(lower, w, (x & lowerMask) << o);
+				if (o + l > Long.SIZE) or(lower, w + 1, (x & lowerMask) >>> Long.SIZE - o);
+			}
+			final long p = (x >>> l) + i;
+			or(upper, p >>> 6, 1L << p);
+		}
+		onesInventory = inventory(upper, n, false);
+		zeroesInventory = inventory(upper, maxHigh + 1, true);
+		onesSpill = spill(upper, upperBits, onesInventory, n, false);
+		zeroesSpill = spill(upper, upperBits, zeroesInventory, maxHigh + 1, true);
+	}
+
+	/**
+	 * Creates a new Elias&ndash;Fano big list containing the elements of an array.
+	 *
+	 * @param a an array of nondecreasing nonnegative elements.
+	 */
+	public LongEliasFanoBigList(final long[] a) {
+		this(a.length, a.length == 0 ? 0 : a[a.length - 1], LongIterators.wrap(a));
+	}
+
+	/**
+	 * Creates a new Elias&ndash;Fano big list containing the elements of a big list.
+	 *
+	 * @param l a big list of nondecreasing nonnegative elements.
+	 */
+	public LongEliasFanoBigList(final LongBigList l) {
+		this(l.size64(), l.size64() == 0 ? 0 : l.getLong(l.size64() - 1), l.iterator());
+	}
+
+	private static void or(final long[][] a, final long w, final long value) {
+		a[BigArrays.segment(w)][BigArrays.displacement(w)] |= value;
+	}
+
+	/**
+	 * Builds an inventory of the positions of ones or zeroes.
+	 *
+	 * @param bits a bit array.
+	 * @param count the number of ones or zeroes in {@code bits}.
+	 * @param zeroes whether to build an inventory of zeroes.
+	 * @return a big array containing the positions of the ones or zeroes of rank multiple of
+	 *         2<sup>{@value #LOG2_QUANTUM}</sup>.
+	 */
+	private static long[][] inventory(final long[][] bits, final long count, final boolean zeroes) {
+		final long[][] inventory = LongBigArrays.newBigArray(count + QUANTUM_MASK >>> LOG2_QUANTUM);
+		long seen = 0, next = 0;
+		for (long w = 0; next < count; w++) {
+			final long word = zeroes ? ~BigArrays.get(bits, w) : BigArrays.get(bits, w);
+			final int c = Long.bitCount(word);
+			while (next < seen + c && next < count) {
+				BigArrays.set(inventory, next >>> LOG2_QUANTUM, (w << 6) + select(word, (int)(next - seen)));
+				next += 1L << LOG2_QUANTUM;
+			}
+			seen += c;
+		}
+		return inventory;
+	}
+
+	/**
+	 * Stores explicitly the positions of the ones or zeroes of the blocks of an inventory spanning
+	 * more than 2<sup>{@value #LOG2_MAX_SPAN}</sup> bits.
+	 *
+	 * <p>
+	 * The entries of {@code inventory} corresponding to such blocks are replaced by &minus;<var>s</var>
+	 * &minus; 1, where <var>s</var> is the position in the returned spill of the first position of the
+	 * block.
+	 *
+	 * @param bits a bit array.
+	 * @param length the number of meaningful bits in {@code bits}.
+	 * @param inventory an inventory built by {@link #inventory(long[][], long, boolean)}.
+	 * @param count the number of ones or zeroes in {@code bits}.
+	 * @param zeroes whether {@code inventory} is an inventory of zeroes.
+	 * @return a big array containing the positions of the ones or zeroes of the blocks spanning too
+	 *         many bits.
+	 */
+	private static long[][] spill(final long[][] bits, final long length, final long[][] inventory, final long count, final boolean zeroes) {
+		final long blocks = BigArrays.length(inventory);
+		long spilled = 0;
+		for (long k = 0; k < blocks; k++) if (span(inventory, length, k) > 1L << LOG2_MAX_SPAN) spilled += Math.min(count - (k << LOG2_QUANTUM), 1L << LOG2_QUANTUM);
+		final long[][] spill = LongBigArrays.newBigArray(spilled);
+		for (long k = 0, s = 0; k < blocks; k++) {
+			if (span(inventory, length, k) <= 1L << LOG2_MAX_SPAN) continue;
+			final long p = BigArrays.get(inventory, k);
+			BigArrays.set(inventory, k, -s - 1);
+			long w = p >>> 6;
+			long word = (zeroes ? ~BigArrays.get(bits, w) : BigArrays.get(bits, w)) & -1L << p;
+			for (long r = Math.min(count - (k << LOG2_QUANTUM), 1L << LOG2_QUANTUM); r != 0; r--) {
+				while (word == 0) word = zeroes ? ~BigArrays.get(bits, ++w) : BigArrays.get(bits, ++w);
+				BigArrays.set(spill, s++, (w << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		return spill;
+	}
+
+	/**
+	 * Returns the number of bits spanned by a block of an inventory that has not been spilled yet.
+	 *
+	 * @param inventory an inventory.
+	 * @param length the number of meaningful bits in the bit array indexed by {@code inventory}.
+	 * @param k the index of a block.
+	 * @return the distance between the start of block {@code k} and the start of the next block, or
+	 *         {@code length} if {@code k} is the last block.
+	 */
+	private static long span(final long[][] inventory, final long length, final long k) {
+		final long next = k + 1 < BigArrays.length(inventory) ? BigArrays.get(inventory, k + 1) : length;
+		return next - BigArrays.get(inventory, k);
+	}
+
+	/**
+	 * Returns the position of a one in a word.
+	 *
+	 * @param word a word.
+	 * @param rank the rank of a one in {@code word}.
+	 * @return the position of the one of given rank in {@code word}.
+	 */
+	private static int select(long word, final int rank) {
+		for (int i = rank; i-- != 0;) word &= word - 1;
+		return Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * Returns the position of a one or of a zero in {@link #upper}.
+	 *
+	 * @param inventory the inventory to be used.
+	 * @param spill the spill associated with {@code inventory}.
+	 * @param rank the rank of a one or of a zero.
+	 * @param zeroes whether to select zeroes.
+	 * @return the position in {@link #upper} of the one or zero of given rank.
+	 */
+	private long select(final long[][] inventory, final long[][] spill, final long rank, final boolean zeroes) {
+		final long p = BigArrays.get(inventory, rank >>> LOG2_QUANTUM);
+		if (p < 0) return BigArrays.get(spill, -p - 1 + (rank & QUANTUM_MASK));
+		long r = rank & QUANTUM_MASK;
+		long w = p >>> 6;
+		long word = (zeroes ? ~BigArrays.get(upper, w) : BigArrays.get(upper, w)) & -1L << p;
+		for (int c; r >= (c = Long.bitCount(word)); r -= c) word = zeroes ? ~BigArrays.get(upper, ++w) : BigArrays.get(upper, ++w);
+		return (w << 6) + select(word, (int)r);
+	}
+
+	/**
+	 * Returns the lower bits of an element.
+	 *
+	 * @param index the index of an element.
+	 * @return the lower bits of the element of given index.
+	 */
+	private long lower(final long index) {
+		if (l == 0) return 0;
+		final long bit = index * l;
+		final long w = bit >>> 6;
+		final int o = (int)(bit & 63);
+		return (BigArrays.get(lower, w) >>> o | BigArrays.get(lower, w + 1) << 1 << 63 - o) & lowerMask;
+	}
+
+	@Override
+	public long getLong(final long index) {
+		ensureRestrictedIndex(index);
+		return select(onesInventory, onesSpill, index, false) - index << l | lower(index);
+	}
+
+	@Override
+	public long size64() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the index of the first element greater than or equal to a given value.
+	 *
+	 * @param x a value.
+	 * @return the index of the first element greater than or equal to {@code x}, or
+	 *         {@link #size64()} if no such element exists.
+	 */
+	public long successorIndex(final long x) {
+		if (x <= 0) return 0;
+		final long h = x >>> l;
+		if (h > maxHigh) return size;
+		// The elements with highest bits equal to h have indices in [from..to)
+		long from = h == 0 ? 0 : select(zeroesInventory, zeroesSpill, h - 1, true) - h + 1;
+		long to = select(zeroesInventory, zeroesSpill, h, true) - h;
+		final long lx = x & lowerMask;
+		while (from < to) {
+			final long mid = from + to >>> 1;
+			if (lower(mid) < lx) from = mid + 1;
+			else to = mid;
+		}
+		return from;
+	}
+
+	/**
+	 * Returns the smallest element greater than or equal to a given value.
+	 *
+	 * @param x a value.
+	 * @return the smallest element greater than or equal to {@code x}.
+	 * @throws NoSuchElementException if no element is greater than or equal to {@code x}.
+	 */
+	public long successor(final long x) {
+		final long index = successorIndex(x);
+		if (index == size) throw new NoSuchElementException();
+		return getLong(index);
+	}
+
+	/**
+	 * Returns the index of the last element smaller than or equal to a given value.
+	 *
+	 * @param x a value.
+	 * @return the index of the last element smaller than or equal to {@code x}, or -1 if no such
+	 *         element exists.
+	 */
+	public long predecessorIndex(final long x) {
+		return x == Long.MAX_VALUE ? size - 1 : successorIndex(x + 1) - 1;
+	}
+
+	/**
+	 * Returns the largest element smaller than or equal to a given value.
+	 *
+	 * @param x a value.
+	 * @return the largest element smaller than or equal to {@code x}.
+	 * @throws NoSuchElementException if no element is smaller than or equal to {@code x}.
+	 */
+	public long predecessor(final long x) {
+		final long index = predecessorIndex(x);
+		if (index == -1) throw new NoSuchElementException();
+		return getLong(index);
+	}
+
+	@Override
+	public boolean contains(final long k) {
+		final long index = successorIndex(k);
+		return index < size && getLong(index) == k;
+	}
+
+	@Override
+	public long indexOf(final long k) {
+		final long index = successorIndex(k);
+		return index < size && getLong(index) == k ? index : -1;
+	}
+
+	@Override
+	public long lastIndexOf(final long k) {
+		final long index = predecessorIndex(k);
+		return index >= 0 && getLong(index) == k ? index : -1;
+	}
+
+	/**
+	 * Returns the number of bits used by this list.
+	 *
+	 * @return the number of bits used by the lower-bits array, the upper-bits array, the inventories
+	 *         and their spills.
+	 */
+	public long numBits() {
+		return (BigArrays.length(lower) + BigArrays.length(upper) + BigArrays.length(onesInventory) + BigArrays.length(zeroesInventory) + BigArrays.length(onesSpill) + BigArrays.length(zeroesSpill)) * Long.SIZE;
+	}
+
+	@Override
+	public void forEach(final java.util.function.LongConsumer action) {
+		long w = 0, word = BigArrays.get(upper, 0);
+		for (long i = 0; i < size; i++) {
+			while (word == 0) word = BigArrays.get(upper, ++w);
+			final long p = (w << 6) + Long.numberOfTrailingZeros(word);
+			word &= word - 1;
+			action.accept(p - i << l | lower(i));
+		}
+	}
+
+	@Override
+	public LongBigListIterator listIterator(final long index) {
+		ensureIndex(index);
+		return new LongBigListIterator() {
+			/** The index of the next element to be returned. */
+			private long pos = index;
+			/** The index in {@link #upper} of the word {@link #word}. */
+			private long w = -1;
+			/** The word containing the one of the next element, with the previous ones cleared. */
+			private long word;
+
+			@Override
+			public boolean hasNext() {
+				return pos < size;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return pos > 0;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) throw new NoSuchElementException();
+				if (w == -1) {
+					// We position the iterator after random access or backward movements
+					final long p = select(onesInventory, onesSpill, pos, false);
+					w = p >>> 6;
+					word = BigArrays.get(upper, w) & -1L << p;
+				}
+				while (word == 0) word = BigArrays.get(upper, ++w);
+				final long p = (w << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				final long i = pos++;
+				return p - i << l | lower(i);
+			}
+
+			@Override
+			public long previousLong() {
+				if (!hasPrevious()) throw new NoSuchElementException();
+				w = -1;
+				return getLong(--pos);
+			}
+
+			@Override
+			public long nextIndex() {
+				return pos;
+			}
+
+			@Override
+			public long previousIndex() {
+				return pos - 1;
+			}
+
+			@Override
+			public long skip(final long n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final long skipped = Math.min(n, size - pos);
+				pos += skipped;
+				w = -1;
+				return skipped;
+			}
+
+			@Override
+			public long back(final long n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final long skipped = Math.min(n, pos);
+				pos -= skipped;
+				w = -1;
+				return skipped;
+			}
+		};
+	}
+}
@@ -0,0 +1,519 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrays;
+import it.unimi.dsi.fastutil.objects.ObjectList;
+import java.util.function.IntConsumer;
+
+/**
+ * A static interval tree on half-open intervals of longs, with associated values.
+ *
+ * <p>
+ * Each interval {@code [start..end)} is associated with a value; intervals may overlap, and the same
+ * interval may appear several times. Endpoints are stored in primitive arrays sorted by starting
+ * point, and the tree is <em>implicit</em>: the node at index <var>i</var> sits at the level given by
+ * the number of trailing ones of <var>i</var>, and the only additional information is, for each
+ * node, the maximum ending point in its subtree. This is the layout used in Heng Li's
+ * <a href="https://github.com/lh3/cgranges">cgranges</a>.
+ *
+ * <p>
+ * {@linkplain #forEachContaining(long, IntConsumer) Stabbing queries} (which intervals contain a
+ * point?) and {@linkplain #forEachOverlapping(long, long, IntConsumer) overlap queries} (which
+ * intervals intersect a range?) require logarithmic time plus time proportional to the number of
+ * intervals returned. Queries pass to the caller the <em>index</em> of the intervals found, which
+ * can be used with {@link #start(int)}, {@link #end(int)} and {@link #get(int)}; intervals are
+ * always reported in increasing order of starting point.
+ *
+ * <p>
+ * Modifications are cheap, but they invalidate the index, which is rebuilt (in linear time, plus
+ * sorting time if intervals were not added in order of starting point) by the next query, or
+ * explicitly by {@link #index()}. Thus, this class is best suited to workloads in which queries are
+ * much more frequent than modifications; in particular, it can be built in linear time from
+ * intervals already sorted by starting point using {@link #fromSorted(long[], long[], Object[], int)
+ * fromSorted()}. Indices returned by queries are valid until the next modification.
+ *
+ * <p>
+ * Note that since queries may rebuild the index, they are not thread safe unless the tree has been
+ * explicitly {@linkplain #index() indexed} after the last modification.
+ */
+public class LongIntervalTree<V> implements java.io.Serializable, Cloneable {
+	private static final long serialVersionUID = -7046029254386353129L;
+	/** The initial default capacity of an interval tree. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 10;
+	/** The starting points of the intervals (inclusive). */
+	protected transient long[] start;
+	/** The ending points of the intervals (exclusive). */
+	protected transient long[] end;
+	/** The values associated with the intervals. */
+	protected transient Object[] value;
+	/** The number of intervals in this tree. */
+	protected int size;
+	/** Whether the intervals are sorted by starting point. */
+	protected boolean sorted = true;
+	/** For each node of the implicit tree, the maximum ending point in its subtree. */
+	private transient long[] maxEnd;
+	/** The level of the root of the implicit tree, or -1 if the index is not valid. */
+	private transient int maxLevel = -1;
+
+	/**
+	 * Creates a new empty interval tree with given capacity.
+	 *
+	 * @param capacity the initial capacity of the tree (may be 0).
+	 */
+	public LongIntervalTree(final int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		start = new long[capacity];
+		end = new long[capacity];
+		value = new Object[capacity];
+	}
+
+	/**
+	 * Creates a new empty interval tree with {@link #DEFAULT_INITIAL_CAPACITY} capacity.
+	 */
+	public LongIntervalTree() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new interval tree copying the intervals described by three parallel arrays.
+	 *
+	 * <p>
+	 * The intervals need not be sorted.
+	 *
+	 * @param start the starting points (inclusive) of the intervals.
+	 * @param end the ending points (exclusive) of the intervals.
+	 * @param value the values associated with the intervals.
+	 * @throws IllegalArgumentException if the arrays have different lengths, or if some starting point
+	 *             is larger than the corresponding ending point.
+	 */
+	public LongIntervalTree(final long[] start, final long[] end, final V[] value) {
+		this(start.length);
+		ensureSameLength(start, end, value, start.length);
+		for (int i = 0; i < start.length; i++) add(start[i], end[i], value[i]);
+	}
+
+	private static void ensureSameLength(final long[] start, final long[] end, final Object[] value, final int length) {
+		if (length > start.length || length > end.length || length > value.length) throw new IllegalArgumentException("The specified length (" + length + ") is greater than the length of some array (" + start.length + ", " + end.length + ", " + value.length + ")");
+	}
+
+	/**
+	 * Creates a new interval tree wrapping three parallel arrays describing intervals sorted by
+	 * starting point.
+	 *
+	 * <p>
+	 * The arrays are used directly by the tree, and they will be modified by subsequent changes to
+	 * the tree. The tree index is built in linear time. Sorted starting and ending points can be
+	 * obtained, for example, using {@link LongArrays#radixSort(long[], long[])}, or, if you need to
+	 * permute the values, too, using
+	 * {@link LongArrays#radixSortIndirect(int[], long[], long[], boolean)}.
+	 *
+	 * @param start the starting points (inclusive) of the intervals, in nondecreasing order.
+	 * @param end the ending points (exclusive) of the intervals.
+	 * @param value the values associated with the intervals.
+	 * @param length the number of intervals.
+	 * @return an indexed interval tree wrapping the given arrays.
+	 * @throws IllegalArgumentException if some array is shorter than {@code length}, if the starting
+	 *             points are not sorted, or if some starting point is larger than the corresponding
+	 *             ending point.
+	 */
+	public static <V> LongIntervalTree<V> fromSorted(final long[] start, final long[] end, final V[] value, final int length) {
+		ensureSameLength(start, end, value, length);
+		for (int i = 0; i < length; i++) {
+			if (start[i] > end[i]) throw new IllegalArgumentException("Start point (" + start[i] + ") is larger than end point (" + end[i] + ") at index " + i);
+			if (i != 0 && start[i - 1] > start[i]) throw new IllegalArgumentException("Start points are not sorted at index " + i);
+		}
+		final LongIntervalTree<V> t = new LongIntervalTree<>(0);
+		t.start = start;
+		t.end = end;
+		t.value = value;
+		t.size = length;
+		t.index();
+		return t;
+	}
+
+	/**
+	 * Creates a new interval tree wrapping three parallel arrays describing intervals sorted by
+	 * starting point.
+	 *
+	 * @param start the starting points (inclusive) of the intervals, in nondecreasing order.
+	 * @param end the ending points (exclusive) of the intervals.
+	 * @param value the values associated with the intervals.
+	 * @return an indexed interval tree wrapping the given arrays.
+	 * @throws IllegalArgumentException if the arrays have different lengths, if the starting points
+	 *             are not sorted, or if some starting point is larger than the corresponding ending
+	 *             point.
+	 * @see #fromSorted(long[], long[], Object[], int)
+	 */
+	public static <V> LongIntervalTree<V> fromSorted(final long[] start, final long[] end, final V[] value) {
+		if (start.length != end.length || start.length != value.length) throw new IllegalArgumentException("The arrays have different lengths (" + start.length + ", " + end.length + ", " + value.length + ")");
+		return fromSorted(start, end, value, start.length);
+	}
+
+	/**
+	 * Grows the backing arrays, ensuring that they can contain the given number of intervals without
+	 * resizing, and in case increasing the current capacity at least by a factor of 50%.
+	 *
+	 * @param capacity the new minimum capacity.
+	 */
+	private void grow(int capacity) {
+		if (capacity <= start.length) return;
+		capacity = (int)Math.max(Math.min((long)start.length + (start.length >> 1), it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE), capacity);
+		start = LongArrays.forceCapacity(start, capacity, size);
+		end = LongArrays.forceCapacity(end, capacity, size);
+		value = ObjectArrays.forceCapacity(value, capacity, size);
+	}
+
+	/**
+	 * Adds an interval to this tree.
+	 *
+	 * @param start the starting point (inclusive) of the interval.
+	 * @param end the ending point (exclusive) of the interval.
+	 * @param v the value associated with the interval.
+	 * @throws IllegalArgumentException if {@code start} is larger than {@code end}.
+	 */
+	public void add(final long start, final long end, final V v) {
+		if (start > end) throw new IllegalArgumentException("Start point (" + start + ") is larger than end point (" + end + ")");
+		grow(size + 1);
+		if (size != 0 && this.start[size - 1] > start) sorted = false;
+		this.start[size] = start;
+		this.end[size] = end;
+		value[size++] = v;
+		maxLevel = -1;
+	}
+
+	/**
+	 * Removes an interval from this tree.
+	 *
+	 * <p>
+	 * If the interval appears several times, just one occurrence will be removed.
+	 *
+	 * @param start the starting point (inclusive) of the interval.
+	 * @param end the ending point (exclusive) of the interval.
+	 * @return true if the tree contained the given interval.
+	 */
+	public boolean remove(final long start, final long end) {
+		if (!sorted) sort();
+		for (int i = lowerBound(start); i < size && this.start[i] == start; i++) {
+			if (this.end[i] == end) {
+				size--;
+				System.arraycopy(this.start, i + 1, this.start, i, size - i);
+				System.arraycopy(this.end, i + 1, this.end, i, size - i);
+				System.arraycopy(value, i + 1, value, i, size - i);
+				value[size] = null;
+				maxLevel = -1;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the index of the first interval whose starting point is greater than or equal to the
+	 * given point (assuming that intervals are sorted).
+	 */
+	private int lowerBound(final long x) {
+		int from = 0, to = size;
+		while (from < to) {
+			final int mid = (from + to) >>> 1;
+			if (start[mid] < x) from = mid + 1;
+			else to = mid;
+		}
+		return from;
+	}
+
+	/**
+	 * Returns the number of intervals in this tree.
+	 *
+	 * @return the number of intervals in this tree.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether this tree is empty.
+	 *
+	 * @return true if this tree contains no intervals.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Removes all intervals from this tree. */
+	public void clear() {
+		java.util.Arrays.fill(value, 0, size, null);
+		size = 0;
+		sorted = true;
+		maxLevel = -1;
+	}
+
+	/**
+	 * Trims the backing arrays so that they have exactly the size of this tree.
+	 */
+	public void trim() {
+		if (size == start.length) return;
+		start = java.util.Arrays.copyOf(start, size);
+		end = java.util.Arrays.copyOf(end, size);
+		value = java.util.Arrays.copyOf(value, size);
+		maxEnd = null;
+		maxLevel = -1;
+	}
+
+	/**
+	 * Returns the starting point of the interval of given index.
+	 *
+	 * @param i the index of an interval, as returned by a query.
+	 * @return the starting point (inclusive) of the interval.
+	 */
+	public long start(final int i) {
+		ensureIndex(i);
+		return start[i];
+	}
+
+	/**
+	 * Returns the ending point of the interval of given index.
+	 *
+	 * @param i the index of an interval, as returned by a query.
+	 * @return the ending point (exclusive) of the interval.
+	 */
+	public long end(final int i) {
+		ensureIndex(i);
+		return end[i];
+	}
+
+	/**
+	 * Returns the value associated with the interval of given index.
+	 *
+	 * @param i the index of an interval, as returned by a query.
+	 * @return the value associated with the interval.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(final int i) {
+		ensureIndex(i);
+		return (V)value[i];
+	}
+
+	private void ensureIndex(final int i) {
+		if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index (" + i + ") is negative or greater than or equal to size (" + size + ")");
+	}
+
+	/**
+	 * Sorts the intervals by starting point (and then by ending point).
+	 */
+	private void sort() {
+		final int[] perm = new int[size];
+		for (int i = size; i-- != 0;) perm[i] = i;
+		LongArrays.radixSortIndirect(perm, start, end, 0, size, true);
+		final long[] s = new long[start.length], e = new long[end.length];
+		final Object[] v = new Object[value.length];
+		for (int i = size; i-- != 0;) {
+			final int p = perm[i];
+			s[i] = start[p];
+			e[i] = end[p];
+			v[i] = value[p];
+		}
+		start = s;
+		end = e;
+		value = v;
+		sorted = true;
+	}
+
+	/**
+	 * Builds the index of this tree, if necessary.
+	 *
+	 * <p>
+	 * This method is called automatically by queries after a modification. Calling it explicitly makes
+	 * subsequent queries (until the next modification) thread safe.
+	 */
+	public void index() {
+		if (maxLevel >= 0) return;
+		if (!sorted) sort();
+		final int n = size;
+		final long[] end = this.end;
+		if (maxEnd == null || maxEnd.length < n) maxEnd = new long[start.length];
+		final long[] maxEnd = this.maxEnd;
+		// Leaves have level 0; last is the maximum ending point of the rightmost existing subtree.
+		long last = 0;
+		int lastI = 0;
+		for (int i = 0; i < n; i += 2) last = maxEnd[lastI = i] = end[i];
+		int k;
+		for (k = 1; 1L << k <= n; k++) {
+			final int x = 1 << k - 1, i0 = (x << 1) - 1, step = x << 2;
+			for (int i = i0; i < n; i += step) {
+				final long el = maxEnd[i - x], er = i + x < n ? maxEnd[i + x] : last;
+				maxEnd[i] = Math.max(end[i], Math.max(el, er));
+			}
+			lastI = (lastI >> k & 1) != 0 ? lastI - x : lastI + x;
+			if (lastI < n && maxEnd[lastI] > last) last = maxEnd[lastI];
+		}
+		maxLevel = k - 1;
+	}
+
+	/**
+	 * Passes to the given action the index of each interval containing some point of the closed
+	 * range {@code [lo..hi]}, in increasing order.
+	 */
+	private void query(final long lo, final long hi, final IntConsumer action) {
+		index();
+		final int n = size;
+		if (n == 0) return;
+		final long[] start = this.start, end = this.end, maxEnd = this.maxEnd;
+		// Stack entries contain the node index in the upper half, the level and a visited bit in the lower half.
+		final long[] stack = new long[2 * maxLevel + 4];
+		int t = 0;
+		stack[t++] = (long)((1 << maxLevel) - 1) << 32 | maxLevel << 1;
+		while (t != 0) {
+			final long z = stack[--t];
+			final int x = (int)(z >>> 32), k = (int)z >>> 1;
+			if (k <= 3) {
+				// Small subtree: we scan it linearly.
+				final int i0 = x >> k << k, i1 = Math.min(i0 + (1 << k + 1) - 1, n);
+				for (int i = i0; i < i1 && start[i] <= hi; i++) if (end[i] > lo) action.accept(i);
+			} else if ((z & 1) == 0) {
+				// First visit: we come back later, and we visit the left subtree if it may contain results.
+				final int y = x - (1 << k - 1);
+				stack[t++] = z | 1;
+				if (y >= n || maxEnd[y] > lo) stack[t++] = (long)y << 32 | k - 1 << 1;
+			} else if (x < n && start[x] <= hi) {
+				if (end[x] > lo) action.accept(x);
+				stack[t++] = (long)(x + (1 << k - 1)) << 32 | k - 1 << 1;
+			}
+		}
+	}
+
+	/**
+	 * Passes to the given action the index of each interval containing a given point.
+	 *
+	 * <p>
+	 * Indices are passed in increasing order, that is, in order of starting point.
+	 *
+	 * @param x a point.
+	 * @param action an action that will be applied to the index of each interval containing
+	 *            {@code x}.
+	 */
+	public void forEachContaining(final long x, final IntConsumer action) {
+		query(x, x, action);
+	}
+
+	/**
+	 * Passes to the given action the index of each interval overlapping a given range.
+	 *
+	 * <p>
+	 * Indices are passed in increasing order, that is, in order of starting point.
+	 *
+	 * @param from the starting point of the range (inclusive).
+	 * @param to the ending point of the range (exclusive).
+	 * @param action an action that will be applied to the index of each interval overlapping
+	 *            {@code [from..to)}.
+	 * @throws IllegalArgumentException if {@code from} is larger than {@code to}.
+	 */
+	public void forEachOverlapping(final long from, final long to, final IntConsumer action) {
+		if (from > to) throw new IllegalArgumentException("Start point (" + from + ") is larger than end point (" + to + ")");
+		if (from == to) return;
+		query(from, to - 1, action);
+	}
+
+	/**
+	 * Returns the values associated with the intervals containing a given point.
+	 *
+	 * @param x a point.
+	 * @return a list containing the values associated with the intervals containing {@code x}, in
+	 *         order of starting point.
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectList<V> containing(final long x) {
+		final ObjectArrayList<V> l = new ObjectArrayList<>();
+		query(x, x, i -> l.add((V)value[i]));
+		return l;
+	}
+
+	/**
+	 * Returns the values associated with the intervals overlapping a given range.
+	 *
+	 * @param from the starting point of the range (inclusive).
+	 * @param to the ending point of the range (exclusive).
+	 * @return a list containing the values associated with the intervals overlapping
+	 *         {@code [from..to)}, in order of starting point.
+	 * @throws IllegalArgumentException if {@code from} is larger than {@code to}.
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectList<V> overlapping(final long from, final long to) {
+		final ObjectArrayList<V> l = new ObjectArrayList<>();
+		forEachOverlapping(from, to, i -> l.add((V)value[i]));
+		return l;
+	}
+
+	/**
+	 * Returns a deep copy of this interval tree.
+	 *
+	 * <p>
+	 * This method performs a deep copy of this interval tree; the values, however, are not cloned.
+	 *
+	 * @return a deep copy of this interval tree.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public LongIntervalTree<V> clone() {
+		LongIntervalTree<V> c;
+		try {
+			c = (LongIntervalTree<V>)super.clone();
+		} catch (CloneNotSupportedException cantHappen) {
+			throw new InternalError();
+		}
+		c.start = java.util.Arrays.copyOf(start, size);
+		c.end = java.util.Arrays.copyOf(end, size);
+		c.value = java.util.Arrays.copyOf(value, size, Object[].class);
+		// The pruning data must not be shared, as index() rebuilds it in place
+		c.maxEnd = maxLevel >= 0 ? java.util.Arrays.copyOf(maxEnd, size) : null;
+		return c;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder s = new StringBuilder();
+		s.append('{');
+		for (int i = 0; i < size; i++) {
+			if (i != 0) s.append(", ");
+			s.append('[').append(start[i]).append("..").append(end[i]).append(")=>").append(value[i] == this ? "(this tree)" : String.valueOf(value[i]));
+		}
+		s.append('}');
+		return s.toString();
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (int i = 0; i < size; i++) {
+			s.writeLong(start[i]);
+			s.writeLong(end[i]);
+			s.writeObject(value[i]);
+		}
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		start = new long[size];
+		end = new long[size];
+		value = new Object[size];
+		for (int i = 0; i < size; i++) {
+			start[i] = s.readLong();
+			end[i] = s.readLong();
+			value[i] = s.readObject();
+		}
+		maxLevel = -1;
+	}
+}
@@ -0,0 +1,469 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.longs;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import it.unimi.dsi.fastutil.BigArrays;
+
+/**
+ * A type-specific big list whose elements are stored off-heap.
+ *
+ * <p>
+ * Instances of this class store their elements in {@linkplain ByteBuffer#allocateDirect(int)
+ * direct buffers} in {@linkplain ByteOrder#nativeOrder() native order}, each holding a
+ * <em>chunk</em> of at most {@link #CHUNK_SIZE} elements. Thus, a large list does not put any
+ * pressure on the garbage collector: there are no humongous allocations, and the content of the
+ * list is never scanned or copied during a collection.
+ *
+ * <p>
+ * Direct buffers are, however, accounted against the limit on direct memory of the JVM, which can
+ * be set using the option {@code -XX:MaxDirectMemorySize} and defaults to the maximum heap size.
+ * Allocating a chunk beyond this limit throws an {@link OutOfMemoryError} even if the heap is
+ * mostly empty, so the limit must be raised accordingly when using large lists.
+ *
+ * <p>
+ * All chunks but the last one are full; the last chunk is enlarged as needed when new elements
+ * are added (by doubling its length), and when it is full a new chunk is allocated. Thus, growing
+ * a list never copies more than one chunk, and the list is <em>never</em> made smaller (even on a
+ * {@link #clear()}) unless you {@linkplain #trim() trim} it.
+ *
+ * <p>
+ * Besides the usual, range-checked accessors, this class provides {@linkplain #getLongUnchecked(long)
+ * unchecked accessors} that skip the check against the size of the list, and bulk methods moving
+ * elements between the list and arrays or big arrays with a single buffer operation per chunk.
+ *
+ * <p>
+ * The memory used by a list is released when the list is {@linkplain #close() closed}, or when
+ * the garbage collector reclaims the list. A closed list is empty, and cannot be modified further.
+ *
+ * <p>
+ * Instances of this class are not thread safe.
+ *
+ * @see LongBigArrayBigList
+ */
+public class LongOffHeapBigList extends AbstractLongBigList implements RandomAccess, Closeable {
+	private static final int CHUNK_SHIFT = 30 - LongMappedBigList.LOG2_BYTES;
+	/** The maximum size in elements of a chunk. */
+	public static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+	/** The mask used to compute the offset of an element in its chunk. */
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+	/** The initial default capacity of an off-heap big list. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+	private static final LongBuffer[] EMPTY_BUFFERS = {};
+	/** The chunks; only the first {@link #n} entries are used. */
+	private LongBuffer[] buffer = EMPTY_BUFFERS;
+	/** The number of chunks. */
+	private int n;
+	/** The overall capacity of the chunks. */
+	private long capacity;
+	/** The current size of this big list. */
+	private long size;
+	/** Whether this big list has been closed. */
+	private boolean closed;
+
+	/** Creates a new off-heap big list; no memory is allocated until elements are added. */
+	public LongOffHeapBigList() {
+	}
+
+	/**
+	 * Creates a new off-heap big list with given capacity.
+	 *
+	 * @param capacity the initial capacity of the list (may be 0).
+	 */
+	public LongOffHeapBigList(final long capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		ensureCapacity(capacity);
+	}
+
+	/**
+	 * Creates a new off-heap big list and fills it with the elements returned by a type-specific
+	 * iterator.
+	 *
+	 * @param i a type-specific iterator whose returned elements will fill the list.
+	 */
+	public LongOffHeapBigList(final LongIterator i) {
+		while (i.hasNext()) add(i.nextLong());
+	}
+
+	/**
+	 * Creates a new off-heap big list and fills it with the elements of a given type-specific big
+	 * list.
+	 *
+	 * @param l a type-specific big list.
+	 */
+	public LongOffHeapBigList(final LongBigList l) {
+		this(l.size64());
+		final long[] t = new long[(int)Math.min(l.size64(), DEFAULT_INITIAL_CAPACITY * 16)];
+		for (long from = 0, s = l.size64(); from < s;) {
+			final int length = (int)Math.min(t.length, s - from);
+			l.getElements(from, t, 0, length);
+			addElements(size, t, 0, length);
+			from += length;
+		}
+	}
+
+	private static LongBuffer allocate(final int length) {
+		return ByteBuffer.allocateDirect(length * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+	}
+
+	private void ensureOpen() {
+		if (closed) throw new IllegalStateException("This big list has been closed");
+	}
+
+	/**
+	 * Ensures that this big list can contain the given number of elements without allocating further
+	 * memory.
+	 *
+	 * @param capacity the new minimum capacity for this big list.
+	 */
+	public void ensureCapacity(final long capacity) {
+		ensureOpen();
+		if (capacity <= this.capacity) return;
+		if (n != 0 && buffer[n - 1].capacity() < CHUNK_SIZE) {
+			// We enlarge the last chunk, at least doubling its length
+			final LongBuffer last = buffer[n - 1];
+			final long needed = capacity - (long)(n - 1) * CHUNK_SIZE;
+			final int length = (int)Math.min(CHUNK_SIZE, Math.max(needed, 2L * last.capacity()));
+			final LongBuffer b = allocate(length);
+			b.put(0, last, 0, last.capacity());
+			buffer[n - 1] = b;
+			this.capacity += length - last.capacity();
+		}
+		while (this.capacity < capacity) {
+			final int length = (int)Math.min(CHUNK_SIZE, Math.max(capacity - this.capacity, DEFAULT_INITIAL_CAPACITY));
+			if (n == buffer.length) buffer = Arrays.copyOf(buffer, Math.max(2 * n, 1));
+			buffer[n++] = allocate(length);
+			this.capacity += length;
+		}
+	}
+
+	/**
+	 * Ensures that this big list can contain the given number of elements, checking inline whether
+	 * the current capacity is sufficient.
+	 *
+	 * @param capacity the new minimum capacity for this big list.
+	 */
+	private void grow(final long capacity) {
+		if (capacity > this.capacity) ensureCapacity(capacity);
+	}
+
+	/**
+	 * Copies elements inside this big list.
+	 *
+	 * @param from the index of the first element to be copied.
+	 * @param to the index where the first element will be copied.
+	 * @param length the number of elements to be copied.
+	 */
+	private void move(long from, long to, long length) {
+		if (from > to) {
+			while (length > 0) {
+				final int sd = (int)(from & CHUNK_MASK), dd = (int)(to & CHUNK_MASK);
+				final int l = (int)Math.min(length, CHUNK_SIZE - Math.max(sd, dd));
+				buffer[(int)(to >>> CHUNK_SHIFT)].put(dd, buffer[(int)(from >>> CHUNK_SHIFT)], sd, l);
+				from += l;
+				to += l;
+				length -= l;
+			}
+		} else if (from < to) {
+			from += length;
+			to += length;
+			while (length > 0) {
+				// The displacements, plus one, of the last elements of the source and destination
+				final int sd = (int)(from - 1 & CHUNK_MASK) + 1, dd = (int)(to - 1 & CHUNK_MASK) + 1;
+				final int l = (int)Math.min(length, Math.min(sd, dd));
+				buffer[(int)(to - 1 >>> CHUNK_SHIFT)].put(dd - l, buffer[(int)(from - 1 >>> CHUNK_SHIFT)], sd - l, l);
+				from -= l;
+				to -= l;
+				length -= l;
+			}
+		}
+	}
+
+	/**
+	 * Returns the element at the specified position, without checking the index against the size of
+	 * this list.
+	 *
+	 * <p>
+	 * This method is faster than {@link #getLong(long)}, but when the index is not smaller than the
+	 * size of this list the result is unspecified (an exception is thrown only if the index is out of
+	 * the allocated memory).
+	 *
+	 * @param index an index in this list.
+	 * @return the element at {@code index}.
+	 */
+	public long getLongUnchecked(final long index) {
+		return buffer[(int)(index >>> CHUNK_SHIFT)].get((int)(index & CHUNK_MASK));
+	}
+
+	/**
+	 * Replaces the element at the specified position, without checking the index against the size of
+	 * this list.
+	 *
+	 * <p>
+	 * This method is faster than {@link #set(long, long)}, but when the index is not smaller than the
+	 * size of this list the effect is unspecified (an exception is thrown only if the index is out of
+	 * the allocated memory).
+	 *
+	 * @param index an index in this list.
+	 * @param k the element to be stored at {@code index}.
+	 */
+	public void setUnchecked(final long index, final long k) {
+		buffer[(int)(index >>> CHUNK_SHIFT)].put((int)(index & CHUNK_MASK), k);
+	}
+
+	@Override
+	public long getLong(final long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		return getLongUnchecked(index);
+	}
+
+	@Override
+	public long set(final long index, final long k) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final LongBuffer b = buffer[(int)(index >>> CHUNK_SHIFT)];
+		final int i = (int)(index & CHUNK_MASK);
+		final long old = b.get(i);
+		b.put(i, k);
+		return old;
+	}
+
+	@Override
+	public boolean add(final long k) {
+		grow(size + 1);
+		setUnchecked(size++, k);
+		return true;
+	}
+
+	@Override
+	public void add(final long index, final long k) {
+		ensureIndex(index);
+		grow(size + 1);
+		move(index, index + 1, size - index);
+		setUnchecked(index, k);
+		size++;
+	}
+
+	@Override
+	public long removeLong(final long index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final long old = getLongUnchecked(index);
+		move(index + 1, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	/**
+	 * Copies (hopefully quickly) elements of this big list into an array.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(long from, final long[] a, int offset, int length) {
+		LongArrays.ensureOffsetLength(a, offset, length);
+		BigArrays.ensureFromTo(size, from, from + length);
+		while (length > 0) {
+			final int d = (int)(from & CHUNK_MASK);
+			final int l = (int)Math.min(length, CHUNK_SIZE - d);
+			buffer[(int)(from >>> CHUNK_SHIFT)].get(d, a, offset, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void getElements(long from, final long[][] a, long offset, long length) {
+		BigArrays.ensureOffsetLength(a, offset, length);
+		while (length > 0) {
+			final long[] t = a[BigArrays.segment(offset)];
+			final int d = BigArrays.displacement(offset);
+			final int l = (int)Math.min(t.length - d, length);
+			getElements(from, t, d, l);
+			from += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	/**
+	 * Adds elements to this big list using optimized system calls.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	public void addElements(long index, final long[] a, int offset, int length) {
+		ensureIndex(index);
+		LongArrays.ensureOffsetLength(a, offset, length);
+		grow(size + length);
+		move(index, index + length, size - index);
+		size += length;
+		while (length > 0) {
+			final int d = (int)(index & CHUNK_MASK);
+			final int l = (int)Math.min(length, CHUNK_SIZE - d);
+			buffer[(int)(index >>> CHUNK_SHIFT)].put(d, a, offset, l);
+			index += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void addElements(long index, final long[][] a, long offset, long length) {
+		ensureIndex(index);
+		BigArrays.ensureOffsetLength(a, offset, length);
+		grow(size + length);
+		while (length > 0) {
+			final long[] t = a[BigArrays.segment(offset)];
+			final int d = BigArrays.displacement(offset);
+			final int l = (int)Math.min(t.length - d, length);
+			addElements(index, t, d, l);
+			index += l;
+			offset += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void setElements(long index, final long[][] a, long offset, long length) {
+		BigArrays.ensureOffsetLength(a, offset, length);
+		BigArrays.ensureFromTo(size, index, index + length);
+		while (length > 0) {
+			final long[] t = a[BigArrays.segment(offset)];
+			int d = BigArrays.displacement(offset);
+			long l = Math.min(t.length - d, length);
+			offset += l;
+			length -= l;
+			while (l > 0) {
+				final int bd = (int)(index & CHUNK_MASK);
+				final int m = (int)Math.min(l, CHUNK_SIZE - bd);
+				buffer[(int)(index >>> CHUNK_SHIFT)].put(bd, t, d, m);
+				index += m;
+				d += m;
+				l -= m;
+			}
+		}
+	}
+
+	@Override
+	public void removeElements(final long from, final long to) {
+		BigArrays.ensureFromTo(size, from, to);
+		move(to, from, size - to);
+		size -= to - from;
+	}
+
+	@Override
+	public long size64() {
+		return size;
+	}
+
+	@Override
+	public void size(final long size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		if (size > this.size) {
+			ensureCapacity(size);
+			// Memory past the current size might contain stale data
+			for (long i = this.size; i < size;) {
+				final int d = (int)(i & CHUNK_MASK);
+				final int l = (int)Math.min(size - i, CHUNK_SIZE - d);
+				final LongBuffer b = buffer[(int)(i >>> CHUNK_SHIFT)];
+				for (int j = d; j < d + l; j++) b.put(j, 0);
+				i += l;
+			}
+		}
+		this.size = size;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the current capacity of this big list, that is, the number of elements it can contain
+	 * without allocating further memory.
+	 *
+	 * @return the current capacity of this big list.
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Trims this big list so that the capacity is equal to the size.
+	 *
+	 * <p>
+	 * Chunks that are no longer used are released, and the last chunk is reallocated so that its
+	 * length is the number of elements it contains.
+	 */
+	public void trim() {
+		ensureOpen();
+		if (size == capacity) return;
+		final int chunks = (int)((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+		for (int i = chunks; i < n; i++) buffer[i] = null;
+		n = chunks;
+		if (n != 0) {
+			final int length = (int)(size - (long)(n - 1) * CHUNK_SIZE);
+			if (buffer[n - 1].capacity() != length) {
+				final LongBuffer b = allocate(length);
+				b.put(0, buffer[n - 1], 0, length);
+				buffer[n - 1] = b;
+			}
+		}
+		buffer = Arrays.copyOf(buffer, n);
+		capacity = size;
+	}
+
+	/**
+	 * Closes this big list, releasing its memory.
+	 *
+	 * <p>
+	 * After this call the big list is empty, and any attempt to add elements to it will cause an
+	 * {@link IllegalStateException}. The memory is returned to the system as soon as the garbage
+	 * collector notices that the underlying direct buffers are no longer reachable. Closing an
+	 * already closed list has no effect.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		buffer = EMPTY_BUFFERS;
+		n = 0;
+		capacity = size = 0;
+	}
+
+	/**
+	 * Returns whether this big list has been {@linkplain #close() closed}.
+	 *
+	 * @return true if this big list has been closed.
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+}
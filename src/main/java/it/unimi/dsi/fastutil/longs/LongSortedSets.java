@@ -387,6 +387,48 @@ public final class LongSortedSets {
 			}
 		}
 
+		@Override
+		public long floorLong(final long k) {
+			synchronized (sync) {
+				return sortedSet.floorLong(k);
+			}
+		}
+
+		@Override
+		public long ceilingLong(final long k) {
+			synchronized (sync) {
+				return sortedSet.ceilingLong(k);
+			}
+		}
+
+		@Override
+		public long higherLong(final long k) {
+			synchronized (sync) {
+				return sortedSet.higherLong(k);
+			}
+		}
+
+		@Override
+		public long lowerLong(final long k) {
+			synchronized (sync) {
+				return sortedSet.lowerLong(k);
+			}
+		}
+
+		@Override
+		public long pollFirstLong() {
+			synchronized (sync) {
+				return sortedSet.pollFirstLong();
+			}
+		}
+
+		@Override
+		public long pollLastLong() {
+			synchronized (sync) {
+				return sortedSet.pollLastLong();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -521,6 +563,36 @@ public final class LongSortedSets {
 			return sortedSet.lastLong();
 		}
 
+		@Override
+		public long floorLong(final long k) {
+			return sortedSet.floorLong(k);
+		}
+
+		@Override
+		public long ceilingLong(final long k) {
+			return sortedSet.ceilingLong(k);
+		}
+
+		@Override
+		public long higherLong(final long k) {
+			return sortedSet.higherLong(k);
+		}
+
+		@Override
+		public long lowerLong(final long k) {
+			return sortedSet.lowerLong(k);
+		}
+
+		@Override
+		public long pollFirstLong() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public long pollLastLong() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -79,6 +79,26 @@ public abstract class AbstractObject2ByteSortedMap<K> extends AbstractObject2Byt
 			return lastKey();
 		}
 
+		@Override
+		public K floor(final K k) {
+			return floorKey(k);
+		}
+
+		@Override
+		public K ceiling(final K k) {
+			return ceilingKey(k);
+		}
+
+		@Override
+		public K higher(final K k) {
+			return higherKey(k);
+		}
+
+		@Override
+		public K lower(final K k) {
+			return lowerKey(k);
+		}
+
 		@Override
 		public ObjectSortedSet<K> headSet(final K to) {
 			return headMap(to).keySet();
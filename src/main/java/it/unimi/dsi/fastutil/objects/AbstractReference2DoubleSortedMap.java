@@ -79,6 +79,26 @@ public abstract class AbstractReference2DoubleSortedMap<K> extends AbstractRefer
 			return lastKey();
 		}
 
+		@Override
+		public K floor(final K k) {
+			return floorKey(k);
+		}
+
+		@Override
+		public K ceiling(final K k) {
+			return ceilingKey(k);
+		}
+
+		@Override
+		public K higher(final K k) {
+			return higherKey(k);
+		}
+
+		@Override
+		public K lower(final K k) {
+			return lowerKey(k);
+		}
+
 		@Override
 		public ReferenceSortedSet<K> headSet(final K to) {
 			return headMap(to).keySet();
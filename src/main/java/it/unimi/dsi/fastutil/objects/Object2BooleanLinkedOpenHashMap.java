@@ -64,8 +64,8 @@ import it.unimi.dsi.fastutil.booleans.BooleanListIterator;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1060,6 +1060,86 @@ public class Object2BooleanLinkedOpenHashMap<K> extends AbstractObject2BooleanSo
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2BooleanMap.Entry<K> floorEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2BooleanMap.Entry<K> ceilingEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2BooleanMap.Entry<K> higherEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2BooleanMap.Entry<K> lowerEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K floorKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K ceilingKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K higherKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K lowerKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1364,6 +1444,26 @@ public class Object2BooleanLinkedOpenHashMap<K> extends AbstractObject2BooleanSo
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Object2BooleanMap.Entry<K> floor(Object2BooleanMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2BooleanMap.Entry<K> ceiling(Object2BooleanMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2BooleanMap.Entry<K> higher(Object2BooleanMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2BooleanMap.Entry<K> lower(Object2BooleanMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Object2BooleanMap.Entry<K>> headSet(Object2BooleanMap.Entry<K> toElement) {
 			throw new UnsupportedOperationException();
@@ -1645,6 +1745,26 @@ public class Object2BooleanLinkedOpenHashMap<K> extends AbstractObject2BooleanSo
 		public ObjectSortedSet<K> subSet(K from, K to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public K floor(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K ceiling(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K higher(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K lower(K k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
@@ -64,8 +64,8 @@ import it.unimi.dsi.fastutil.bytes.ByteListIterator;
  * This class implements the interface of a sorted map, so to allow easy access of the iteration
  * order: for instance, you can get the first key in iteration order with {@code firstKey()} without
  * having to create an iterator; however, this class partially violates the
- * {@link java.util.SortedMap} contract because all submap methods throw an exception and
- * {@link #comparator()} returns always {@code null}.
+ * {@link java.util.SortedMap} contract because all submap and navigation methods (e.g.,
+ * {@code floorEntry()}) throw an exception and {@link #comparator()} returns always {@code null}.
  *
  * <p>
  * Additional methods, such as {@code getAndMoveToFirst()}, make it easy to use instances of this
@@ -1110,6 +1110,86 @@ public class Object2ByteLinkedOpenHashMap<K> extends AbstractObject2ByteSortedMa
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2ByteMap.Entry<K> floorEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2ByteMap.Entry<K> ceilingEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2ByteMap.Entry<K> higherEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public Object2ByteMap.Entry<K> lowerEntry(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K floorKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K ceilingKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K higherKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec This implementation just throws an {@link UnsupportedOperationException}.
+	 */
+	@Override
+	public K lowerKey(K k) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -1414,6 +1494,26 @@ public class Object2ByteLinkedOpenHashMap<K> extends AbstractObject2ByteSortedMa
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public Object2ByteMap.Entry<K> floor(Object2ByteMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2ByteMap.Entry<K> ceiling(Object2ByteMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2ByteMap.Entry<K> higher(Object2ByteMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object2ByteMap.Entry<K> lower(Object2ByteMap.Entry<K> k) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public ObjectSortedSet<Object2ByteMap.Entry<K>> headSet(Object2ByteMap.Entry<K> toElement) {
 			throw new UnsupportedOperationException();
@@ -1695,6 +1795,26 @@ public class Object2ByteLinkedOpenHashMap<K> extends AbstractObject2ByteSortedMa
 		public ObjectSortedSet<K> subSet(K from, K to) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public K floor(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K ceiling(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K higher(K k) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K lower(K k) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	@Override
@@ -160,4 +160,175 @@ public interface Object2CharSortedMap<K> extends Object2CharMap<K>, SortedMap<K,
 	 */
 	@Override
 	Comparator<? super K> comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Object2CharMap.Entry<K> floorEntry(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final K key = i.previous();
+		return new AbstractObject2CharMap.BasicEntry<>(key, getChar(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Object2CharMap.Entry<K> ceilingEntry(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		// If k is present we return the stored key, which might be a different object
+		final K key;
+		if (containsKey(k)) key = i.previous();
+		else if (i.hasNext()) key = i.next();
+		else return null;
+		return new AbstractObject2CharMap.BasicEntry<>(key, getChar(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Object2CharMap.Entry<K> higherEntry(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final K key = i.next();
+		return new AbstractObject2CharMap.BasicEntry<>(key, getChar(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Object2CharMap.Entry<K> lowerEntry(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (containsKey(k)) i.previous();
+		if (!i.hasPrevious()) return null;
+		final K key = i.previous();
+		return new AbstractObject2CharMap.BasicEntry<>(key, getChar(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}, or {@code null} if there is
+	 *         no such key.
+	 */
+	default K floorKey(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final K key = i.previous();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}, or {@code null} if there is
+	 *         no such key.
+	 */
+	default K ceilingKey(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		// If k is present we return the stored key, which might be a different object
+		if (containsKey(k)) return i.previous();
+		if (!i.hasNext()) return null;
+		return i.next();
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}, or {@code null} if there is
+	 *         no such key.
+	 */
+	default K higherKey(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final K key = i.next();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ObjectSortedSet#iterator(Object)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}, or {@code null} if there is
+	 *         no such key.
+	 */
+	default K lowerKey(final K k) {
+		final ObjectBidirectionalIterator<K> i = keySet().iterator(k);
+		if (containsKey(k)) i.previous();
+		if (!i.hasPrevious()) return null;
+		final K key = i.previous();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstKey()} and
+	 *           {@link #removeChar(Object)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Object2CharMap.Entry<K> pollFirstEntry() {
+		if (isEmpty()) return null;
+		final K k = firstKey();
+		return new AbstractObject2CharMap.BasicEntry<>(k, removeChar(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastKey()} and {@link #removeChar(Object)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Object2CharMap.Entry<K> pollLastEntry() {
+		if (isEmpty()) return null;
+		final K k = lastKey();
+		return new AbstractObject2CharMap.BasicEntry<>(k, removeChar(k));
+	}
 }
@@ -0,0 +1,153 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.objects;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A pool of temporary arrays of objects.
+ *
+ * <p>
+ * This class provides static methods to {@linkplain #borrow(int) borrow} short-lived scratch arrays
+ * and to {@linkplain #release(Object[]) release} them when they are no longer needed, so that they can
+ * be reused by subsequent borrowings instead of being allocated anew. Arrays are grouped in
+ * <em>size classes</em>: the length of a pooled array is always a power of two between
+ * {@value #MIN_POOLED_LENGTH} and {@value #MAX_POOLED_LENGTH}, and a borrowed array is the smallest
+ * one that can contain the requested number of elements. Longer arrays are not pooled.
+ *
+ * <p>
+ * Each thread keeps a small cache of arrays for each size class, which is accessed without any
+ * synchronization; arrays that do not fit in the cache of the releasing thread go to a small global
+ * overflow area, which is accessed by compare-and-set, and are discarded when the latter is full,
+ * too. Thus, the amount of memory retained by the pool is bounded.
+ *
+ * <p>
+ * All entries of a borrowed array are {@code null}, as arrays are cleared when they are released,
+ * so that the pool does not retain references to objects. Only arrays whose component type is
+ * {@code Object} are pooled. An array must not be used after it has been released, and it must not
+ * be released twice.
+ *
+ * @see ObjectArrays#pooledMergeSort(Object[], int, int)
+ * @see ObjectArrays#pooledGrow(Object[], int, int)
+ */
+public final class ObjectArrayPool {
+	private ObjectArrayPool() {
+	}
+
+	/** The base-2 logarithm of {@link #MIN_POOLED_LENGTH}. */
+	private static final int MIN_LOG2 = 4;
+	/** The base-2 logarithm of {@link #MAX_POOLED_LENGTH}. */
+	private static final int MAX_LOG2 = 18;
+	/** The number of size classes. */
+	private static final int CLASSES = MAX_LOG2 - MIN_LOG2 + 1;
+	/** The number of arrays per size class cached by each thread. */
+	private static final int LOCAL_DEPTH = 2;
+	/** The number of arrays per size class in the global overflow area. */
+	private static final int GLOBAL_DEPTH = 4;
+	/** The minimum length of a pooled array. */
+	public static final int MIN_POOLED_LENGTH = 1 << MIN_LOG2;
+	/** The maximum length of a pooled array. */
+	public static final int MAX_POOLED_LENGTH = 1 << MAX_LOG2;
+	/** The thread-local caches, indexed by size class and slot. */
+	private static final ThreadLocal<Object[][][]> LOCAL = ThreadLocal.withInitial(() -> new Object[CLASSES][LOCAL_DEPTH][]);
+	/** The global overflow area; slots of size class {@code c} start at {@code c * GLOBAL_DEPTH}. */
+	private static final AtomicReferenceArray<Object[]> GLOBAL = new AtomicReferenceArray<>(CLASSES * GLOBAL_DEPTH);
+
+	/**
+	 * Returns the size class of arrays able to contain a given number of elements.
+	 *
+	 * @param length a number of elements, at most {@link #MAX_POOLED_LENGTH}.
+	 * @return the size class of the smallest pooled arrays of at least {@code length} elements.
+	 */
+	private static int sizeClass(final int length) {
+		return length <= MIN_POOLED_LENGTH ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_LOG2;
+	}
+
+	/**
+	 * Borrows an array from this pool.
+	 *
+	 * @param length the minimum length of the array.
+	 * @return an array of at least {@code length} {@code null} elements; its length will be a power
+	 *         of two if {@code length} is positive and at most {@link #MAX_POOLED_LENGTH}.
+	 */
+	public static Object[] borrow(final int length) {
+		if (length < 0) throw new IllegalArgumentException("Length (" + length + ") is negative");
+		if (length == 0) return ObjectArrays.EMPTY_ARRAY;
+		if (length > MAX_POOLED_LENGTH) return new Object[length];
+		final int c = sizeClass(length);
+		final Object[][] local = LOCAL.get()[c];
+		for (int i = 0; i < LOCAL_DEPTH; i++) {
+			final Object[] a = local[i];
+			if (a != null) {
+				local[i] = null;
+				return a;
+			}
+		}
+		for (int i = c * GLOBAL_DEPTH; i < (c + 1) * GLOBAL_DEPTH; i++) {
+			final Object[] a = GLOBAL.get(i);
+			if (a != null && GLOBAL.compareAndSet(i, a, null)) return a;
+		}
+		return new Object[1 << c + MIN_LOG2];
+	}
+
+	/**
+	 * Releases an array to this pool.
+	 *
+	 * <p>
+	 * Arrays whose length is not a power of two between {@link #MIN_POOLED_LENGTH} and
+	 * {@link #MAX_POOLED_LENGTH}, or whose component type is not {@code Object}, are silently
+	 * discarded, so it is always safe to release an array returned by {@link #borrow(int)}.
+	 *
+	 * @param a an array that will not be used anymore by the caller.
+	 */
+	public static void release(final Object[] a) {
+		release(a, a.length);
+	}
+
+	/**
+	 * Releases an array to this pool, clearing just a prefix of the array.
+	 *
+	 * <p>
+	 * This method is useful when the caller knows that only a prefix of the array contains non-null
+	 * entries, as it avoids clearing the rest of the array.
+	 *
+	 * @param a an array that will not be used anymore by the caller.
+	 * @param length the length of a prefix of {@code a} outside of which all entries are {@code null}.
+	 * @see #release(Object[])
+	 */
+	public static void release(final Object[] a, final int length) {
+		final int l = a.length;
+		if (l < MIN_POOLED_LENGTH || l > MAX_POOLED_LENGTH || (l & l - 1) != 0 || a.getClass() != Object[].class) return;
+		java.util.Arrays.fill(a, 0, length, null);
+		final int c = Integer.numberOfTrailingZeros(l) - MIN_LOG2;
+		final Object[][] local = LOCAL.get()[c];
+		for (int i = 0; i < LOCAL_DEPTH; i++) {
+			if (local[i] == null) {
+				local[i] = a;
+				return;
+			}
+		}
+		for (int i = c * GLOBAL_DEPTH; i < (c + 1) * GLOBAL_DEPTH; i++) if (GLOBAL.get(i) == null && GLOBAL.compareAndSet(i, null, a)) return;
+	}
+
+	/**
+	 * Discards all arrays cached by the current thread and all arrays in the global overflow area.
+	 */
+	public static void clear() {
+		for (final Object[][] local : LOCAL.get()) java.util.Arrays.fill(local, null);
+		for (int i = 0; i < GLOBAL.length(); i++) GLOBAL.set(i, null);
+	}
+}
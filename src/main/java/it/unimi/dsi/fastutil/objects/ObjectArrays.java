@@ -210,6 +210,37 @@ public final class ObjectArrays {
 		return array;
 	}
 
+	/**
+	 * Grows the given array like {@link #grow(Object[], int, int)}, but borrowing the new array from
+	 * {@link ObjectArrayPool} and releasing the old one to it.
+	 *
+	 * <p>
+	 * This method is meant for scratch arrays that are eventually released to the pool, too. The
+	 * array passed as argument must not be used anymore if a new array is returned, and the entries of
+	 * the new array past the first {@code preserve} ones are undefined.
+	 *
+	 * <p>
+	 * Only arrays whose component type is {@code Object} can be pooled; for all other arrays, this
+	 * method behaves exactly like {@link #grow(Object[], int, int)}.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @param preserve the number of elements of the array that must be preserved in case a new
+	 *            allocation is necessary.
+	 * @return {@code array}, if it can contain {@code length} entries; otherwise, a pooled array with
+	 *         at least max({@code length},{@code array.length}/&phi;) entries whose first
+	 *         {@code preserve} entries are the same as those of {@code array}.
+	 */
+	public static <K> K[] pooledGrow(final K[] array, final int length, final int preserve) {
+		if (length <= array.length) return array;
+		if (array.getClass() != Object[].class) return grow(array, length, preserve);
+		@SuppressWarnings("unchecked")
+		final K t[] = (K[])ObjectArrayPool.borrow((int)Math.max(Math.min((long)array.length + (array.length >> 1), Arrays.MAX_ARRAY_SIZE), length));
+		System.arraycopy(array, 0, t, 0, preserve);
+		ObjectArrayPool.release(array);
+		return t;
+	}
+
 	/**
 	 * Trims the given array to the given length.
 	 *
@@ -1566,6 +1597,51 @@ public final class ObjectArrays {
 		mergeSort(a, 0, a.length, comp);
 	}
 
+	/**
+	 * Sorts the specified range of elements according to the natural ascending order using mergesort,
+	 * borrowing the support array from {@link ObjectArrayPool}.
+	 *
+	 * <p>
+	 * This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result of
+	 * the sort. The support array is released to the pool when the sort is complete, so repeated sorts
+	 * of small and medium-sized arrays will not allocate any memory.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static <K> void pooledMergeSort(final K a[], final int from, final int to) {
+		ensureFromTo(a, from, to);
+		@SuppressWarnings("unchecked")
+		final K supp[] = (K[])ObjectArrayPool.borrow(to);
+		System.arraycopy(a, from, supp, from, to - from);
+		mergeSort(a, from, to, supp);
+		ObjectArrayPool.release(supp, to);
+	}
+
+	/**
+	 * Sorts the specified range of elements according to the order induced by the specified comparator
+	 * using mergesort, borrowing the support array from {@link ObjectArrayPool}.
+	 *
+	 * <p>
+	 * This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result of
+	 * the sort. The support array is released to the pool when the sort is complete, so repeated sorts
+	 * of small and medium-sized arrays will not allocate any memory.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static <K> void pooledMergeSort(final K a[], final int from, final int to, final Comparator<K> comp) {
+		ensureFromTo(a, from, to);
+		@SuppressWarnings("unchecked")
+		final K supp[] = (K[])ObjectArrayPool.borrow(to);
+		System.arraycopy(a, from, supp, from, to - from);
+		mergeSort(a, from, to, comp, supp);
+		ObjectArrayPool.release(supp, to);
+	}
+
 	/**
 	 * Sorts an array according to the natural ascending order, potentially dynamically choosing an
 	 * appropriate algorithm given the type and size of the array. The sort will be stable unless it is
@@ -0,0 +1,489 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.objects;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.lang.reflect.Array;
+import java.util.function.Consumer;
+
+/**
+ * A type-specific thread-safe array-based list in which all mutative operations make a fresh copy
+ * of the backing array.
+ *
+ * <p>
+ * This class is the type-specific analogue of {@link java.util.concurrent.CopyOnWriteArrayList}:
+ * the backing array, whose length is always equal to the size of the list, is never modified after
+ * having been published through a volatile field. Reads do not lock and always see a consistent
+ * state of the list; iterators work on the <em>snapshot</em> of the list at the time of their
+ * creation, never throw {@link java.util.ConcurrentModificationException}, and do not support
+ * mutative operations. The current snapshot is returned by {@link #elements()}, which is the
+ * fastest way to scan the list in tight loops.
+ *
+ * <p>
+ * Mutative operations synchronize on the list and cost time linear in the size of the list: this
+ * class is thus useful when reads vastly outnumber writes, as in the case of listener lists.
+ * Sublists are views that read the current state of the list, and are not snapshots.
+ *
+ * @see ObjectArrayList
+ * @see ObjectLists#synchronize(ObjectList)
+ */
+public class ObjectCopyOnWriteArrayList<K> extends AbstractObjectList<K> implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The backing array, which is never modified after publication. */
+	private transient volatile K[] a;
+
+	/** Creates a new empty copy-on-write list. */
+	@SuppressWarnings("unchecked")
+	public ObjectCopyOnWriteArrayList() {
+		a = (K[])ObjectArrays.EMPTY_ARRAY;
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with a given collection.
+	 *
+	 * @param c a collection that will be used to fill the list.
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectCopyOnWriteArrayList(final Collection<? extends K> c) {
+		final Object[] t = c.toArray();
+		a = t.length == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : (K[])Arrays.copyOf(t, t.length, Object[].class);
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the list.
+	 */
+	public ObjectCopyOnWriteArrayList(final K a[]) {
+		this(a, 0, a.length);
+	}
+
+	/**
+	 * Creates a new copy-on-write list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the list.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectCopyOnWriteArrayList(final K a[], final int offset, final int length) {
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		this.a = length == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : (K[])Arrays.copyOfRange(a, offset, offset + length, Object[].class);
+	}
+
+	/**
+	 * Returns the current snapshot of this list.
+	 *
+	 * <p>
+	 * The returned array has length equal to the size of the list at the time of the call, and it
+	 * will not reflect subsequent modifications to the list. It <strong>must not</strong> be
+	 * modified. Note that the actual type of the array is {@code Object[]}.
+	 *
+	 * @return the current backing array of this list.
+	 */
+	public K[] elements() {
+		return a;
+	}
+
+	@Override
+	public K get(final int index) {
+		final K[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		return a[index];
+	}
+
+	@Override
+	public int size() {
+		return a.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return a.length == 0;
+	}
+
+	@Override
+	public int indexOf(final Object k) {
+		final K[] a = this.a;
+		for (int i = 0; i < a.length; i++) if (java.util.Objects.equals(k, a[i])) return i;
+		return -1;
+	}
+
+	@Override
+	public boolean contains(final Object k) {
+		return indexOf(k) != -1;
+	}
+
+	@Override
+	public int lastIndexOf(final Object k) {
+		final K[] a = this.a;
+		for (int i = a.length; i-- != 0;) if (java.util.Objects.equals(k, a[i])) return i;
+		return -1;
+	}
+
+	@Override
+	public synchronized boolean add(final K k) {
+		final K[] a = this.a;
+		final K[] t = Arrays.copyOf(a, a.length + 1);
+		t[a.length] = k;
+		this.a = t;
+		return true;
+	}
+
+	/**
+	 * Adds an element to this list, if it is not already present.
+	 *
+	 * @param k the element to be added.
+	 * @return true if the element was added.
+	 */
+	public synchronized boolean addIfAbsent(final K k) {
+		if (contains(k)) return false;
+		return add(k);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void add(final int index, final K k) {
+		final K[] a = this.a;
+		ensureIndex(index);
+		final K[] t = (K[])new Object[a.length + 1];
+		System.arraycopy(a, 0, t, 0, index);
+		t[index] = k;
+		System.arraycopy(a, index, t, index + 1, a.length - index);
+		this.a = t;
+	}
+
+	@Override
+	public synchronized K set(final int index, final K k) {
+		final K[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		final K old = a[index];
+		if (old != k) {
+			final K[] t = a.clone();
+			t[index] = k;
+			this.a = t;
+		}
+		return old;
+	}
+
+	@Override
+	public synchronized K remove(final int index) {
+		final K[] a = this.a;
+		if (index >= a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + a.length + ")");
+		final K old = a[index];
+		removeElements(index, index + 1);
+		return old;
+	}
+
+	@Override
+	public synchronized boolean remove(final Object k) {
+		final int index = indexOf(k);
+		if (index == -1) return false;
+		removeElements(index, index + 1);
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void clear() {
+		a = (K[])ObjectArrays.EMPTY_ARRAY;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void size(final int size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		a = size == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : Arrays.copyOf(a, size);
+	}
+
+	/**
+	 * Copies element of this type-specific list into the given array using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(final int from, final Object[] a, final int offset, final int length) {
+		final K[] t = this.a;
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(t.length, from, from + length);
+		System.arraycopy(t, from, a, offset, length);
+	}
+
+	/**
+	 * Removes elements of this type-specific list using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param to the end index (exclusive).
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void removeElements(final int from, final int to) {
+		final K[] a = this.a;
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(a.length, from, to);
+		if (from == to) return;
+		final K[] t = a.length == to - from ? (K[])ObjectArrays.EMPTY_ARRAY : (K[])new Object[a.length - (to - from)];
+		System.arraycopy(a, 0, t, 0, from);
+		System.arraycopy(a, to, t, from, a.length - to);
+		this.a = t;
+	}
+
+	/**
+	 * Adds elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addElements(final int index, final K a[], final int offset, final int length) {
+		final K[] s = this.a;
+		ensureIndex(index);
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		if (length == 0) return;
+		final K[] t = (K[])new Object[s.length + length];
+		System.arraycopy(s, 0, t, 0, index);
+		System.arraycopy(a, offset, t, index, length);
+		System.arraycopy(s, index, t, index + length, s.length - index);
+		this.a = t;
+	}
+
+	/**
+	 * Sets elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to start setting elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public synchronized void setElements(final int index, final K a[], final int offset, final int length) {
+		final K[] s = this.a;
+		ensureIndex(index);
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		if (index + length > s.length) throw new IndexOutOfBoundsException("End index (" + (index + length) + ") is greater than list size (" + s.length + ")");
+		final K[] t = s.clone();
+		System.arraycopy(a, offset, t, index, length);
+		this.a = t;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(final int index, final Collection<? extends K> c) {
+		final K[] a = (K[])c.toArray();
+		addElements(index, a, 0, a.length);
+		return a.length != 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(final Collection<? extends K> c) {
+		final K[] a = (K[])c.toArray();
+		synchronized (this) {
+			addElements(size(), a, 0, a.length);
+		}
+		return a.length != 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized boolean removeIf(final java.util.function.Predicate<? super K> filter) {
+		java.util.Objects.requireNonNull(filter);
+		final K[] a = this.a;
+		final K[] t = (K[])new Object[a.length];
+		int j = 0;
+		for (final K k : a) if (!filter.test(k)) t[j++] = k;
+		if (j == a.length) return false;
+		this.a = j == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : Arrays.copyOf(t, j);
+		return true;
+	}
+
+	@Override
+	public boolean removeAll(final Collection<?> c) {
+		return removeIf(c::contains);
+	}
+
+	@Override
+	public boolean retainAll(final Collection<?> c) {
+		return removeIf(k -> !c.contains(k));
+	}
+
+	@Override
+	public synchronized void replaceAll(final java.util.function.UnaryOperator<K> operator) {
+		java.util.Objects.requireNonNull(operator);
+		final K[] t = a.clone();
+		for (int i = 0; i < t.length; i++) t[i] = operator.apply(t[i]);
+		a = t;
+	}
+
+	@Override
+	public synchronized void sort(final Comparator<? super K> comparator) {
+		final K[] t = a.clone();
+		Arrays.sort(t, comparator);
+		a = t;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void unstableSort(final Comparator<? super K> comparator) {
+		final K[] t = a.clone();
+		if (comparator == null) ObjectArrays.unstableSort(t);
+		else ObjectArrays.unstableSort(t, (Comparator<K>)comparator);
+		a = t;
+	}
+
+	@Override
+	public void forEach(final Consumer<? super K> action) {
+		for (final K k : a) action.accept(k);
+	}
+
+	@Override
+	public Object[] toArray() {
+		final K[] a = this.a;
+		return a.length == 0 ? ObjectArrays.EMPTY_ARRAY : Arrays.copyOf(a, a.length, Object[].class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T[] toArray(T a[]) {
+		final K[] t = this.a;
+		if (a == null) {
+			a = (T[])new Object[t.length];
+		} else if (a.length < t.length) {
+			a = (T[])Array.newInstance(a.getClass().getComponentType(), t.length);
+		}
+		System.arraycopy(t, 0, a, 0, t.length);
+		if (a.length > t.length) {
+			a[t.length] = null;
+		}
+		return a;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned iterator works on the current snapshot of this list, and does not support the
+	 * optional mutative operations.
+	 */
+	@Override
+	public ObjectListIterator<K> listIterator(final int index) {
+		final K[] a = this.a;
+		if (index < 0 || index > a.length) throw new IndexOutOfBoundsException("Index (" + index + ") is out of range [0.." + a.length + "]");
+		return new ObjectListIterator<K>() {
+			int pos = index;
+
+			@Override
+			public boolean hasNext() {
+				return pos < a.length;
+			}
+
+			@Override
+			public boolean hasPrevious() {
+				return pos > 0;
+			}
+
+			@Override
+			public K next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				return a[pos++];
+			}
+
+			@Override
+			public K previous() {
+				if (!hasPrevious()) throw new NoSuchElementException();
+				return a[--pos];
+			}
+
+			@Override
+			public int nextIndex() {
+				return pos;
+			}
+
+			@Override
+			public int previousIndex() {
+				return pos - 1;
+			}
+
+			@Override
+			public void forEachRemaining(final Consumer<? super K> action) {
+				while (pos < a.length) action.accept(a[pos++]);
+			}
+
+			@Override
+			public int back(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int skipped = Math.min(n, pos);
+				pos -= skipped;
+				return skipped;
+			}
+
+			@Override
+			public int skip(final int n) {
+				if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+				final int skipped = Math.min(n, a.length - pos);
+				pos += skipped;
+				return skipped;
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned spliterator works on the current snapshot of this list.
+	 */
+	@Override
+	public ObjectSpliterator<K> spliterator() {
+		return ObjectSpliterators.wrap(a, 0, a.length, java.util.Spliterator.IMMUTABLE);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ObjectCopyOnWriteArrayList<K> clone() {
+		try {
+			// The backing array is never modified, so it can be shared
+			return (ObjectCopyOnWriteArrayList<K>)super.clone();
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		final K[] a = this.a;
+		s.defaultWriteObject();
+		s.writeInt(a.length);
+		for (final K k : a) s.writeObject(k);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		final K[] a = (K[])new Object[s.readInt()];
+		for (int i = 0; i < a.length; i++) a[i] = (K)s.readObject();
+		this.a = a;
+	}
+}
@@ -0,0 +1,457 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.objects;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.RandomAccess;
+import java.lang.reflect.Array;
+import java.util.function.Consumer;
+
+/**
+ * A type-specific array-based list with a movable gap.
+ *
+ * <p>
+ * Instances of this class keep the unused part of the backing array (the <em>gap</em>) at the
+ * position of the last insertion or removal, rather than at its end as {@link ObjectArrayList} does.
+ * Insertions and removals near the gap cost time proportional to the distance from the gap (in
+ * particular, a sequence of edits at or around the same position requires amortized constant time
+ * per edit), and random access requires just an additional comparison. This class is thus
+ * particularly useful for editable sequences and for queues whose insertions happen mostly in a
+ * small region; iterators (including those of {@linkplain #subList(int, int) sublists}) add and
+ * remove elements at the gap.
+ *
+ * <p>
+ * The backing array is enlarged as needed when new entries are created (by increasing its current
+ * length by 50%), but is <em>never</em> made smaller (even on a {@link #clear()}). A family of
+ * {@linkplain #trim() trimming methods} lets you control the size of the backing array. The gap
+ * never contains references to removed elements.
+ *
+ * <p>
+ * This class implements the bulk methods {@code removeElements()}, {@code addElements()} and
+ * {@code getElements()} using high-performance system calls (e.g.,
+ * {@link System#arraycopy(Object,int,Object,int,int) System.arraycopy()}) instead of expensive
+ * loops.
+ *
+ * @see ObjectArrayList
+ */
+public class ObjectGapBufferList<K> extends AbstractObjectList<K> implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The initial default capacity of a gap-buffer list. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 10;
+	/** The backing array. */
+	protected transient K[] a;
+	/** The current actual size of the list (never greater than the backing-array length). */
+	protected int size;
+	/**
+	 * The start of the gap; the gap ends at {@code gap + a.length - size}, where the elements of index
+	 * greater than or equal to {@code gap} start.
+	 */
+	protected transient int gap;
+
+	/**
+	 * Creates a new gap-buffer list with given capacity.
+	 *
+	 * @param capacity the initial capacity of the gap-buffer list (may be 0).
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectGapBufferList(final int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+		a = capacity == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : (K[])new Object[capacity];
+	}
+
+	/** Creates a new gap-buffer list with {@link #DEFAULT_INITIAL_CAPACITY} capacity. */
+	@SuppressWarnings("unchecked")
+	public ObjectGapBufferList() {
+		a = (K[])ObjectArrays.DEFAULT_EMPTY_ARRAY; // We delay allocation
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with a given collection.
+	 *
+	 * @param c a collection that will be used to fill the gap-buffer list.
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectGapBufferList(final Collection<? extends K> c) {
+		this(c.size());
+		if (c instanceof ObjectList) ((ObjectList<K>)c).getElements(0, a, 0, c.size());
+		else ObjectIterators.unwrap(c.iterator(), a);
+		gap = size = a.length;
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the gap-buffer list.
+	 */
+	public ObjectGapBufferList(final K a[]) {
+		this(a, 0, a.length);
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the gap-buffer list.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public ObjectGapBufferList(final K a[], final int offset, final int length) {
+		this(length);
+		System.arraycopy(a, offset, this.a, 0, length);
+		gap = size = length;
+	}
+
+	/**
+	 * Creates a new gap-buffer list and fills it with the elements returned by an iterator.
+	 *
+	 * @param i an iterator whose returned elements will fill the gap-buffer list.
+	 */
+	public ObjectGapBufferList(final Iterator<? extends K> i) {
+		this();
+		while (i.hasNext()) this.add((i.next()));
+	}
+
+	/**
+	 * Returns the index in the backing array of an element.
+	 *
+	 * @param index the index of an element.
+	 * @return the index in the backing array of the element of index {@code index}.
+	 */
+	private int position(final int index) {
+		return index < gap ? index : index + a.length - size;
+	}
+
+	/**
+	 * Moves the gap to a given position, clearing the references left behind.
+	 *
+	 * @param index the index of the element that will follow the gap.
+	 */
+	private void moveGap(final int index) {
+		final int g = a.length - size;
+		if (index < gap) {
+			System.arraycopy(a, index, a, index + g, gap - index);
+			Arrays.fill(a, index, Math.min(gap, index + g), null);
+		} else if (index > gap) {
+			System.arraycopy(a, gap + g, a, gap, index - gap);
+			Arrays.fill(a, Math.max(index, gap + g), index + g, null);
+		}
+		gap = index;
+	}
+
+	/**
+	 * Reallocates the backing array, moving the gap to the end of the list.
+	 *
+	 * @param capacity the new length of the backing array.
+	 */
+	@SuppressWarnings("unchecked")
+	private void reallocate(final int capacity) {
+		final K t[] = capacity == 0 ? (K[])ObjectArrays.EMPTY_ARRAY : (K[])new Object[capacity];
+		getElements(0, t, 0, size);
+		a = t;
+		gap = size;
+	}
+
+	/**
+	 * Ensures that this gap-buffer list can contain the given number of entries without resizing.
+	 *
+	 * @param capacity the new minimum capacity for this gap-buffer list.
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity <= a.length || (a == ObjectArrays.DEFAULT_EMPTY_ARRAY && capacity <= DEFAULT_INITIAL_CAPACITY)) return;
+		reallocate(capacity);
+	}
+
+	/**
+	 * Grows this gap-buffer list, ensuring that it can contain the given number of entries without
+	 * resizing, and in case increasing the current capacity at least by a factor of 50%.
+	 *
+	 * @param capacity the new minimum capacity for this gap-buffer list.
+	 */
+	private void grow(int capacity) {
+		if (capacity <= a.length) return;
+		if (a != ObjectArrays.DEFAULT_EMPTY_ARRAY) capacity = (int)Math.max(Math.min((long)a.length + (a.length >> 1), it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE), capacity);
+		else if (capacity < DEFAULT_INITIAL_CAPACITY) capacity = DEFAULT_INITIAL_CAPACITY;
+		reallocate(capacity);
+	}
+
+	@Override
+	public void add(final int index, final K k) {
+		ensureIndex(index);
+		grow(size + 1);
+		moveGap(index);
+		a[gap++] = k;
+		size++;
+	}
+
+	@Override
+	public boolean add(final K k) {
+		grow(size + 1);
+		moveGap(size);
+		a[gap++] = k;
+		size++;
+		return true;
+	}
+
+	@Override
+	public K get(final int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		return a[position(index)];
+	}
+
+	@Override
+	public int indexOf(final Object k) {
+		for (int i = 0; i < gap; i++) if (java.util.Objects.equals(k, a[i])) return i;
+		final int g = a.length - size;
+		for (int i = gap + g; i < a.length; i++) if (java.util.Objects.equals(k, a[i])) return i - g;
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(final Object k) {
+		final int g = a.length - size;
+		for (int i = a.length; i-- != gap + g;) if (java.util.Objects.equals(k, a[i])) return i - g;
+		for (int i = gap; i-- != 0;) if (java.util.Objects.equals(k, a[i])) return i;
+		return -1;
+	}
+
+	@Override
+	public K remove(final int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		moveGap(index);
+		final int p = gap + a.length - size;
+		final K old = a[p];
+		a[p] = null;
+		size--;
+		return old;
+	}
+
+	@Override
+	public K set(final int index, final K k) {
+		if (index >= size) throw new IndexOutOfBoundsException("Index (" + index + ") is greater than or equal to list size (" + size + ")");
+		final int p = position(index);
+		final K old = a[p];
+		a[p] = k;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(a, 0, gap, null);
+		Arrays.fill(a, gap + a.length - size, a.length, null);
+		size = gap = 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void size(final int size) {
+		if (size < this.size) {
+			removeElements(size, this.size);
+			return;
+		}
+		if (size > a.length) reallocate(size);
+		moveGap(this.size);
+		gap = this.size = size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Trims this gap-buffer list so that the capacity is equal to the size.
+	 *
+	 * @see java.util.ArrayList#trimToSize()
+	 */
+	public void trim() {
+		trim(0);
+	}
+
+	/**
+	 * Trims the backing array if it is too large.
+	 *
+	 * If the current array length is smaller than or equal to {@code n}, this method does nothing.
+	 * Otherwise, it trims the array length to the maximum between {@code n} and {@link #size()}.
+	 *
+	 * @param n the threshold for the trimming.
+	 */
+	public void trim(final int n) {
+		if (n >= a.length || size == a.length) return;
+		reallocate(Math.max(n, size));
+	}
+
+	/**
+	 * Copies element of this type-specific list into the given array using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(final int from, final Object[] a, final int offset, final int length) {
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(size, from, from + length);
+		// Elements before the gap
+		final int l = Math.max(0, Math.min(length, gap - from));
+		System.arraycopy(this.a, from, a, offset, l);
+		System.arraycopy(this.a, from + l + this.a.length - size, a, offset + l, length - l);
+	}
+
+	/**
+	 * Removes elements of this type-specific list using optimized system calls.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param to the end index (exclusive).
+	 */
+	@Override
+	public void removeElements(final int from, final int to) {
+		it.unimi.dsi.fastutil.Arrays.ensureFromTo(size, from, to);
+		moveGap(from);
+		final int p = gap + a.length - size;
+		Arrays.fill(a, p, p + to - from, null);
+		size -= to - from;
+	}
+
+	/**
+	 * Adds elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to add elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public void addElements(final int index, final K a[], final int offset, final int length) {
+		ensureIndex(index);
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		grow(size + length);
+		moveGap(index);
+		System.arraycopy(a, offset, this.a, gap, length);
+		gap += length;
+		size += length;
+	}
+
+	/**
+	 * Sets elements to this type-specific list using optimized system calls.
+	 *
+	 * @param index the index at which to start setting elements.
+	 * @param a the array containing the elements.
+	 * @param offset the offset of the first element to add.
+	 * @param length the number of elements to add.
+	 */
+	@Override
+	public void setElements(final int index, final K a[], final int offset, final int length) {
+		ensureIndex(index);
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		if (index + length > size) throw new IndexOutOfBoundsException("End index (" + (index + length) + ") is greater than list size (" + size + ")");
+		// Elements before the gap
+		final int l = Math.max(0, Math.min(length, gap - index));
+		System.arraycopy(a, offset, this.a, index, l);
+		System.arraycopy(a, offset + l, this.a, index + l + this.a.length - size, length - l);
+	}
+
+	@Override
+	public void forEach(final Consumer<? super K> action) {
+		final K[] a = this.a;
+		for (int i = 0; i < gap; i++) action.accept(a[i]);
+		for (int i = gap + a.length - size; i < a.length; i++) action.accept(a[i]);
+	}
+
+	@Override
+	public boolean addAll(int index, final Collection<? extends K> c) {
+		if (c instanceof ObjectList) {
+			return addAll(index, (ObjectList<? extends K>)c);
+		}
+		ensureIndex(index);
+		int n = c.size();
+		if (n == 0) return false;
+		grow(size + n);
+		moveGap(index);
+		final Iterator<? extends K> i = c.iterator();
+		size += n;
+		while (n-- != 0) a[gap++] = i.next();
+		return true;
+	}
+
+	@Override
+	public boolean addAll(final int index, final ObjectList<? extends K> l) {
+		ensureIndex(index);
+		final int n = l.size();
+		if (n == 0) return false;
+		grow(size + n);
+		moveGap(index);
+		l.getElements(0, a, gap, n);
+		gap += n;
+		size += n;
+		return true;
+	}
+
+	@Override
+	public Object[] toArray() {
+		final Object[] a = new Object[size];
+		getElements(0, a, 0, size);
+		return a;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <K> K[] toArray(K a[]) {
+		if (a == null) {
+			a = (K[])new Object[size()];
+		} else if (a.length < size()) {
+			a = (K[])Array.newInstance(a.getClass().getComponentType(), size());
+		}
+		getElements(0, a, 0, size);
+		if (a.length > size()) {
+			a[size()] = null;
+		}
+		return a;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ObjectGapBufferList<K> clone() {
+		final ObjectGapBufferList<K> cloned;
+		try {
+			cloned = (ObjectGapBufferList<K>)super.clone();
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+		cloned.a = (K[])toArray();
+		cloned.gap = size;
+		return cloned;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		for (int i = 0; i < size; i++) s.writeObject(a[position(i)]);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		a = (K[])new Object[size];
+		for (int i = 0; i < size; i++) a[i] = (K)s.readObject();
+		gap = size;
+	}
+}
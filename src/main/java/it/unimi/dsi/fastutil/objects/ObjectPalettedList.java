@@ -0,0 +1,440 @@
+/*
+	* Copyright (C) 2002-2022 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.objects;
+
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntPackedBigList;
+
+/**
+ * A type-specific list storing its elements using a palette.
+ *
+ * <p>
+ * Instances of this class are useful for long lists containing few distinct elements (possibly
+ * {@code null}). Distinct elements are interned in a <em>palette</em>, an {@link ObjectArrayList}
+ * indexed by an {@link Object2IntOpenHashMap}, and the list stores, for each position, the index of
+ * its element in the palette, {@linkplain IntPackedBigList packed} using the minimum number of bits
+ * (in non-straddling mode). As a special case, if the list contains a single distinct element no
+ * index is stored at all.
+ *
+ * <p>
+ * The number of bits per index grows automatically when new elements enter the palette. Each entry
+ * of the palette keeps track of the number of its occurrences in the list; entries that are no
+ * longer used are reused by new elements, and when the number of distinct elements drops to a
+ * quarter of the capacity of the current width the palette is compacted and the indices are
+ * repacked using a smaller width, in time proportional to the size of the list.
+ *
+ * <p>
+ * Since elements are identified using their {@link Object#equals(Object) equals()} method, equal
+ * elements are stored only once, and {@link #get(int)} will return the instance that entered the
+ * palette first.
+ *
+ * <p>
+ * This class supports {@linkplain #set(int, Object) replacement} of elements, appending, and
+ * changing the {@linkplain #size(int) size} of the list, but not insertions or removals at other
+ * positions. The serialized form contains just the palette and the packed indices.
+ *
+ * @see IntPackedBigList
+ */
+public class ObjectPalettedList<K> extends AbstractObjectList<K> implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The size of the buffers used for bulk operations on indices. */
+	private static final int BUFFER_SIZE = 1024;
+	/** The number of elements in this list. */
+	protected int size;
+	/** The palette; unused entries are {@code null}. */
+	protected transient ObjectArrayList<K> palette;
+	/** A map from the elements in the palette to their index. */
+	protected transient Object2IntOpenHashMap<K> position;
+	/** The number of occurrences of each palette entry. */
+	protected transient int[] count;
+	/** The unused palette entries. */
+	protected transient IntArrayList free;
+	/** The number of used palette entries. */
+	protected transient int distinct;
+	/**
+	 * The palette indices of the elements, or {@code null} if there is at most one distinct element, in
+	 * which case it has index zero.
+	 */
+	protected transient IntPackedBigList indices;
+
+	/** Creates a new empty paletted list. */
+	public ObjectPalettedList() {
+		reset();
+	}
+
+	/**
+	 * Creates a new paletted list containing a given number of copies of an element.
+	 *
+	 * @param size the size of the list.
+	 * @param k the element.
+	 */
+	public ObjectPalettedList(final int size, final K k) {
+		this();
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		this.size = size;
+		fill(k);
+	}
+
+	/**
+	 * Creates a new paletted list and fills it with a given collection.
+	 *
+	 * @param c a collection that will be used to fill the list.
+	 */
+	public ObjectPalettedList(final Collection<? extends K> c) {
+		this();
+		addAll(c);
+	}
+
+	/** Empties the palette. */
+	private void reset() {
+		palette = new ObjectArrayList<>();
+		position = new Object2IntOpenHashMap<>();
+		position.defaultReturnValue(-1);
+		count = IntArrays.EMPTY_ARRAY;
+		free = new IntArrayList();
+		distinct = 0;
+		indices = null;
+	}
+
+	/**
+	 * Returns the number of bits necessary to store a palette index.
+	 *
+	 * @param maxIndex the maximum palette index.
+	 * @return the number of bits necessary to store {@code maxIndex} (at least one).
+	 */
+	private static int bits(final int maxIndex) {
+		return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(maxIndex));
+	}
+
+	/**
+	 * Interns an element in the palette, increasing its count, and makes sure that indices can store its
+	 * palette index.
+	 *
+	 * @param k an element.
+	 * @param n the number of new occurrences of {@code k}.
+	 * @return the palette index of {@code k}.
+	 */
+	private int intern(final K k, final int n) {
+		int e = position.getInt(k);
+		if (e == -1) {
+			if (free.isEmpty()) {
+				e = palette.size();
+				palette.add(k);
+				count = IntArrays.grow(count, e + 1);
+			} else palette.set(e = free.popInt(), k);
+			position.put(k, e);
+			distinct++;
+			if (indices == null) {
+				if (e != 0) {
+					// The list is not single-valued anymore: all current elements have index zero
+					indices = new IntPackedBigList(bits(e), false, size + n);
+					indices.size(size);
+				}
+			} else if (e >>> indices.width() != 0) indices.width(bits(e));
+		}
+		count[e] += n;
+		return e;
+	}
+
+	/**
+	 * Decreases the count of a palette entry, freeing it if it is no longer used.
+	 *
+	 * @param e a palette index.
+	 * @param n the number of removed occurrences.
+	 */
+	private void release(final int e, final int n) {
+		if ((count[e] -= n) != 0) return;
+		position.removeInt(palette.get(e));
+		palette.set(e, null);
+		free.add(e);
+		distinct--;
+	}
+
+	/**
+	 * Compacts the palette if the number of distinct elements is small with respect to the current
+	 * width.
+	 */
+	private void compactIfNeeded() {
+		if (distinct == 0) reset();
+		else if (indices != null && (distinct == 1 || distinct <= 1 << indices.width() - 2)) compact();
+	}
+
+	/**
+	 * Computes the map from palette indices to compacted palette indices.
+	 *
+	 * @return an array mapping each used palette index to its rank among used palette indices.
+	 */
+	private int[] ranks() {
+		final int[] map = new int[palette.size()];
+		for (int e = 0, r = 0; e < map.length; e++) if (count[e] != 0) map[e] = r++;
+		return map;
+	}
+
+	/**
+	 * Returns a copy of the indices of this list, remapped and packed using the minimum width.
+	 *
+	 * @param map a map from palette indices to new palette indices.
+	 * @param n the number of new palette indices.
+	 * @return the remapped indices.
+	 */
+	private IntPackedBigList remap(final int[] map, final int n) {
+		final IntPackedBigList t = new IntPackedBigList(bits(n - 1), false, size);
+		final int[] buffer = new int[Math.min(size, BUFFER_SIZE)];
+		for (int from = 0; from < size;) {
+			final int length = Math.min(buffer.length, size - from);
+			indices.getElements(from, buffer, 0, length);
+			for (int i = 0; i < length; i++) buffer[i] = map[buffer[i]];
+			t.addElements(buffer, 0, length);
+			from += length;
+		}
+		return t;
+	}
+
+	/**
+	 * Removes unused palette entries, and repacks indices using the minimum width.
+	 */
+	private void compact() {
+		final int[] map = ranks();
+		final int n = distinct;
+		indices = n == 1 ? null : remap(map, n);
+		for (int e = 0; e < map.length; e++) {
+			if (count[e] != 0 && map[e] != e) {
+				palette.set(map[e], palette.get(e));
+				count[map[e]] = count[e];
+			}
+		}
+		palette.size(n);
+		java.util.Arrays.fill(count, n, count.length, 0);
+		position.clear();
+		for (int e = 0; e < n; e++) position.put(palette.get(e), e);
+		free.clear();
+	}
+
+	@Override
+	public K get(final int index) {
+		ensureRestrictedIndex(index);
+		return palette.get(indices == null ? 0 : indices.getInt(index));
+	}
+
+	@Override
+	public K set(final int index, final K k) {
+		ensureRestrictedIndex(index);
+		final int old = indices == null ? 0 : indices.getInt(index);
+		final K previous = palette.get(old);
+		if (java.util.Objects.equals(previous, k)) return previous;
+		final int e = intern(k, 1);
+		indices.set(index, e);
+		release(old, 1);
+		compactIfNeeded();
+		return previous;
+	}
+
+	@Override
+	public boolean add(final K k) {
+		final int e = intern(k, 1);
+		if (indices != null) indices.add(e);
+		size++;
+		return true;
+	}
+
+	/**
+	 * Sets all elements of this list to a given element.
+	 *
+	 * <p>
+	 * After this call, this list will be single-valued, and will not use any space for indices.
+	 *
+	 * @param k the new value of all elements.
+	 */
+	public void fill(final K k) {
+		reset();
+		if (size != 0) intern(k, size);
+	}
+
+	@Override
+	public void size(final int size) {
+		if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+		if (size > this.size) {
+			final int n = size - this.size;
+			final int e = intern(null, n);
+			if (indices != null) {
+				final int[] buffer = new int[Math.min(n, BUFFER_SIZE)];
+				java.util.Arrays.fill(buffer, e);
+				for (int i = 0; i < n; i += buffer.length) indices.addElements(buffer, 0, Math.min(buffer.length, n - i));
+			}
+		} else if (size < this.size) {
+			if (indices == null) release(0, this.size - size);
+			else {
+				final int[] buffer = new int[Math.min(this.size - size, BUFFER_SIZE)];
+				for (int from = size; from < this.size;) {
+					final int length = Math.min(buffer.length, this.size - from);
+					indices.getElements(from, buffer, 0, length);
+					for (int i = 0; i < length; i++) release(buffer[i], 1);
+					from += length;
+				}
+				indices.size(size);
+			}
+		}
+		this.size = size;
+		compactIfNeeded();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		reset();
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of distinct elements in this list.
+	 *
+	 * @return the number of distinct elements in this list.
+	 */
+	public int distinct() {
+		return distinct;
+	}
+
+	/**
+	 * Returns the number of bits used to store each element.
+	 *
+	 * @return the number of bits used to store each element, or zero if this list is single-valued.
+	 */
+	public int width() {
+		return indices == null ? 0 : indices.width();
+	}
+
+	/**
+	 * Compacts the palette and packs indices using the minimum possible width.
+	 */
+	public void trim() {
+		if (distinct == 0) reset();
+		else if (indices != null && (!free.isEmpty() || bits(distinct - 1) < indices.width())) compact();
+		if (indices != null) indices.trim();
+		palette.trim();
+		count = IntArrays.trim(count, palette.size());
+	}
+
+	/**
+	 * Copies elements of this list into the given array, decoding indices in bulk.
+	 *
+	 * @param from the start index (inclusive).
+	 * @param a the destination array.
+	 * @param offset the offset into the destination array where to store the first element copied.
+	 * @param length the number of elements to be copied.
+	 */
+	@Override
+	public void getElements(int from, final Object[] a, int offset, int length) {
+		ObjectArrays.ensureOffsetLength(a, offset, length);
+		ensureIndex(from);
+		if (from + length > size) throw new IndexOutOfBoundsException("End index (" + (from + length) + ") is greater than list size (" + size + ")");
+		if (indices == null) {
+			if (length != 0) java.util.Arrays.fill(a, offset, offset + length, palette.get(0));
+			return;
+		}
+		final K[] p = palette.elements();
+		final int[] buffer = new int[Math.min(length, BUFFER_SIZE)];
+		while (length != 0) {
+			final int l = Math.min(buffer.length, length);
+			indices.getElements(from, buffer, 0, l);
+			for (int i = 0; i < l; i++) a[offset++] = p[buffer[i]];
+			from += l;
+			length -= l;
+		}
+	}
+
+	@Override
+	public void forEach(final Consumer<? super K> action) {
+		if (indices == null) {
+			if (size != 0) {
+				final K k = palette.get(0);
+				for (int i = 0; i < size; i++) action.accept(k);
+			}
+			return;
+		}
+		final K[] p = palette.elements();
+		final int[] buffer = new int[Math.min(size, BUFFER_SIZE)];
+		for (int from = 0; from < size;) {
+			final int length = Math.min(buffer.length, size - from);
+			indices.getElements(from, buffer, 0, length);
+			for (int i = 0; i < length; i++) action.accept(p[buffer[i]]);
+			from += length;
+		}
+	}
+
+	@Override
+	public ObjectPalettedList<K> clone() {
+		final ObjectPalettedList<K> cloned;
+		try {
+			@SuppressWarnings("unchecked")
+			final ObjectPalettedList<K> c = (ObjectPalettedList<K>)super.clone();
+			cloned = c;
+		} catch (CloneNotSupportedException err) {
+			// Can't happen
+			throw new InternalError(err);
+		}
+		cloned.palette = palette.clone();
+		cloned.position = position.clone();
+		cloned.count = count.clone();
+		cloned.free = free.clone();
+		if (indices != null) cloned.indices = indices.clone();
+		return cloned;
+	}
+
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+		s.defaultWriteObject();
+		s.writeInt(distinct);
+		for (int e = 0; e < palette.size(); e++) if (count[e] != 0) s.writeObject(palette.get(e));
+		if (distinct > 1) s.writeObject(free.isEmpty() && bits(distinct - 1) == indices.width() ? indices : remap(ranks(), distinct));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+		s.defaultReadObject();
+		reset();
+		final int n = s.readInt();
+		count = new int[n];
+		for (int e = 0; e < n; e++) {
+			final K k = (K)s.readObject();
+			palette.add(k);
+			position.put(k, e);
+		}
+		distinct = n;
+		if (n == 1) count[0] = size;
+		else if (n > 1) {
+			indices = (IntPackedBigList)s.readObject();
+			final int[] buffer = new int[Math.min(size, BUFFER_SIZE)];
+			for (int from = 0; from < size;) {
+				final int length = Math.min(buffer.length, size - from);
+				indices.getElements(from, buffer, 0, length);
+				for (int i = 0; i < length; i++) count[buffer[i]]++;
+				from += length;
+			}
+		}
+	}
+}
@@ -268,6 +268,48 @@ public final class ObjectSortedSets {
 				return sortedSet.last();
 			}
 		}
+
+		@Override
+		public K floor(final K k) {
+			synchronized (sync) {
+				return sortedSet.floor(k);
+			}
+		}
+
+		@Override
+		public K ceiling(final K k) {
+			synchronized (sync) {
+				return sortedSet.ceiling(k);
+			}
+		}
+
+		@Override
+		public K higher(final K k) {
+			synchronized (sync) {
+				return sortedSet.higher(k);
+			}
+		}
+
+		@Override
+		public K lower(final K k) {
+			synchronized (sync) {
+				return sortedSet.lower(k);
+			}
+		}
+
+		@Override
+		public K pollFirst() {
+			synchronized (sync) {
+				return sortedSet.pollFirst();
+			}
+		}
+
+		@Override
+		public K pollLast() {
+			synchronized (sync) {
+				return sortedSet.pollLast();
+			}
+		}
 	}
 
 	/**
@@ -343,6 +385,36 @@ public final class ObjectSortedSets {
 		public K last() {
 			return sortedSet.last();
 		}
+
+		@Override
+		public K floor(final K k) {
+			return sortedSet.floor(k);
+		}
+
+		@Override
+		public K ceiling(final K k) {
+			return sortedSet.ceiling(k);
+		}
+
+		@Override
+		public K higher(final K k) {
+			return sortedSet.higher(k);
+		}
+
+		@Override
+		public K lower(final K k) {
+			return sortedSet.lower(k);
+		}
+
+		@Override
+		public K pollFirst() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public K pollLast() {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	/**
@@ -382,6 +382,76 @@ public final class Reference2BooleanSortedMaps {
 				return sortedMap.lastKey();
 			}
 		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> floorEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> ceilingEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> higherEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> lowerEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public K floorKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.floorKey(k);
+			}
+		}
+
+		@Override
+		public K ceilingKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.ceilingKey(k);
+			}
+		}
+
+		@Override
+		public K higherKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.higherKey(k);
+			}
+		}
+
+		@Override
+		public K lowerKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.lowerKey(k);
+			}
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
 	}
 
 	/**
@@ -472,6 +542,60 @@ public final class Reference2BooleanSortedMaps {
 		public K lastKey() {
 			return sortedMap.lastKey();
 		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> floorEntry(final K k) {
+			final Reference2BooleanMap.Entry<K> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractReference2BooleanMap.BasicEntry<>(e.getKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> ceilingEntry(final K k) {
+			final Reference2BooleanMap.Entry<K> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractReference2BooleanMap.BasicEntry<>(e.getKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> higherEntry(final K k) {
+			final Reference2BooleanMap.Entry<K> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractReference2BooleanMap.BasicEntry<>(e.getKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> lowerEntry(final K k) {
+			final Reference2BooleanMap.Entry<K> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractReference2BooleanMap.BasicEntry<>(e.getKey(), e.getBooleanValue());
+		}
+
+		@Override
+		public K floorKey(final K k) {
+			return sortedMap.floorKey(k);
+		}
+
+		@Override
+		public K ceilingKey(final K k) {
+			return sortedMap.ceilingKey(k);
+		}
+
+		@Override
+		public K higherKey(final K k) {
+			return sortedMap.higherKey(k);
+		}
+
+		@Override
+		public K lowerKey(final K k) {
+			return sortedMap.lowerKey(k);
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Reference2BooleanMap.Entry<K> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	/**
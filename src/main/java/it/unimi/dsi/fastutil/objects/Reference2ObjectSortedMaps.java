@@ -336,6 +336,76 @@ public final class Reference2ObjectSortedMaps {
 				return sortedMap.lastKey();
 			}
 		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> floorEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> ceilingEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> higherEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> lowerEntry(final K k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public K floorKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.floorKey(k);
+			}
+		}
+
+		@Override
+		public K ceilingKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.ceilingKey(k);
+			}
+		}
+
+		@Override
+		public K higherKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.higherKey(k);
+			}
+		}
+
+		@Override
+		public K lowerKey(final K k) {
+			synchronized (sync) {
+				return sortedMap.lowerKey(k);
+			}
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
 	}
 
 	/**
@@ -421,6 +491,60 @@ public final class Reference2ObjectSortedMaps {
 		public K lastKey() {
 			return sortedMap.lastKey();
 		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> floorEntry(final K k) {
+			final Reference2ObjectMap.Entry<K, ? extends V> e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractReference2ObjectMap.BasicEntry<>(e.getKey(), e.getValue());
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> ceilingEntry(final K k) {
+			final Reference2ObjectMap.Entry<K, ? extends V> e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractReference2ObjectMap.BasicEntry<>(e.getKey(), e.getValue());
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> higherEntry(final K k) {
+			final Reference2ObjectMap.Entry<K, ? extends V> e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractReference2ObjectMap.BasicEntry<>(e.getKey(), e.getValue());
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> lowerEntry(final K k) {
+			final Reference2ObjectMap.Entry<K, ? extends V> e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractReference2ObjectMap.BasicEntry<>(e.getKey(), e.getValue());
+		}
+
+		@Override
+		public K floorKey(final K k) {
+			return sortedMap.floorKey(k);
+		}
+
+		@Override
+		public K ceilingKey(final K k) {
+			return sortedMap.ceilingKey(k);
+		}
+
+		@Override
+		public K higherKey(final K k) {
+			return sortedMap.higherKey(k);
+		}
+
+		@Override
+		public K lowerKey(final K k) {
+			return sortedMap.lowerKey(k);
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Reference2ObjectMap.Entry<K, V> pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
 	}
 
 	/**
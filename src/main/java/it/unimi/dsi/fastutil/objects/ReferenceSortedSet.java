@@ -147,4 +147,99 @@ public interface ReferenceSortedSet<K> extends ReferenceSet<K>, SortedSet<K>, Ob
 	 */
 	@Override
 	ReferenceSortedSet<K> tailSet(K fromElement);
+
+	/**
+	 * Returns the greatest element in this set less than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(Object) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element less than or equal to {@code k}, or {@code null} if there is
+	 *         no such element.
+	 */
+	default K floor(final K k) {
+		final ObjectBidirectionalIterator<K> i = iterator(k);
+		if (!i.hasPrevious()) return null;
+		return i.previous();
+	}
+
+	/**
+	 * Returns the least element in this set greater than or equal to the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(Object) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element greater than or equal to {@code k}, or {@code null} if there is
+	 *         no such element.
+	 */
+	default K ceiling(final K k) {
+		final ObjectBidirectionalIterator<K> i = iterator(k);
+		// If k is present we return the stored element, which might be a different object
+		if (contains(k)) return i.previous();
+		if (!i.hasNext()) return null;
+		return i.next();
+	}
+
+	/**
+	 * Returns the least element in this set strictly greater than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(Object) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the least element strictly greater than {@code k}, or {@code null} if there is
+	 *         no such element.
+	 */
+	default K higher(final K k) {
+		final ObjectBidirectionalIterator<K> i = iterator(k);
+		if (!i.hasNext()) return null;
+		return i.next();
+	}
+
+	/**
+	 * Returns the greatest element in this set strictly less than the given element.
+	 *
+	 * @implSpec The default implementation uses the bidirectional
+	 *           {@linkplain #iterator(Object) iterator} starting from {@code k}.
+	 *
+	 * @param k an element.
+	 * @return the greatest element strictly less than {@code k}, or {@code null} if there is
+	 *         no such element.
+	 */
+	default K lower(final K k) {
+		final ObjectBidirectionalIterator<K> i = iterator(k);
+		if (contains(k)) i.previous();
+		if (!i.hasPrevious()) return null;
+		return i.previous();
+	}
+
+	/**
+	 * Removes and returns the lowest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #first()} and {@link #remove(Object)}.
+	 *
+	 * @return the (former) lowest element, or {@code null} if this set is empty.
+	 */
+	default K pollFirst() {
+		if (isEmpty()) return null;
+		final K k = first();
+		remove(k);
+		return k;
+	}
+
+	/**
+	 * Removes and returns the highest element of this set.
+	 *
+	 * @implSpec The default implementation uses {@link #last()} and {@link #remove(Object)}.
+	 *
+	 * @return the (former) highest element, or {@code null} if this set is empty.
+	 */
+	default K pollLast() {
+		if (isEmpty()) return null;
+		final K k = last();
+		remove(k);
+		return k;
+	}
 }
@@ -79,6 +79,26 @@ public abstract class AbstractShort2BooleanSortedMap extends AbstractShort2Boole
 			return lastShortKey();
 		}
 
+		@Override
+		public short floorShort(final short k) {
+			return floorShortKey(k);
+		}
+
+		@Override
+		public short ceilingShort(final short k) {
+			return ceilingShortKey(k);
+		}
+
+		@Override
+		public short higherShort(final short k) {
+			return higherShortKey(k);
+		}
+
+		@Override
+		public short lowerShort(final short k) {
+			return lowerShortKey(k);
+		}
+
 		@Override
 		public ShortSortedSet headSet(final short to) {
 			return headMap(to).keySet();
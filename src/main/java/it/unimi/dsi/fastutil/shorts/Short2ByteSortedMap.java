@@ -15,6 +15,7 @@
 	*/
 package it.unimi.dsi.fastutil.shorts;
 
+import java.util.NoSuchElementException;
 import it.unimi.dsi.fastutil.bytes.ByteCollection;
 import java.util.Map;
 import java.util.SortedMap;
@@ -233,4 +234,173 @@ public interface Short2ByteSortedMap extends Short2ByteMap, SortedMap<Short, Byt
 	 */
 	@Override
 	ShortComparator comparator();
+
+	/**
+	 * Returns the entry associated with the greatest key less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key less than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Short2ByteMap.Entry floorEntry(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) return null;
+		final short key = i.previousShort();
+		return new AbstractShort2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key greater than or equal to {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Short2ByteMap.Entry ceilingEntry(final short k) {
+		if (containsKey(k)) return new AbstractShort2ByteMap.BasicEntry(k, get(k));
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final short key = i.nextShort();
+		return new AbstractShort2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the least key strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the least key strictly greater than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Short2ByteMap.Entry higherEntry(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) return null;
+		final short key = i.nextShort();
+		return new AbstractShort2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the entry associated with the greatest key strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the entry associated with the greatest key strictly less than {@code k}, or
+	 *         {@code null} if there is no such key.
+	 */
+	default Short2ByteMap.Entry lowerEntry(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousShort();
+		if (!i.hasPrevious()) return null;
+		final short key = i.previousShort();
+		return new AbstractShort2ByteMap.BasicEntry(key, get(key));
+	}
+
+	/**
+	 * Returns the greatest key in this map less than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key less than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default short floorShortKey(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final short key = i.previousShort();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map greater than or equal to the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the least key greater than or equal to {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default short ceilingShortKey(final short k) {
+		if (containsKey(k)) return k;
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final short key = i.nextShort();
+		return key;
+	}
+
+	/**
+	 * Returns the least key in this map strictly greater than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the least key strictly greater than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default short higherShortKey(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (!i.hasNext()) throw new NoSuchElementException();
+		final short key = i.nextShort();
+		return key;
+	}
+
+	/**
+	 * Returns the greatest key in this map strictly less than the given key.
+	 *
+	 * @implSpec The default implementation uses the iterator on {@link #keySet()} starting from
+	 *           {@code k} (see {@link ShortSortedSet#iterator(short)}).
+	 *
+	 * @param k a key.
+	 * @return the greatest key strictly less than {@code k}.
+	 * @throws NoSuchElementException if there is no such key.
+	 */
+	default short lowerShortKey(final short k) {
+		final ShortBidirectionalIterator i = keySet().iterator(k);
+		if (containsKey(k)) i.previousShort();
+		if (!i.hasPrevious()) throw new NoSuchElementException();
+		final short key = i.previousShort();
+		return key;
+	}
+
+	/**
+	 * Removes and returns the entry associated with the lowest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #firstShortKey()} and
+	 *           {@link #remove(short)}.
+	 *
+	 * @return the (former) entry associated with the lowest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Short2ByteMap.Entry pollFirstEntry() {
+		if (isEmpty()) return null;
+		final short k = firstShortKey();
+		return new AbstractShort2ByteMap.BasicEntry(k, remove(k));
+	}
+
+	/**
+	 * Removes and returns the entry associated with the highest key in this map.
+	 *
+	 * @implSpec The default implementation uses {@link #lastShortKey()} and {@link #remove(short)}.
+	 *
+	 * @return the (former) entry associated with the highest key, or {@code null} if this map is
+	 *         empty.
+	 */
+	default Short2ByteMap.Entry pollLastEntry() {
+		if (isEmpty()) return null;
+		final short k = lastShortKey();
+		return new AbstractShort2ByteMap.BasicEntry(k, remove(k));
+	}
 }
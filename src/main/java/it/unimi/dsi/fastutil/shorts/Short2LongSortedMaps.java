@@ -475,6 +475,76 @@ public final class Short2LongSortedMaps {
 			}
 		}
 
+		@Override
+		public Short2LongMap.Entry floorEntry(final short k) {
+			synchronized (sync) {
+				return sortedMap.floorEntry(k);
+			}
+		}
+
+		@Override
+		public Short2LongMap.Entry ceilingEntry(final short k) {
+			synchronized (sync) {
+				return sortedMap.ceilingEntry(k);
+			}
+		}
+
+		@Override
+		public Short2LongMap.Entry higherEntry(final short k) {
+			synchronized (sync) {
+				return sortedMap.higherEntry(k);
+			}
+		}
+
+		@Override
+		public Short2LongMap.Entry lowerEntry(final short k) {
+			synchronized (sync) {
+				return sortedMap.lowerEntry(k);
+			}
+		}
+
+		@Override
+		public short floorShortKey(final short k) {
+			synchronized (sync) {
+				return sortedMap.floorShortKey(k);
+			}
+		}
+
+		@Override
+		public short ceilingShortKey(final short k) {
+			synchronized (sync) {
+				return sortedMap.ceilingShortKey(k);
+			}
+		}
+
+		@Override
+		public short higherShortKey(final short k) {
+			synchronized (sync) {
+				return sortedMap.higherShortKey(k);
+			}
+		}
+
+		@Override
+		public short lowerShortKey(final short k) {
+			synchronized (sync) {
+				return sortedMap.lowerShortKey(k);
+			}
+		}
+
+		@Override
+		public Short2LongMap.Entry pollFirstEntry() {
+			synchronized (sync) {
+				return sortedMap.pollFirstEntry();
+			}
+		}
+
+		@Override
+		public Short2LongMap.Entry pollLastEntry() {
+			synchronized (sync) {
+				return sortedMap.pollLastEntry();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -624,6 +694,60 @@ public final class Short2LongSortedMaps {
 			return sortedMap.lastShortKey();
 		}
 
+		@Override
+		public Short2LongMap.Entry floorEntry(final short k) {
+			final Short2LongMap.Entry e = sortedMap.floorEntry(k);
+			return e == null ? null : new AbstractShort2LongMap.BasicEntry(e.getShortKey(), e.getLongValue());
+		}
+
+		@Override
+		public Short2LongMap.Entry ceilingEntry(final short k) {
+			final Short2LongMap.Entry e = sortedMap.ceilingEntry(k);
+			return e == null ? null : new AbstractShort2LongMap.BasicEntry(e.getShortKey(), e.getLongValue());
+		}
+
+		@Override
+		public Short2LongMap.Entry higherEntry(final short k) {
+			final Short2LongMap.Entry e = sortedMap.higherEntry(k);
+			return e == null ? null : new AbstractShort2LongMap.BasicEntry(e.getShortKey(), e.getLongValue());
+		}
+
+		@Override
+		public Short2LongMap.Entry lowerEntry(final short k) {
+			final Short2LongMap.Entry e = sortedMap.lowerEntry(k);
+			return e == null ? null : new AbstractShort2LongMap.BasicEntry(e.getShortKey(), e.getLongValue());
+		}
+
+		@Override
+		public short floorShortKey(final short k) {
+			return sortedMap.floorShortKey(k);
+		}
+
+		@Override
+		public short ceilingShortKey(final short k) {
+			return sortedMap.ceilingShortKey(k);
+		}
+
+		@Override
+		public short higherShortKey(final short k) {
+			return sortedMap.higherShortKey(k);
+		}
+
+		@Override
+		public short lowerShortKey(final short k) {
+			return sortedMap.lowerShortKey(k);
+		}
+
+		@Override
+		public Short2LongMap.Entry pollFirstEntry() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Short2LongMap.Entry pollLastEntry() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -394,6 +394,48 @@ public final class ShortSortedSets {
 			}
 		}
 
+		@Override
+		public short floorShort(final short k) {
+			synchronized (sync) {
+				return sortedSet.floorShort(k);
+			}
+		}
+
+		@Override
+		public short ceilingShort(final short k) {
+			synchronized (sync) {
+				return sortedSet.ceilingShort(k);
+			}
+		}
+
+		@Override
+		public short higherShort(final short k) {
+			synchronized (sync) {
+				return sortedSet.higherShort(k);
+			}
+		}
+
+		@Override
+		public short lowerShort(final short k) {
+			synchronized (sync) {
+				return sortedSet.lowerShort(k);
+			}
+		}
+
+		@Override
+		public short pollFirstShort() {
+			synchronized (sync) {
+				return sortedSet.pollFirstShort();
+			}
+		}
+
+		@Override
+		public short pollLastShort() {
+			synchronized (sync) {
+				return sortedSet.pollLastShort();
+			}
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 
@@ -528,6 +570,36 @@ public final class ShortSortedSets {
 			return sortedSet.lastShort();
 		}
 
+		@Override
+		public short floorShort(final short k) {
+			return sortedSet.floorShort(k);
+		}
+
+		@Override
+		public short ceilingShort(final short k) {
+			return sortedSet.ceilingShort(k);
+		}
+
+		@Override
+		public short higherShort(final short k) {
+			return sortedSet.higherShort(k);
+		}
+
+		@Override
+		public short lowerShort(final short k) {
+			return sortedSet.lowerShort(k);
+		}
+
+		@Override
+		public short pollFirstShort() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public short pollLastShort() {
+			throw new UnsupportedOperationException();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 * 